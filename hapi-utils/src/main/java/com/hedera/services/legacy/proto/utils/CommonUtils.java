@@ -317,6 +317,24 @@ public final class CommonUtils {
 		}
 	}
 
+	/**
+	 * Computes the SHA-384 hash of the given bytes without first copying them to a {@code byte[]}.
+	 *
+	 * @param bytes the bytes to hash
+	 * @return the hash, or an empty array if SHA-384 is not available
+	 */
+	public static byte[] noThrowSha384HashOf(ByteString bytes) {
+		try {
+			final var digest = getSha384Hash();
+			for (final var buffer : bytes.asReadOnlyByteBufferList()) {
+				digest.update(buffer);
+			}
+			return digest.digest();
+		} catch (NoSuchAlgorithmException ignoreToReturnEmptyByteArray) {
+			return new byte[0];
+		}
+	}
+
 	public static ByteString sha384HashOf(byte[] byteArray) {
 		return ByteString.copyFrom(noThrowSha384HashOf(byteArray));
 	}
@@ -0,0 +1,133 @@
+package com.hedera.services.throttles;
+
+/*-
+ * ‌
+ * Hedera Services API Utilities
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.hedera.services.throttles.BucketThrottle.CAPACITY_UNITS_PER_TXN;
+import static com.hedera.services.throttles.BucketThrottle.productWouldOverflow;
+
+/**
+ * A thread-safe counterpart to {@link BucketThrottle} for use on the ingest path, where many
+ * gRPC threads ask for capacity at once.
+ *
+ * Instead of tracking the used capacity of a {@link DiscreteLeakyBucket} and the time of the
+ * last decision as two mutable fields, the throttle keeps a single "theoretical drain time"; that
+ * is, the instant (in nanoseconds) at which the bucket would be empty again if nothing else were
+ * admitted. Since the bucket leaks {@code mtps} capacity units per nanosecond, the used capacity at
+ * time {@code now} is simply {@code max(0, drainTime - now) * mtps}, so a single {@link AtomicLong}
+ * captures the whole bucket state and every decision is a read followed by (at most) one CAS.
+ * Rejections never write, so a saturated throttle is read-only for all callers.
+ *
+ * Admission costs are rounded <i>up</i> to whole nanoseconds and the burst window <i>down</i>,
+ * so this throttle never admits more than a {@link BucketThrottle} with the same parameters.
+ *
+ * Decision times need not be monotonic across threads; a decision "in the past" of the current
+ * drain time simply sees a fuller bucket.
+ */
+public class ConcurrentBucketThrottle {
+	private static final long UNSET = Long.MIN_VALUE;
+
+	private final long mtps;
+	private final long capacity;
+	private final long burstNanos;
+	private final AtomicLong drainTime = new AtomicLong(UNSET);
+
+	public static ConcurrentBucketThrottle from(final DeterministicThrottle throttle) {
+		return new ConcurrentBucketThrottle(throttle.mtps(), throttle.capacity());
+	}
+
+	public ConcurrentBucketThrottle(final long mtps, final long capacity) {
+		if (mtps <= 0) {
+			throw new IllegalArgumentException("Cannot leak at a rate of " + mtps + " MTPS");
+		}
+		if (capacity < CAPACITY_UNITS_PER_TXN) {
+			throw new IllegalArgumentException("A bucket of capacity " + capacity + " can never allow a transaction");
+		}
+		this.mtps = mtps;
+		this.capacity = capacity;
+		this.burstNanos = capacity / mtps;
+	}
+
+	/**
+	 * Tries to use the capacity needed for {@code n} transactions at the given time.
+	 *
+	 * @param n the number of transactions
+	 * @param nowNanos the decision time, in nanoseconds on any fixed timeline
+	 * @return whether the capacity was available (and is now used)
+	 */
+	public boolean allow(final int n, final long nowNanos) {
+		final var cost = nanosFor(n);
+		if (cost < 0 || cost > burstNanos) {
+			return false;
+		}
+		while (true) {
+			final var current = drainTime.get();
+			final var start = (current == UNSET || current < nowNanos) ? nowNanos : current;
+			if (start - nowNanos > burstNanos - cost) {
+				return false;
+			}
+			if (drainTime.compareAndSet(current, start + cost)) {
+				return true;
+			}
+			Thread.onSpinWait();
+		}
+	}
+
+	/**
+	 * Returns the capacity used by an earlier successful call to {@link ConcurrentBucketThrottle#allow(int, long)}
+	 * for {@code n} transactions; used when a request needs capacity from several throttles
+	 * and one of the later ones refused.
+	 *
+	 * @param n the number of transactions previously allowed
+	 */
+	public void reclaim(final int n) {
+		final var cost = nanosFor(n);
+		if (cost <= 0) {
+			return;
+		}
+		drainTime.getAndUpdate(current -> current == UNSET ? UNSET : current - cost);
+	}
+
+	public long used(final long nowNanos) {
+		final var current = drainTime.get();
+		if (current == UNSET || current <= nowNanos) {
+			return 0L;
+		}
+		return Math.min(burstNanos, current - nowNanos) * mtps;
+	}
+
+	public long mtps() {
+		return mtps;
+	}
+
+	public long capacity() {
+		return capacity;
+	}
+
+	private long nanosFor(final int n) {
+		if (n < 0 || productWouldOverflow(n, CAPACITY_UNITS_PER_TXN)) {
+			return -1;
+		}
+		final var units = n * CAPACITY_UNITS_PER_TXN;
+		return units / mtps + (units % mtps == 0 ? 0 : 1);
+	}
+}
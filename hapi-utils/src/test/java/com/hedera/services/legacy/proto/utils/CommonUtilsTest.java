@@ -20,6 +20,7 @@ package com.hedera.services.legacy.proto.utils;
  * ‍
  */
 
+import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.Transaction;
@@ -32,6 +33,7 @@ import org.junit.jupiter.api.Test;
 import java.io.File;
 import java.io.IOException;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class CommonUtilsTest {
@@ -45,6 +47,17 @@ class CommonUtilsTest {
 		file.delete();
 	}
 
+	@Test
+	void hashesByteStringsLikeTheirBytes() {
+		final var data = "Eternal sunshine of the spotless mind".getBytes();
+		final var rope = ByteString.copyFrom(data, 0, 10).concat(ByteString.copyFrom(data, 10, data.length - 10));
+
+		assertArrayEquals(CommonUtils.noThrowSha384HashOf(data), CommonUtils.noThrowSha384HashOf(rope));
+		assertArrayEquals(
+				CommonUtils.noThrowSha384HashOf(new byte[0]),
+				CommonUtils.noThrowSha384HashOf(ByteString.EMPTY));
+	}
+
 	@Test
 	void testForReadableTransactionID() throws InvalidProtocolBufferException {
 		final var transaction = Transaction.newBuilder().setBodyBytes(
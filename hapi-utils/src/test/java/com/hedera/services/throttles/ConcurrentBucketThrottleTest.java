@@ -0,0 +1,141 @@
+package com.hedera.services.throttles;
+
+/*-
+ * ‌
+ * Hedera Services API Utilities
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.junit.jupiter.api.Test;
+
+import static com.hedera.services.throttles.BucketThrottle.CAPACITY_UNITS_PER_TXN;
+import static com.hedera.services.throttles.BucketThrottle.MTPS_PER_TPS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentBucketThrottleTest {
+	private static final long NANOS_PER_SEC = 1_000_000_000L;
+	private final long start = 1_234_567L * NANOS_PER_SEC;
+
+	@Test
+	void rejectsUnusableParams() {
+		// expect:
+		assertThrows(IllegalArgumentException.class, () -> new ConcurrentBucketThrottle(0, CAPACITY_UNITS_PER_TXN));
+		assertThrows(IllegalArgumentException.class, () -> new ConcurrentBucketThrottle(1, CAPACITY_UNITS_PER_TXN - 1));
+	}
+
+	@Test
+	void copiesParamsFromDeterministicThrottle() {
+		// given:
+		final var throttle = DeterministicThrottle.withTpsAndBurstPeriod(10, 2);
+
+		// when:
+		final var subject = ConcurrentBucketThrottle.from(throttle);
+
+		// then:
+		assertEquals(throttle.mtps(), subject.mtps());
+		assertEquals(throttle.capacity(), subject.capacity());
+	}
+
+	@Test
+	void admitsUpToBurstCapacityThenLeaks() {
+		// given:
+		final var subject = ConcurrentBucketThrottle.from(DeterministicThrottle.withTps(10));
+
+		// expect:
+		for (int i = 0; i < 10; i++) {
+			assertTrue(subject.allow(1, start));
+		}
+		assertFalse(subject.allow(1, start));
+		assertEquals(subject.capacity(), subject.used(start));
+		// and after a tenth of a second one more fits:
+		assertTrue(subject.allow(1, start + NANOS_PER_SEC / 10));
+		assertFalse(subject.allow(1, start + NANOS_PER_SEC / 10));
+		// and after the full burst period the bucket is empty:
+		assertEquals(0L, subject.used(start + 2 * NANOS_PER_SEC));
+	}
+
+	@Test
+	void agreesWithBucketThrottleOnSameTimeline() {
+		// setup:
+		final var mtps = 7_500L;
+		final var reference = BucketThrottle.withMtpsAndBurstPeriod(mtps, 3);
+		final var subject = new ConcurrentBucketThrottle(mtps, reference.bucket().totalCapacity());
+		final var step = NANOS_PER_SEC / 9;
+
+		// expect:
+		var now = start;
+		for (int i = 0; i < 200; i++) {
+			final var n = 1 + (i % 3);
+			assertEquals(reference.allow(n, i == 0 ? 0 : step), subject.allow(n, now), "Decision #" + i);
+			now += step;
+		}
+	}
+
+	@Test
+	void reclaimReturnsCapacity() {
+		// given:
+		final var subject = ConcurrentBucketThrottle.from(DeterministicThrottle.withTps(2));
+		assertTrue(subject.allow(2, start));
+		assertFalse(subject.allow(1, start));
+
+		// when:
+		subject.reclaim(1);
+
+		// then:
+		assertEquals(CAPACITY_UNITS_PER_TXN, subject.used(start));
+		assertTrue(subject.allow(1, start));
+	}
+
+	@Test
+	void reclaimBeforeAnyUseIsNoop() {
+		// given:
+		final var subject = ConcurrentBucketThrottle.from(DeterministicThrottle.withTps(2));
+
+		// when:
+		subject.reclaim(1);
+
+		// then:
+		assertEquals(0L, subject.used(start));
+		assertTrue(subject.allow(2, start));
+	}
+
+	@Test
+	void rejectsImpossibleRequests() {
+		// given:
+		final var subject = new ConcurrentBucketThrottle(MTPS_PER_TPS, CAPACITY_UNITS_PER_TXN);
+
+		// expect:
+		assertFalse(subject.allow(2, start));
+		assertFalse(subject.allow(-1, start));
+		assertFalse(subject.allow(Integer.MAX_VALUE, start));
+		assertTrue(subject.allow(1, start));
+	}
+
+	@Test
+	void toleratesDecisionsOutOfTimeOrder() {
+		// given:
+		final var subject = ConcurrentBucketThrottle.from(DeterministicThrottle.withTps(1));
+		assertTrue(subject.allow(1, start + NANOS_PER_SEC));
+
+		// expect:
+		assertFalse(subject.allow(1, start));
+		assertEquals(subject.capacity(), subject.used(start));
+	}
+}
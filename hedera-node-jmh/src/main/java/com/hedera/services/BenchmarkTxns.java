@@ -0,0 +1,123 @@
+package com.hedera.services;
+
+/*-
+ * ‌
+ * Hedera Services Node Benchmarks
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.protobuf.ByteString;
+import com.hederahashgraph.api.proto.java.AccountAmount;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.ConsensusSubmitMessageTransactionBody;
+import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
+import com.hederahashgraph.api.proto.java.Duration;
+import com.hederahashgraph.api.proto.java.SignatureMap;
+import com.hederahashgraph.api.proto.java.SignaturePair;
+import com.hederahashgraph.api.proto.java.SignedTransaction;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import com.hederahashgraph.api.proto.java.TopicID;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import com.hederahashgraph.api.proto.java.TransferList;
+
+/**
+ * Canned, realistically-sized transactions shared by the benchmarks. Every account involved is
+ * numbered from {@link BenchmarkTxns#FIRST_ACCOUNT_NUM}, with the payer first.
+ */
+public final class BenchmarkTxns {
+	public static final long FIRST_ACCOUNT_NUM = 1_001L;
+	public static final long VALID_START_SECS = 1_234_567L;
+
+	private BenchmarkTxns() {
+		throw new UnsupportedOperationException("Utility Class");
+	}
+
+	public static AccountID accountNum(final long num) {
+		return AccountID.newBuilder().setAccountNum(num).build();
+	}
+
+	/**
+	 * Returns an ℏ transfer from the payer to {@code numReceivers} other accounts, signed by
+	 * {@code numReceivers + 1} (dummy) Ed25519 keys.
+	 *
+	 * @param numReceivers the number of accounts credited
+	 * @return the signed transaction
+	 */
+	public static Transaction hbarTransfer(final int numReceivers) {
+		final var transfers = TransferList.newBuilder()
+				.addAccountAmounts(AccountAmount.newBuilder()
+						.setAccountID(accountNum(FIRST_ACCOUNT_NUM))
+						.setAmount(-numReceivers));
+		for (int i = 1; i <= numReceivers; i++) {
+			transfers.addAccountAmounts(AccountAmount.newBuilder()
+					.setAccountID(accountNum(FIRST_ACCOUNT_NUM + i))
+					.setAmount(+1L));
+		}
+		final var body = baseBody()
+				.setCryptoTransfer(CryptoTransferTransactionBody.newBuilder().setTransfers(transfers))
+				.build();
+		return signed(body, numReceivers + 1);
+	}
+
+	/**
+	 * Returns a message submission of the given size to topic {@code 0.0.1000}, signed by one
+	 * (dummy) Ed25519 key.
+	 *
+	 * @param messageBytes the message size
+	 * @return the signed transaction
+	 */
+	public static Transaction submitMessage(final int messageBytes) {
+		final var body = baseBody()
+				.setConsensusSubmitMessage(ConsensusSubmitMessageTransactionBody.newBuilder()
+						.setTopicID(TopicID.newBuilder().setTopicNum(1_000L))
+						.setMessage(ByteString.copyFrom(new byte[messageBytes])))
+				.build();
+		return signed(body, 1);
+	}
+
+	private static TransactionBody.Builder baseBody() {
+		return TransactionBody.newBuilder()
+				.setTransactionID(TransactionID.newBuilder()
+						.setAccountID(accountNum(FIRST_ACCOUNT_NUM))
+						.setTransactionValidStart(Timestamp.newBuilder().setSeconds(VALID_START_SECS)))
+				.setNodeAccountID(accountNum(3L))
+				.setTransactionFee(100_000_000L)
+				.setTransactionValidDuration(Duration.newBuilder().setSeconds(120L))
+				.setMemo("Benchmark");
+	}
+
+	private static Transaction signed(final TransactionBody body, final int numSigs) {
+		final var sigMap = SignatureMap.newBuilder();
+		for (int i = 0; i < numSigs; i++) {
+			final var prefix = new byte[32];
+			prefix[0] = (byte) i;
+			prefix[1] = (byte) (i >>> 8);
+			sigMap.addSigPair(SignaturePair.newBuilder()
+					.setPubKeyPrefix(ByteString.copyFrom(prefix))
+					.setEd25519(ByteString.copyFrom(new byte[64])));
+		}
+		return Transaction.newBuilder()
+				.setSignedTransactionBytes(SignedTransaction.newBuilder()
+						.setBodyBytes(body.toByteString())
+						.setSigMap(sigMap)
+						.build()
+						.toByteString())
+				.build();
+	}
+}
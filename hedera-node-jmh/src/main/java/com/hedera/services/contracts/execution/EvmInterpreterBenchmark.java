@@ -0,0 +1,145 @@
+package com.hedera.services.contracts.execution;
+
+/*-
+ * ‌
+ * Hedera Services Node Benchmarks
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.BenchmarkTxns;
+import com.hedera.services.config.HederaNumbers;
+import com.hedera.services.context.properties.BootstrapProperties;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.contracts.gascalculator.GasCalculatorHederaV19;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.datatypes.Wei;
+import org.hyperledger.besu.evm.Code;
+import org.hyperledger.besu.evm.EVM;
+import org.hyperledger.besu.evm.Gas;
+import org.hyperledger.besu.evm.frame.MessageFrame;
+import org.hyperledger.besu.evm.internal.EvmConfiguration;
+import org.hyperledger.besu.evm.operation.OperationRegistry;
+import org.hyperledger.besu.evm.tracing.OperationTracer;
+import org.hyperledger.besu.evm.worldstate.WorldUpdater;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.hyperledger.besu.evm.MainnetEVMs.registerLondonOperations;
+
+/**
+ * Measures the cost of running canned contract code to completion on the EVM configured exactly as
+ * in {@link EvmTxProcessor}, but with no world state. Both programs loop 1000 times; the
+ * {@code ARITHMETIC} loop only decrements its counter, while the {@code KECCAK} loop also hashes
+ * and stores a memory word on each pass.
+ *
+ * Since neither program touches state, this isolates the interpreter from the
+ * {@code HederaWorldState} work measured by end-to-end contract calls.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EvmInterpreterBenchmark {
+	private static final int MAX_STACK_SIZE = 1024;
+	private static final long GAS_LIMIT = 10_000_000L;
+	private static final Address CONTRACT = Address.fromHexString("0x00000000000000000000000000000000000003e9");
+	private static final Address SENDER = Address.fromHexString("0x00000000000000000000000000000000000003ea");
+
+	/* PUSH2 1000; JUMPDEST; PUSH1 1; SWAP1; SUB; DUP1; PUSH1 3; JUMPI; STOP */
+	private static final String ARITHMETIC_LOOP = "0x6103e85b600190038060035700";
+	/* PUSH2 1000; JUMPDEST; PUSH1 32; PUSH1 0; SHA3; PUSH1 0; MSTORE; PUSH1 1; SWAP1; SUB; DUP1; PUSH1 3; JUMPI; STOP */
+	private static final String KECCAK_LOOP = "0x6103e85b6020600020600052600190038060035700";
+
+	@Param({ "ARITHMETIC", "KECCAK" })
+	private String program;
+
+	private EVM evm;
+	private Code code;
+	private WorldUpdater noWorldState;
+	private HederaBlockValues blockValues;
+
+	@Setup
+	public void setup() {
+		final var props = new BootstrapProperties();
+		final var dynamicProperties = new GlobalDynamicProperties(new HederaNumbers(props), props);
+		/* Only LOG operations need usage prices and exchange rates, and neither program logs */
+		final var gasCalculator = new GasCalculatorHederaV19(dynamicProperties, null, null);
+		final var operationRegistry = new OperationRegistry();
+		registerLondonOperations(operationRegistry, gasCalculator, BigInteger.valueOf(dynamicProperties.getChainId()));
+		evm = new EVM(operationRegistry, gasCalculator, EvmConfiguration.DEFAULT);
+
+		final var bytecode = Bytes.fromHexString("ARITHMETIC".equals(program) ? ARITHMETIC_LOOP : KECCAK_LOOP);
+		code = new Code(bytecode, Hash.hash(bytecode));
+		noWorldState = (WorldUpdater) Proxy.newProxyInstance(
+				WorldUpdater.class.getClassLoader(),
+				new Class<?>[] { WorldUpdater.class },
+				(proxy, method, args) -> {
+					throw new UnsupportedOperationException("No world state in this benchmark");
+				});
+		blockValues = new HederaBlockValues(GAS_LIMIT, BenchmarkTxns.VALID_START_SECS);
+	}
+
+	@Benchmark
+	public MessageFrame runToHalt() {
+		final var frame = MessageFrame.builder()
+				.type(MessageFrame.Type.MESSAGE_CALL)
+				.messageFrameStack(new ArrayDeque<>())
+				.maxStackSize(MAX_STACK_SIZE)
+				.worldUpdater(noWorldState)
+				.initialGas(Gas.of(GAS_LIMIT))
+				.address(CONTRACT)
+				.contract(CONTRACT)
+				.originator(SENDER)
+				.sender(SENDER)
+				.gasPrice(Wei.ZERO)
+				.value(Wei.ZERO)
+				.apparentValue(Wei.ZERO)
+				.inputData(Bytes.EMPTY)
+				.code(code)
+				.blockValues(blockValues)
+				.depth(0)
+				.completer(unused -> {
+				})
+				.isStatic(false)
+				.miningBeneficiary(SENDER)
+				.blockHashLookup(h -> null)
+				.contextVariables(Map.of())
+				.build();
+		frame.setState(MessageFrame.State.CODE_EXECUTING);
+		evm.runToHalt(frame, OperationTracer.NO_TRACING);
+		return frame;
+	}
+}
@@ -0,0 +1,238 @@
+package com.hedera.services.fees.calculation;
+
+/*-
+ * ‌
+ * Hedera Services Node Benchmarks
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.protobuf.ByteString;
+import com.hedera.services.calc.OverflowCheckingCalc;
+import com.hedera.services.config.HederaNumbers;
+import com.hedera.services.context.properties.BootstrapProperties;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.fees.BasicHbarCentExchange;
+import com.hedera.services.fees.FeeMultiplierSource;
+import com.hedera.services.fees.calculation.utils.AccessorBasedUsages;
+import com.hedera.services.fees.calculation.utils.PricedUsageCalculator;
+import com.hedera.services.legacy.core.jproto.JEd25519Key;
+import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.txns.crypto.AutoCreationLogic;
+import com.hedera.services.usage.consensus.ConsensusOpsUsage;
+import com.hedera.services.usage.crypto.CryptoOpsUsage;
+import com.hedera.services.usage.file.FileOpsUsage;
+import com.hedera.services.usage.token.TokenOpsUsage;
+import com.hedera.services.utils.SignedTxnAccessor;
+import com.hederahashgraph.api.proto.java.AccountAmount;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
+import com.hederahashgraph.api.proto.java.CurrentAndNextFeeSchedule;
+import com.hederahashgraph.api.proto.java.ExchangeRate;
+import com.hederahashgraph.api.proto.java.ExchangeRateSet;
+import com.hederahashgraph.api.proto.java.FeeComponents;
+import com.hederahashgraph.api.proto.java.FeeData;
+import com.hederahashgraph.api.proto.java.FeeSchedule;
+import com.hederahashgraph.api.proto.java.SignatureMap;
+import com.hederahashgraph.api.proto.java.SignaturePair;
+import com.hederahashgraph.api.proto.java.SignedTransaction;
+import com.hederahashgraph.api.proto.java.SubType;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import com.hederahashgraph.api.proto.java.TimestampSeconds;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionFeeSchedule;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import com.hederahashgraph.api.proto.java.TransferList;
+import com.hederahashgraph.fee.FeeObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
+
+/**
+ * Measures the handle-time cost of computing the fees of an ℏ-only CryptoTransfer whose fees
+ * were already computed in precheck, either reusing the {@link FeeMemo} from precheck (the
+ * common case) or recomputing them from scratch (as before fees were memoized).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FeeMemoBenchmark {
+	private static final long FAR_FUTURE_SECS = 4_000_000_000L;
+	private static final Instant CONSENSUS_NOW = Instant.ofEpochSecond(1_234_567L);
+
+	@Param({ "MEMOIZED", "RECOMPUTED" })
+	private String handleFees;
+
+	private JKey payerKey;
+	private SignedTxnAccessor accessor;
+	private UsageBasedFeeCalculator subject;
+
+	@Setup
+	public void setup() {
+		final var props = new BootstrapProperties();
+		final var dynamicProperties = new GlobalDynamicProperties(new HederaNumbers(props), props);
+		final var pricedUsageCalculator = new PricedUsageCalculator(
+				new AccessorBasedUsages(
+						new FileOpsUsage(),
+						new TokenOpsUsage(),
+						new CryptoOpsUsage(),
+						null,
+						new ConsensusOpsUsage(),
+						dynamicProperties),
+				new FixedMultiplierSource(),
+				new OverflowCheckingCalc());
+
+		final var usagePrices = new BasicFcfsUsagePrices(null, null);
+		usagePrices.setFeeSchedules(feeSchedulesWithXferPrices());
+		final var exchange = new BasicHbarCentExchange();
+		exchange.updateRates(ExchangeRateSet.newBuilder()
+				.setCurrentRate(ExchangeRate.newBuilder()
+						.setHbarEquiv(1)
+						.setCentEquiv(12)
+						.setExpirationTime(TimestampSeconds.newBuilder().setSeconds(FAR_FUTURE_SECS)))
+				.build());
+
+		subject = new UsageBasedFeeCalculator(
+				null,
+				exchange,
+				new AutoCreationLogic(null, null, null, null, null, null, null),
+				usagePrices,
+				new FixedMultiplierSource(),
+				pricedUsageCalculator,
+				Collections.emptySet(),
+				Map.of());
+
+		payerKey = new JEd25519Key(new byte[32]);
+		accessor = SignedTxnAccessor.uncheckedFrom(hbarTransfer());
+		/* As in precheck */
+		subject.estimateFee(accessor, payerKey, null, accessor.getTxnId().getTransactionValidStart());
+	}
+
+	@Benchmark
+	public FeeObject handleTimeFees() {
+		if ("RECOMPUTED".equals(handleFees)) {
+			accessor.setFeeMemo(null);
+		}
+		return subject.computeFee(accessor, payerKey, null, CONSENSUS_NOW);
+	}
+
+	private static Transaction hbarTransfer() {
+		final var payer = AccountID.newBuilder().setAccountNum(1_234L).build();
+		final var body = TransactionBody.newBuilder()
+				.setTransactionID(TransactionID.newBuilder()
+						.setAccountID(payer)
+						.setTransactionValidStart(Timestamp.newBuilder().setSeconds(CONSENSUS_NOW.getEpochSecond())))
+				.setTransactionFee(100_000_000L)
+				.setCryptoTransfer(CryptoTransferTransactionBody.newBuilder()
+						.setTransfers(TransferList.newBuilder()
+								.addAccountAmounts(AccountAmount.newBuilder().setAccountID(payer).setAmount(-1L))
+								.addAccountAmounts(AccountAmount.newBuilder()
+										.setAccountID(AccountID.newBuilder().setAccountNum(4_321L).build())
+										.setAmount(+1L))))
+				.build();
+		final var sigMap = SignatureMap.newBuilder()
+				.addSigPair(SignaturePair.newBuilder()
+						.setPubKeyPrefix(ByteString.copyFrom(new byte[32]))
+						.setEd25519(ByteString.copyFrom(new byte[64])))
+				.build();
+		return Transaction.newBuilder()
+				.setSignedTransactionBytes(SignedTransaction.newBuilder()
+						.setBodyBytes(body.toByteString())
+						.setSigMap(sigMap)
+						.build()
+						.toByteString())
+				.build();
+	}
+
+	private static CurrentAndNextFeeSchedule feeSchedulesWithXferPrices() {
+		final var prices = FeeData.newBuilder()
+				.setSubType(SubType.DEFAULT)
+				.setNodedata(someComponents())
+				.setNetworkdata(someComponents())
+				.setServicedata(someComponents())
+				.build();
+		final var schedule = FeeSchedule.newBuilder()
+				.addTransactionFeeSchedule(TransactionFeeSchedule.newBuilder()
+						.setHederaFunctionality(CryptoTransfer)
+						.addFees(prices))
+				.setExpiryTime(TimestampSeconds.newBuilder().setSeconds(FAR_FUTURE_SECS))
+				.build();
+		return CurrentAndNextFeeSchedule.newBuilder()
+				.setCurrentFeeSchedule(schedule)
+				.setNextFeeSchedule(schedule)
+				.build();
+	}
+
+	private static FeeComponents someComponents() {
+		return FeeComponents.newBuilder()
+				.setMin(1L)
+				.setMax(1_000_000_000_000L)
+				.setConstant(1_000_000L)
+				.setBpt(1_000L)
+				.setVpt(1_000L)
+				.setRbh(10L)
+				.setSbh(10L)
+				.setBpr(1_000L)
+				.setSbpr(10L)
+				.build();
+	}
+
+	private static class FixedMultiplierSource implements FeeMultiplierSource {
+		@Override
+		public void updateMultiplier(final Instant consensusNow) {
+			/* No-op */
+		}
+
+		@Override
+		public long currentMultiplier() {
+			return 1L;
+		}
+
+		@Override
+		public void resetExpectations() {
+			/* No-op */
+		}
+
+		@Override
+		public void resetCongestionLevelStarts(final Instant[] savedStartTimes) {
+			/* No-op */
+		}
+
+		@Override
+		public Instant[] congestionLevelStarts() {
+			return new Instant[0];
+		}
+	}
+}
@@ -0,0 +1,140 @@
+package com.hedera.services.grpc.marshalling;
+
+/*-
+ * ‌
+ * Hedera Services Node Benchmarks
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.config.HederaNumbers;
+import com.hedera.services.context.properties.BootstrapProperties;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.ledger.PureTransferSemanticChecks;
+import com.hedera.services.ledger.accounts.AliasManager;
+import com.hedera.services.state.submerkle.EntityId;
+import com.hedera.services.state.submerkle.FcCustomFee;
+import com.hedera.services.store.models.Id;
+import com.hedera.services.txns.customfees.CustomFeeSchedules;
+import com.hederahashgraph.api.proto.java.AccountAmount;
+import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
+import com.hederahashgraph.api.proto.java.TokenID;
+import com.hederahashgraph.api.proto.java.TokenTransferList;
+import com.hederahashgraph.api.proto.java.TransferList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.hedera.services.BenchmarkTxns.FIRST_ACCOUNT_NUM;
+import static com.hedera.services.BenchmarkTxns.accountNum;
+
+/**
+ * Measures the cost of turning a CryptoTransfer into its implied balance changes. With
+ * {@code HBAR_ONLY}, the payer sends ℏ to {@code numReceivers} accounts. With
+ * {@code FUNGIBLE_WITH_FIXED_FEE}, the payer also sends units of a fungible token that charges
+ * a fixed ℏ custom fee, so the custom fee assessment runs as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ImpliedTransfersMarshalBenchmark {
+	private static final long TOKEN_NUM = 2_000L;
+	private static final long TREASURY_NUM = 2_001L;
+	private static final long COLLECTOR_NUM = 2_002L;
+
+	@Param({ "1", "9" })
+	private int numReceivers;
+
+	@Param({ "HBAR_ONLY", "FUNGIBLE_WITH_FIXED_FEE" })
+	private String transfers;
+
+	private CryptoTransferTransactionBody op;
+	private ImpliedTransfersMarshal subject;
+
+	@Setup
+	public void setup() {
+		final var props = new BootstrapProperties();
+		final var dynamicProperties = new GlobalDynamicProperties(new HederaNumbers(props), props);
+		final var fixedFeeAssessor = new FixedFeeAssessor(new HtsFeeAssessor(), new HbarFeeAssessor());
+		final var feeAssessor = new FeeAssessor(
+				fixedFeeAssessor,
+				new RoyaltyFeeAssessor(fixedFeeAssessor, AdjustmentUtils::adjustedChange),
+				new FractionalFeeAssessor(fixedFeeAssessor));
+		final var tokenMeta = new CustomFeeMeta(
+				new Id(0, 0, TOKEN_NUM),
+				new Id(0, 0, TREASURY_NUM),
+				List.of(FcCustomFee.fixedFee(1L, null, new EntityId(0, 0, COLLECTOR_NUM))));
+		final CustomFeeSchedules customFeeSchedules = token -> tokenMeta;
+
+		subject = new ImpliedTransfersMarshal(
+				feeAssessor,
+				new AliasManager(),
+				customFeeSchedules,
+				AliasResolver::new,
+				dynamicProperties,
+				new PureTransferSemanticChecks(),
+				AliasResolver::usesAliases,
+				BalanceChangeManager::new,
+				CustomSchedulesManager::new);
+		op = transferOp();
+	}
+
+	@Benchmark
+	public ImpliedTransfers unmarshalFromGrpc() {
+		return subject.unmarshalFromGrpc(op);
+	}
+
+	private CryptoTransferTransactionBody transferOp() {
+		final var hbarAdjusts = TransferList.newBuilder()
+				.addAccountAmounts(AccountAmount.newBuilder()
+						.setAccountID(accountNum(FIRST_ACCOUNT_NUM))
+						.setAmount(-numReceivers));
+		for (int i = 1; i <= numReceivers; i++) {
+			hbarAdjusts.addAccountAmounts(AccountAmount.newBuilder()
+					.setAccountID(accountNum(FIRST_ACCOUNT_NUM + i))
+					.setAmount(+1L));
+		}
+		final var builder = CryptoTransferTransactionBody.newBuilder().setTransfers(hbarAdjusts);
+		if ("FUNGIBLE_WITH_FIXED_FEE".equals(transfers)) {
+			final var unitAdjusts = TokenTransferList.newBuilder()
+					.setToken(TokenID.newBuilder().setTokenNum(TOKEN_NUM))
+					.addTransfers(AccountAmount.newBuilder()
+							.setAccountID(accountNum(FIRST_ACCOUNT_NUM))
+							.setAmount(-numReceivers));
+			for (int i = 1; i <= numReceivers; i++) {
+				unitAdjusts.addTransfers(AccountAmount.newBuilder()
+						.setAccountID(accountNum(FIRST_ACCOUNT_NUM + i))
+						.setAmount(+1L));
+			}
+			builder.addTokenTransfers(unitAdjusts);
+		}
+		return builder.build();
+	}
+}
@@ -0,0 +1,139 @@
+package com.hedera.services.keys;
+
+/*-
+ * ‌
+ * Hedera Services Node Benchmarks
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.legacy.core.jproto.JECDSASecp256k1Key;
+import com.hedera.services.legacy.core.jproto.JEd25519Key;
+import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.legacy.core.jproto.JKeyList;
+import com.hedera.services.legacy.core.jproto.JThresholdKey;
+import com.swirlds.common.crypto.TransactionSignature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import static com.hedera.services.keys.HederaKeyActivation.INVALID_MISSING_SIG;
+import static com.hedera.services.keys.HederaKeyActivation.isActive;
+import static com.hedera.services.keys.HederaKeyActivation.keysMatch;
+import static com.hedera.services.sigs.factories.PlatformSigFactory.ecdsaSecp256k1Sig;
+import static com.hedera.services.sigs.factories.PlatformSigFactory.ed25519Sig;
+
+/**
+ * Measures the cost of testing a threshold key for activation against the sigs of a transaction,
+ * including building the public key to sig lookup (as is done once per transaction), for thresholds
+ * over 1 to 100 simple keys. The {@code LINEAR} lookup is the list scan used before
+ * {@link PkToSigIndex}, kept as a baseline.
+ *
+ * Half the simple keys are Ed25519 and half ECDSA(secp256k1), and the sigs are in random order
+ * relative to the keys, as when a sig map is not ordered by the key structure.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KeyActivationBenchmark {
+	private static final BiPredicate<JKey, TransactionSignature> IF_SIG_PRESENT =
+			(ignoredKey, sig) -> sig != INVALID_MISSING_SIG;
+
+	@Param({ "1", "5", "10", "25", "50", "100" })
+	private int numKeys;
+
+	@Param({ "INDEXED", "LINEAR" })
+	private String lookup;
+
+	private JKey thresholdKey;
+	private List<TransactionSignature> sigs;
+	private Function<List<TransactionSignature>, Function<byte[], TransactionSignature>> sigsFnFactory;
+
+	@Setup
+	public void setup() {
+		final var r = new SplittableRandom(1_234L);
+		final var sig = new byte[64];
+		final var data = new byte[128];
+
+		final List<JKey> keys = new ArrayList<>();
+		sigs = new ArrayList<>();
+		for (int i = 0; i < numKeys; i++) {
+			if (i % 2 == 0) {
+				final var pk = randomBytes(r, 32);
+				keys.add(new JEd25519Key(pk));
+				sigs.add(ed25519Sig(pk, sig, data));
+			} else {
+				final var uncompressed = randomBytes(r, 64);
+				final var compressed = new byte[33];
+				compressed[0] = (byte) (0x02 | (uncompressed[63] & 0x01));
+				System.arraycopy(uncompressed, 0, compressed, 1, 32);
+				keys.add(new JECDSASecp256k1Key(compressed));
+				sigs.add(ecdsaSecp256k1Sig(uncompressed, sig, data));
+			}
+		}
+		Collections.shuffle(sigs, new Random(5_678L));
+		thresholdKey = new JThresholdKey(new JKeyList(keys), (numKeys + 1) / 2);
+
+		sigsFnFactory = "INDEXED".equals(lookup)
+				? HederaKeyActivation::pkToSigMapFrom
+				: KeyActivationBenchmark::linearScanOf;
+	}
+
+	@Benchmark
+	public boolean thresholdActivation() {
+		return isActive(thresholdKey, sigsFnFactory.apply(sigs), IF_SIG_PRESENT);
+	}
+
+	/* The pkToSigMapFrom implementation before the index, kept as a baseline */
+	private static Function<byte[], TransactionSignature> linearScanOf(final List<TransactionSignature> sigs) {
+		return pk -> {
+			for (var sig : sigs) {
+				if (keysMatch(pk, sig.getExpandedPublicKeyDirect())) {
+					return sig;
+				}
+			}
+			return INVALID_MISSING_SIG;
+		};
+	}
+
+	private static byte[] randomBytes(final SplittableRandom r, final int n) {
+		final var bytes = new byte[n];
+		for (int i = 0; i < n; i++) {
+			bytes[i] = (byte) r.nextInt(256);
+		}
+		return bytes;
+	}
+}
@@ -0,0 +1,100 @@
+package com.hedera.services.ledger;
+
+/*-
+ * ‌
+ * Hedera Services Node Benchmarks
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.ledger.accounts.BackingAccounts;
+import com.hedera.services.ledger.properties.AccountProperty;
+import com.hedera.services.ledger.properties.ChangeSummaryManager;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.utils.EntityNum;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.swirlds.merkle.map.MerkleMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.hedera.services.BenchmarkTxns.FIRST_ACCOUNT_NUM;
+import static com.hedera.services.BenchmarkTxns.accountNum;
+import static com.hedera.services.ledger.properties.AccountProperty.BALANCE;
+
+/**
+ * Measures the cost of one ledger transaction that changes the ℏ balances of {@code numTouched}
+ * existing accounts and commits them to a {@link MerkleMap}, as done for every ℏ transfer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionalLedgerBenchmark {
+	private static final int NUM_ACCOUNTS = 10_000;
+	private static final long INITIAL_BALANCE = 1_000_000_000L;
+
+	@Param({ "2", "10" })
+	private int numTouched;
+
+	private long nextBalance = INITIAL_BALANCE;
+	private AccountID[] touched;
+	private TransactionalLedger<AccountID, AccountProperty, MerkleAccount> subject;
+
+	@Setup
+	public void setup() {
+		final MerkleMap<EntityNum, MerkleAccount> accounts = new MerkleMap<>();
+		for (int i = 0; i < NUM_ACCOUNTS; i++) {
+			final var account = new MerkleAccount();
+			account.setBalanceUnchecked(INITIAL_BALANCE);
+			accounts.put(EntityNum.fromLong(FIRST_ACCOUNT_NUM + i), account);
+		}
+		final var backingAccounts = new BackingAccounts(() -> accounts);
+		backingAccounts.rebuildFromSources();
+
+		subject = new TransactionalLedger<>(
+				AccountProperty.class,
+				MerkleAccount::new,
+				backingAccounts,
+				new ChangeSummaryManager<>());
+		touched = new AccountID[numTouched];
+		for (int i = 0; i < numTouched; i++) {
+			touched[i] = accountNum(FIRST_ACCOUNT_NUM + i);
+		}
+	}
+
+	@Benchmark
+	public void beginSetAndCommit() {
+		subject.begin();
+		nextBalance++;
+		for (final var id : touched) {
+			subject.set(id, BALANCE, nextBalance);
+		}
+		subject.commit();
+	}
+}
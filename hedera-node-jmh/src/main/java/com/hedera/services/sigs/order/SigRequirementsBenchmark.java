@@ -0,0 +1,198 @@
+package com.hedera.services.sigs.order;
+
+/*-
+ * ‌
+ * Hedera Services Node Benchmarks
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.BenchmarkTxns;
+import com.hedera.services.legacy.core.jproto.JEd25519Key;
+import com.hedera.services.sigs.metadata.AccountSigningMetadata;
+import com.hedera.services.sigs.metadata.ContractSigningMetadata;
+import com.hedera.services.sigs.metadata.FileSigningMetadata;
+import com.hedera.services.sigs.metadata.SafeLookupResult;
+import com.hedera.services.sigs.metadata.ScheduleSigningMetadata;
+import com.hedera.services.sigs.metadata.SigMetadataLookup;
+import com.hedera.services.sigs.metadata.TokenSigningMetadata;
+import com.hedera.services.sigs.metadata.TopicSigningMetadata;
+import com.hedera.services.utils.SignedTxnAccessor;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.ContractID;
+import com.hederahashgraph.api.proto.java.FileID;
+import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
+import com.hederahashgraph.api.proto.java.ScheduleID;
+import com.hederahashgraph.api.proto.java.TokenID;
+import com.hederahashgraph.api.proto.java.TopicID;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.annotation.Nullable;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.hedera.services.BenchmarkTxns.FIRST_ACCOUNT_NUM;
+import static com.hedera.services.sigs.order.CodeOrderResultFactory.CODE_ORDER_RESULT_FACTORY;
+import static com.hedera.services.sigs.order.KeyOrderingFailure.MISSING_ACCOUNT;
+
+/**
+ * Measures the cost of computing the payer and other-party signing requirements of an ℏ transfer
+ * to {@code numReceivers} accounts, every other one of which requires a receiver signature. The
+ * signing metadata comes from an in-memory map, so this isolates the work of {@link SigRequirements}
+ * from that of the state lookups.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SigRequirementsBenchmark {
+	@Param({ "1", "9", "49" })
+	private int numReceivers;
+
+	private TransactionBody txn;
+	private SigRequirements subject;
+
+	@Setup
+	public void setup() {
+		final Map<AccountID, AccountSigningMetadata> accounts = new HashMap<>();
+		for (int i = 0; i <= numReceivers; i++) {
+			final var key = new byte[32];
+			key[0] = (byte) i;
+			key[1] = (byte) (i >>> 8);
+			accounts.put(
+					BenchmarkTxns.accountNum(FIRST_ACCOUNT_NUM + i),
+					new AccountSigningMetadata(new JEd25519Key(key), i % 2 == 1));
+		}
+		subject = new SigRequirements(new MapSigMetadataLookup(accounts), new NoSigWaivers());
+		txn = SignedTxnAccessor.uncheckedFrom(BenchmarkTxns.hbarTransfer(numReceivers)).getTxn();
+	}
+
+	@Benchmark
+	public SigningOrderResult<ResponseCodeEnum> keysForPayer() {
+		return subject.keysForPayer(txn, CODE_ORDER_RESULT_FACTORY);
+	}
+
+	@Benchmark
+	public SigningOrderResult<ResponseCodeEnum> keysForOtherParties() {
+		return subject.keysForOtherParties(txn, CODE_ORDER_RESULT_FACTORY);
+	}
+
+	private record MapSigMetadataLookup(Map<AccountID, AccountSigningMetadata> accounts) implements SigMetadataLookup {
+		@Override
+		public SafeLookupResult<AccountSigningMetadata> accountSigningMetaFor(
+				final AccountID id,
+				final @Nullable LinkedRefs linkedRefs
+		) {
+			final var meta = accounts.get(id);
+			return (meta == null) ? SafeLookupResult.failure(MISSING_ACCOUNT) : new SafeLookupResult<>(meta);
+		}
+
+		@Override
+		public SafeLookupResult<AccountSigningMetadata> aliasableAccountSigningMetaFor(
+				final AccountID idOrAlias,
+				final @Nullable LinkedRefs linkedRefs
+		) {
+			return accountSigningMetaFor(idOrAlias, linkedRefs);
+		}
+
+		@Override
+		public SafeLookupResult<FileSigningMetadata> fileSigningMetaFor(
+				final FileID id,
+				final @Nullable LinkedRefs linkedRefs
+		) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public SafeLookupResult<TopicSigningMetadata> topicSigningMetaFor(
+				final TopicID id,
+				final @Nullable LinkedRefs linkedRefs
+		) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public SafeLookupResult<TokenSigningMetadata> tokenSigningMetaFor(
+				final TokenID id,
+				final @Nullable LinkedRefs linkedRefs
+		) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public SafeLookupResult<ScheduleSigningMetadata> scheduleSigningMetaFor(
+				final ScheduleID id,
+				final @Nullable LinkedRefs linkedRefs
+		) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public SafeLookupResult<ContractSigningMetadata> contractSigningMetaFor(
+				final ContractID id,
+				final @Nullable LinkedRefs linkedRefs
+		) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Instant sourceSignedAt() {
+			return Instant.EPOCH;
+		}
+	}
+
+	private static class NoSigWaivers implements SignatureWaivers {
+		@Override
+		public boolean isAppendFileWaclWaived(final TransactionBody fileAppendTxn) {
+			return false;
+		}
+
+		@Override
+		public boolean isTargetFileWaclWaived(final TransactionBody fileUpdateTxn) {
+			return false;
+		}
+
+		@Override
+		public boolean isNewFileWaclWaived(final TransactionBody fileUpdateTxn) {
+			return false;
+		}
+
+		@Override
+		public boolean isTargetAccountKeyWaived(final TransactionBody cryptoUpdateTxn) {
+			return false;
+		}
+
+		@Override
+		public boolean isNewAccountKeyWaived(final TransactionBody cryptoUpdateTxn) {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,138 @@
+package com.hedera.services.state;
+
+/*-
+ * ‌
+ * Hedera Services Node Benchmarks
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.BenchmarkTxns;
+import com.hedera.services.legacy.core.jproto.JEd25519Key;
+import com.hedera.services.legacy.core.jproto.TxnReceipt;
+import com.hedera.services.state.merkle.MerkleAccountState;
+import com.hedera.services.state.submerkle.CurrencyAdjustments;
+import com.hedera.services.state.submerkle.EntityId;
+import com.hedera.services.state.submerkle.ExpirableTxnRecord;
+import com.hedera.services.state.submerkle.RichInstant;
+import com.hedera.services.state.submerkle.TxnId;
+import com.hedera.services.utils.SignedTxnAccessor;
+import com.swirlds.common.constructable.ConstructableRegistry;
+import com.swirlds.common.constructable.ConstructableRegistryException;
+import com.swirlds.common.io.SelfSerializable;
+import com.swirlds.common.io.SerializableDataInputStream;
+import com.swirlds.common.io.SerializableDataOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.hedera.services.BenchmarkTxns.FIRST_ACCOUNT_NUM;
+
+/**
+ * Measures the cost of serializing and deserializing the two state objects written most often,
+ * as in saved states and reconnects: the {@link MerkleAccountState} of an account, and the
+ * {@link ExpirableTxnRecord} of an ℏ transfer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+	@Param({ "ACCOUNT_STATE", "TXN_RECORD" })
+	private String type;
+
+	private byte[] serialized;
+	private SelfSerializable subject;
+	private Supplier<SelfSerializable> factory;
+
+	@Setup
+	public void setup() throws ConstructableRegistryException, IOException {
+		ConstructableRegistry.registerConstructables("com.hedera.services");
+		if ("ACCOUNT_STATE".equals(type)) {
+			subject = accountState();
+			factory = MerkleAccountState::new;
+		} else {
+			subject = transferRecord();
+			factory = ExpirableTxnRecord::new;
+		}
+		serialized = serialize();
+	}
+
+	@Benchmark
+	public byte[] serialize() throws IOException {
+		final var baos = new ByteArrayOutputStream();
+		try (final var out = new SerializableDataOutputStream(baos)) {
+			subject.serialize(out);
+		}
+		return baos.toByteArray();
+	}
+
+	@Benchmark
+	public SelfSerializable deserialize() throws IOException {
+		final var copy = factory.get();
+		try (final var in = new SerializableDataInputStream(new ByteArrayInputStream(serialized))) {
+			copy.deserialize(in, subject.getVersion());
+		}
+		return copy;
+	}
+
+	private static MerkleAccountState accountState() {
+		final var state = new MerkleAccountState();
+		state.setAccountKey(new JEd25519Key(new byte[32]));
+		state.setExpiry(BenchmarkTxns.VALID_START_SECS + 7_776_000L);
+		state.setHbarBalance(1_000_000_000L);
+		state.setAutoRenewSecs(7_776_000L);
+		state.setMemo("Benchmark");
+		state.setProxy(new EntityId(0, 0, 3));
+		state.setNumber((int) FIRST_ACCOUNT_NUM);
+		return state;
+	}
+
+	private static ExpirableTxnRecord transferRecord() {
+		final var accessor = SignedTxnAccessor.uncheckedFrom(BenchmarkTxns.hbarTransfer(1));
+		return ExpirableTxnRecord.newBuilder()
+				.setReceipt(TxnReceipt.newBuilder().setStatus("SUCCESS").build())
+				.setTxnHash(accessor.getHash())
+				.setTxnId(TxnId.fromGrpc(accessor.getTxnId()))
+				.setConsensusTime(new RichInstant(BenchmarkTxns.VALID_START_SECS, 1))
+				.setMemo(accessor.getMemo())
+				.setFee(83_333L)
+				.setTransferList(new CurrencyAdjustments(
+						new long[] { -83_334L, +1L, +83_333L },
+						List.of(
+								new EntityId(0, 0, FIRST_ACCOUNT_NUM),
+								new EntityId(0, 0, FIRST_ACCOUNT_NUM + 1),
+								new EntityId(0, 0, 98))))
+				.build();
+	}
+}
@@ -0,0 +1,85 @@
+package com.hedera.services.throttling;
+
+/*-
+ * ‌
+ * Hedera Services Node Benchmarks
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.BenchmarkTxns;
+import com.hedera.services.config.HederaNumbers;
+import com.hedera.services.context.properties.BootstrapProperties;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.ledger.accounts.AliasManager;
+import com.hedera.services.sysfiles.serdes.ThrottlesJsonToProtoSerde;
+import com.hedera.services.utils.SignedTxnAccessor;
+import com.hedera.services.utils.TxnAccessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of the handle-time throttle check for a single transaction. Consensus time
+ * advances by one millisecond per check, which frees more capacity than each check uses; so every
+ * transaction is admitted, as in a network running below its throttle limits.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeterministicThrottlingBenchmark {
+	@Param({ "CRYPTO_TRANSFER", "SUBMIT_MESSAGE" })
+	private String txn;
+
+	private Instant now = Instant.ofEpochSecond(BenchmarkTxns.VALID_START_SECS);
+	private TxnAccessor accessor;
+	private DeterministicThrottling subject;
+
+	@Setup
+	public void setup() throws IOException {
+		final var props = new BootstrapProperties();
+		final var dynamicProperties = new GlobalDynamicProperties(new HederaNumbers(props), props);
+		subject = new DeterministicThrottling(() -> 1, new AliasManager(), dynamicProperties);
+		try (final var in = DeterministicThrottlingBenchmark.class.getClassLoader()
+				.getResourceAsStream("throttles.json")) {
+			subject.rebuildFor(ThrottlesJsonToProtoSerde.loadPojoDefs(in));
+		}
+		accessor = SignedTxnAccessor.uncheckedFrom("CRYPTO_TRANSFER".equals(txn)
+				? BenchmarkTxns.hbarTransfer(1)
+				: BenchmarkTxns.submitMessage(100));
+	}
+
+	@Benchmark
+	public boolean shouldThrottleTxn() {
+		now = now.plusMillis(1);
+		return subject.shouldThrottleTxn(accessor, now);
+	}
+}
@@ -0,0 +1,134 @@
+package com.hedera.services.throttling;
+
+/*-
+ * ‌
+ * Hedera Services Node Benchmarks
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.sysfiles.serdes.ThrottlesJsonToProtoSerde;
+import com.hedera.services.utils.SignedTxnAccessor;
+import com.hedera.services.utils.TxnAccessor;
+import com.hederahashgraph.api.proto.java.ConsensusSubmitMessageTransactionBody;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.hederahashgraph.api.proto.java.SignedTransaction;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoGetAccountBalance;
+
+/**
+ * Measures how HAPI admission throughput scales with the number of ingest threads, comparing
+ * the lock-free frontend throttle against the previous, fully synchronized facade.
+ *
+ * Run a single thread count with, e.g., {@code java -jar benchmarks.jar HapiThrottlingBenchmark -t 16};
+ * or run {@link HapiThrottlingBenchmark#main(String[])} for the whole 1-64 thread sweep.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HapiThrottlingBenchmark {
+	private static final int[] THREAD_COUNTS = { 1, 2, 4, 8, 16, 32, 64 };
+
+	@Param({ "LOCK_FREE", "SYNCHRONIZED" })
+	private String frontend;
+
+	private TxnAccessor submitAccessor;
+	private FunctionalityThrottling subject;
+
+	@Setup
+	public void setup() throws IOException {
+		final var submitTxn = Transaction.newBuilder()
+				.setSignedTransactionBytes(SignedTransaction.newBuilder()
+						.setBodyBytes(TransactionBody.newBuilder()
+								.setConsensusSubmitMessage(ConsensusSubmitMessageTransactionBody.getDefaultInstance())
+								.build()
+								.toByteString())
+						.build()
+						.toByteString())
+				.build();
+		submitAccessor = SignedTxnAccessor.uncheckedFrom(submitTxn);
+
+		final DeterministicThrottling delegate;
+		if ("LOCK_FREE".equals(frontend)) {
+			delegate = new DeterministicThrottling(() -> 1, null, null, ConcurrentThrottleReqsManager::new);
+			subject = new HapiThrottling(delegate);
+		} else {
+			delegate = new DeterministicThrottling(() -> 1, null, null);
+			subject = new SynchronizedHapiThrottling(delegate);
+		}
+		try (final var in = HapiThrottlingBenchmark.class.getClassLoader().getResourceAsStream("throttles.json")) {
+			subject.rebuildFor(ThrottlesJsonToProtoSerde.loadPojoDefs(in));
+		}
+	}
+
+	@Benchmark
+	public boolean queryAdmission() {
+		return subject.shouldThrottleQuery(CryptoGetAccountBalance);
+	}
+
+	@Benchmark
+	public boolean txnAdmission() {
+		return subject.shouldThrottleTxn(submitAccessor);
+	}
+
+	public static void main(final String... args) throws RunnerException {
+		for (final var threads : THREAD_COUNTS) {
+			new Runner(new OptionsBuilder()
+					.include(HapiThrottlingBenchmark.class.getSimpleName())
+					.threads(threads)
+					.build()).run();
+		}
+	}
+
+	/* The facade as it was before ingest throttling became lock-free, kept as a baseline */
+	private static class SynchronizedHapiThrottling extends HapiThrottling {
+		SynchronizedHapiThrottling(final TimedFunctionalityThrottling delegate) {
+			super(delegate);
+		}
+
+		@Override
+		public synchronized boolean shouldThrottleTxn(final TxnAccessor accessor) {
+			return super.shouldThrottleTxn(accessor);
+		}
+
+		@Override
+		public synchronized boolean shouldThrottleQuery(final HederaFunctionality queryFunction) {
+			return super.shouldThrottleQuery(queryFunction);
+		}
+	}
+}
@@ -0,0 +1,75 @@
+package com.hedera.services.utils;
+
+/*-
+ * ‌
+ * Hedera Services Node Benchmarks
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.hedera.services.BenchmarkTxns;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of building a {@link SignedTxnAccessor} from the raw bytes of a submitted
+ * transaction, as done once in precheck and (without accessor reuse) once more at consensus; and
+ * of also computing its SHA-384 hash, as needed for its record.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SignedTxnAccessorBenchmark {
+	@Param({ "CRYPTO_TRANSFER_2", "CRYPTO_TRANSFER_10", "SUBMIT_MESSAGE_1K" })
+	private String txn;
+
+	private byte[] txnBytes;
+
+	@Setup
+	public void setup() {
+		final var signedTxn = switch (txn) {
+			case "CRYPTO_TRANSFER_2" -> BenchmarkTxns.hbarTransfer(1);
+			case "CRYPTO_TRANSFER_10" -> BenchmarkTxns.hbarTransfer(9);
+			default -> BenchmarkTxns.submitMessage(1_024);
+		};
+		txnBytes = signedTxn.toByteArray();
+	}
+
+	@Benchmark
+	public SignedTxnAccessor construction() throws InvalidProtocolBufferException {
+		return new SignedTxnAccessor(txnBytes);
+	}
+
+	@Benchmark
+	public byte[] constructionAndHash() throws InvalidProtocolBufferException {
+		return new SignedTxnAccessor(txnBytes).getHash();
+	}
+}
@@ -96,7 +96,8 @@ public class ServicesMain implements SwirldMain {
 			balancesExporter.exportBalancesFrom(servicesState, consensusTime, app.nodeId());
 		}
 
-		app.latestSignedState().replaceChildrenFrom(servicesState, consensusTime);
+		final var shouldPin = app.nodeLocalProperties().shouldQueriesUseLatestSignedState();
+		app.latestSignedState().replaceChildrenFrom(servicesState, consensusTime, shouldPin);
 	}
 
 	@Override
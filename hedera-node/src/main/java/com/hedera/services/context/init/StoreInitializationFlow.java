@@ -21,19 +21,14 @@ package com.hedera.services.context.init;
  */
 
 import com.hedera.services.ledger.accounts.AliasManager;
-import com.hedera.services.ledger.accounts.BackingStore;
+import com.hedera.services.ledger.accounts.BackingAccounts;
 import com.hedera.services.state.StateAccessor;
 import com.hedera.services.state.annotations.WorkingState;
-import com.hedera.services.state.merkle.MerkleAccount;
-import com.hedera.services.state.merkle.MerkleTokenRelStatus;
-import com.hedera.services.state.merkle.MerkleUniqueToken;
-import com.hedera.services.store.models.NftId;
+import com.hedera.services.state.expiry.renewal.ExpiryOrderedAccounts;
+import com.hedera.services.state.initialization.ViewsRebuild;
 import com.hedera.services.store.schedule.ScheduleStore;
 import com.hedera.services.store.tokens.TokenStore;
 import com.hedera.services.store.tokens.views.UniqTokenViewsManager;
-import com.hederahashgraph.api.proto.java.AccountID;
-import com.hederahashgraph.api.proto.java.TokenID;
-import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -49,9 +44,8 @@ public class StoreInitializationFlow {
 	private final StateAccessor stateAccessor;
 	private final AliasManager aliasManager;
 	private final UniqTokenViewsManager uniqTokenViewsManager;
-	private final BackingStore<AccountID, MerkleAccount> backingAccounts;
-	private final BackingStore<NftId, MerkleUniqueToken> backingNfts;
-	private final BackingStore<Pair<AccountID, TokenID>, MerkleTokenRelStatus> backingTokenRels;
+	private final BackingAccounts backingAccounts;
+	private final ExpiryOrderedAccounts expiryOrderedAccounts;
 
 	@Inject
 	public StoreInitializationFlow(
@@ -60,34 +54,31 @@ public class StoreInitializationFlow {
 			final AliasManager aliasManager,
 			final @WorkingState StateAccessor stateAccessor,
 			final UniqTokenViewsManager uniqTokenViewsManager,
-			final BackingStore<AccountID, MerkleAccount> backingAccounts,
-			final BackingStore<NftId, MerkleUniqueToken> backingNfts,
-			final BackingStore<Pair<AccountID, TokenID>, MerkleTokenRelStatus> backingTokenRels
+			final BackingAccounts backingAccounts,
+			final ExpiryOrderedAccounts expiryOrderedAccounts
 	) {
 		this.tokenStore = tokenStore;
 		this.scheduleStore = scheduleStore;
 		this.backingAccounts = backingAccounts;
+		this.expiryOrderedAccounts = expiryOrderedAccounts;
 		this.stateAccessor = stateAccessor;
-		this.backingNfts = backingNfts;
-		this.backingTokenRels = backingTokenRels;
 		this.aliasManager = aliasManager;
 		this.uniqTokenViewsManager = uniqTokenViewsManager;
 	}
 
 	public void run() {
-		backingTokenRels.rebuildFromSources();
-		backingAccounts.rebuildFromSources();
-		backingNfts.rebuildFromSources();
-		log.info("Backing stores rebuilt");
-
-		tokenStore.rebuildViews();
-		scheduleStore.rebuildViews();
-		log.info("Store internal views rebuilt");
-
-		uniqTokenViewsManager.rebuildNotice(stateAccessor.tokens(), stateAccessor.uniqueTokens());
-		log.info("Unique token views rebuilt");
-
-		aliasManager.rebuildAliasesMap(stateAccessor.accounts());
-		log.info("Account aliases map rebuilt");
+		/* The token relationship and NFT backing stores read through to their maps, so have no views to rebuild */
+		final var accounts = stateAccessor.accounts();
+		final var tokens = stateAccessor.tokens();
+		new ViewsRebuild()
+				.of("accounts", accounts, backingAccounts.existingAccountsBuilder())
+				.of("accounts", accounts, aliasManager.aliasesBuilder())
+				.of("accounts", accounts, expiryOrderedAccounts.expiriesBuilder())
+				.of("tokens", tokens, tokenStore.viewsBuilder())
+				.of("schedules", stateAccessor.schedules(), scheduleStore.viewsBuilder())
+				.of("unique tokens", stateAccessor.uniqueTokens(), uniqTokenViewsManager.viewsBuilder(tokens))
+				.run();
+		log.info("Backing stores, store internal views, unique token views, account aliases, and account expiries " +
+				"rebuilt");
 	}
 }
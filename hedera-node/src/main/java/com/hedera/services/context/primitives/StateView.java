@@ -24,6 +24,7 @@ import com.google.protobuf.ByteString;
 import com.hedera.services.context.StateChildren;
 import com.hedera.services.context.properties.NodeLocalProperties;
 import com.hedera.services.contracts.sources.AddressKeyedMapFactory;
+import com.hedera.services.files.ChunkedFileContents;
 import com.hedera.services.files.DataMapFactory;
 import com.hedera.services.files.HFileMeta;
 import com.hedera.services.files.MetadataMapFactory;
@@ -32,6 +33,7 @@ import com.hedera.services.ledger.accounts.AliasManager;
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.legacy.core.jproto.JKeyList;
 import com.hedera.services.sigs.sourcing.KeyType;
+import com.hedera.services.state.PinnedState;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleOptionalBlob;
 import com.hedera.services.state.merkle.MerkleToken;
@@ -98,7 +100,7 @@ import static com.hedera.services.utils.EntityNum.fromContractId;
 import static com.hedera.services.utils.MiscUtils.asKeyUnchecked;
 import static java.util.Collections.unmodifiableMap;
 
-public class StateView {
+public class StateView implements AutoCloseable {
 	private static final Logger log = LogManager.getLogger(StateView.class);
 
 	public static final AccountID WILDCARD_OWNER = AccountID.newBuilder()
@@ -124,6 +126,7 @@ public class StateView {
 	private final StateChildren stateChildren;
 	private final UniqTokenView uniqTokenView;
 	private final NodeLocalProperties nodeLocalProperties;
+	private PinnedState pinnedState;
 
 	Map<byte[], byte[]> contractStorage;
 	Map<byte[], byte[]> contractBytecode;
@@ -159,6 +162,36 @@ public class StateView {
 		contractBytecode = AddressKeyedMapFactory.bytecodeMapFrom(blobStore);
 	}
 
+	/**
+	 * Creates a view over the children of a pinned state, which the view releases when closed.
+	 * The caller must have already retained the pinned state on behalf of the new view.
+	 */
+	public static StateView pinnedTo(
+			final PinnedState pinnedState,
+			final TokenStore tokenStore,
+			final ScheduleStore scheduleStore,
+			final NodeLocalProperties nodeLocalProperties,
+			final UniqTokenViewFactory uniqTokenViewFactory
+	) {
+		final var view = new StateView(
+				tokenStore, scheduleStore, nodeLocalProperties, pinnedState.children(), uniqTokenViewFactory);
+		view.pinnedState = pinnedState;
+		return view;
+	}
+
+	/**
+	 * Releases the pinned state this view was created over, if any. Views over the working
+	 * state have nothing to release, and closing them is a no-op.
+	 */
+	@Override
+	public void close() {
+		if (pinnedState != null) {
+			final var toRelease = pinnedState;
+			pinnedState = null;
+			toRelease.release();
+		}
+	}
+
 	public Optional<HFileMeta> attrOf(FileID id) {
 		return Optional.ofNullable(fileAttrs.get(id));
 	}
@@ -175,6 +208,13 @@ public class StateView {
 		}
 	}
 
+	private long sizeOfContents(final FileID id) {
+		if (fileContents instanceof ChunkedFileContents chunkedContents) {
+			return Math.max(0L, chunkedContents.sizeOf(id));
+		}
+		return Optional.ofNullable(fileContents.get(id)).orElse(EMPTY_BYTES).length;
+	}
+
 	public Optional<byte[]> bytecodeOf(ContractID id) {
 		return Optional.ofNullable(contractBytecode.get(asSolidityAddress(id)));
 	}
@@ -183,6 +223,14 @@ public class StateView {
 		return Optional.ofNullable(contractStorage.get(asSolidityAddress(id)));
 	}
 
+	public Map<byte[], byte[]> contractBytecode() {
+		return contractBytecode;
+	}
+
+	public Map<byte[], byte[]> contractStorage() {
+		return contractStorage;
+	}
+
 	public Optional<MerkleToken> tokenWith(TokenID id) {
 		return tokenStore == null || !tokenStore.exists(id)
 				? Optional.empty()
@@ -406,7 +454,7 @@ public class StateView {
 				.setMemo(attr.getMemo())
 				.setDeleted(attr.isDeleted())
 				.setExpirationTime(Timestamp.newBuilder().setSeconds(attr.getExpiry()))
-				.setSize(Optional.ofNullable(fileContents.get(id)).orElse(EMPTY_BYTES).length);
+				.setSize(sizeOfContents(id));
 		if (!attr.getWacl().isEmpty()) {
 			info.setKeys(MiscUtils.asKeyUnchecked(attr.getWacl()).getKeyList());
 		}
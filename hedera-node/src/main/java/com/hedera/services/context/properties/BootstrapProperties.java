@@ -213,6 +213,7 @@ public final class BootstrapProperties implements PropertySource {
 			"contracts.chainId",
 			"contracts.maxStorageKb",
 			"files.maxSizeKb",
+			"files.chunkedAppends.isEnabled",
 			"fees.minCongestionPeriod",
 			"fees.percentCongestionMultipliers",
 			"fees.tokenTransferUsageMultiplier",
@@ -257,8 +258,18 @@ public final class BootstrapProperties implements PropertySource {
 	);
 
 	static final Set<String> NODE_PROPS = Set.of(
+			"contracts.codeCache.maxSizeKb",
+			"contracts.localCall.queueCapacity",
+			"contracts.localCall.threads",
+			"contracts.localCall.timeoutMs",
 			"dev.onlyDefaultNodeListens",
 			"dev.defaultListeningNodeAccount",
+			"grpc.handlerStages.isEnabled",
+			"grpc.handlerStages.queries.queueCapacity",
+			"grpc.handlerStages.queries.threads",
+			"grpc.handlerStages.txns.queueCapacity",
+			"grpc.handlerStages.txns.threads",
+			"grpc.handlerStages.useVirtualThreads",
 			"grpc.port",
 			"grpc.tlsPort",
 			"hedera.accountsExportPath",
@@ -283,8 +294,15 @@ public final class BootstrapProperties implements PropertySource {
 			"netty.startRetryIntervalMs",
 			"netty.tlsCrt.path",
 			"netty.tlsKey.path",
+			"precheck.sigVerification.maxBatchSize",
+			"precheck.sigVerification.maxWaitMs",
+			"precheck.sigVerification.threads",
 			"queries.blob.lookupRetries",
+			"queries.useLatestSignedState",
 			"stats.executionTimesToTrack",
+			"stats.handlePhases.dumpDir",
+			"stats.handlePhases.dumpIntervalMs",
+			"stats.handlePhases.enabled",
 			"stats.hapiOps.speedometerUpdateIntervalMs",
 			"stats.runningAvgHalfLifeSecs",
 			"stats.speedometerHalfLifeSecs"
@@ -323,6 +341,12 @@ public final class BootstrapProperties implements PropertySource {
 			entry("files.nodeDetails", AS_LONG),
 			entry("files.softwareUpdateRange", AS_ENTITY_NUM_RANGE),
 			entry("files.throttleDefinitions", AS_LONG),
+			entry("grpc.handlerStages.isEnabled", AS_BOOLEAN),
+			entry("grpc.handlerStages.queries.queueCapacity", AS_INT),
+			entry("grpc.handlerStages.queries.threads", AS_INT),
+			entry("grpc.handlerStages.txns.queueCapacity", AS_INT),
+			entry("grpc.handlerStages.txns.threads", AS_INT),
+			entry("grpc.handlerStages.useVirtualThreads", AS_BOOLEAN),
 			entry("grpc.port", AS_INT),
 			entry("grpc.tlsPort", AS_INT),
 			entry("hedera.exportAccountsOnStartup", AS_BOOLEAN),
@@ -359,6 +383,7 @@ public final class BootstrapProperties implements PropertySource {
 			entry("fees.tokenTransferUsageMultiplier", AS_INT),
 			entry("fees.percentCongestionMultipliers", AS_CONGESTION_MULTIPLIERS),
 			entry("files.maxSizeKb", AS_INT),
+			entry("files.chunkedAppends.isEnabled", AS_BOOLEAN),
 			entry("ledger.changeHistorian.memorySecs", AS_INT),
 			entry("ledger.xferBalanceChanges.maxLen", AS_INT),
 			entry("ledger.fundingAccount", AS_LONG),
@@ -379,6 +404,7 @@ public final class BootstrapProperties implements PropertySource {
 			entry("netty.prod.maxConnectionIdle", AS_LONG),
 			entry("netty.prod.keepAliveTime", AS_LONG),
 			entry("netty.prod.keepAliveTimeout", AS_LONG),
+			entry("queries.useLatestSignedState", AS_BOOLEAN),
 			entry("tokens.maxPerAccount", AS_INT),
 			entry("tokens.maxCustomFeesAllowed", AS_INT),
 			entry("tokens.maxCustomFeeDepth", AS_INT),
@@ -398,10 +424,19 @@ public final class BootstrapProperties implements PropertySource {
 			entry("contracts.defaultLifetime", AS_LONG),
 			entry("contracts.maxGas", AS_INT),
 			entry("contracts.chainId", AS_INT),
+			entry("contracts.codeCache.maxSizeKb", AS_INT),
+			entry("contracts.localCall.queueCapacity", AS_INT),
+			entry("contracts.localCall.threads", AS_INT),
+			entry("contracts.localCall.timeoutMs", AS_LONG),
+			entry("precheck.sigVerification.maxBatchSize", AS_INT),
+			entry("precheck.sigVerification.maxWaitMs", AS_LONG),
+			entry("precheck.sigVerification.threads", AS_INT),
 			entry("rates.intradayChangeLimitPercent", AS_INT),
 			entry("rates.midnightCheckInterval", AS_LONG),
 			entry("scheduling.whitelist", AS_FUNCTIONS),
 			entry("scheduling.triggerTxn.windBackNanos", AS_LONG),
+			entry("stats.handlePhases.dumpIntervalMs", AS_LONG),
+			entry("stats.handlePhases.enabled", AS_BOOLEAN),
 			entry("stats.hapiOps.speedometerUpdateIntervalMs", AS_LONG),
 			entry("stats.runningAvgHalfLifeSecs", AS_DOUBLE),
 			entry("stats.speedometerHalfLifeSecs", AS_DOUBLE),
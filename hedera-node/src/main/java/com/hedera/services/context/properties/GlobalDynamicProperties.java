@@ -89,6 +89,7 @@ public class GlobalDynamicProperties {
 	private long triggerTxnWindBackNanos;
 	private int changeHistorianMemorySecs;
 	private boolean autoCreationEnabled;
+	private boolean chunkedFileAppendsEnabled;
 
 	@Inject
 	public GlobalDynamicProperties(
@@ -160,6 +161,7 @@ public class GlobalDynamicProperties {
 		triggerTxnWindBackNanos = properties.getLongProperty("scheduling.triggerTxn.windBackNanos");
 		changeHistorianMemorySecs = properties.getIntProperty("ledger.changeHistorian.memorySecs");
 		autoCreationEnabled = properties.getBooleanProperty("autoCreation.enabled");
+		chunkedFileAppendsEnabled = properties.getBooleanProperty("files.chunkedAppends.isEnabled");
 	}
 
 	public int maxTokensPerAccount() {
@@ -361,4 +363,8 @@ public class GlobalDynamicProperties {
 	public boolean isAutoCreationEnabled() {
 		return autoCreationEnabled;
 	}
+
+	public boolean areChunkedFileAppendsEnabled() {
+		return chunkedFileAppendsEnabled;
+	}
 }
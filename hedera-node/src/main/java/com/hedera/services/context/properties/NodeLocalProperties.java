@@ -60,6 +60,23 @@ public class NodeLocalProperties {
 	private int numExecutionTimesToTrack;
 	private int issResetPeriod;
 	private int issRoundsToDump;
+	private boolean handlerStagesEnabled;
+	private boolean handlerStagesUseVirtualThreads;
+	private int txnHandlerThreads;
+	private int txnHandlerQueueCapacity;
+	private int queryHandlerThreads;
+	private int queryHandlerQueueCapacity;
+	private boolean queriesUseLatestSignedState;
+	private boolean handlePhaseTrackingEnabled;
+	private long handlePhasesDumpIntervalMs;
+	private String handlePhasesDumpDir;
+	private int contractsCodeCacheMaxSizeKb;
+	private int contractsLocalCallThreads;
+	private int contractsLocalCallQueueCapacity;
+	private long contractsLocalCallTimeoutMs;
+	private int precheckSigVerificationThreads;
+	private int precheckSigVerificationMaxBatchSize;
+	private long precheckSigVerificationMaxWaitMs;
 
 	@Inject
 	public NodeLocalProperties(@CompositeProps PropertySource properties) {
@@ -100,6 +117,23 @@ public class NodeLocalProperties {
 		numExecutionTimesToTrack = properties.getIntProperty("stats.executionTimesToTrack");
 		issResetPeriod = properties.getIntProperty("iss.resetPeriod");
 		issRoundsToDump = properties.getIntProperty("iss.roundsToDump");
+		handlerStagesEnabled = properties.getBooleanProperty("grpc.handlerStages.isEnabled");
+		handlerStagesUseVirtualThreads = properties.getBooleanProperty("grpc.handlerStages.useVirtualThreads");
+		txnHandlerThreads = properties.getIntProperty("grpc.handlerStages.txns.threads");
+		txnHandlerQueueCapacity = properties.getIntProperty("grpc.handlerStages.txns.queueCapacity");
+		queryHandlerThreads = properties.getIntProperty("grpc.handlerStages.queries.threads");
+		queryHandlerQueueCapacity = properties.getIntProperty("grpc.handlerStages.queries.queueCapacity");
+		queriesUseLatestSignedState = properties.getBooleanProperty("queries.useLatestSignedState");
+		handlePhaseTrackingEnabled = properties.getBooleanProperty("stats.handlePhases.enabled");
+		handlePhasesDumpIntervalMs = properties.getLongProperty("stats.handlePhases.dumpIntervalMs");
+		handlePhasesDumpDir = properties.getStringProperty("stats.handlePhases.dumpDir");
+		contractsCodeCacheMaxSizeKb = properties.getIntProperty("contracts.codeCache.maxSizeKb");
+		contractsLocalCallThreads = properties.getIntProperty("contracts.localCall.threads");
+		contractsLocalCallQueueCapacity = properties.getIntProperty("contracts.localCall.queueCapacity");
+		contractsLocalCallTimeoutMs = properties.getLongProperty("contracts.localCall.timeoutMs");
+		precheckSigVerificationThreads = properties.getIntProperty("precheck.sigVerification.threads");
+		precheckSigVerificationMaxBatchSize = properties.getIntProperty("precheck.sigVerification.maxBatchSize");
+		precheckSigVerificationMaxWaitMs = properties.getLongProperty("precheck.sigVerification.maxWaitMs");
 	}
 
 	public int port() {
@@ -225,4 +259,72 @@ public class NodeLocalProperties {
 	public int issRoundsToDump() {
 		return issRoundsToDump;
 	}
+
+	public boolean areHandlerStagesEnabled() {
+		return handlerStagesEnabled;
+	}
+
+	public boolean shouldHandlerStagesUseVirtualThreads() {
+		return handlerStagesUseVirtualThreads;
+	}
+
+	public int txnHandlerThreads() {
+		return txnHandlerThreads;
+	}
+
+	public int txnHandlerQueueCapacity() {
+		return txnHandlerQueueCapacity;
+	}
+
+	public int queryHandlerThreads() {
+		return queryHandlerThreads;
+	}
+
+	public int queryHandlerQueueCapacity() {
+		return queryHandlerQueueCapacity;
+	}
+
+	public boolean shouldQueriesUseLatestSignedState() {
+		return queriesUseLatestSignedState;
+	}
+
+	public boolean isHandlePhaseTrackingEnabled() {
+		return handlePhaseTrackingEnabled;
+	}
+
+	public long handlePhasesDumpIntervalMs() {
+		return handlePhasesDumpIntervalMs;
+	}
+
+	public String handlePhasesDumpDir() {
+		return handlePhasesDumpDir;
+	}
+
+	public int contractsCodeCacheMaxSizeKb() {
+		return contractsCodeCacheMaxSizeKb;
+	}
+
+	public int contractsLocalCallThreads() {
+		return contractsLocalCallThreads;
+	}
+
+	public int contractsLocalCallQueueCapacity() {
+		return contractsLocalCallQueueCapacity;
+	}
+
+	public long contractsLocalCallTimeoutMs() {
+		return contractsLocalCallTimeoutMs;
+	}
+
+	public int precheckSigVerificationThreads() {
+		return precheckSigVerificationThreads;
+	}
+
+	public int precheckSigVerificationMaxBatchSize() {
+		return precheckSigVerificationMaxBatchSize;
+	}
+
+	public long precheckSigVerificationMaxWaitMs() {
+		return precheckSigVerificationMaxWaitMs;
+	}
 }
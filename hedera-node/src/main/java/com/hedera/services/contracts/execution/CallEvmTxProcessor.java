@@ -30,8 +30,6 @@ import com.hedera.services.store.models.Account;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.datatypes.Address;
-import org.hyperledger.besu.datatypes.Hash;
-import org.hyperledger.besu.evm.Code;
 import org.hyperledger.besu.evm.frame.MessageFrame;
 import org.hyperledger.besu.evm.gascalculator.GasCalculator;
 import org.hyperledger.besu.evm.operation.Operation;
@@ -44,6 +42,7 @@ import java.util.Set;
 
 @Singleton
 public class CallEvmTxProcessor extends EvmTxProcessor {
+	private final CodeCache codeCache;
 
 	@Inject
 	public CallEvmTxProcessor(
@@ -52,8 +51,10 @@ public class CallEvmTxProcessor extends EvmTxProcessor {
 			UsagePricesProvider usagePrices,
 			GlobalDynamicProperties dynamicProperties,
 			GasCalculator gasCalculator,
-			Set<Operation> hederaOperations) {
+			Set<Operation> hederaOperations,
+			CodeCache codeCache) {
 		super(worldState, exchange, usagePrices, dynamicProperties, gasCalculator, hederaOperations);
+		this.codeCache = codeCache;
 	}
 
 	public TransactionProcessingResult execute(
@@ -85,13 +86,13 @@ public class CallEvmTxProcessor extends EvmTxProcessor {
 
 	@Override
 	protected MessageFrame buildInitialFrame(MessageFrame.Builder baseInitialFrame, HederaWorldState.Updater updater, Address to, Bytes payload) {
-		Bytes code = updater.get(to).getCode();
+		final var code = codeCache.getOrLoad(updater.get(to));
 		return baseInitialFrame
 				.type(MessageFrame.Type.MESSAGE_CALL)
 				.address(to)
 				.contract(to)
 				.inputData(payload)
-				.code(new Code(code, Hash.hash(code)))
+				.code(code)
 				.build();
 	}
 }
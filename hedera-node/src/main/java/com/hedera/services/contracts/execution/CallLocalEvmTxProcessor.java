@@ -30,8 +30,6 @@ import com.hedera.services.store.models.Account;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.datatypes.Address;
-import org.hyperledger.besu.datatypes.Hash;
-import org.hyperledger.besu.evm.Code;
 import org.hyperledger.besu.evm.frame.MessageFrame;
 import org.hyperledger.besu.evm.gascalculator.GasCalculator;
 import org.hyperledger.besu.evm.operation.Operation;
@@ -48,6 +46,8 @@ import java.util.Set;
  */
 @Singleton
 public class CallLocalEvmTxProcessor extends EvmTxProcessor {
+	private final CodeCache codeCache;
+
 	@Inject
 	public CallLocalEvmTxProcessor(
 			HederaWorldState worldState,
@@ -55,8 +55,10 @@ public class CallLocalEvmTxProcessor extends EvmTxProcessor {
 			UsagePricesProvider usagePrices,
 			GlobalDynamicProperties dynamicProperties,
 			GasCalculator gasCalculator,
-			Set<Operation> hederaOperations) {
+			Set<Operation> hederaOperations,
+			CodeCache codeCache) {
 		super(worldState, exchange, usagePrices, dynamicProperties, gasCalculator, hederaOperations);
+		this.codeCache = codeCache;
 	}
 
 	@Override
@@ -64,17 +66,37 @@ public class CallLocalEvmTxProcessor extends EvmTxProcessor {
 		return HederaFunctionality.ContractCallLocal;
 	}
 
+	/**
+	 * Executes a static call against the given world state, halting with
+	 * {@link com.hedera.services.contracts.operation.HederaExceptionalHaltReason#EXECUTION_TIMEOUT} if it runs
+	 * for longer than the given timeout.
+	 *
+	 * @param worldState the (usually read-only) world state to call against
+	 * @param sender the sender of the call
+	 * @param receiver the called contract
+	 * @param providedGasLimit the gas limit of the call
+	 * @param value the value sent with the call
+	 * @param callData the call data
+	 * @param consensusTime the time of the call
+	 * @param timeoutNanos the most time the call can take, or zero for no limit
+	 * @return the result of the call
+	 */
 	public TransactionProcessingResult execute(
+			final HederaWorldState worldState,
 			final Account sender,
 			final Address receiver,
 			final long providedGasLimit,
 			final long value,
 			final Bytes callData,
-			final Instant consensusTime
+			final Instant consensusTime,
+			final long timeoutNanos
 	) {
 		final long gasPrice = 1;
+		final var tracer = timeoutNanos > 0 ? HederaTracer.withTimeout(timeoutNanos) : new HederaTracer();
 
-		return super.execute(sender,
+		return super.execute(worldState,
+				tracer,
+				sender,
 				receiver,
 				gasPrice,
 				providedGasLimit,
@@ -88,13 +110,13 @@ public class CallLocalEvmTxProcessor extends EvmTxProcessor {
 
 	@Override
 	protected MessageFrame buildInitialFrame(MessageFrame.Builder baseInitialFrame, HederaWorldState.Updater updater, Address to, Bytes payload) {
-		Bytes code = updater.get(to).getCode();
+		final var code = codeCache.getOrLoadWithoutCaching(updater.get(to));
 		return baseInitialFrame
 				.type(MessageFrame.Type.MESSAGE_CALL)
 				.address(to)
 				.contract(to)
 				.inputData(payload)
-				.code(new Code(code, Hash.hash(code)))
+				.code(code)
 				.build();
 	}
 }
@@ -21,13 +21,19 @@ package com.hedera.services.contracts.execution;
  */
 
 import com.google.protobuf.ByteString;
+import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.context.properties.NodeLocalProperties;
 import com.hedera.services.exceptions.InvalidTransactionException;
+import com.hedera.services.grpc.BoundedHandlerStage;
 import com.hedera.services.store.AccountStore;
+import com.hedera.services.store.contracts.ReadOnlyWorldStateFactory;
 import com.hedera.services.store.models.Id;
 import com.hedera.services.utils.ResponseCodeUtil;
 import com.hedera.services.utils.SignedTxnAccessor;
 import com.hederahashgraph.api.proto.java.ContractCallLocalQuery;
 import com.hederahashgraph.api.proto.java.ContractCallLocalResponse;
+import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
+import com.hederahashgraph.api.proto.java.ResponseHeader;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.builder.RequestBuilder;
 import com.swirlds.common.CommonUtils;
@@ -36,7 +42,10 @@ import org.apache.tuweni.bytes.Bytes;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.BUSY;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 import static com.hederahashgraph.api.proto.java.ResponseType.ANSWER_ONLY;
 
@@ -44,29 +53,89 @@ import static com.hederahashgraph.api.proto.java.ResponseType.ANSWER_ONLY;
  * Endpoint for executing static EVM calls. The singleton wraps {@link CallLocalEvmTxProcessor} providing interface
  * to {@link com.hedera.services.queries.contract.ContractCallLocalAnswer} and
  * {@link com.hedera.services.fees.calculation.contract.queries.ContractCallLocalResourceUsage}
+ *
+ * Each call runs against its own {@link com.hedera.services.store.contracts.ReadOnlyWorldState} over the query's
+ * {@link StateView}, on a dedicated bounded stage of {@code contracts.localCall.threads} threads; so calls from many
+ * query threads execute in parallel, and a flood of them cannot take every query thread. A call that finds the stage
+ * saturated is answered {@code BUSY}, and a call still running after {@code contracts.localCall.timeoutMs} is halted.
  */
 @Singleton
 public class CallLocalExecutor {
+	static final String STAGE_NAME = "contract-call-local";
+
+	private final long timeoutNanos;
 	private final AccountStore accountStore;
+	private final BoundedHandlerStage stage;
 	private final CallLocalEvmTxProcessor evmTxProcessor;
+	private final ReadOnlyWorldStateFactory worldStateFactory;
 
 	@Inject
 	public CallLocalExecutor(
 			AccountStore accountStore,
-			CallLocalEvmTxProcessor evmTxProcessor
+			CallLocalEvmTxProcessor evmTxProcessor,
+			ReadOnlyWorldStateFactory worldStateFactory,
+			NodeLocalProperties properties
 	) {
+		this(accountStore, evmTxProcessor, worldStateFactory, properties.contractsLocalCallThreads() > 0
+				? BoundedHandlerStage.pooled(
+						STAGE_NAME,
+						properties.contractsLocalCallThreads(),
+						properties.contractsLocalCallQueueCapacity(),
+						false,
+						depth -> { },
+						waitMs -> { })
+				: BoundedHandlerStage.direct(), properties.contractsLocalCallTimeoutMs());
+	}
+
+	CallLocalExecutor(
+			AccountStore accountStore,
+			CallLocalEvmTxProcessor evmTxProcessor,
+			ReadOnlyWorldStateFactory worldStateFactory,
+			BoundedHandlerStage stage,
+			long timeoutMs
+	) {
+		this.stage = stage;
 		this.accountStore = accountStore;
 		this.evmTxProcessor = evmTxProcessor;
+		this.worldStateFactory = worldStateFactory;
+		this.timeoutNanos = timeoutMs * 1_000_000L;
 	}
 
 	/**
-	 * Executes the specified {@link ContractCallLocalQuery} through a static call. Parses the result from the
-	 * {@link CallLocalEvmTxProcessor} and sets the appropriate {@link com.hederahashgraph.api.proto.java.ResponseCode}
-	 * @param op the query to asnwer
+	 * Executes the specified {@link ContractCallLocalQuery} through a static call against the given view. Parses the
+	 * result from the {@link CallLocalEvmTxProcessor} and sets the appropriate
+	 * {@link com.hederahashgraph.api.proto.java.ResponseCode}
+	 * @param op the query to answer
+	 * @param view the state to execute the call against
 	 * @return {@link ContractCallLocalResponse} result of the execution
 	 */
-	public ContractCallLocalResponse execute(ContractCallLocalQuery op) {
+	public ContractCallLocalResponse execute(ContractCallLocalQuery op, StateView view) {
+		final var busy = ContractCallLocalResponse.newBuilder().setHeader(headerFor(BUSY)).build();
+		final var response = new CompletableFuture<ContractCallLocalResponse>();
+		final var isAccepted = stage.tryDispatch(() -> {
+			try {
+				response.complete(executeNow(op, view));
+			} catch (Throwable unexpected) {
+				response.completeExceptionally(unexpected);
+			}
+		}, () -> response.complete(busy));
+		if (!isAccepted) {
+			return busy;
+		}
+		try {
+			return response.join();
+		} catch (CompletionException failure) {
+			final var cause = failure.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw failure;
+		}
+	}
 
+	private ContractCallLocalResponse executeNow(ContractCallLocalQuery op, StateView view) {
 		try {
 			TransactionBody body =
 					SignedTxnAccessor.uncheckedFrom(op.getHeader().getPayment()).getTxn();
@@ -80,29 +149,30 @@ public class CallLocalExecutor {
 					? Bytes.fromHexString(CommonUtils.hex(op.getFunctionParameters().toByteArray())) : Bytes.EMPTY;
 
 			/* --- Do the business logic --- */
+			final var now = Instant.now();
 			final var result = evmTxProcessor.execute(
+					worldStateFactory.worldStateOver(view, now),
 					sender,
 					receiver.getId().asEvmAddress(),
 					op.getGas(),
 					0,
 					callData,
-					Instant.now());
+					now,
+					timeoutNanos);
 
 			var status = ResponseCodeUtil.getStatus(result, OK);
 
-			final var responseHeader = RequestBuilder.getResponseHeader(status, 0L,
-					ANSWER_ONLY, ByteString.EMPTY);
-
 			return ContractCallLocalResponse
 					.newBuilder()
-					.setHeader(responseHeader)
+					.setHeader(headerFor(status))
 					.setFunctionResult(result.toGrpc())
 					.build();
 		} catch (InvalidTransactionException ite) {
-			final var responseHeader = RequestBuilder.getResponseHeader(ite.getResponseCode(), 0L,
-					ANSWER_ONLY, ByteString.EMPTY);
-
-			return ContractCallLocalResponse.newBuilder().setHeader(responseHeader).build();
+			return ContractCallLocalResponse.newBuilder().setHeader(headerFor(ite.getResponseCode())).build();
 		}
 	}
+
+	private static ResponseHeader headerFor(final ResponseCodeEnum status) {
+		return RequestBuilder.getResponseHeader(status, 0L, ANSWER_ONLY, ByteString.EMPTY);
+	}
 }
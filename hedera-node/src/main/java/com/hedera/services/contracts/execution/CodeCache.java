@@ -0,0 +1,171 @@
+package com.hedera.services.contracts.execution;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.hedera.services.context.properties.NodeLocalProperties;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.evm.Code;
+import org.hyperledger.besu.evm.account.Account;
+
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * A bounded cache of analyzed contract {@link Code}, shared by all the {@link EvmTxProcessor}s and by the world
+ * state. Since a {@link Code} analyzes its jump destinations only once, calls to a cached contract skip loading,
+ * hashing, and re-analyzing its bytecode.
+ *
+ * The {@link Code} itself is keyed by its code hash, so it never goes stale and contracts deployed with the same
+ * bytecode share one instance. A second, smaller map remembers the code hash deployed at each contract address, so
+ * a hit needs neither the bytecode nor its keccak. The world state invalidates an address when its code changes (that
+ * is, when a contract is created or deleted there), both when the change is committed and again after it is flushed
+ * to the repository; and it seeds the cache with the code of each newly created contract once that code is flushed.
+ *
+ * Only {@code handleTransaction} adds to the cache. Queries, which may run against an older copy of the state, use
+ * {@link CodeCache#getOrLoadWithoutCaching(Account)} and only read from it. Empty code is never cached.
+ */
+@Singleton
+public class CodeCache {
+	private static final Logger log = LogManager.getLogger(CodeCache.class);
+
+	/* A generous estimate of the heap used by one address-to-hash entry, to size that map from the same budget */
+	private static final int BYTES_PER_ADDRESS_ENTRY = 256;
+
+	private final boolean shouldNoop;
+	private final Cache<Hash, Code> codeByHash;
+	private final Cache<Address, Hash> hashByAddress;
+
+	@Inject
+	public CodeCache(NodeLocalProperties properties) {
+		final var maxSizeKb = properties.contractsCodeCacheMaxSizeKb();
+		shouldNoop = (maxSizeKb == 0);
+		if (shouldNoop) {
+			codeByHash = null;
+			hashByAddress = null;
+			log.info("Not caching contract bytecode (contracts.codeCache.maxSizeKb=0)");
+		} else {
+			codeByHash = CacheBuilder.newBuilder()
+					.maximumWeight(maxSizeKb * 1024L)
+					.weigher((Hash hash, Code code) -> code.getSize())
+					.build();
+			hashByAddress = CacheBuilder.newBuilder()
+					.maximumSize(Math.max(1L, maxSizeKb * 1024L / BYTES_PER_ADDRESS_ENTRY))
+					.build();
+			log.info("Caching up to {}KB of contract bytecode", maxSizeKb);
+		}
+	}
+
+	/**
+	 * Returns the cached {@link Code} deployed at the given address, if any. Never changes the cache.
+	 *
+	 * @param address the contract address
+	 * @return its cached code, or null if not cached
+	 */
+	@Nullable
+	public Code getIfCached(final Address address) {
+		if (shouldNoop) {
+			return null;
+		}
+		final var hash = hashByAddress.getIfPresent(address);
+		return (hash == null) ? null : codeByHash.getIfPresent(hash);
+	}
+
+	/**
+	 * Returns the {@link Code} of the given contract account, loading and caching it on a miss. Must only be
+	 * used from {@code handleTransaction}, with an account read from the committed state.
+	 *
+	 * @param account the contract account
+	 * @return its code
+	 */
+	public Code getOrLoad(final Account account) {
+		final var cached = getIfCached(account.getAddress());
+		if (cached != null) {
+			return cached;
+		}
+		final var bytes = account.getCode();
+		if (shouldNoop || bytes.isEmpty()) {
+			return new Code(bytes, account.getCodeHash());
+		}
+		return cache(account.getAddress(), bytes, account.getCodeHash());
+	}
+
+	/**
+	 * Returns the {@link Code} of the given contract account, from the cache if present; but never adds to the
+	 * cache, as a query may be answered from a state that {@code handleTransaction} has since changed.
+	 *
+	 * @param account the contract account
+	 * @return its code
+	 */
+	public Code getOrLoadWithoutCaching(final Account account) {
+		final var cached = getIfCached(account.getAddress());
+		return (cached != null) ? cached : new Code(account.getCode(), account.getCodeHash());
+	}
+
+	/**
+	 * Caches the code just flushed for a newly created contract. Does nothing for empty code.
+	 *
+	 * @param address the new contract address
+	 * @param bytes its code
+	 */
+	public void cacheDeployed(final Address address, final Bytes bytes) {
+		if (shouldNoop || bytes.isEmpty()) {
+			return;
+		}
+		cache(address, bytes, Hash.hash(bytes));
+	}
+
+	public void invalidate(final Address address) {
+		if (shouldNoop) {
+			return;
+		}
+		hashByAddress.invalidate(address);
+	}
+
+	private Code cache(final Address address, final Bytes bytes, final Hash hash) {
+		var code = codeByHash.getIfPresent(hash);
+		if (code == null) {
+			code = new Code(bytes, hash);
+			codeByHash.put(hash, code);
+		}
+		hashByAddress.put(address, hash);
+		return code;
+	}
+
+	/* --- Only used by unit tests --- */
+	boolean isShouldNoop() {
+		return shouldNoop;
+	}
+
+	Cache<Hash, Code> getCodeByHash() {
+		return codeByHash;
+	}
+
+	Cache<Address, Hash> getHashByAddress() {
+		return hashByAddress;
+	}
+}
@@ -150,6 +150,24 @@ abstract class EvmTxProcessor {
 	protected TransactionProcessingResult execute(Account sender, Address receiver, long gasPrice,
 			long providedGasLimit, long value, Bytes payload, boolean contractCreation,
 			Instant consensusTime, boolean isStatic, Optional<Long> expiry) {
+		return execute(worldState, new HederaTracer(), sender, receiver, gasPrice, providedGasLimit, value, payload,
+				contractCreation, consensusTime, isStatic, expiry);
+	}
+
+	/**
+	 * Executes the EVM transaction as in
+	 * {@link EvmTxProcessor#execute(Account, Address, long, long, long, Bytes, boolean, Instant, boolean, Optional)},
+	 * but against the given world state and with the given tracer.
+	 *
+	 * @param worldState
+	 * 		The world state to execute against
+	 * @param tracer
+	 * 		The tracer of every operation executed
+	 * @return the result of the EVM execution returned as {@link TransactionProcessingResult}
+	 */
+	protected TransactionProcessingResult execute(HederaWorldState worldState, OperationTracer tracer,
+			Account sender, Address receiver, long gasPrice, long providedGasLimit, long value, Bytes payload,
+			boolean contractCreation, Instant consensusTime, boolean isStatic, Optional<Long> expiry) {
 		final long gasLimit = providedGasLimit > dynamicProperties.maxGas()
 				? dynamicProperties.maxGas()
 				: providedGasLimit;
@@ -213,7 +231,7 @@ abstract class EvmTxProcessor {
 		messageFrameStack.addFirst(initialFrame);
 
 		while (!messageFrameStack.isEmpty()) {
-			process(messageFrameStack.peekFirst(), new HederaTracer());
+			process(messageFrameStack.peekFirst(), tracer);
 		}
 
 		if (initialFrame.getState() == MessageFrame.State.COMPLETED_SUCCESS && !isStatic) {
@@ -22,21 +22,54 @@ package com.hedera.services.contracts.execution;
  *
  */
 
-
+import com.hedera.services.contracts.operation.HederaExceptionalHaltReason;
 import org.hyperledger.besu.evm.frame.ExceptionalHaltReason;
 import org.hyperledger.besu.evm.frame.MessageFrame;
 import org.hyperledger.besu.evm.tracing.OperationTracer;
 
 import java.util.Optional;
+import java.util.function.LongSupplier;
 
 /**
- * Custom {@link OperationTracer} that populates exceptional halt reasons in the {@link MessageFrame}
+ * Custom {@link OperationTracer} that populates exceptional halt reasons in the {@link MessageFrame}.
+ *
+ * A tracer created with a deadline also halts each frame with
+ * {@link HederaExceptionalHaltReason#EXECUTION_TIMEOUT} at the first operation it executes after the deadline;
+ * since the parent frames are halted the same way as soon as they resume, the whole execution stops promptly.
  */
 public class HederaTracer implements OperationTracer {
+	static LongSupplier nanoTime = System::nanoTime;
+
+	private final boolean hasDeadline;
+	private final long deadlineNanos;
+
+	public HederaTracer() {
+		hasDeadline = false;
+		deadlineNanos = 0L;
+	}
+
+	private HederaTracer(final long deadlineNanos) {
+		this.hasDeadline = true;
+		this.deadlineNanos = deadlineNanos;
+	}
+
+	/**
+	 * Returns a tracer that halts execution once the given time has passed.
+	 *
+	 * @param timeoutNanos the most nanoseconds from now the execution may take
+	 * @return the tracer
+	 */
+	public static HederaTracer withTimeout(final long timeoutNanos) {
+		return new HederaTracer(nanoTime.getAsLong() + timeoutNanos);
+	}
 
 	@Override
 	public void traceExecution(MessageFrame frame, ExecuteOperation executeOperation) {
 		executeOperation.execute();
+		if (hasDeadline && nanoTime.getAsLong() - deadlineNanos > 0) {
+			frame.setExceptionalHaltReason(Optional.of(HederaExceptionalHaltReason.EXECUTION_TIMEOUT));
+			frame.setState(MessageFrame.State.EXCEPTIONAL_HALT);
+		}
 	}
 
 	@Override
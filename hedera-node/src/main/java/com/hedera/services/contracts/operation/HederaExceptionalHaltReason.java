@@ -45,11 +45,16 @@ public class HederaExceptionalHaltReason {
 	 * has {@link MerkleAccount#isReceiverSigRequired()} enabled and the account receives HBars
 	 */
 	public static final ExceptionalHaltReason INVALID_SIGNATURE = HederaExceptionalHalt.INVALID_SIGNATURE;
+	/**
+	 * Used when a time-limited execution, such as a {@code ContractCallLocal} query, runs past its deadline
+	 */
+	public static final ExceptionalHaltReason EXECUTION_TIMEOUT = HederaExceptionalHalt.EXECUTION_TIMEOUT;
 
 	enum HederaExceptionalHalt implements ExceptionalHaltReason {
 		INVALID_SOLIDITY_ADDRESS("Invalid account reference"),
 		SELF_DESTRUCT_TO_SELF("Self destruct to the same address"),
-		INVALID_SIGNATURE("Invalid signature");
+		INVALID_SIGNATURE("Invalid signature"),
+		EXECUTION_TIMEOUT("Execution timed out");
 
 		String description;
 
@@ -0,0 +1,102 @@
+package com.hedera.services.contracts.sources;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.utils.EntityNum;
+import com.swirlds.merkle.map.MerkleMap;
+import org.ethereum.core.AccountState;
+import org.ethereum.datasource.Source;
+
+import java.math.BigInteger;
+
+import static com.hedera.services.utils.EntityIdUtils.accountParsedFromSolidityAddress;
+
+/**
+ * A read-only counterpart of {@link LedgerAccountsSource} that reads accounts directly from a {@link MerkleMap},
+ * without going through the (single-threaded) {@link com.hedera.services.ledger.HederaLedger}. When the map is an
+ * immutable state copy, any number of threads can read from it at once.
+ */
+public class ReadOnlyAccountsSource implements Source<byte[], AccountState> {
+	private final long nowSecs;
+	private final GlobalDynamicProperties dynamicProperties;
+	private final MerkleMap<EntityNum, MerkleAccount> accounts;
+
+	public ReadOnlyAccountsSource(
+			final MerkleMap<EntityNum, MerkleAccount> accounts,
+			final GlobalDynamicProperties dynamicProperties,
+			final long nowSecs
+	) {
+		this.nowSecs = nowSecs;
+		this.accounts = accounts;
+		this.dynamicProperties = dynamicProperties;
+	}
+
+	@Override
+	public AccountState get(final byte[] key) {
+		final var id = accountParsedFromSolidityAddress(key);
+		final var account = accounts.get(EntityNum.fromAccountId(id));
+		if (account == null || isDetached(account)) {
+			return null;
+		}
+
+		final var evmState = new AccountState(BigInteger.ZERO, BigInteger.valueOf(account.getBalance()));
+		evmState.setShardId(id.getShardNum());
+		evmState.setRealmId(id.getRealmNum());
+		evmState.setAccountNum(id.getAccountNum());
+		evmState.setAutoRenewPeriod(account.getAutoRenewSecs());
+		evmState.setReceiverSigRequired(account.isReceiverSigRequired());
+		evmState.setDeleted(account.isDeleted());
+		evmState.setExpirationTime(account.getExpiry());
+		evmState.setSmartContract(account.isSmartContract());
+		final var proxy = account.getProxy();
+		if (proxy != null) {
+			evmState.setProxyAccountShard(proxy.shard());
+			evmState.setProxyAccountRealm(proxy.realm());
+			evmState.setProxyAccountNum(proxy.num());
+		}
+
+		return evmState;
+	}
+
+	private boolean isDetached(final MerkleAccount account) {
+		return dynamicProperties.autoRenewEnabled()
+				&& !account.isSmartContract()
+				&& account.getBalance() == 0L
+				&& account.getExpiry() <= nowSecs;
+	}
+
+	@Override
+	public void put(final byte[] key, final AccountState val) {
+		throw new UnsupportedOperationException("Accounts are read-only");
+	}
+
+	@Override
+	public void delete(final byte[] key) {
+		throw new UnsupportedOperationException("Accounts are read-only");
+	}
+
+	@Override
+	public boolean flush() {
+		return false;
+	}
+}
@@ -0,0 +1,115 @@
+package com.hedera.services.fees.calculation;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.utils.TxnAccessor;
+import com.hederahashgraph.api.proto.java.ExchangeRate;
+import com.hederahashgraph.api.proto.java.FeeData;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.hederahashgraph.fee.FeeObject;
+
+import java.util.EnumSet;
+
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ConsensusSubmitMessage;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoCreate;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenAccountWipe;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenBurn;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenCreate;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenFreezeAccount;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenPause;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenUnfreezeAccount;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenUnpause;
+
+/**
+ * The fees computed for a transaction whose resource usage depends only on the transaction
+ * itself, along with every other input to that computation: the resource prices, the exchange
+ * rate, the congestion multiplier, and the number of simple keys in the payer's key. This lets
+ * the fees computed in precheck be reused at consensus whenever none of these inputs changed.
+ *
+ * The prices are compared by identity, since they are replaced (never mutated) when the fee
+ * schedules file changes; so an update to either the fee schedules or the exchange rates file
+ * invalidates every memo.
+ *
+ * Only the functions whose usage estimate never reads state or dynamic properties are memoizable;
+ * and a CryptoTransfer only if it moves no tokens, since its usage otherwise depends on both the
+ * {@code fees.tokenTransferUsageMultiplier} property and any custom fees assessed at consensus.
+ */
+public final class FeeMemo {
+	private static final EnumSet<HederaFunctionality> CONTEXT_FREE_FUNCTIONS = EnumSet.of(
+			CryptoTransfer, CryptoCreate,
+			ConsensusSubmitMessage,
+			TokenCreate, TokenBurn, TokenAccountWipe,
+			TokenFreezeAccount, TokenUnfreezeAccount, TokenPause, TokenUnpause);
+
+	private final FeeData prices;
+	private final ExchangeRate rate;
+	private final long multiplier;
+	private final int numPayerKeys;
+	private final FeeObject fees;
+
+	public FeeMemo(
+			final FeeData prices,
+			final ExchangeRate rate,
+			final long multiplier,
+			final int numPayerKeys,
+			final FeeObject fees
+	) {
+		this.prices = prices;
+		this.rate = rate;
+		this.multiplier = multiplier;
+		this.numPayerKeys = numPayerKeys;
+		this.fees = fees;
+	}
+
+	public static boolean isMemoizable(final TxnAccessor accessor) {
+		final var function = accessor.getFunction();
+		if (!CONTEXT_FREE_FUNCTIONS.contains(function)) {
+			return false;
+		}
+		return function != CryptoTransfer || accessor.availXferUsageMeta().getNumTokensInvolved() == 0;
+	}
+
+	/**
+	 * Returns whether the memoized fees are still valid for the given inputs.
+	 *
+	 * @param prices the resource prices now in effect for the transaction
+	 * @param rate the exchange rate now in effect
+	 * @param multiplier the current congestion multiplier
+	 * @param numPayerKeys the number of simple keys in the payer's key
+	 * @return whether the memoized fees can be reused
+	 */
+	public boolean isValidFor(
+			final FeeData prices,
+			final ExchangeRate rate,
+			final long multiplier,
+			final int numPayerKeys
+	) {
+		return this.prices == prices
+				&& this.multiplier == multiplier
+				&& this.numPayerKeys == numPayerKeys
+				&& this.rate.equals(rate);
+	}
+
+	public FeeObject fees() {
+		return fees;
+	}
+}
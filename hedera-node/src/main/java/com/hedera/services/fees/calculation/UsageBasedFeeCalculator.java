@@ -227,9 +227,10 @@ public class UsageBasedFeeCalculator implements FeeCalculator {
 		final var function = accessor.getFunction();
 		if (pricedUsageCalculator.supports(function)) {
 			final var applicablePrices = prices.get(accessor.getSubType());
-			return inHandle
-					? pricedUsageCalculator.inHandleFees(accessor, applicablePrices, rate, payerKey)
-					: pricedUsageCalculator.extraHandleFees(accessor, applicablePrices, rate, payerKey);
+			if (!FeeMemo.isMemoizable(accessor)) {
+				return pricedFees(accessor, applicablePrices, rate, payerKey, inHandle);
+			}
+			return memoizedPricedFees(accessor, applicablePrices, rate, payerKey, inHandle);
 		} else {
 			var sigUsage = getSigUsage(accessor, payerKey);
 			var usageEstimator = getTxnUsageEstimator(accessor);
@@ -246,6 +247,39 @@ public class UsageBasedFeeCalculator implements FeeCalculator {
 		}
 	}
 
+	private FeeObject memoizedPricedFees(
+			final TxnAccessor accessor,
+			final FeeData applicablePrices,
+			final ExchangeRate rate,
+			final JKey payerKey,
+			final boolean inHandle
+	) {
+		final var multiplier = feeMultiplierSource.currentMultiplier();
+		final var numPayerKeys = numSimpleKeys(payerKey);
+		final var memo = accessor.getFeeMemo();
+		if (memo != null && memo.isValidFor(applicablePrices, rate, multiplier, numPayerKeys)) {
+			return memo.fees();
+		}
+		final var fees = pricedFees(accessor, applicablePrices, rate, payerKey, inHandle);
+		/* Off the handle thread, the multiplier could change while we compute; don't memoize a mixture */
+		if (feeMultiplierSource.currentMultiplier() == multiplier) {
+			accessor.setFeeMemo(new FeeMemo(applicablePrices, rate, multiplier, numPayerKeys, fees));
+		}
+		return fees;
+	}
+
+	private FeeObject pricedFees(
+			final TxnAccessor accessor,
+			final FeeData applicablePrices,
+			final ExchangeRate rate,
+			final JKey payerKey,
+			final boolean inHandle
+	) {
+		return inHandle
+				? pricedUsageCalculator.inHandleFees(accessor, applicablePrices, rate, payerKey)
+				: pricedUsageCalculator.extraHandleFees(accessor, applicablePrices, rate, payerKey);
+	}
+
 	private QueryResourceUsageEstimator getQueryUsageEstimator(Query query) {
 		Optional<QueryResourceUsageEstimator> usageEstimator = queryUsageEstimators
 				.stream()
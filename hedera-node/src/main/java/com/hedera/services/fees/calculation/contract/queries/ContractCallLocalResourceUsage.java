@@ -24,6 +24,7 @@ import com.google.protobuf.ByteString;
 import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.contracts.execution.CallLocalExecutor;
+import com.hedera.services.exceptions.InvalidTransactionException;
 import com.hedera.services.fees.calculation.QueryResourceUsageEstimator;
 import com.hederahashgraph.api.proto.java.ContractCallLocalResponse;
 import com.hederahashgraph.api.proto.java.ContractFunctionResult;
@@ -42,6 +43,7 @@ import javax.inject.Singleton;
 import java.util.Map;
 
 import static com.hedera.services.queries.contract.ContractCallLocalAnswer.CONTRACT_CALL_LOCAL_CTX_KEY;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.BUSY;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 
 @Singleton
@@ -72,24 +74,33 @@ public final class ContractCallLocalResourceUsage implements QueryResourceUsageE
 
 	@Override
 	public FeeData usageGivenType(final Query query, final StateView view, final ResponseType type) {
-		return usageFor(query, type, null);
+		return usageFor(query, view, type, null);
 	}
 
 	@Override
 	public FeeData usageGiven(final Query query, final StateView view, @Nullable final Map<String, Object> queryCtx) {
-		return usageFor(query, query.getContractCallLocal().getHeader().getResponseType(), queryCtx);
+		return usageFor(query, view, query.getContractCallLocal().getHeader().getResponseType(), queryCtx);
 	}
 
-	private FeeData usageFor(final Query query, final ResponseType type, @Nullable final Map<String, Object> queryCtx) {
-		try {
-			final var op = query.getContractCallLocal();
-			ContractCallLocalResponse response;
-			if (null == queryCtx) {
-				response = dummyResponse(op.getContractID());
-			} else {
-				response = executor.execute(op);
-				queryCtx.put(CONTRACT_CALL_LOCAL_CTX_KEY, response);
+	private FeeData usageFor(
+			final Query query,
+			final StateView view,
+			final ResponseType type,
+			@Nullable final Map<String, Object> queryCtx
+	) {
+		final var op = query.getContractCallLocal();
+		final ContractCallLocalResponse response;
+		if (null == queryCtx) {
+			response = dummyResponse(op.getContractID());
+		} else {
+			response = execute(query, view);
+			if (response.getHeader().getNodeTransactionPrecheckCode() == BUSY) {
+				/* Stop the answer flow before the node payment is submitted, so no one pays for a BUSY answer */
+				throw new InvalidTransactionException(BUSY);
 			}
+			queryCtx.put(CONTRACT_CALL_LOCAL_CTX_KEY, response);
+		}
+		try {
 			final var nonGasUsage = usageEstimator.getContractCallLocalFeeMatrices(
 					op.getFunctionParameters().size(),
 					response.getFunctionResult(),
@@ -98,11 +109,23 @@ public final class ContractCallLocalResourceUsage implements QueryResourceUsageE
 					.setNodedata(nonGasUsage.getNodedata().toBuilder().setGas(op.getGas()))
 					.build();
 		} catch (final Exception internal) {
-			log.warn("Usage estimation unexpectedly failed for {}!", query, internal);
-			throw new IllegalStateException(internal);
+			throw failedEstimation(query, internal);
 		}
 	}
 
+	private ContractCallLocalResponse execute(final Query query, final StateView view) {
+		try {
+			return executor.execute(query.getContractCallLocal(), view);
+		} catch (final Exception internal) {
+			throw failedEstimation(query, internal);
+		}
+	}
+
+	private IllegalStateException failedEstimation(final Query query, final Exception internal) {
+		log.warn("Usage estimation unexpectedly failed for {}!", query, internal);
+		return new IllegalStateException(internal);
+	}
+
 	ContractCallLocalResponse dummyResponse(final ContractID target) {
 		return ContractCallLocalResponse.newBuilder()
 				.setFunctionResult(ContractFunctionResult.newBuilder()
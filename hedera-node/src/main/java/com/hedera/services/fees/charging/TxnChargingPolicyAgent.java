@@ -23,10 +23,10 @@ package com.hedera.services.fees.charging;
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.fees.FeeCalculator;
+import com.hedera.services.records.TxnIdKey;
 import com.hedera.services.records.TxnIdRecentHistory;
 import com.hedera.services.state.logic.AwareNodeDiligenceScreen;
 import com.hedera.services.utils.TxnAccessor;
-import com.hederahashgraph.api.proto.java.TransactionID;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -52,7 +52,7 @@ public class TxnChargingPolicyAgent {
 	private final TransactionContext txnCtx;
 	private final Supplier<StateView> currentView;
 	private final AwareNodeDiligenceScreen nodeDiligenceScreen;
-	private final Map<TransactionID, TxnIdRecentHistory> txnHistories;
+	private final Map<TxnIdKey, TxnIdRecentHistory> txnHistories;
 
 	@Inject
 	public TxnChargingPolicyAgent(
@@ -61,7 +61,7 @@ public class TxnChargingPolicyAgent {
 			TransactionContext txnCtx,
 			Supplier<StateView> currentView,
 			AwareNodeDiligenceScreen nodeDiligenceScreen,
-			Map<TransactionID, TxnIdRecentHistory> txnHistories
+			Map<TxnIdKey, TxnIdRecentHistory> txnHistories
 	) {
 		this.feeCalc = feeCalc;
 		this.txnCtx = txnCtx;
@@ -80,7 +80,7 @@ public class TxnChargingPolicyAgent {
 	public boolean applyPolicyFor(TxnAccessor accessor) {
 		final var now = txnCtx.consensusTime();
 		final var fees = feeCalc.computeFee(accessor, txnCtx.activePayerKey(), currentView.get(), now);
-		final var recentHistory = txnHistories.get(accessor.getTxnId());
+		final var recentHistory = txnHistories.get(TxnIdKey.from(accessor.getTxnId()));
 		var duplicity = (recentHistory == null)
 				? BELIEVED_UNIQUE
 				: recentHistory.currentDuplicityFor(txnCtx.submittingSwirldsMember());
@@ -0,0 +1,263 @@
+package com.hedera.services.files;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.FileID;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Set;
+
+import static com.hedera.services.files.DataMapFactory.toFid;
+import static com.hedera.services.files.DataMapFactory.toKeyString;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * The contents of (non-special) files, stored in a blob store as a sequence of chunks so that
+ * appending to a file only writes—and so only hashes—the appended bytes.
+ *
+ * A file that has never been appended to is a single blob at its legacy path {@code /<realm>/f<num>},
+ * exactly as before. The first append adds a continuation chunk at {@code /<realm>/f<num>/1}, the next
+ * at {@code /<realm>/f<num>/2}, and so on; plus a small manifest at {@code /<realm>/f<num>/n} with the
+ * number of chunks and the total size, so neither appends nor size checks need to read the earlier chunks.
+ * Overwriting or removing a file removes any continuation chunks and manifest. Once a file has
+ * {@link ChunkedFileContents#MAX_CHUNKS_PER_FILE} chunks, the next append consolidates it back into a
+ * single blob, which bounds the cost of reading a file built from many tiny appends.
+ *
+ * Since the chunked layout changes the state, appends only use it when the global dynamic property
+ * {@code files.chunkedAppends.isEnabled} is set (see {@link TieredHederaFs}); it is off by default. This
+ * class always <i>reads</i> both layouts, so the migration is:
+ * <ol>
+ * <li>Upgrade every node to a release that can read chunked files, with the property still off. Nothing
+ * in the state changes.</li>
+ * <li>Turn the property on in the network properties file. From then on, appends write chunks.</li>
+ * <li>To go back, turn the property off. Each chunked file is consolidated into a single blob at its
+ * legacy path the next time it is appended to or overwritten.</li>
+ * </ol>
+ *
+ * A read that finds the manifest and the chunks out of step (for example, a missing chunk) fails with
+ * an {@link IllegalStateException}; partial contents are never returned.
+ */
+public class ChunkedFileContents extends AbstractMap<FileID, byte[]> {
+	private static final Logger log = LogManager.getLogger(ChunkedFileContents.class);
+
+	static final int MAX_CHUNKS_PER_FILE = 64;
+
+	private static final String MANIFEST_SUFFIX = "/n";
+	private static final int MANIFEST_LEN = Integer.BYTES + Long.BYTES;
+
+	private final Map<String, byte[]> blobs;
+
+	public ChunkedFileContents(final Map<String, byte[]> blobs) {
+		this.blobs = blobs;
+	}
+
+	/**
+	 * Appends the given bytes to the file with the given id, creating it if it does not exist.
+	 *
+	 * @param id
+	 * 		the file to append to
+	 * @param moreContents
+	 * 		the bytes to append
+	 */
+	public void append(final FileID id, final byte[] moreContents) {
+		final var key = toKeyString(id);
+		if (!blobs.containsKey(key)) {
+			put(id, moreContents);
+			return;
+		}
+		if (moreContents.length == 0) {
+			return;
+		}
+		final var manifest = manifestOf(key);
+		final int numChunks = manifest == null ? 1 : manifest.getInt(0);
+		if (numChunks >= MAX_CHUNKS_PER_FILE) {
+			final var contents = get(id);
+			final var consolidated = new byte[contents.length + moreContents.length];
+			System.arraycopy(contents, 0, consolidated, 0, contents.length);
+			System.arraycopy(moreContents, 0, consolidated, contents.length, moreContents.length);
+			put(id, consolidated);
+			return;
+		}
+		final long size = manifest == null ? blobs.get(key).length : manifest.getLong(Integer.BYTES);
+		blobs.put(chunkKey(key, numChunks), moreContents);
+		blobs.put(key + MANIFEST_SUFFIX, manifestBytes(numChunks + 1, size + moreContents.length));
+	}
+
+	/**
+	 * Returns the size of the file with the given id without reading its contents (unless the
+	 * file is a single blob, whose contents are its size).
+	 *
+	 * @param id
+	 * 		the file of interest
+	 * @return its size in bytes, or -1 if there is no such file
+	 */
+	public long sizeOf(final FileID id) {
+		final var key = toKeyString(id);
+		final var manifest = manifestOf(key);
+		if (manifest != null) {
+			return manifest.getLong(Integer.BYTES);
+		}
+		final var contents = blobs.get(key);
+		return contents == null ? -1 : contents.length;
+	}
+
+	@Override
+	public byte[] get(final Object id) {
+		final var key = toKeyString((FileID) id);
+		if (blobs.get(key) == null) {
+			return null;
+		}
+		final var manifest = manifestOf(key);
+		if (manifest == null) {
+			return blobs.get(key);
+		}
+		final var contents = consistentContents(key, manifest);
+		if (contents == null) {
+			log.error("Chunks of file at '{}' do not match its manifest", key);
+			throw new IllegalStateException("Inconsistent chunks for file at '" + key + "'");
+		}
+		return contents;
+	}
+
+	/* Returns null unless every chunk in the manifest is present and their sizes add up to its total */
+	private byte[] consistentContents(final String key, final ByteBuffer manifest) {
+		final int numChunks = manifest.getInt(0);
+		final long size = manifest.getLong(Integer.BYTES);
+		if (numChunks < 1 || size < 0 || size > Integer.MAX_VALUE) {
+			return null;
+		}
+		final var contents = new byte[(int) size];
+		var offset = 0;
+		for (int i = 0; i < numChunks; i++) {
+			final var chunk = blobs.get(chunkKey(key, i));
+			if (chunk == null || chunk.length > contents.length - offset) {
+				return null;
+			}
+			System.arraycopy(chunk, 0, contents, offset, chunk.length);
+			offset += chunk.length;
+		}
+		return (offset == contents.length) ? contents : null;
+	}
+
+	/**
+	 * Replaces the contents of the file with the given id.
+	 *
+	 * <B>NOTE:</B> As with the underlying blob store, this method breaks the standard {@code Map}
+	 * contract, and does not return the previous contents.
+	 *
+	 * @param id
+	 * 		the file to overwrite
+	 * @param contents
+	 * 		its new contents
+	 * @return {@code null}
+	 */
+	@Override
+	public byte[] put(final FileID id, final byte[] contents) {
+		final var key = toKeyString(id);
+		removeContinuations(key);
+		blobs.put(key, contents);
+		return null;
+	}
+
+	/**
+	 * Removes the file with the given id.
+	 *
+	 * <B>NOTE:</B> As with the underlying blob store, this method breaks the standard {@code Map}
+	 * contract, and does not return the removed contents.
+	 *
+	 * @param id
+	 * 		the file to remove
+	 * @return {@code null}
+	 */
+	@Override
+	public byte[] remove(final Object id) {
+		final var key = toKeyString((FileID) id);
+		removeContinuations(key);
+		blobs.remove(key);
+		return null;
+	}
+
+	@Override
+	public boolean containsKey(final Object id) {
+		return blobs.containsKey(toKeyString((FileID) id));
+	}
+
+	/**
+	 * Returns the number of files; unlike the number of blobs, this does not count continuation
+	 * chunks, manifests, or the blobs of other types that share the store.
+	 *
+	 * @return the number of files
+	 */
+	@Override
+	public int size() {
+		return (int) blobs.keySet().stream().filter(DataMapFactory::isFileKey).count();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return blobs.keySet().stream().noneMatch(DataMapFactory::isFileKey);
+	}
+
+	@Override
+	public void clear() {
+		blobs.clear();
+	}
+
+	@Override
+	public Set<Entry<FileID, byte[]>> entrySet() {
+		return blobs.keySet()
+				.stream()
+				.filter(DataMapFactory::isFileKey)
+				.map(key -> {
+					final var id = toFid(key);
+					return new SimpleEntry<>(id, get(id));
+				})
+				.collect(toSet());
+	}
+
+	private void removeContinuations(final String key) {
+		final var manifest = manifestOf(key);
+		if (manifest != null) {
+			for (int i = 1, n = manifest.getInt(0); i < n; i++) {
+				blobs.remove(chunkKey(key, i));
+			}
+			blobs.remove(key + MANIFEST_SUFFIX);
+		}
+	}
+
+	private ByteBuffer manifestOf(final String key) {
+		final var manifest = blobs.get(key + MANIFEST_SUFFIX);
+		return (manifest == null || manifest.length != MANIFEST_LEN) ? null : ByteBuffer.wrap(manifest);
+	}
+
+	private static byte[] manifestBytes(final int numChunks, final long size) {
+		return ByteBuffer.allocate(MANIFEST_LEN).putInt(numChunks).putLong(size).array();
+	}
+
+	/* The first chunk of a file is the blob at its legacy path */
+	private static String chunkKey(final String key, final int i) {
+		return (i == 0) ? key : (key + "/" + i);
+	}
+}
@@ -197,6 +197,11 @@ public final class TieredHederaFs implements HederaFs {
 			return new SimpleUpdateResult(false, true, SUCCESS);
 		} else {
 			assertUsable(id);
+			if (properties.areChunkedFileAppendsEnabled()
+					&& data instanceof ChunkedFileContents chunkedData
+					&& interceptorsFor(id).isEmpty()) {
+				return chunkedAppend(chunkedData, id, moreContents);
+			}
 			final var contents = data.get(id);
 			var newContents = ArrayUtils.addAll(contents, moreContents);
 			log.debug(
@@ -256,6 +261,25 @@ public final class TieredHederaFs implements HederaFs {
 		return new SimpleUpdateResult(false, verdict.getValue(), verdict.getKey());
 	}
 
+	/* With no interceptors to show the new contents to, an append only needs to write the new bytes */
+	private UpdateResult chunkedAppend(
+			final ChunkedFileContents chunkedData,
+			final FileID id,
+			final byte[] moreContents
+	) {
+		final var newSize = Math.max(0L, chunkedData.sizeOf(id)) + moreContents.length;
+		log.debug(
+				"Appending {} bytes to file num {} :: new file will have {} bytes.",
+				moreContents.length,
+				id.getFileNum(),
+				newSize);
+		if (newSize > (long) properties.maxFileSizeKb() * BYTES_PER_KB) {
+			throwIllegal(OVERSIZE_CONTENTS);
+		}
+		chunkedData.append(id, moreContents);
+		return new SimpleUpdateResult(false, true, SUCCESS);
+	}
+
 	private Map.Entry<ResponseCodeEnum, Boolean> judge(
 			final FileID id,
 			final BiFunction<FileUpdateInterceptor, FileID, Map.Entry<ResponseCodeEnum, Boolean>> judgment
@@ -0,0 +1,218 @@
+package com.hedera.services.grpc;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * An executor stage that moves gRPC handler work off the Netty event loops. Work is admitted
+ * only while the stage has capacity (at most {@code numThreads} running plus {@code queueCapacity}
+ * waiting); once saturated, {@link BoundedHandlerStage#tryDispatch(Runnable, Runnable)} returns {@code false}
+ * immediately so the caller can answer {@code BUSY} instead of queueing without bound. Work still waiting
+ * when the stage is {@link BoundedHandlerStage#shutdown()} never runs; instead its {@code ifDropped} callback
+ * runs, so the caller can answer that work's observer the same way.
+ *
+ * The stage runs on a fixed pool of platform threads by default, or on virtual threads when
+ * requested and supported by the running JVM; in the latter case a semaphore enforces the same
+ * admission bound. A "direct" stage runs all work on the calling thread.
+ */
+public class BoundedHandlerStage {
+	private static final Logger log = LogManager.getLogger(BoundedHandlerStage.class);
+
+	private static final double NANOS_PER_MS = 1_000_000.0;
+
+	static LongSupplier nanoTime = System::nanoTime;
+
+	private final ExecutorService executor;
+	private final Semaphore admissions;
+	private final AtomicInteger waiting = new AtomicInteger();
+	private final IntConsumer queueDepthRecorder;
+	private final DoubleConsumer waitMsRecorder;
+
+	private BoundedHandlerStage(
+			final ExecutorService executor,
+			final Semaphore admissions,
+			final IntConsumer queueDepthRecorder,
+			final DoubleConsumer waitMsRecorder
+	) {
+		this.executor = executor;
+		this.admissions = admissions;
+		this.queueDepthRecorder = queueDepthRecorder;
+		this.waitMsRecorder = waitMsRecorder;
+	}
+
+	public static BoundedHandlerStage direct() {
+		return new BoundedHandlerStage(null, null, depth -> { }, waitMs -> { });
+	}
+
+	public static BoundedHandlerStage pooled(
+			final String name,
+			final int numThreads,
+			final int queueCapacity,
+			final boolean useVirtualThreads,
+			final IntConsumer queueDepthRecorder,
+			final DoubleConsumer waitMsRecorder
+	) {
+		if (numThreads < 1 || queueCapacity < 1) {
+			throw new IllegalArgumentException(String.format(
+					"The '%s' handler stage needs at least one thread and a queue capacity of at least one, "
+							+ "not %d thread(s) and capacity %d", name, numThreads, queueCapacity));
+		}
+		if (useVirtualThreads) {
+			final var virtualExecutor = virtualThreadExecutor();
+			if (virtualExecutor != null) {
+				log.info("Using virtual threads for the '{}' handler stage", name);
+				return new BoundedHandlerStage(
+						virtualExecutor,
+						new Semaphore(numThreads + queueCapacity),
+						queueDepthRecorder,
+						waitMsRecorder);
+			}
+			log.warn("Virtual threads unavailable in this JVM, '{}' handler stage will use platform threads", name);
+		}
+		final var pool = new ThreadPoolExecutor(
+				numThreads,
+				numThreads,
+				0L,
+				TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity),
+				namedDaemonThreads(name),
+				new ThreadPoolExecutor.AbortPolicy());
+		return new BoundedHandlerStage(pool, null, queueDepthRecorder, waitMsRecorder);
+	}
+
+	/**
+	 * Attempts to run the given work on this stage.
+	 *
+	 * @param work the handler work to run
+	 * @param ifDropped what to do instead if the stage is shut down before the accepted work starts
+	 * @return whether the work was accepted; {@code false} means the stage is saturated or shut down
+	 */
+	public boolean tryDispatch(final Runnable work, final Runnable ifDropped) {
+		if (executor == null) {
+			work.run();
+			return true;
+		}
+		if (admissions != null && !admissions.tryAcquire()) {
+			return false;
+		}
+		queueDepthRecorder.accept(waiting.incrementAndGet());
+		try {
+			executor.execute(new StagedWork(work, ifDropped, nanoTime.getAsLong()));
+			return true;
+		} catch (RejectedExecutionException saturated) {
+			waiting.decrementAndGet();
+			if (admissions != null) {
+				admissions.release();
+			}
+			return false;
+		}
+	}
+
+	public int queueDepth() {
+		return waiting.get();
+	}
+
+	/**
+	 * Stops this stage; running work is interrupted, and work still waiting is dropped after
+	 * running its {@code ifDropped} callback.
+	 */
+	public void shutdown() {
+		if (executor != null) {
+			for (final var dropped : executor.shutdownNow()) {
+				if (dropped instanceof StagedWork) {
+					((StagedWork) dropped).drop();
+				}
+			}
+		}
+	}
+
+	private class StagedWork implements Runnable {
+		private final Runnable work;
+		private final Runnable ifDropped;
+		private final long enqueuedAt;
+
+		private StagedWork(final Runnable work, final Runnable ifDropped, final long enqueuedAt) {
+			this.work = work;
+			this.ifDropped = ifDropped;
+			this.enqueuedAt = enqueuedAt;
+		}
+
+		@Override
+		public void run() {
+			waiting.decrementAndGet();
+			waitMsRecorder.accept((nanoTime.getAsLong() - enqueuedAt) / NANOS_PER_MS);
+			try {
+				work.run();
+			} finally {
+				if (admissions != null) {
+					admissions.release();
+				}
+			}
+		}
+
+		private void drop() {
+			waiting.decrementAndGet();
+			try {
+				ifDropped.run();
+			} catch (Exception e) {
+				log.warn("Unable to answer work dropped at shutdown", e);
+			}
+		}
+	}
+
+	static ThreadFactory namedDaemonThreads(final String name) {
+		final var nextId = new AtomicInteger();
+		return runnable -> {
+			final var thread = new Thread(runnable, name + "-" + nextId.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	static ExecutorService virtualThreadExecutor() {
+		try {
+			final var factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService) factory.invoke(null);
+		} catch (ReflectiveOperationException | UnsupportedOperationException unavailable) {
+			return null;
+		}
+	}
+
+	/* --- Only used by unit tests --- */
+	ExecutorService getExecutor() {
+		return executor;
+	}
+}
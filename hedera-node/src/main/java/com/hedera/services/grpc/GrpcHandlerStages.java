@@ -0,0 +1,94 @@
+package com.hedera.services.grpc;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.stats.MiscRunningAvgs;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.function.Consumer;
+
+/**
+ * Holds the separate bounded stages for transaction submission and query answering, so a
+ * flood of one kind of request cannot starve the other. When stages are disabled, both
+ * run their work directly on the calling (Netty) thread, as before. Enabled stages are shut
+ * down by a hook registered with the node's other shutdown hooks.
+ */
+@Singleton
+public class GrpcHandlerStages {
+	static final String TXN_STAGE_NAME = "txn-handler";
+	static final String QUERY_STAGE_NAME = "query-handler";
+
+	private final BoundedHandlerStage txns;
+	private final BoundedHandlerStage queries;
+
+	@Inject
+	public GrpcHandlerStages(
+			final NodeLocalProperties properties,
+			final MiscRunningAvgs runningAvgs,
+			final Consumer<Thread> hookAdder
+	) {
+		if (properties.areHandlerStagesEnabled()) {
+			final var useVirtualThreads = properties.shouldHandlerStagesUseVirtualThreads();
+			txns = BoundedHandlerStage.pooled(
+					TXN_STAGE_NAME,
+					properties.txnHandlerThreads(),
+					properties.txnHandlerQueueCapacity(),
+					useVirtualThreads,
+					runningAvgs::recordTxnHandlerQueueDepth,
+					runningAvgs::recordTxnHandlerWaitMs);
+			queries = BoundedHandlerStage.pooled(
+					QUERY_STAGE_NAME,
+					properties.queryHandlerThreads(),
+					properties.queryHandlerQueueCapacity(),
+					useVirtualThreads,
+					runningAvgs::recordQueryHandlerQueueDepth,
+					runningAvgs::recordQueryHandlerWaitMs);
+			hookAdder.accept(new Thread(this::shutdown));
+		} else {
+			txns = BoundedHandlerStage.direct();
+			queries = BoundedHandlerStage.direct();
+		}
+	}
+
+	public static GrpcHandlerStages direct() {
+		return new GrpcHandlerStages(BoundedHandlerStage.direct(), BoundedHandlerStage.direct());
+	}
+
+	GrpcHandlerStages(final BoundedHandlerStage txns, final BoundedHandlerStage queries) {
+		this.txns = txns;
+		this.queries = queries;
+	}
+
+	public BoundedHandlerStage txns() {
+		return txns;
+	}
+
+	public BoundedHandlerStage queries() {
+		return queries;
+	}
+
+	public void shutdown() {
+		txns.shutdown();
+		queries.shutdown();
+	}
+}
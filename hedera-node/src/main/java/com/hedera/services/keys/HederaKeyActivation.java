@@ -139,21 +139,16 @@ public final class HederaKeyActivation {
 	}
 
 	/**
-	 * Factory for a source of platform signatures backed by a list.
+	 * Factory for a source of platform signatures backed by a list. The returned function is
+	 * an index built in a single pass over the list, so each lookup is a constant-time hash
+	 * probe; callers should build it once and reuse it for every key they need to test.
 	 *
 	 * @param sigs
 	 * 		the backing list of platform sigs
 	 * @return a supplier that produces the backing list sigs by public key
 	 */
 	public static Function<byte[], TransactionSignature> pkToSigMapFrom(final List<TransactionSignature> sigs) {
-		return pk -> {
-			for (var sig : sigs) {
-				if (keysMatch(pk, sig.getExpandedPublicKeyDirect())) {
-					return sig;
-				}
-			}
-			return INVALID_MISSING_SIG;
-		};
+		return PkToSigIndex.from(sigs);
 	}
 
 	static boolean keysMatch(byte[] sourceKey, byte[] sigKey) {
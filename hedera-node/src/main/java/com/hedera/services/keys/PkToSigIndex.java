@@ -0,0 +1,150 @@
+package com.hedera.services.keys;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.swirlds.common.crypto.TransactionSignature;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static com.hedera.services.keys.HederaKeyActivation.INVALID_MISSING_SIG;
+
+/**
+ * A source of platform signatures by public key that is built once from a list of sigs, and then
+ * answers each lookup with a single hash probe instead of a scan of the whole list.
+ *
+ * Each signature is indexed under the form of public key a Hedera key would use to look it up;
+ * that is, an Ed25519 signature under its 32-byte public key, and an ECDSA(secp256k1) signature
+ * (whose expanded public key is the uncompressed 64-byte {@code x || y}) under its compressed
+ * 33-byte form. Lookups agree exactly with {@link HederaKeyActivation#keysMatch(byte[], byte[])};
+ * in particular, if several sigs share a key, the first in the list wins, and the secp256k1
+ * compressed prefix is compared only by the parity of its low bit.
+ */
+public final class PkToSigIndex implements Function<byte[], TransactionSignature> {
+	private static final int ED25519_PUBLIC_KEY_LEN = 32;
+	/* Both an ed25519 public key and a secp256k1 x-coordinate are 32 bytes */
+	private static final int WINDOW_LEN = 32;
+	private static final int COMPRESSED_SECP256K1_PUBLIC_KEY_LEN = 33;
+	private static final int UNCOMPRESSED_SECP256K1_PUBLIC_KEY_LEN = 64;
+
+	private static final byte ED25519_TAG = 0;
+	private static final byte EVEN_Y_SECP256K1_TAG = 2;
+
+	private static final PkToSigIndex EMPTY = new PkToSigIndex(Map.of());
+
+	private final Map<IndexKey, TransactionSignature> sigsByKey;
+
+	private PkToSigIndex(final Map<IndexKey, TransactionSignature> sigsByKey) {
+		this.sigsByKey = sigsByKey;
+	}
+
+	public static PkToSigIndex from(final List<TransactionSignature> sigs) {
+		if (sigs.isEmpty()) {
+			return EMPTY;
+		}
+		final Map<IndexKey, TransactionSignature> sigsByKey = new HashMap<>(sigs.size() * 4 / 3 + 1);
+		for (final var sig : sigs) {
+			final var key = indexKeyOfSig(sig.getExpandedPublicKeyDirect());
+			if (key != null) {
+				sigsByKey.putIfAbsent(key, sig);
+			}
+		}
+		return new PkToSigIndex(sigsByKey);
+	}
+
+	@Override
+	public TransactionSignature apply(final byte[] pk) {
+		final var key = indexKeyOfPk(pk);
+		if (key == null) {
+			return INVALID_MISSING_SIG;
+		}
+		return sigsByKey.getOrDefault(key, INVALID_MISSING_SIG);
+	}
+
+	int size() {
+		return sigsByKey.size();
+	}
+
+	private static IndexKey indexKeyOfSig(final byte[] expandedPk) {
+		if (expandedPk.length == ED25519_PUBLIC_KEY_LEN) {
+			return new IndexKey(ED25519_TAG, expandedPk, 0);
+		} else if (expandedPk.length == UNCOMPRESSED_SECP256K1_PUBLIC_KEY_LEN) {
+			return new IndexKey(secp256k1Tag(expandedPk[UNCOMPRESSED_SECP256K1_PUBLIC_KEY_LEN - 1]), expandedPk, 0);
+		} else {
+			return null;
+		}
+	}
+
+	private static IndexKey indexKeyOfPk(final byte[] pk) {
+		if (pk.length == ED25519_PUBLIC_KEY_LEN) {
+			return new IndexKey(ED25519_TAG, pk, 0);
+		} else if (pk.length == COMPRESSED_SECP256K1_PUBLIC_KEY_LEN) {
+			return new IndexKey(secp256k1Tag(pk[0]), pk, 1);
+		} else {
+			return null;
+		}
+	}
+
+	private static byte secp256k1Tag(final byte parityByte) {
+		return (byte) (EVEN_Y_SECP256K1_TAG | (parityByte & 0x01));
+	}
+
+	/* A 32-byte window (the ed25519 key, or the secp256k1 x-coordinate) of some array, plus a type/parity tag */
+	private static final class IndexKey {
+		private final byte tag;
+		private final byte[] bytes;
+		private final int from;
+		private final int hash;
+
+		private IndexKey(final byte tag, final byte[] bytes, final int from) {
+			this.tag = tag;
+			this.bytes = bytes;
+			this.from = from;
+			var result = 31 + tag;
+			for (int i = from, to = from + WINDOW_LEN; i < to; i++) {
+				result = 31 * result + bytes[i];
+			}
+			this.hash = result;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(final Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof IndexKey)) {
+				return false;
+			}
+			final var that = (IndexKey) o;
+			return tag == that.tag && hash == that.hash && Arrays.equals(
+					bytes, from, from + WINDOW_LEN,
+					that.bytes, that.from, that.from + WINDOW_LEN);
+		}
+	}
+}
@@ -21,6 +21,7 @@ package com.hedera.services.ledger.accounts;
  */
 
 import com.google.protobuf.ByteString;
+import com.hedera.services.state.initialization.ViewBuilder;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.utils.EntityNum;
 import com.swirlds.merkle.map.MerkleMap;
@@ -29,25 +30,29 @@ import org.apache.logging.log4j.Logger;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.hedera.services.utils.EntityNum.MISSING_NUM;
-import static com.hedera.services.utils.MiscUtils.forEach;
 
 /**
  * Handles a map with all the accounts that are auto-created. The map will be re-built on restart, reconnect.
  * Entries from the map are removed when the entity expires
+ *
+ * Only the handle thread changes the map, but gRPC threads read it concurrently (for example, to throttle
+ * auto-creations and to answer {@code getAccountInfo} queries by alias). So the map is a {@link ConcurrentHashMap}
+ * that readers query without locking and that is kept up to date one entry at a time; and a rebuild populates
+ * a new map off to the side before publishing it, so readers never see a partially rebuilt index.
  */
 @Singleton
 public class AliasManager {
 	private static final Logger log = LogManager.getLogger(AliasManager.class);
 
-	private Map<ByteString, EntityNum> aliases;
+	private volatile Map<ByteString, EntityNum> aliases;
 
 	@Inject
 	public AliasManager() {
-		this.aliases = new HashMap<>();
+		this.aliases = new ConcurrentHashMap<>();
 	}
 
 	public Map<ByteString, EntityNum> getAliases() {
@@ -58,6 +63,16 @@ public class AliasManager {
 		aliases.put(alias, num);
 	}
 
+	/**
+	 * Removes the given alias, if present; for example, when a provisional auto-creation is rolled back.
+	 *
+	 * @param alias
+	 * 		the alias to forget
+	 */
+	public void unlink(final ByteString alias) {
+		aliases.remove(alias);
+	}
+
 	/**
 	 * From given MerkleMap of accounts, populate the auto accounts creations map. Iterate through
 	 * each account in accountsMap and add an entry to autoAccountsMap if {@code alias} exists on the account.
@@ -65,13 +80,37 @@ public class AliasManager {
 	 * @param accounts the current accounts
 	 */
 	public void rebuildAliasesMap(final MerkleMap<EntityNum, MerkleAccount> accounts) {
-		aliases.clear();
-		forEach(accounts, (k, v) -> {
-			if (!v.getAlias().isEmpty()) {
-				aliases.put(v.getAlias(), k);
+		ViewBuilder.rebuild(accounts, aliasesBuilder());
+	}
+
+	/**
+	 * Returns a builder of the aliases map, for a rebuild that shares its traversal of the accounts with
+	 * other views. As with {@link AliasManager#rebuildAliasesMap(MerkleMap)}, the new map is only published
+	 * once every account has been visited.
+	 *
+	 * @return the builder of the aliases map
+	 */
+	public ViewBuilder<EntityNum, MerkleAccount> aliasesBuilder() {
+		final Map<ByteString, EntityNum> rebuilt = new ConcurrentHashMap<>();
+		return new ViewBuilder<>() {
+			@Override
+			public void start() {
+				rebuilt.clear();
+			}
+
+			@Override
+			public void visit(final EntityNum num, final MerkleAccount account) {
+				if (!account.getAlias().isEmpty()) {
+					rebuilt.put(account.getAlias(), num);
+				}
+			}
+
+			@Override
+			public void finish() {
+				aliases = rebuilt;
+				log.info("Rebuild complete : No.of accounts with aliases {} ", rebuilt.size());
 			}
-		});
-		log.info("Rebuild complete : No.of accounts with aliases {} ", aliases.size());
+		};
 	}
 
 	/**
@@ -20,6 +20,7 @@ package com.hedera.services.ledger.accounts;
  * ‍
  */
 
+import com.hedera.services.state.initialization.ViewBuilder;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.utils.EntityNum;
 import com.hederahashgraph.api.proto.java.AccountID;
@@ -31,11 +32,21 @@ import java.util.HashSet;
 import java.util.Set;
 import java.util.function.Supplier;
 
+import static com.hedera.services.context.properties.StaticPropertiesHolder.STATIC_PROPERTIES;
+import static com.hedera.services.state.merkle.internals.BitPackUtils.codeFromNum;
+import static com.hedera.services.state.merkle.internals.BitPackUtils.isValidNum;
+import static com.hedera.services.state.merkle.internals.BitPackUtils.numFromCode;
+import static com.hedera.services.utils.EntityNum.MISSING_NUM;
 import static com.hedera.services.utils.EntityNum.fromAccountId;
 
+/**
+ * A store of the accounts in the working state, which tracks the number of each existing account in a compact
+ * primitive index; so the existence checks made while handling transactions never allocate. This class is
+ * <b>not</b> thread-safe, and should never be used by any thread other than the {@code handleTransaction} thread.
+ */
 @Singleton
 public class BackingAccounts implements BackingStore<AccountID, MerkleAccount> {
-	Set<AccountID> existingAccounts = new HashSet<>();
+	ExistingNumsIndex existingAccounts = new ExistingNumsIndex();
 
 	private final Supplier<MerkleMap<EntityNum, MerkleAccount>> delegate;
 
@@ -46,10 +57,27 @@ public class BackingAccounts implements BackingStore<AccountID, MerkleAccount> {
 
 	@Override
 	public void rebuildFromSources() {
-		existingAccounts.clear();
-		delegate.get().keySet().stream()
-				.map(EntityNum::toGrpcAccountId)
-				.forEach(existingAccounts::add);
+		ViewBuilder.rebuild(delegate.get(), existingAccountsBuilder());
+	}
+
+	/**
+	 * Returns a builder of the set of existing accounts, for a rebuild from sources that shares its traversal
+	 * of the accounts with other views.
+	 *
+	 * @return the builder of the existing accounts
+	 */
+	public ViewBuilder<EntityNum, MerkleAccount> existingAccountsBuilder() {
+		return new ViewBuilder<>() {
+			@Override
+			public void start() {
+				existingAccounts.clear();
+			}
+
+			@Override
+			public void visit(final EntityNum num, final MerkleAccount account) {
+				existingAccounts.add(num.intValue());
+			}
+		};
 	}
 
 	@Override
@@ -59,30 +87,48 @@ public class BackingAccounts implements BackingStore<AccountID, MerkleAccount> {
 
 	@Override
 	public void put(AccountID id, MerkleAccount account) {
-		if (!existingAccounts.contains(id)) {
-			delegate.get().put(fromAccountId(id), account);
-			existingAccounts.add(id);
+		if (!contains(id)) {
+			final var num = fromAccountId(id);
+			delegate.get().put(num, account);
+			existingAccounts.add(num.intValue());
 		}
 	}
 
 	@Override
 	public boolean contains(AccountID id) {
-		return existingAccounts.contains(id);
+		return existingAccounts.contains(codeOf(id));
 	}
 
 	@Override
 	public void remove(AccountID id) {
-		existingAccounts.remove(id);
+		existingAccounts.remove(codeOf(id));
 		delegate.get().remove(fromAccountId(id));
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * The returned set is a new copy of the existing account ids, so this is meant for occasional use such as
+	 * startup checks, and not for the {@code handleTransaction} loop.
+	 */
 	@Override
 	public Set<AccountID> idSet() {
-		return existingAccounts;
+		final Set<AccountID> ids = new HashSet<>(existingAccounts.size() * 2);
+		existingAccounts.forEach(code -> ids.add(STATIC_PROPERTIES.scopedAccountWith(numFromCode(code))));
+		return ids;
 	}
 
 	@Override
 	public MerkleAccount getImmutableRef(AccountID id) {
 		return delegate.get().get(fromAccountId(id));
 	}
+
+	private static int codeOf(final AccountID id) {
+		if (id.getShardNum() != STATIC_PROPERTIES.getShard()
+				|| id.getRealmNum() != STATIC_PROPERTIES.getRealm()
+				|| !isValidNum(id.getAccountNum())) {
+			return MISSING_NUM.intValue();
+		}
+		return codeFromNum(id.getAccountNum());
+	}
 }
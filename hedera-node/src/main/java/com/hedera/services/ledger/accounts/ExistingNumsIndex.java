@@ -0,0 +1,155 @@
+package com.hedera.services.ledger.accounts;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+import static com.hedera.services.utils.MiscUtils.perm64;
+
+/**
+ * A set of entity number codes (see {@link com.hedera.services.state.merkle.internals.BitPackUtils#codeFromNum(long)})
+ * stored in a single {@code int[]} with open addressing and linear probing. Compared to a
+ * {@code HashSet<AccountID>}, it uses a few bytes per entity instead of well over a hundred, and neither lookups nor
+ * updates allocate.
+ *
+ * Since entity number zero is never assigned, the code zero marks an empty slot; so the set ignores any attempt to
+ * add it, and never contains it.
+ *
+ * This class is <b>not</b> thread-safe.
+ */
+final class ExistingNumsIndex {
+	private static final int FREE = 0;
+	private static final int MIN_CAPACITY = 16;
+
+	private int[] slots;
+	private int mask;
+	private int size;
+	private int resizeAt;
+
+	ExistingNumsIndex() {
+		allocate(MIN_CAPACITY);
+	}
+
+	boolean contains(final int code) {
+		if (code == FREE) {
+			return false;
+		}
+		for (int i = slotFor(code); ; i = (i + 1) & mask) {
+			final var occupant = slots[i];
+			if (occupant == code) {
+				return true;
+			} else if (occupant == FREE) {
+				return false;
+			}
+		}
+	}
+
+	boolean add(final int code) {
+		if (code == FREE) {
+			return false;
+		}
+		int i = slotFor(code);
+		for (int occupant = slots[i]; occupant != FREE; occupant = slots[i]) {
+			if (occupant == code) {
+				return false;
+			}
+			i = (i + 1) & mask;
+		}
+		slots[i] = code;
+		if (++size >= resizeAt) {
+			rehash(slots.length * 2);
+		}
+		return true;
+	}
+
+	boolean remove(final int code) {
+		if (code == FREE) {
+			return false;
+		}
+		int i = slotFor(code);
+		for (int occupant = slots[i]; occupant != code; occupant = slots[i]) {
+			if (occupant == FREE) {
+				return false;
+			}
+			i = (i + 1) & mask;
+		}
+		size--;
+		/* Shift back any later codes in the probe sequence, so that lookups never stop short of them */
+		int gap = i;
+		for (int j = (gap + 1) & mask; slots[j] != FREE; j = (j + 1) & mask) {
+			final var home = slotFor(slots[j]);
+			if (((j - home) & mask) >= ((j - gap) & mask)) {
+				slots[gap] = slots[j];
+				gap = j;
+			}
+		}
+		slots[gap] = FREE;
+		return true;
+	}
+
+	void forEach(final IntConsumer action) {
+		for (final var code : slots) {
+			if (code != FREE) {
+				action.accept(code);
+			}
+		}
+	}
+
+	void clear() {
+		Arrays.fill(slots, FREE);
+		size = 0;
+	}
+
+	int size() {
+		return size;
+	}
+
+	private int slotFor(final int code) {
+		return (int) perm64(code) & mask;
+	}
+
+	private void rehash(final int newCapacity) {
+		final var oldSlots = slots;
+		allocate(newCapacity);
+		for (final var code : oldSlots) {
+			if (code != FREE) {
+				int i = slotFor(code);
+				while (slots[i] != FREE) {
+					i = (i + 1) & mask;
+				}
+				slots[i] = code;
+			}
+		}
+	}
+
+	private void allocate(final int capacity) {
+		slots = new int[capacity];
+		mask = capacity - 1;
+		/* Keep the load factor at most 1/2 so that probe sequences stay short */
+		resizeAt = capacity / 2;
+	}
+
+	/* --- Only used by unit tests --- */
+	int capacity() {
+		return slots.length;
+	}
+}
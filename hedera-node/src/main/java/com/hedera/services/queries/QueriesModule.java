@@ -31,6 +31,7 @@ import com.hedera.services.queries.answering.StakeAwareAnswerFlow;
 import com.hedera.services.queries.answering.StakedAnswerFlow;
 import com.hedera.services.queries.answering.ZeroStakeAnswerFlow;
 import com.hedera.services.queries.validation.QueryFeeCheck;
+import com.hedera.services.state.annotations.QueryStateViews;
 import com.hedera.services.throttling.FunctionalityThrottling;
 import com.hedera.services.throttling.annotations.HapiThrottle;
 import com.hedera.services.txns.submission.PlatformSubmissionManager;
@@ -52,7 +53,7 @@ public final class QueriesModule {
 			final AccountNumbers accountNums,
 			final QueryFeeCheck queryFeeCheck,
 			final HapiOpPermissions hapiOpPermissions,
-			final Supplier<StateView> stateViews,
+			@QueryStateViews final Supplier<StateView> stateViews,
 			final UsagePricesProvider usagePrices,
 			final QueryHeaderValidity queryHeaderValidity,
 			final TransactionPrecheck transactionPrecheck,
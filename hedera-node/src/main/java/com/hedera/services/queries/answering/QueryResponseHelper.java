@@ -20,6 +20,7 @@ package com.hedera.services.queries.answering;
  * ‍
  */
 
+import com.hedera.services.grpc.GrpcHandlerStages;
 import com.hedera.services.queries.AnswerFlow;
 import com.hedera.services.queries.AnswerService;
 import com.hedera.services.stats.HapiOpCounters;
@@ -36,6 +37,7 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import static com.hedera.services.context.primitives.StateView.EMPTY_VIEW;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.BUSY;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.FAIL_INVALID;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 
@@ -46,14 +48,17 @@ public class QueryResponseHelper {
 
 	private final AnswerFlow answerFlow;
 	private final HapiOpCounters opCounters;
+	private final GrpcHandlerStages handlerStages;
 
 	@Inject
 	public QueryResponseHelper(
 			AnswerFlow answerFlow,
-			HapiOpCounters opCounters
+			HapiOpCounters opCounters,
+			GrpcHandlerStages handlerStages
 	) {
 		this.opCounters = opCounters;
 		this.answerFlow = answerFlow;
+		this.handlerStages = handlerStages;
 	}
 
 	public void answer(
@@ -62,12 +67,20 @@ public class QueryResponseHelper {
 			AnswerService answer,
 			HederaFunctionality statedFunction
 	) {
-		respondWithMetrics(
+		final Runnable respondBusy = () -> {
+			opCounters.countReceived(statedFunction);
+			observer.onNext(answer.responseGiven(query, EMPTY_VIEW, BUSY, 0L));
+			observer.onCompleted();
+		};
+		final var dispatched = handlerStages.queries().tryDispatch(() -> respondWithMetrics(
 				query,
 				observer,
 				answer,
 				() -> opCounters.countReceived(statedFunction),
-				() -> opCounters.countAnswered(statedFunction));
+				() -> opCounters.countAnswered(statedFunction)), respondBusy);
+		if (!dispatched) {
+			respondBusy.run();
+		}
 	}
 
 	private void respondWithMetrics(
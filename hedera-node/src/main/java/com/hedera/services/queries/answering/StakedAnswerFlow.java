@@ -23,6 +23,7 @@ package com.hedera.services.queries.answering;
 import com.hedera.services.config.AccountNumbers;
 import com.hedera.services.context.domain.security.HapiOpPermissions;
 import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.exceptions.InvalidTransactionException;
 import com.hedera.services.fees.FeeCalculator;
 import com.hedera.services.fees.calculation.UsagePricesProvider;
 import com.hedera.services.queries.AnswerFlow;
@@ -93,7 +94,12 @@ public final class StakedAnswerFlow implements AnswerFlow {
 
 	@Override
 	public Response satisfyUsing(final AnswerService service, final Query query) {
-		final var view = stateViews.get();
+		try (final var view = stateViews.get()) {
+			return satisfyGiven(service, query, view);
+		}
+	}
+
+	private Response satisfyGiven(final AnswerService service, final Query query, final StateView view) {
 		final var headerStatus = queryHeaderValidity.checkHeader(query);
 		if (headerStatus != OK) {
 			return service.responseGiven(query, view, headerStatus);
@@ -126,7 +132,12 @@ public final class StakedAnswerFlow implements AnswerFlow {
 		long fee = 0L;
 		final Map<String, Object> queryCtx = new HashMap<>();
 		if (isPaymentRequired && null != optionalPayment) {
-			fee = totalOf(fees.computePayment(query, usagePrices, view, bestGuessNow, queryCtx));
+			try {
+				fee = totalOf(fees.computePayment(query, usagePrices, view, bestGuessNow, queryCtx));
+			} catch (InvalidTransactionException unanswerable) {
+				/* E.g., a ContractCallLocal that found its execution stage saturated; nothing is charged */
+				return service.responseGiven(query, view, unanswerable.getResponseCode());
+			}
 			final var paymentStatus = tryToPay(optionalPayment, fee);
 			if (paymentStatus != OK) {
 				return service.responseGiven(query, view, paymentStatus, fee);
@@ -49,17 +49,17 @@ public class ZeroStakeAnswerFlow implements AnswerFlow {
 
 	@Override
 	public Response satisfyUsing(AnswerService service, Query query) {
-		var view = stateViews.get();
+		try (var view = stateViews.get()) {
+			if (throttles.shouldThrottleQuery(service.canonicalFunction())) {
+				return service.responseGiven(query, view, BUSY);
+			}
 
-		if (throttles.shouldThrottleQuery(service.canonicalFunction())) {
-			return service.responseGiven(query, view, BUSY);
-		}
+			var validity = queryHeaderValidity.checkHeader(query);
+			if (validity == OK) {
+				validity = service.checkValidity(query, view);
+			}
 
-		var validity = queryHeaderValidity.checkHeader(query);
-		if (validity == OK) {
-			validity = service.checkValidity(query, view);
+			return service.responseGiven(query, view, validity);
 		}
-
-		return service.responseGiven(query, view, validity);
 	}
 }
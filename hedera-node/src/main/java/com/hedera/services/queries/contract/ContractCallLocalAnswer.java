@@ -132,7 +132,7 @@ public class ContractCallLocalAnswer extends AbstractAnswer {
 			/* If answering from a zero-stake node, there are no node payments, and the
 			usage estimator won't have cached the result it got from the local call. */
 			try {
-				var callLocalResponse = callLocalExecutor.execute(op);
+				var callLocalResponse = callLocalExecutor.execute(op, view);
 				response.mergeFrom(withCid(callLocalResponse, op.getContractID()));
 			} catch (Exception e) {
 				response.setHeader(answerOnlyHeader(FAIL_INVALID, cost));
@@ -53,11 +53,11 @@ public class RecordCache {
 	static final Boolean MARKER = Boolean.TRUE;
 
 	private EntityCreator creator;
-	private Cache<TransactionID, Boolean> timedReceiptCache;
-	private Map<TransactionID, TxnIdRecentHistory> histories;
+	private Cache<TxnIdKey, Boolean> timedReceiptCache;
+	private Map<TxnIdKey, TxnIdRecentHistory> histories;
 
 	@Inject
-	public RecordCache(Cache<TransactionID, Boolean> cache, Map<TransactionID, TxnIdRecentHistory> histories) {
+	public RecordCache(Cache<TxnIdKey, Boolean> cache, Map<TxnIdKey, TxnIdRecentHistory> histories) {
 		this.histories = histories;
 		this.timedReceiptCache = cache;
 	}
@@ -68,7 +68,7 @@ public class RecordCache {
 	}
 
 	public void addPreConsensus(final TransactionID txnId) {
-		timedReceiptCache.put(txnId, Boolean.TRUE);
+		timedReceiptCache.put(TxnIdKey.from(txnId), Boolean.TRUE);
 	}
 
 	void setPostConsensus(
@@ -76,7 +76,7 @@ public class RecordCache {
 			final ResponseCodeEnum status,
 			final ExpirableTxnRecord expirableTxnRecord
 	) {
-		final var recentHistory = histories.computeIfAbsent(txnId, ignore -> new TxnIdRecentHistory());
+		final var recentHistory = histories.computeIfAbsent(TxnIdKey.from(txnId), ignore -> new TxnIdRecentHistory());
 		recentHistory.observe(expirableTxnRecord, status);
 	}
 
@@ -94,19 +94,21 @@ public class RecordCache {
 				submittingMember);
 
 		final var recentHistory = histories.computeIfAbsent(
-				accessor.getTxnId(), ignore -> new TxnIdRecentHistory());
+				TxnIdKey.from(accessor.getTxnId()), ignore -> new TxnIdRecentHistory());
 		recentHistory.observe(expiringRecord, FAIL_INVALID);
 	}
 
 	public boolean isReceiptPresent(final TransactionID txnId) {
-		return histories.containsKey(txnId) || timedReceiptCache.getIfPresent(txnId) == MARKER;
+		final var key = TxnIdKey.from(txnId);
+		return histories.containsKey(key) || timedReceiptCache.getIfPresent(key) == MARKER;
 	}
 
 	public TxnReceipt getPriorityReceipt(final TransactionID txnId) {
-		final var recentHistory = histories.get(txnId);
+		final var key = TxnIdKey.from(txnId);
+		final var recentHistory = histories.get(key);
 		return recentHistory != null
 				? receiptFrom(recentHistory)
-				: (timedReceiptCache.getIfPresent(txnId) == MARKER ? UNKNOWN_RECEIPT : null);
+				: (timedReceiptCache.getIfPresent(key) == MARKER ? UNKNOWN_RECEIPT : null);
 	}
 
 	public List<TransactionRecord> getDuplicateRecords(final TransactionID txnId) {
@@ -129,7 +131,8 @@ public class RecordCache {
 			final TransactionID txnId,
 			final Function<ExpirableTxnRecord, T> transform
 	) {
-		final var priorityRecord = getPriorityRecord(txnId);
+		final var key = TxnIdKey.from(txnId);
+		final var priorityRecord = priorityRecordFor(key);
 		if (priorityRecord == null) {
 			return Collections.emptyList();
 		} else {
@@ -137,10 +140,9 @@ public class RecordCache {
 			if (numChildren == 0) {
 				return Collections.emptyList();
 			} else {
-				final List<T> children = new ArrayList<>();
-				for (short i = 1; i <= numChildren; i++) {
-					final var childTxnId = txnId.toBuilder().setNonce(i).build();
-					final var childRecord = getPriorityRecord(childTxnId);
+				final List<T> children = new ArrayList<>(numChildren);
+				for (int i = 1; i <= numChildren; i++) {
+					final var childRecord = priorityRecordFor(key.withNonce(i));
 					/* It will be extraordinarily rare for a parent record to still be available
 					while a child has expired. But it could happen, so we silently work around it. */
 					if (childRecord != null) {
@@ -153,7 +155,7 @@ public class RecordCache {
 	}
 
 	private List<TransactionRecord> duplicatesOf(final TransactionID txnId) {
-		final var recentHistory = histories.get(txnId);
+		final var recentHistory = histories.get(TxnIdKey.from(txnId));
 		if (recentHistory == null) {
 			return Collections.emptyList();
 		} else {
@@ -171,11 +173,11 @@ public class RecordCache {
 	}
 
 	public ExpirableTxnRecord getPriorityRecord(final TransactionID txnId) {
-		final var history = histories.get(txnId);
-		if (history != null) {
-			return Optional.ofNullable(history.priorityRecord())
-					.orElse(null);
-		}
-		return null;
+		return priorityRecordFor(TxnIdKey.from(txnId));
+	}
+
+	private ExpirableTxnRecord priorityRecordFor(final TxnIdKey key) {
+		final var history = histories.get(key);
+		return (history == null) ? null : history.priorityRecord();
 	}
 }
\ No newline at end of file
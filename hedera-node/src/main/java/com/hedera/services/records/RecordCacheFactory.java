@@ -24,7 +24,6 @@ import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.hedera.services.context.annotations.CompositeProps;
 import com.hedera.services.context.properties.PropertySource;
-import com.hederahashgraph.api.proto.java.TransactionID;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -47,7 +46,7 @@ public final class RecordCacheFactory {
 		this.properties = properties;
 	}
 
-	public Cache<TransactionID, Boolean> getCache() {
+	public Cache<TxnIdKey, Boolean> getCache() {
 		final var ttl = properties.getIntProperty("cache.records.ttl");
 
 		log.info("Constructing the node-local txn id cache with ttl={}s", ttl);
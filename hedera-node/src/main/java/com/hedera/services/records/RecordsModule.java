@@ -27,7 +27,6 @@ import com.hedera.services.state.StateAccessor;
 import com.hedera.services.state.annotations.WorkingState;
 import com.hedera.services.stats.MiscRunningAvgs;
 import com.hedera.services.stream.RecordStreamManager;
-import com.hederahashgraph.api.proto.java.TransactionID;
 import com.swirlds.common.Platform;
 import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.crypto.RunningHash;
@@ -50,13 +49,13 @@ public abstract class RecordsModule {
 
 	@Provides
 	@Singleton
-	public static Map<TransactionID, TxnIdRecentHistory> txnHistories() {
+	public static Map<TxnIdKey, TxnIdRecentHistory> txnHistories() {
 		return new ConcurrentHashMap<>();
 	}
 
 	@Provides
 	@Singleton
-	public static Cache<TransactionID, Boolean> provideCache(RecordCacheFactory recordCacheFactory) {
+	public static Cache<TxnIdKey, Boolean> provideCache(RecordCacheFactory recordCacheFactory) {
 		return recordCacheFactory.getCache();
 	}
 
@@ -25,6 +25,7 @@ import com.hedera.services.state.EntityCreator;
 import com.hedera.services.state.expiry.ExpiryManager;
 import com.hedera.services.state.submerkle.ExpirableTxnRecord;
 import com.hedera.services.state.submerkle.RichInstant;
+import com.hedera.services.stats.HandlePhaseTracker;
 import com.hedera.services.stream.RecordStreamObject;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.SignedTransaction;
@@ -41,6 +42,7 @@ import java.util.List;
 
 import static com.hedera.services.legacy.proto.utils.CommonUtils.noThrowSha384HashOf;
 import static com.hedera.services.state.submerkle.TxnId.USER_TRANSACTION_NONCE;
+import static com.hedera.services.stats.HandlePhase.RECORD_CREATION;
 import static com.hedera.services.utils.MiscUtils.nonNegativeNanosOffset;
 
 /**
@@ -53,6 +55,7 @@ public class TxnAwareRecordsHistorian implements AccountRecordsHistorian {
 	private final RecordCache recordCache;
 	private final ExpiryManager expiries;
 	private final TransactionContext txnCtx;
+	private final HandlePhaseTracker phaseTracker;
 	private final List<RecordStreamObject> precedingChildStreamObjs = new ArrayList<>();
 	private final List<RecordStreamObject> followingChildStreamObjs = new ArrayList<>();
 	private final List<InProgressChildRecord> precedingChildRecords = new ArrayList<>();
@@ -65,8 +68,14 @@ public class TxnAwareRecordsHistorian implements AccountRecordsHistorian {
 	private ExpirableTxnRecord topLevelRecord;
 
 	@Inject
-	public TxnAwareRecordsHistorian(RecordCache recordCache, TransactionContext txnCtx, ExpiryManager expiries) {
+	public TxnAwareRecordsHistorian(
+			RecordCache recordCache,
+			TransactionContext txnCtx,
+			ExpiryManager expiries,
+			HandlePhaseTracker phaseTracker
+	) {
 		this.expiries = expiries;
+		this.phaseTracker = phaseTracker;
 		this.txnCtx = txnCtx;
 		this.recordCache = recordCache;
 	}
@@ -88,6 +97,7 @@ public class TxnAwareRecordsHistorian implements AccountRecordsHistorian {
 
 	@Override
 	public void saveExpirableTransactionRecords() {
+		final var creationStart = phaseTracker.start();
 		final var consensusNow = txnCtx.consensusTime();
 		final var topLevel = txnCtx.recordSoFar();
 		final var numChildren = (short) (precedingChildRecords.size() + followingChildRecords.size());
@@ -102,6 +112,7 @@ public class TxnAwareRecordsHistorian implements AccountRecordsHistorian {
 		save(precedingChildStreamObjs, effPayer, submittingMember);
 		save(topLevelRecord, effPayer, accessor.getTxnId(), submittingMember, consensusNow.getEpochSecond());
 		save(followingChildStreamObjs, effPayer, submittingMember);
+		phaseTracker.stop(accessor.getFunction(), RECORD_CREATION, creationStart);
 	}
 
 	@Override
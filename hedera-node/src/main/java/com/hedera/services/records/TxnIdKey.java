@@ -0,0 +1,175 @@
+package com.hedera.services.records;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.common.base.MoreObjects;
+import com.hedera.services.state.submerkle.TxnId;
+import com.hederahashgraph.api.proto.java.TransactionID;
+
+import static com.hedera.services.utils.MiscUtils.perm64;
+
+/**
+ * A compact, immutable key for a {@link TransactionID} in the {@link RecordCache}, made of the payer's
+ * shard, realm, and number, the valid start seconds, the packed valid start nanos and nonce, and a flag. Unlike the gRPC type it has no nested messages, so it is cheap
+ * to build, hash, and retain for every transaction in the receipt window; and a child's key can be
+ * derived from its parent's with {@link TxnIdKey#withNonce(int)} instead of a protobuf builder.
+ */
+public final class TxnIdKey {
+	private final long payerShard;
+	private final long payerRealm;
+	private final long payerNum;
+	private final long validStartSecs;
+	private final long nanosAndNonce;
+	private final boolean scheduled;
+
+	TxnIdKey(
+			final long payerShard,
+			final long payerRealm,
+			final long payerNum,
+			final long validStartSecs,
+			final int validStartNanos,
+			final boolean scheduled,
+			final int nonce
+	) {
+		this(payerShard, payerRealm, payerNum, validStartSecs, pack(validStartNanos, nonce), scheduled);
+	}
+
+	private TxnIdKey(
+			final long payerShard,
+			final long payerRealm,
+			final long payerNum,
+			final long validStartSecs,
+			final long nanosAndNonce,
+			final boolean scheduled
+	) {
+		this.payerShard = payerShard;
+		this.payerRealm = payerRealm;
+		this.payerNum = payerNum;
+		this.validStartSecs = validStartSecs;
+		this.nanosAndNonce = nanosAndNonce;
+		this.scheduled = scheduled;
+	}
+
+	public static TxnIdKey from(final TransactionID grpc) {
+		final var payer = grpc.getAccountID();
+		final var validStart = grpc.getTransactionValidStart();
+		return new TxnIdKey(
+				payer.getShardNum(),
+				payer.getRealmNum(),
+				payer.getAccountNum(),
+				validStart.getSeconds(),
+				validStart.getNanos(),
+				grpc.getScheduled(),
+				grpc.getNonce());
+	}
+
+	public static TxnIdKey from(final TxnId txnId) {
+		final var payer = txnId.getPayerAccount();
+		final var validStart = txnId.getValidStart();
+		return new TxnIdKey(
+				payer.shard(),
+				payer.realm(),
+				payer.num(),
+				validStart.getSeconds(),
+				validStart.getNanos(),
+				txnId.isScheduled(),
+				txnId.getNonce());
+	}
+
+	public TxnIdKey withNonce(final int nonce) {
+		return new TxnIdKey(payerShard, payerRealm, payerNum, validStartSecs, pack(nanos(), nonce), scheduled);
+	}
+
+	long payerShard() {
+		return payerShard;
+	}
+
+	long payerRealm() {
+		return payerRealm;
+	}
+
+	long payerNum() {
+		return payerNum;
+	}
+
+	long validStartSecs() {
+		return validStartSecs;
+	}
+
+	int validStartNanos() {
+		return nanos();
+	}
+
+	boolean isScheduled() {
+		return scheduled;
+	}
+
+	int nonce() {
+		return (int) nanosAndNonce;
+	}
+
+	/* --- Object --- */
+	@Override
+	public boolean equals(final Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || TxnIdKey.class != o.getClass()) {
+			return false;
+		}
+		final var that = (TxnIdKey) o;
+		return this.payerNum == that.payerNum &&
+				this.payerRealm == that.payerRealm &&
+				this.payerShard == that.payerShard &&
+				this.validStartSecs == that.validStartSecs &&
+				this.nanosAndNonce == that.nanosAndNonce &&
+				this.scheduled == that.scheduled;
+	}
+
+	@Override
+	public int hashCode() {
+		final var payer = perm64(payerShard ^ perm64(payerRealm ^ perm64(payerNum)));
+		final var mixed = perm64(payer ^ perm64(validStartSecs ^ perm64(nanosAndNonce)));
+		return (int) (scheduled ? ~mixed : mixed);
+	}
+
+	@Override
+	public String toString() {
+		return MoreObjects.toStringHelper(this)
+				.add("payerShard", payerShard)
+				.add("payerRealm", payerRealm)
+				.add("payerNum", payerNum)
+				.add("validStartSecs", validStartSecs)
+				.add("validStartNanos", nanos())
+				.add("scheduled", scheduled)
+				.add("nonce", nonce())
+				.toString();
+	}
+
+	/* --- Internal helpers --- */
+	private int nanos() {
+		return (int) (nanosAndNonce >>> 32);
+	}
+
+	private static long pack(final int nanos, final int nonce) {
+		return ((long) nanos << 32) | (nonce & 0xFFFF_FFFFL);
+	}
+}
@@ -26,12 +26,11 @@ import com.hedera.services.txns.diligence.DuplicateClassification;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.EnumSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Stream;
 
 import static com.hedera.services.txns.diligence.DuplicateClassification.BELIEVED_UNIQUE;
 import static com.hedera.services.txns.diligence.DuplicateClassification.DUPLICATE;
@@ -56,19 +55,21 @@ import static java.util.Comparator.comparingLong;
  *     classifiable transaction submitted by the same node.)</li>
  * </ol>
  *
- * <p>The implementation uses two linked lists of records, one for classifiable records and one for
- * unclassifiable. We ensure node duplicates can be identified in constant time (depending only on
+ * <p>The implementation uses two slot arrays of records, one for classifiable records and one for
+ * unclassifiable, each allocated only when its first record arrives and sized for the common case of
+ * a single record. We ensure node duplicates can be identified in constant time (depending only on
  * the number of nodes in the network) by keeping all the non-node duplicates at the start of the
- * classifiable record list in a prefix of length {@code numDuplicatesFromDifferentNodes}.</p>
+ * classifiable slots in a prefix of length {@code numDuplicatesFromDifferentNodes}.</p>
  *
  * <p>So to classify a new record from node X as either unique, duplicate, or node duplicate, we only
  * need to iterate through the first {@code numDuplicatesFromDifferentNodes} records in the classifiable
- * list. If none of these records were submitted by node X, the new record cannot be a node duplicate.
+ * slots. If none of these records were submitted by node X, the new record cannot be a node duplicate.
  * We then insert it at position {@code numDuplicatesFromDifferentNodes}, and increment {@code numDuplicatesFromDifferentNodes++}.
  * (If any <i>were</i> submitted by node X, of course the new record is a node duplicate; and we just
- * add it to the very end of the classifiable list, leaving {@code numDuplicatesFromDifferentNodes} unchanged.)</p>
+ * add it after the last classifiable record, leaving {@code numDuplicatesFromDifferentNodes} unchanged.)</p>
  */
 public class TxnIdRecentHistory {
+	private static final ExpirableTxnRecord[] NO_RECORDS = new ExpirableTxnRecord[0];
 	private static final Comparator<RichInstant> RI_CMP =
 			comparingLong(RichInstant::getSeconds).thenComparingInt(RichInstant::getNanos);
 	private static final Comparator<ExpirableTxnRecord> CONSENSUS_TIME_COMPARATOR =
@@ -76,9 +77,12 @@ public class TxnIdRecentHistory {
 
 	private int numDuplicatesFromDifferentNodes = 0;
 
+	private int numClassifiable = 0;
+	private int numUnclassifiable = 0;
+	private ExpirableTxnRecord[] classifiable = NO_RECORDS;
+	private ExpirableTxnRecord[] unclassifiable = NO_RECORDS;
+
 	List<ExpirableTxnRecord> memory = null;
-	List<ExpirableTxnRecord> classifiableRecords = null;
-	List<ExpirableTxnRecord> unclassifiableRecords = null;
 
 	private static final Set<ResponseCodeEnum> UNCLASSIFIABLE_STATUSES = EnumSet.of(
 			INVALID_NODE_ACCOUNT,
@@ -92,10 +96,10 @@ public class TxnIdRecentHistory {
 	 * @return the highest-priority record if any exists, null otherwise
 	 */
 	public ExpirableTxnRecord priorityRecord() {
-		if (areForgotten(classifiableRecords)) {
-			return areForgotten(unclassifiableRecords) ? null : unclassifiableRecords.get(0);
+		if (numClassifiable > 0) {
+			return classifiable[0];
 		} else {
-			return classifiableRecords.get(0);
+			return numUnclassifiable > 0 ? unclassifiable[0] : null;
 		}
 	}
 
@@ -105,9 +109,17 @@ public class TxnIdRecentHistory {
 	 * @return all the duplicate historical records in chronological order
 	 */
 	public List<ExpirableTxnRecord> allDuplicateRecords() {
-		return Stream.concat(duplicateClassifiableRecords(), duplicateUnclassifiableRecords())
-				.sorted(CONSENSUS_TIME_COMPARATOR)
-				.toList();
+		final var classifiableStart = Math.min(1, numClassifiable);
+		final var unclassifiableStart = Math.min(1 - classifiableStart, numUnclassifiable);
+		final var numDuplicates = (numClassifiable - classifiableStart) + (numUnclassifiable - unclassifiableStart);
+		if (numDuplicates == 0) {
+			return List.of();
+		}
+		final List<ExpirableTxnRecord> duplicates = new ArrayList<>(numDuplicates);
+		duplicates.addAll(Arrays.asList(classifiable).subList(classifiableStart, numClassifiable));
+		duplicates.addAll(Arrays.asList(unclassifiable).subList(unclassifiableStart, numUnclassifiable));
+		duplicates.sort(CONSENSUS_TIME_COMPARATOR);
+		return duplicates;
 	}
 
 	/**
@@ -116,7 +128,7 @@ public class TxnIdRecentHistory {
 	 * @return true if there are no records in the recent history, false otherwise
 	 */
 	public boolean isForgotten() {
-		return areForgotten(classifiableRecords) && areForgotten(unclassifiableRecords);
+		return numClassifiable == 0 && numUnclassifiable == 0;
 	}
 
 	/**
@@ -165,11 +177,11 @@ public class TxnIdRecentHistory {
 	 * @param now the current consensus second
 	 */
 	public void forgetExpiredAt(final long now) {
-		if (classifiableRecords != null) {
-			forgetFromClassifiableList(now);
+		if (numClassifiable > 0) {
+			forgetFromClassifiable(now);
 		}
-		if (unclassifiableRecords != null) {
-			forgetFromUnclassifiableList(now);
+		if (numUnclassifiable > 0) {
+			numUnclassifiable = compactUnexpired(unclassifiable, numUnclassifiable, now);
 		}
 	}
 
@@ -184,100 +196,80 @@ public class TxnIdRecentHistory {
 		if (numDuplicatesFromDifferentNodes == 0) {
 			return BELIEVED_UNIQUE;
 		}
-		final var iter = classifiableRecords.listIterator();
-		for (int i = 0; i < numDuplicatesFromDifferentNodes; i++) {
-			if (iter.next().getSubmittingMember() == submittingMember) {
-				return NODE_DUPLICATE;
-			}
-		}
-		return DUPLICATE;
+		return isNodeDuplicate(submittingMember) ? NODE_DUPLICATE : DUPLICATE;
 	}
 
 	/* --- Internal helpers --- */
-	private Stream<ExpirableTxnRecord> duplicateClassifiableRecords() {
-		if (areForgotten(classifiableRecords) || classifiableRecords.size() == 1) {
-			return Stream.empty();
-		} else {
-			return classifiableRecords.subList(1, classifiableRecords.size()).stream();
-		}
-	}
-
-	private Stream<ExpirableTxnRecord> duplicateUnclassifiableRecords() {
-		final var startIndex = areForgotten(classifiableRecords) ? 1 : 0;
-		if (areForgotten(unclassifiableRecords) || unclassifiableRecords.size() <= startIndex) {
-			return Stream.empty();
-		} else {
-			return unclassifiableRecords.subList(startIndex, unclassifiableRecords.size()).stream();
+	private boolean isNodeDuplicate(final long submittingMember) {
+		for (int i = 0; i < numDuplicatesFromDifferentNodes; i++) {
+			if (classifiable[i].getSubmittingMember() == submittingMember) {
+				return true;
+			}
 		}
+		return false;
 	}
 
 	private void addClassifiable(final ExpirableTxnRecord expirableTxnRecord) {
-		if (classifiableRecords == null) {
-			classifiableRecords = new LinkedList<>();
-		}
-		int i = 0;
-		final var submittingMember = expirableTxnRecord.getSubmittingMember();
-		final var iter = classifiableRecords.listIterator();
-		boolean isNodeDuplicate = false;
-		while (i < numDuplicatesFromDifferentNodes) {
-			if (submittingMember == iter.next().getSubmittingMember()) {
-				isNodeDuplicate = true;
-				break;
-			}
-			i++;
+		if (numClassifiable == classifiable.length) {
+			classifiable = grown(classifiable);
 		}
-		if (isNodeDuplicate) {
-			classifiableRecords.add(expirableTxnRecord);
+		if (isNodeDuplicate(expirableTxnRecord.getSubmittingMember())) {
+			classifiable[numClassifiable] = expirableTxnRecord;
 		} else {
+			final var i = numDuplicatesFromDifferentNodes;
+			System.arraycopy(classifiable, i, classifiable, i + 1, numClassifiable - i);
+			classifiable[i] = expirableTxnRecord;
 			numDuplicatesFromDifferentNodes++;
-			iter.add(expirableTxnRecord);
 		}
+		numClassifiable++;
 	}
 
 	private void addUnclassifiable(final ExpirableTxnRecord expirableTxnRecord) {
-		if (unclassifiableRecords == null) {
-			unclassifiableRecords = new LinkedList<>();
+		if (numUnclassifiable == unclassifiable.length) {
+			unclassifiable = grown(unclassifiable);
 		}
-		unclassifiableRecords.add(expirableTxnRecord);
+		unclassifiable[numUnclassifiable++] = expirableTxnRecord;
 	}
 
-	private boolean areForgotten(final List<ExpirableTxnRecord> records) {
-		return records == null || records.isEmpty();
-	}
-
-	private void forgetFromUnclassifiableList(final long now) {
-		final var size = unclassifiableRecords.size();
-		if (size > 1) {
-			unclassifiableRecords.removeIf(expirableTxnRecord -> expirableTxnRecord.getExpiry() <= now);
-		} else if (size == 1) {
-			final var onlyRecord = unclassifiableRecords.get(0);
-			if (onlyRecord.getExpiry() <= now) {
-				unclassifiableRecords.clear();
+	private void forgetFromClassifiable(final long now) {
+		var discardedDuplicatesFromDifferentNodes = 0;
+		for (int i = 0; i < numDuplicatesFromDifferentNodes; i++) {
+			if (classifiable[i].getExpiry() <= now) {
+				discardedDuplicatesFromDifferentNodes++;
 			}
 		}
+		numClassifiable = compactUnexpired(classifiable, numClassifiable, now);
+		numDuplicatesFromDifferentNodes -= discardedDuplicatesFromDifferentNodes;
 	}
 
-	private void forgetFromClassifiableList(final long now) {
-		final var size = classifiableRecords.size();
-		if (size > 1) {
-			final var iter = classifiableRecords.iterator();
-			var discardedDuplicatesFromDifferentNodes = 0;
-			for (int i = 0; iter.hasNext(); i++) {
-				final var nextRecord = iter.next();
-				if (nextRecord.getExpiry() <= now) {
-					iter.remove();
-					if (i < numDuplicatesFromDifferentNodes) {
-						discardedDuplicatesFromDifferentNodes++;
-					}
-				}
-			}
-			numDuplicatesFromDifferentNodes -= discardedDuplicatesFromDifferentNodes;
-		} else if (size == 1) {
-			final var onlyRecord = classifiableRecords.get(0);
-			if (onlyRecord.getExpiry() <= now) {
-				classifiableRecords.clear();
-				numDuplicatesFromDifferentNodes = 0;
+	/**
+	 * Moves the unexpired records among the first {@code n} slots to the front of the array, keeping
+	 * their relative order, and clears the vacated slots.
+	 *
+	 * @return the number of unexpired records
+	 */
+	private static int compactUnexpired(final ExpirableTxnRecord[] records, final int n, final long now) {
+		int kept = 0;
+		for (int i = 0; i < n; i++) {
+			final var expirableTxnRecord = records[i];
+			if (expirableTxnRecord.getExpiry() > now) {
+				records[kept++] = expirableTxnRecord;
 			}
 		}
+		Arrays.fill(records, kept, n, null);
+		return kept;
+	}
+
+	private static ExpirableTxnRecord[] grown(final ExpirableTxnRecord[] records) {
+		return Arrays.copyOf(records, Math.max(1, 2 * records.length));
+	}
+
+	/* --- Only used by unit tests --- */
+	List<ExpirableTxnRecord> classifiableRecords() {
+		return List.of(Arrays.copyOf(classifiable, numClassifiable));
+	}
+
+	List<ExpirableTxnRecord> unclassifiableRecords() {
+		return List.of(Arrays.copyOf(unclassifiable, numUnclassifiable));
 	}
 }
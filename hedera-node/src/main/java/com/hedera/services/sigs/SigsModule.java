@@ -26,6 +26,7 @@ import com.hedera.services.keys.HederaKeyActivation;
 import com.hedera.services.keys.OnlyIfSigVerifiableValid;
 import com.hedera.services.ledger.accounts.AliasManager;
 import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.sigs.annotations.PrecheckSigVerifier;
 import com.hedera.services.sigs.annotations.WorkingStateSigReqs;
 import com.hedera.services.sigs.metadata.StateChildrenSigMetadataLookup;
 import com.hedera.services.sigs.metadata.TokenMetaUtils;
@@ -33,6 +34,7 @@ import com.hedera.services.sigs.order.PolicyBasedSigWaivers;
 import com.hedera.services.sigs.order.SigRequirements;
 import com.hedera.services.sigs.order.SignatureWaivers;
 import com.hedera.services.sigs.utils.PrecheckUtils;
+import com.hedera.services.sigs.verification.BatchSigVerifier;
 import com.hedera.services.sigs.verification.SyncVerifier;
 import com.hedera.services.state.StateAccessor;
 import com.hedera.services.state.annotations.WorkingState;
@@ -63,6 +65,11 @@ public abstract class SigsModule {
 		return platform.getCryptography()::verifySync;
 	}
 
+	@Binds
+	@Singleton
+	@PrecheckSigVerifier
+	public abstract SyncVerifier providePrecheckSigVerifier(BatchSigVerifier batchSigVerifier);
+
 	@Provides
 	@Singleton
 	public static BiPredicate<JKey, TransactionSignature> provideValidityTest(SyncVerifier syncVerifier) {
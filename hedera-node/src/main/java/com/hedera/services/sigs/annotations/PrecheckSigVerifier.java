@@ -1,4 +1,4 @@
-package com.hedera.services.state.exports;
+package com.hedera.services.sigs.annotations;
 
 /*-
  * ‌
@@ -20,6 +20,15 @@ package com.hedera.services.state.exports;
  * ‍
  */
 
-public interface FileHashReader {
-	byte[] readHash(String targetLoc);
+import javax.inject.Qualifier;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+@Target({ ElementType.METHOD, ElementType.PARAMETER })
+@Qualifier
+@Retention(RUNTIME)
+public @interface PrecheckSigVerifier {
 }
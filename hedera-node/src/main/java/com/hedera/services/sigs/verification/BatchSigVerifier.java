@@ -0,0 +1,239 @@
+package com.hedera.services.sigs.verification;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.swirlds.common.crypto.TransactionSignature;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * A {@link SyncVerifier} that verifies the signatures of many concurrent callers together. Each call to
+ * {@link BatchSigVerifier#verifySync(List)} enqueues its signatures and waits for them; a pool of
+ * {@code precheck.sigVerification.threads} workers drains the queue, and each worker verifies everything it
+ * drained (up to {@code precheck.sigVerification.maxBatchSize} signatures) with a single call to the platform
+ * verifier, which can then verify same-type signatures as a batch. If that call fails, the worker verifies
+ * the signatures of each caller separately, so one caller's failure does not fail the others.
+ *
+ * A caller waits at most {@code precheck.sigVerification.maxWaitMs} for a worker to take its signatures; if
+ * they are still queued by then, or the workers were shut down, the caller takes them back and verifies them on
+ * the calling thread. Once a worker has taken a caller's signatures, the caller waits for that worker to finish
+ * with them, so the same {@link TransactionSignature} is never verified by two threads at once; only if the
+ * worker failed does the caller then verify them itself.
+ *
+ * With zero threads, every call is verified directly on the calling thread.
+ */
+@Singleton
+public class BatchSigVerifier implements SyncVerifier {
+	private static final Logger log = LogManager.getLogger(BatchSigVerifier.class);
+
+	static final long IDLE_PARK_MS = 100L;
+
+	private final int maxBatchSize;
+	private final long maxWaitMs;
+	private final SyncVerifier delegate;
+	private final AtomicBoolean timeToStop = new AtomicBoolean(false);
+	private final ExecutorService executor;
+	private final BlockingQueue<PendingVerification> queue = new LinkedBlockingQueue<>();
+
+	@Inject
+	public BatchSigVerifier(SyncVerifier delegate, NodeLocalProperties properties) {
+		this.delegate = delegate;
+		this.maxBatchSize = properties.precheckSigVerificationMaxBatchSize();
+		this.maxWaitMs = properties.precheckSigVerificationMaxWaitMs();
+
+		final var numThreads = properties.precheckSigVerificationThreads();
+		if (numThreads > 0) {
+			final var nextId = new AtomicInteger();
+			executor = newFixedThreadPool(numThreads, runnable -> {
+				final var thread = new Thread(runnable, "batch-sig-verifier-" + nextId.getAndIncrement());
+				thread.setDaemon(true);
+				return thread;
+			});
+			for (int i = 0; i < numThreads; i++) {
+				executor.execute(this::verifyBatches);
+			}
+			Runtime.getRuntime().addShutdownHook(new Thread(getShutdownHook()));
+			log.info("Verifying precheck signatures in batches of up to {} on {} threads", maxBatchSize, numThreads);
+		} else {
+			executor = null;
+		}
+	}
+
+	@Override
+	public void verifySync(final List<TransactionSignature> unknownSigs) {
+		if (unknownSigs.isEmpty()) {
+			return;
+		}
+		if (executor != null && !timeToStop.get()) {
+			final var pending = enqueue(unknownSigs);
+			if (awaitBatch(pending)) {
+				return;
+			}
+			if (!queue.remove(pending) && awaitWorker(pending)) {
+				return;
+			}
+		}
+		delegate.verifySync(unknownSigs);
+	}
+
+	private PendingVerification enqueue(final List<TransactionSignature> unknownSigs) {
+		final var pending = new PendingVerification(unknownSigs);
+		queue.add(pending);
+		if (timeToStop.get()) {
+			/* The shutdown hook may have drained the queue just before we added to it */
+			failQueued();
+		}
+		return pending;
+	}
+
+	private boolean awaitBatch(final PendingVerification pending) {
+		try {
+			pending.future.get(maxWaitMs, MILLISECONDS);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException | TimeoutException e) {
+			log.debug("Verifying {} signatures on the calling thread", pending.sigs.size(), e);
+		}
+		return false;
+	}
+
+	/* A worker already took these sigs, and always completes their future once it is done with them */
+	private static boolean awaitWorker(final PendingVerification pending) {
+		try {
+			pending.future.join();
+			return true;
+		} catch (CompletionException | CancellationException e) {
+			return false;
+		}
+	}
+
+	private void verifyBatches() {
+		final List<PendingVerification> drained = new ArrayList<>();
+		final List<TransactionSignature> batch = new ArrayList<>(maxBatchSize);
+		try {
+			while (!timeToStop.get()) {
+				final var first = queue.poll(IDLE_PARK_MS, MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				drained.add(first);
+				batch.addAll(first.sigs);
+				PendingVerification next;
+				while (batch.size() < maxBatchSize && (next = queue.poll()) != null) {
+					drained.add(next);
+					batch.addAll(next.sigs);
+				}
+				verify(batch, drained);
+				batch.clear();
+				drained.clear();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			failEach(drained, shutDownFailure());
+		}
+	}
+
+	private void verify(final List<TransactionSignature> batch, final List<PendingVerification> drained) {
+		try {
+			delegate.verifySync(batch);
+			drained.forEach(pending -> pending.future.complete(null));
+		} catch (Throwable failure) {
+			log.warn("Unable to verify a batch of {} signatures", batch.size(), failure);
+			if (drained.size() == 1) {
+				drained.get(0).future.completeExceptionally(failure);
+			} else {
+				drained.forEach(this::verifySeparately);
+			}
+		}
+	}
+
+	private void verifySeparately(final PendingVerification pending) {
+		try {
+			delegate.verifySync(pending.sigs);
+			pending.future.complete(null);
+		} catch (Throwable failure) {
+			pending.future.completeExceptionally(failure);
+		}
+	}
+
+	private void failQueued() {
+		final List<PendingVerification> abandoned = new ArrayList<>();
+		queue.drainTo(abandoned);
+		failEach(abandoned, shutDownFailure());
+	}
+
+	private static void failEach(final List<PendingVerification> pendings, final Throwable failure) {
+		pendings.forEach(pending -> pending.future.completeExceptionally(failure));
+	}
+
+	private static IllegalStateException shutDownFailure() {
+		return new IllegalStateException("Batch signature verification is shut down");
+	}
+
+	Runnable getShutdownHook() {
+		return () -> {
+			timeToStop.set(true);
+			if (executor != null) {
+				executor.shutdownNow();
+				failQueued();
+			}
+		};
+	}
+
+	private static class PendingVerification {
+		private final List<TransactionSignature> sigs;
+		private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+		private PendingVerification(final List<TransactionSignature> sigs) {
+			this.sigs = sigs;
+		}
+	}
+
+	/* --- Only used by unit tests --- */
+	ExecutorService getExecutor() {
+		return executor;
+	}
+
+	int numQueued() {
+		return queue.size();
+	}
+}
@@ -22,6 +22,7 @@ package com.hedera.services.sigs.verification;
 
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.sigs.PlatformSigsCreationResult;
+import com.hedera.services.sigs.annotations.PrecheckSigVerifier;
 import com.hedera.services.sigs.factories.ReusableBodySigningFactory;
 import com.hedera.services.utils.SignedTxnAccessor;
 import com.swirlds.common.crypto.TransactionSignature;
@@ -44,7 +45,9 @@ import static com.hedera.services.sigs.PlatformSigOps.createCryptoSigsFrom;
  *    <li>CryptoTransfer transactions identified as query payments must
  *    have valid signatures for all referenced accounts.</li>
  * </ul>
- * Note that this component verifies cryptographic signatures synchronously.
+ * Note that this component waits for its cryptographic signatures to be verified; but
+ * with {@code precheck.sigVerification.threads} set, they are verified in batches with
+ * those of other in-flight prechecks (see {@link BatchSigVerifier}).
  */
 @Singleton
 public class PrecheckVerifier {
@@ -52,7 +55,7 @@ public class PrecheckVerifier {
 	private final PrecheckKeyReqs precheckKeyReqs;
 
 	@Inject
-	public PrecheckVerifier(SyncVerifier syncVerifier, PrecheckKeyReqs precheckKeyReqs) {
+	public PrecheckVerifier(@PrecheckSigVerifier SyncVerifier syncVerifier, PrecheckKeyReqs precheckKeyReqs) {
 		this.syncVerifier = syncVerifier;
 		this.precheckKeyReqs = precheckKeyReqs;
 	}
@@ -0,0 +1,86 @@
+package com.hedera.services.state;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.ServicesState;
+import com.hedera.services.context.StateChildren;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A reference-counted hold on an immutable {@link ServicesState} (in our usage, always the latest
+ * signed state) and its children.
+ *
+ * While any holder has not yet released its reference, this class holds an extra platform reference
+ * on the state, so the platform cannot release the state's {@code MerkleMap}s out from under a
+ * query. The {@link StateAccessor} that pins a state owns the first reference, and releases it when
+ * a newer signed state replaces this one; each reader that successfully calls {@link PinnedState#tryRetain()}
+ * owns one more reference, and must {@link PinnedState#release()} it when done. When the count reaches
+ * zero, the platform reference is dropped and the pin can never be retained again.
+ */
+public final class PinnedState {
+	private final ServicesState state;
+	private final StateChildren children;
+	private final AtomicInteger refCount = new AtomicInteger(1);
+
+	PinnedState(final ServicesState state, final StateChildren children) {
+		this.state = state;
+		this.children = children;
+		state.incrementReferenceCount();
+	}
+
+	/**
+	 * Tries to take one more reference on the pinned state.
+	 *
+	 * @return whether the reference was taken; false if the pin was already fully released
+	 */
+	public boolean tryRetain() {
+		while (true) {
+			final var count = refCount.get();
+			if (count == 0) {
+				return false;
+			}
+			if (refCount.compareAndSet(count, count + 1)) {
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Releases one reference on the pinned state, dropping the platform reference with the last one.
+	 */
+	public void release() {
+		final var count = refCount.decrementAndGet();
+		if (count == 0) {
+			state.decrementReferenceCount();
+		} else if (count < 0) {
+			throw new IllegalStateException("Pinned state released more times than it was retained");
+		}
+	}
+
+	public StateChildren children() {
+		return children;
+	}
+
+	int refCount() {
+		return refCount.get();
+	}
+}
@@ -44,6 +44,7 @@ import java.time.Instant;
 
 public class StateAccessor {
 	private volatile StateChildren children = new MutableStateChildren();
+	private volatile PinnedState pinned = null;
 
 	public StateAccessor() {
 		/* No-op */
@@ -73,13 +74,22 @@ public class StateAccessor {
 
 	/**
 	 * Replaces this accessor's state children references with new references from given state
-	 * (which in our usage will always be the latest signed state).
+	 * (which in our usage will always be the latest signed state); and, if requested, pins that state
+	 * so readers can {@link StateAccessor#pinLatest()} it. The previously pinned state, if any, is
+	 * released once its last reader is done with it.
+	 *
+	 * <b>NOTE:</b> This method must only be called from one thread at a time (in our usage, the
+	 * platform thread that delivers new signed states).
 	 *
 	 * @param state
 	 * 		the latest signed state to replace children from
+	 * @param signedAt
+	 * 		the consensus time at which the state was signed
+	 * @param pin
+	 * 		whether to pin the state for readers (in our usage, if {@code queries.useLatestSignedState} is set)
 	 */
-	public void replaceChildrenFrom(final ServicesState state, final Instant signedAt) {
-		children = new ImmutableStateChildren(
+	public void replaceChildrenFrom(final ServicesState state, final Instant signedAt, final boolean pin) {
+		final var newChildren = new ImmutableStateChildren(
 				state.accounts(),
 				state.topics(),
 				state.tokens(),
@@ -95,6 +105,32 @@ public class StateAccessor {
 				state.specialFiles(),
 				state.runningHashLeaf(),
 				signedAt);
+		final var newPin = pin ? new PinnedState(state, newChildren) : null;
+		final var oldPin = pinned;
+		children = newChildren;
+		pinned = newPin;
+		if (oldPin != null) {
+			oldPin.release();
+		}
+	}
+
+	/**
+	 * Returns a retained reference to the most recently pinned state, which the caller must
+	 * {@link PinnedState#release()} when done; or null if no state has been pinned yet.
+	 *
+	 * @return the retained latest pinned state, if any
+	 */
+	public PinnedState pinLatest() {
+		while (true) {
+			final var latest = pinned;
+			if (latest == null) {
+				return null;
+			}
+			if (latest.tryRetain()) {
+				return latest;
+			}
+			/* A newer state was pinned and this one fully released after we read it; try again */
+		}
 	}
 
 	public MerkleMap<EntityNum, MerkleAccount> accounts() {
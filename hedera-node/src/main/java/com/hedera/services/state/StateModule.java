@@ -31,6 +31,7 @@ import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.state.annotations.LatestSignedState;
 import com.hedera.services.state.annotations.NftsByOwner;
 import com.hedera.services.state.annotations.NftsByType;
+import com.hedera.services.state.annotations.QueryStateViews;
 import com.hedera.services.state.annotations.TreasuryNftsByType;
 import com.hedera.services.state.annotations.WorkingState;
 import com.hedera.services.state.expiry.ExpiringCreations;
@@ -213,6 +214,38 @@ public abstract class StateModule {
 				uniqTokenViewFactory);
 	}
 
+	@Provides
+	@Singleton
+	@QueryStateViews
+	public static Supplier<StateView> provideQueryStateViews(
+			TokenStore tokenStore,
+			ScheduleStore scheduleStore,
+			NodeLocalProperties nodeLocalProperties,
+			UniqTokenViewFactory uniqTokenViewFactory,
+			@WorkingState StateAccessor workingState,
+			@LatestSignedState StateAccessor latestSignedState
+	) {
+		return () -> {
+			if (nodeLocalProperties.shouldQueriesUseLatestSignedState()) {
+				final var pinned = latestSignedState.pinLatest();
+				if (pinned != null) {
+					return StateView.pinnedTo(
+							pinned,
+							tokenStore,
+							scheduleStore,
+							nodeLocalProperties,
+							uniqTokenViewFactory);
+				}
+			}
+			return new StateView(
+					tokenStore,
+					scheduleStore,
+					nodeLocalProperties,
+					workingState.children(),
+					uniqTokenViewFactory);
+		};
+	}
+
 	@Provides
 	@Singleton
 	@WorkingState
@@ -1,4 +1,4 @@
-package com.hedera.services.state.exports;
+package com.hedera.services.state.annotations;
 
 /*-
  * ‌
@@ -20,10 +20,15 @@ package com.hedera.services.state.exports;
  * ‍
  */
 
-import com.hedera.services.stream.proto.SingleAccountBalances;
+import javax.inject.Qualifier;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
 
-import java.math.BigInteger;
-import java.util.List;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
 
-public record BalancesSummary(BigInteger totalFloat, List<SingleAccountBalances> orderedBalances) {
+@Target({ ElementType.METHOD, ElementType.PARAMETER })
+@Qualifier
+@Retention(RUNTIME)
+public @interface QueryStateViews {
 }
@@ -22,6 +22,7 @@ package com.hedera.services.state.expiry;
 
 import com.hedera.services.config.HederaNumbers;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.state.expiry.renewal.ExpiryOrderedAccounts;
 import com.hedera.services.state.expiry.renewal.RenewalProcess;
 import com.hedera.services.state.logic.NetworkCtxManager;
 import com.hedera.services.state.merkle.MerkleNetworkContext;
@@ -34,12 +35,20 @@ import javax.inject.Singleton;
 import java.time.Instant;
 import java.util.function.Supplier;
 
+import static com.hedera.services.state.expiry.renewal.ExpiryOrderedAccounts.NO_DUE_ACCOUNT;
+
+/**
+ * Renews or removes expired accounts, a few at a time after each consensus transaction. Only accounts that are due
+ * (as found by {@link ExpiryOrderedAccounts}) are visited, in entity number order starting after the last entity
+ * visited and wrapping around; and each call visits every due account at most once.
+ */
 @Singleton
 public class EntityAutoRenewal {
 	private static final Logger log = LogManager.getLogger(EntityAutoRenewal.class);
 
 	private final long firstEntityToScan;
 	private final RenewalProcess renewalProcess;
+	private final ExpiryOrderedAccounts expiryOrderedAccounts;
 	private final NetworkCtxManager networkCtxManager;
 	private final GlobalDynamicProperties dynamicProps;
 	private final Supplier<MerkleNetworkContext> networkCtx;
@@ -49,6 +58,7 @@ public class EntityAutoRenewal {
 	public EntityAutoRenewal(
 			HederaNumbers hederaNumbers,
 			RenewalProcess renewalProcess,
+			ExpiryOrderedAccounts expiryOrderedAccounts,
 			GlobalDynamicProperties dynamicProps,
 			NetworkCtxManager networkCtxManager,
 			Supplier<MerkleNetworkContext> networkCtx,
@@ -58,6 +68,7 @@ public class EntityAutoRenewal {
 		this.networkCtx = networkCtx;
 		this.networkCtxManager = networkCtxManager;
 		this.renewalProcess = renewalProcess;
+		this.expiryOrderedAccounts = expiryOrderedAccounts;
 		this.dynamicProps = dynamicProps;
 
 		this.firstEntityToScan = hederaNumbers.numReservedSystemEntities() + 1;
@@ -81,31 +92,47 @@ public class EntityAutoRenewal {
 			curNetworkCtx.clearAutoRenewSummaryCounts();
 		}
 
+		final long now = instantNow.getEpochSecond();
+		expiryOrderedAccounts.markDueAt(now);
+
 		renewalProcess.beginRenewalCycle(instantNow);
 
-		int i = 1, entitiesTouched = 0;
-		long scanNum = curNetworkCtx.lastScannedEntity();
+		int entitiesScanned = 0, entitiesTouched = 0;
+		final long lapEnd = curNetworkCtx.lastScannedEntity();
+		long scanNum = lapEnd, lastScanned = lapEnd;
+		boolean wrapped = false;
 
-		log.debug("Auto-renew scan beginning at {}, wrapping at {}", scanNum, wrapNum);
-		for (; i <= maxEntitiesToScan; i++) {
-			scanNum++;
-			if (scanNum >= wrapNum) {
-				scanNum = firstEntityToScan;
+		log.debug("Auto-renew scan beginning after {}", lapEnd);
+		while (entitiesScanned < maxEntitiesToScan && entitiesTouched < maxEntitiesToTouch) {
+			final long nextNum = expiryOrderedAccounts.nextDueAfter(scanNum);
+			if (nextNum == NO_DUE_ACCOUNT) {
+				break;
 			}
-			if (renewalProcess.process(scanNum)) {
-				entitiesTouched++;
+			if (nextNum <= scanNum) {
+				if (wrapped) {
+					break;
+				}
+				wrapped = true;
 			}
-			if (entitiesTouched >= maxEntitiesToTouch) {
-				/* Allow consistent calculation of num scanned below. */
-				i++;
+			if (wrapped && nextNum > lapEnd) {
 				break;
 			}
+			scanNum = nextNum;
+			/* Accounts renewed or extended since being marked due don't count against the scan budget */
+			if (!expiryOrderedAccounts.confirmDue(scanNum, now)) {
+				continue;
+			}
+			entitiesScanned++;
+			lastScanned = scanNum;
+			if (renewalProcess.process(scanNum)) {
+				entitiesTouched++;
+			}
 		}
 		renewalProcess.endRenewalCycle();
-		curNetworkCtx.updateAutoRenewSummaryCounts(i - 1, entitiesTouched);
-		curNetworkCtx.updateLastScannedEntity(scanNum);
+		curNetworkCtx.updateAutoRenewSummaryCounts(entitiesScanned, entitiesTouched);
+		curNetworkCtx.updateLastScannedEntity(lastScanned);
 		log.debug("Auto-renew scan finished at {} with {}/{} scanned/touched (Total this second: {}/{})",
-				scanNum, i - 1, entitiesTouched,
+				lastScanned, entitiesScanned, entitiesTouched,
 				curNetworkCtx.getEntitiesScannedThisSecond(), curNetworkCtx.getEntitiesTouchedThisSecond());
 	}
 }
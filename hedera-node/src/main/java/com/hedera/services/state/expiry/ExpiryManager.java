@@ -22,6 +22,7 @@ package com.hedera.services.state.expiry;
 
 import com.hedera.services.config.HederaNumbers;
 import com.hedera.services.ledger.SigImpactHistorian;
+import com.hedera.services.records.TxnIdKey;
 import com.hedera.services.records.TxnIdRecentHistory;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleSchedule;
@@ -37,19 +38,14 @@ import org.apache.commons.lang3.tuple.Pair;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import java.util.AbstractMap;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import static com.hedera.services.utils.MiscUtils.forEach;
-import static java.util.Comparator.comparing;
 
 /**
- * Manager of two queues of expiration events---one for payer records, one for schedule entities.
+ * Manager of two timing wheels of expiration events---one for payer records, one for schedule entities.
  *
  * There are two management responsibilities:
  * <ol>
@@ -59,34 +55,28 @@ import static java.util.Comparator.comparing;
  */
 @Singleton
 public class ExpiryManager {
-	/* Since the key in Pair<Long, Consumer<EntityId>> is the schedule entity number---and
-	entity numbers are unique---the downstream comparator below will guarantee a fixed
-	ordering for ExpiryEvents with the same expiry. The reason for different scheduled entities having
-	the same expiry is that we round expiration times to a consensus second. */
-	private static final Comparator<ExpiryEvent<Pair<Long, Consumer<EntityId>>>> PQ_CMP = Comparator
-			.comparingLong(ExpiryEvent<Pair<Long, Consumer<EntityId>>>::expiry)
-			.thenComparingLong(ee -> ee.id().getKey());
-
 	private final long shard;
 	private final long realm;
 
 	private final ScheduleStore scheduleStore;
 	private final SigImpactHistorian sigImpactHistorian;
-	private final Map<TransactionID, TxnIdRecentHistory> txnHistories;
+	private final Map<TxnIdKey, TxnIdRecentHistory> txnHistories;
 	private final Supplier<MerkleMap<EntityNum, MerkleAccount>> accounts;
 	private final Supplier<MerkleMap<EntityNum, MerkleSchedule>> schedules;
 
-	private final MonotonicFullQueueExpiries<Long> payerRecordExpiries =
-			new MonotonicFullQueueExpiries<>();
-	private final PriorityQueueExpiries<Pair<Long, Consumer<EntityId>>> shortLivedEntityExpiries =
-			new PriorityQueueExpiries<>(PQ_CMP);
+	/* Both wheels expire events with the same expiry in the order they were tracked; and since a
+	rebuild from state tracks events in (expiry, entity number) order, this gives a fixed ordering
+	for events with the same expiry. The reason for different entities having the same expiry is
+	that we round expiration times to a consensus second. */
+	private final TimingWheelExpiries<Void> payerRecordExpiries = new TimingWheelExpiries<>();
+	private final TimingWheelExpiries<Consumer<EntityId>> shortLivedEntityExpiries = new TimingWheelExpiries<>();
 
 	@Inject
 	public ExpiryManager(
 			final ScheduleStore scheduleStore,
 			final HederaNumbers hederaNums,
 			final SigImpactHistorian sigImpactHistorian,
-			final Map<TransactionID, TxnIdRecentHistory> txnHistories,
+			final Map<TxnIdKey, TxnIdRecentHistory> txnHistories,
 			final Supplier<MerkleMap<EntityNum, MerkleAccount>> accounts,
 			final Supplier<MerkleMap<EntityNum, MerkleSchedule>> schedules
 	) {
@@ -120,7 +110,7 @@ public class ExpiryManager {
 	 * 		the earliest consensus second at which it should fire
 	 */
 	public void trackExpirationEvent(final Pair<Long, Consumer<EntityId>> event, final long expiry) {
-		shortLivedEntityExpiries.track(event, expiry);
+		shortLivedEntityExpiries.track(event.getKey(), event.getValue(), expiry);
 	}
 
 	/**
@@ -134,14 +124,12 @@ public class ExpiryManager {
 	 */
 	public void reviewExistingPayerRecords() {
 		txnHistories.clear();
-		payerRecordExpiries.reset();
 
-		final var _payerExpiries = new ArrayList<Map.Entry<Long, Long>>();
+		final var payerExpiries = new TimingWheelExpiries.Staging();
 		final var currentAccounts = accounts.get();
 		forEach(currentAccounts, (id, account) ->
-				stageExpiringRecords(id.longValue(), account.records(), _payerExpiries));
-		_payerExpiries.sort(comparing(Map.Entry<Long, Long>::getValue).thenComparing(Map.Entry::getKey));
-		_payerExpiries.forEach(entry -> payerRecordExpiries.track(entry.getKey(), entry.getValue()));
+				stageExpiringRecords(id.longValue(), account.records(), payerExpiries));
+		payerRecordExpiries.rebuildFrom(payerExpiries, null);
 
 		txnHistories.values().forEach(TxnIdRecentHistory::observeStaged);
 	}
@@ -155,19 +143,12 @@ public class ExpiryManager {
 	 * current {@code schedules} FCM and enqueue their expiration events.
 	 */
 	public void reviewExistingShortLivedEntities() {
-		shortLivedEntityExpiries.reset();
-
-		final var _shortLivedEntityExpiries = new ArrayList<Map.Entry<Pair<Long, Consumer<EntityId>>, Long>>();
+		final var scheduleExpiries = new TimingWheelExpiries.Staging();
 		final var currentSchedules = schedules.get();
-		forEach(currentSchedules, (id, schedule) -> {
-			final Consumer<EntityId> consumer = scheduleStore::expire;
-			final var pair = Pair.of(id.longValue(), consumer);
-			_shortLivedEntityExpiries.add(new AbstractMap.SimpleImmutableEntry<>(pair, schedule.expiry()));
-		});
+		forEach(currentSchedules, (id, schedule) -> scheduleExpiries.add(id.longValue(), schedule.expiry()));
 
-		_shortLivedEntityExpiries.sort(comparing(Map.Entry<Pair<Long, Consumer<EntityId>>, Long>::getValue).
-				thenComparing(entry -> entry.getKey().getKey()));
-		_shortLivedEntityExpiries.forEach(entry -> shortLivedEntityExpiries.track(entry.getKey(), entry.getValue()));
+		final Consumer<EntityId> consumer = scheduleStore::expire;
+		shortLivedEntityExpiries.rebuildFrom(scheduleExpiries, consumer);
 	}
 
 	void trackRecordInState(final AccountID owner, final long expiry) {
@@ -176,20 +157,18 @@ public class ExpiryManager {
 
 	private void purgeExpiredRecordsAt(final long now) {
 		final var currentAccounts = accounts.get();
-		while (payerRecordExpiries.hasExpiringAt(now)) {
-			final var key = EntityNum.fromLong(payerRecordExpiries.expireNextAt(now));
-
-			final var mutableAccount = currentAccounts.getForModify(key);
+		payerRecordExpiries.expireAllAt(now, (num, ignore) -> {
+			final var mutableAccount = currentAccounts.getForModify(EntityNum.fromLong(num));
 			final var mutableRecords = mutableAccount.records();
 			purgeExpiredFrom(mutableRecords, now);
-		}
+		});
 	}
 
 	private void purgeExpiredFrom(final FCQueue<ExpirableTxnRecord> records, final long now) {
 		ExpirableTxnRecord nextRecord;
 		while ((nextRecord = records.peek()) != null && nextRecord.getExpiry() <= now) {
 			nextRecord = records.poll();
-			final var txnId = nextRecord.getTxnId().toGrpc();
+			final var txnId = TxnIdKey.from(nextRecord.getTxnId());
 			final var history = txnHistories.get(txnId);
 			if (history != null) {
 				history.forgetExpiredAt(now);
@@ -201,32 +180,30 @@ public class ExpiryManager {
 	}
 
 	private void purgeExpiredShortLivedEntities(final long now) {
-		while (shortLivedEntityExpiries.hasExpiringAt(now)) {
-			final var current = shortLivedEntityExpiries.expireNextAt(now);
-			final var expiredNum = (long) current.getKey();
-			current.getValue().accept(entityWith(expiredNum));
+		shortLivedEntityExpiries.expireAllAt(now, (expiredNum, consumer) -> {
+			consumer.accept(entityWith(expiredNum));
 			sigImpactHistorian.markEntityChanged(expiredNum);
-		}
+		});
 	}
 
 	private void stageExpiringRecords(
-			final Long num,
+			final long num,
 			final FCQueue<ExpirableTxnRecord> records,
-			final List<Map.Entry<Long, Long>> expiries
+			final TimingWheelExpiries.Staging expiries
 	) {
 		long lastAdded = -1;
 		for (final var expirableTxnRecord : records) {
 			stage(expirableTxnRecord);
 			final var expiry = expirableTxnRecord.getExpiry();
 			if (expiry != lastAdded) {
-				expiries.add(new AbstractMap.SimpleImmutableEntry<>(num, expiry));
+				expiries.add(num, expiry);
 				lastAdded = expiry;
 			}
 		}
 	}
 
 	private void stage(final ExpirableTxnRecord expirableTxnRecord) {
-		final var txnId = expirableTxnRecord.getTxnId().toGrpc();
+		final var txnId = TxnIdKey.from(expirableTxnRecord.getTxnId());
 		txnHistories.computeIfAbsent(txnId, ignore -> new TxnIdRecentHistory()).stage(expirableTxnRecord);
 	}
 
@@ -234,7 +211,11 @@ public class ExpiryManager {
 		return new EntityId(shard, realm, num);
 	}
 
-	PriorityQueueExpiries<Pair<Long, Consumer<EntityId>>> getShortLivedEntityExpiries() {
+	TimingWheelExpiries<Void> getPayerRecordExpiries() {
+		return payerRecordExpiries;
+	}
+
+	TimingWheelExpiries<Consumer<EntityId>> getShortLivedEntityExpiries() {
 		return shortLivedEntityExpiries;
 	}
 }
@@ -0,0 +1,350 @@
+package com.hedera.services.state.expiry;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/**
+ * A second-granularity timing wheel of expiration events keyed by primitive {@code long} ids,
+ * each with an optional payload.
+ *
+ * The wheel has a fixed number of slots (a power of two), one per consensus second in the
+ * window {@code [base, base + numSlots)}, where {@code base} is the first second not yet purged.
+ * Tracking an event in the window appends it to its second's slot; an event beyond the window
+ * goes to an unordered overflow list, and is cascaded into the wheel as soon as its second
+ * enters the window. So both {@link TimingWheelExpiries#track(long, Object, long)} and the
+ * per-second work of {@link TimingWheelExpiries#expireAllAt(long, ExpiryAction)} are O(1), and
+ * a purge with nothing tracked costs nothing.
+ *
+ * Events expiring in the same second are expired in the order they were tracked; and events
+ * tracked with an expiry that has already been purged are expired at the next purge.
+ *
+ * On restart or reconnect, {@link TimingWheelExpiries#rebuildFrom(Staging, Object)} sorts the
+ * staged events by {@code (expiry, id)} using a parallel sort of primitive arrays.
+ *
+ * @param <T> the type of the (optional) event payloads
+ */
+public class TimingWheelExpiries<T> {
+	static final int DEFAULT_NUM_SLOTS = 1 << 12;
+
+	private static final int INITIAL_BUCKET_CAPACITY = 4;
+	private static final long UNSET = Long.MIN_VALUE;
+	private static final long MAX_PACKED_ID = 0xFFFF_FFFFL;
+	private static final long MAX_PACKED_SPAN = Integer.MAX_VALUE;
+
+	@FunctionalInterface
+	public interface ExpiryAction<T> {
+		void expire(long id, T payload);
+	}
+
+	private final int mask;
+	private final int numSlots;
+	private final int[] slotSizes;
+	private final long[][] slotIds;
+	private final Object[][] slotPayloads;
+
+	private long base = UNSET;
+	private boolean purgedOnce = false;
+	private int wheelSize = 0;
+
+	private int overflowSize = 0;
+	private long overflowMin = Long.MAX_VALUE;
+	private long[] overflowIds = new long[INITIAL_BUCKET_CAPACITY];
+	private long[] overflowExpiries = new long[INITIAL_BUCKET_CAPACITY];
+	private Object[] overflowPayloads = new Object[INITIAL_BUCKET_CAPACITY];
+
+	public TimingWheelExpiries() {
+		this(DEFAULT_NUM_SLOTS);
+	}
+
+	TimingWheelExpiries(final int numSlots) {
+		if (numSlots <= 0 || Integer.bitCount(numSlots) != 1) {
+			throw new IllegalArgumentException("Number of slots " + numSlots + " is not a positive power of two");
+		}
+		this.numSlots = numSlots;
+		this.mask = numSlots - 1;
+		this.slotSizes = new int[numSlots];
+		this.slotIds = new long[numSlots][];
+		this.slotPayloads = new Object[numSlots][];
+	}
+
+	public void reset() {
+		for (int i = 0; i < numSlots; i++) {
+			clearSlot(i);
+		}
+		clearOverflow();
+		base = UNSET;
+		purgedOnce = false;
+		wheelSize = 0;
+	}
+
+	public void track(final long id, final long expiry) {
+		track(id, null, expiry);
+	}
+
+	/**
+	 * Begins tracking an expiration event.
+	 *
+	 * @param id the id of the expiring entity
+	 * @param payload the event payload, if any
+	 * @param expiry the earliest consensus second at which the event should be expired
+	 */
+	public void track(final long id, final T payload, long expiry) {
+		if (base == UNSET) {
+			base = expiry;
+		} else if (expiry < base) {
+			if (purgedOnce) {
+				expiry = base;
+			} else {
+				reanchorAt(expiry);
+			}
+		}
+		if (expiry - base < numSlots) {
+			addToSlot((int) (expiry & mask), id, payload);
+		} else {
+			addToOverflow(id, payload, expiry);
+		}
+	}
+
+	/**
+	 * Expires, in order of expiry, every tracked event whose expiry is not later than the
+	 * given consensus second.
+	 *
+	 * @param now the consensus second
+	 * @param action the action to take for each expired event
+	 */
+	public void expireAllAt(final long now, final ExpiryAction<T> action) {
+		if (base == UNSET) {
+			return;
+		}
+		purgedOnce = true;
+		while (base <= now) {
+			if (wheelSize == 0) {
+				if (overflowSize == 0 || overflowMin > now) {
+					base = now + 1;
+					break;
+				}
+				base = overflowMin;
+				cascade();
+			}
+			expireSlot((int) (base & mask), action);
+			base++;
+			if (overflowSize > 0 && overflowMin - base < numSlots) {
+				cascade();
+			}
+		}
+		if (overflowSize > 0 && overflowMin - base < numSlots) {
+			cascade();
+		}
+	}
+
+	/**
+	 * Replaces all tracked events with the given staged events, all with the given payload.
+	 *
+	 * @param staged the events to track
+	 * @param payload the payload of every staged event
+	 */
+	public void rebuildFrom(final Staging staged, final T payload) {
+		reset();
+		final int n = staged.size;
+		if (n == 0) {
+			return;
+		}
+		final var ids = staged.ids;
+		final var expiries = staged.expiries;
+		long minExpiry = Long.MAX_VALUE;
+		long maxExpiry = Long.MIN_VALUE;
+		boolean packable = true;
+		for (int i = 0; i < n; i++) {
+			minExpiry = Math.min(minExpiry, expiries[i]);
+			maxExpiry = Math.max(maxExpiry, expiries[i]);
+			packable &= (ids[i] >= 0 && ids[i] <= MAX_PACKED_ID);
+		}
+		if (packable && maxExpiry - minExpiry >= 0 && maxExpiry - minExpiry <= MAX_PACKED_SPAN) {
+			final var packed = new long[n];
+			for (int i = 0; i < n; i++) {
+				packed[i] = ((expiries[i] - minExpiry) << 32) | ids[i];
+			}
+			Arrays.parallelSort(packed);
+			for (final var event : packed) {
+				track(event & MAX_PACKED_ID, payload, minExpiry + (event >>> 32));
+			}
+		} else {
+			final Comparator<Integer> byExpiryThenId = Comparator.<Integer>comparingLong(i -> expiries[i])
+					.thenComparingLong(i -> ids[i]);
+			IntStream.range(0, n)
+					.boxed()
+					.sorted(byExpiryThenId)
+					.forEachOrdered(i -> track(ids[i], payload, expiries[i]));
+		}
+	}
+
+	public int size() {
+		return wheelSize + overflowSize;
+	}
+
+	/**
+	 * A growable pair of primitive arrays used to stage events for a rebuild.
+	 */
+	public static final class Staging {
+		private int size = 0;
+		private long[] ids = new long[INITIAL_BUCKET_CAPACITY];
+		private long[] expiries = new long[INITIAL_BUCKET_CAPACITY];
+
+		public void add(final long id, final long expiry) {
+			if (size == ids.length) {
+				ids = Arrays.copyOf(ids, 2 * size);
+				expiries = Arrays.copyOf(expiries, 2 * size);
+			}
+			ids[size] = id;
+			expiries[size] = expiry;
+			size++;
+		}
+
+		public int size() {
+			return size;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void expireSlot(final int i, final ExpiryAction<T> action) {
+		int expired = 0;
+		try {
+			/* The action may track new events expiring at this second, so re-read the slot each time. */
+			while (expired < slotSizes[i]) {
+				final var payloads = slotPayloads[i];
+				final var id = slotIds[i][expired];
+				final var payload = (payloads == null) ? null : (T) payloads[expired];
+				expired++;
+				action.expire(id, payload);
+			}
+		} finally {
+			dropFirst(i, expired);
+		}
+	}
+
+	private void dropFirst(final int i, final int n) {
+		final var remaining = slotSizes[i] - n;
+		if (remaining > 0) {
+			System.arraycopy(slotIds[i], n, slotIds[i], 0, remaining);
+			if (slotPayloads[i] != null) {
+				System.arraycopy(slotPayloads[i], n, slotPayloads[i], 0, remaining);
+			}
+		}
+		if (slotPayloads[i] != null) {
+			Arrays.fill(slotPayloads[i], remaining, slotSizes[i], null);
+		}
+		slotSizes[i] = remaining;
+		wheelSize -= n;
+	}
+
+	private void addToSlot(final int i, final long id, final T payload) {
+		final var n = slotSizes[i];
+		if (slotIds[i] == null) {
+			slotIds[i] = new long[INITIAL_BUCKET_CAPACITY];
+		} else if (n == slotIds[i].length) {
+			slotIds[i] = Arrays.copyOf(slotIds[i], 2 * n);
+			if (slotPayloads[i] != null) {
+				slotPayloads[i] = Arrays.copyOf(slotPayloads[i], 2 * n);
+			}
+		}
+		slotIds[i][n] = id;
+		if (payload != null) {
+			if (slotPayloads[i] == null) {
+				slotPayloads[i] = new Object[slotIds[i].length];
+			}
+			slotPayloads[i][n] = payload;
+		}
+		slotSizes[i] = n + 1;
+		wheelSize++;
+	}
+
+	private void addToOverflow(final long id, final Object payload, final long expiry) {
+		if (overflowSize == overflowIds.length) {
+			overflowIds = Arrays.copyOf(overflowIds, 2 * overflowSize);
+			overflowExpiries = Arrays.copyOf(overflowExpiries, 2 * overflowSize);
+			overflowPayloads = Arrays.copyOf(overflowPayloads, 2 * overflowSize);
+		}
+		overflowIds[overflowSize] = id;
+		overflowExpiries[overflowSize] = expiry;
+		overflowPayloads[overflowSize] = payload;
+		overflowSize++;
+		overflowMin = Math.min(overflowMin, expiry);
+	}
+
+	/**
+	 * Moves every overflow event whose expiry is now in the window into its slot, keeping the
+	 * remaining overflow events in the order they were tracked.
+	 */
+	@SuppressWarnings("unchecked")
+	private void cascade() {
+		int kept = 0;
+		long newMin = Long.MAX_VALUE;
+		for (int j = 0; j < overflowSize; j++) {
+			final var expiry = overflowExpiries[j];
+			if (expiry - base < numSlots) {
+				addToSlot((int) (expiry & mask), overflowIds[j], (T) overflowPayloads[j]);
+			} else {
+				overflowIds[kept] = overflowIds[j];
+				overflowExpiries[kept] = expiry;
+				overflowPayloads[kept] = overflowPayloads[j];
+				newMin = Math.min(newMin, expiry);
+				kept++;
+			}
+		}
+		Arrays.fill(overflowPayloads, kept, overflowSize, null);
+		overflowSize = kept;
+		overflowMin = newMin;
+	}
+
+	/**
+	 * Moves the wheel's window to start at an earlier second. This is only possible before the
+	 * first purge, when events may be tracked in any order; every event in the wheel is spilled to
+	 * the overflow list (in order of expiry) and then cascaded back into the new window.
+	 */
+	private void reanchorAt(final long newBase) {
+		for (long second = base, end = base + numSlots; second < end; second++) {
+			final var i = (int) (second & mask);
+			for (int j = 0, n = slotSizes[i]; j < n; j++) {
+				addToOverflow(slotIds[i][j], slotPayloads[i] == null ? null : slotPayloads[i][j], second);
+			}
+			clearSlot(i);
+		}
+		wheelSize = 0;
+		base = newBase;
+		cascade();
+	}
+
+	private void clearSlot(final int i) {
+		if (slotPayloads[i] != null) {
+			Arrays.fill(slotPayloads[i], 0, slotSizes[i], null);
+		}
+		slotSizes[i] = 0;
+	}
+
+	private void clearOverflow() {
+		Arrays.fill(overflowPayloads, 0, overflowSize, null);
+		overflowSize = 0;
+		overflowMin = Long.MAX_VALUE;
+	}
+}
@@ -0,0 +1,206 @@
+package com.hedera.services.state.expiry.renewal;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.config.HederaNumbers;
+import com.hedera.services.state.expiry.ExpiryEvent;
+import com.hedera.services.state.expiry.PriorityQueueExpiries;
+import com.hedera.services.state.initialization.ViewBuilder;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.submerkle.SequenceNumber;
+import com.hedera.services.utils.EntityNum;
+import com.swirlds.merkle.map.MerkleMap;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Comparator;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+/**
+ * An in-memory index of the non-system, non-contract accounts ordered by expiry, so that auto-renewal only visits
+ * the accounts that are due at consensus time instead of scanning every entity number.
+ *
+ * The index has two parts. A priority queue holds each account with a key no later than its expiry; and a sorted
+ * set holds the numbers of the accounts known to be due. Entries are never eagerly updated when an account is
+ * extended or removed; instead, {@link #markDueAt(long)} re-queues an account at its current expiry when it finds
+ * an entry that is too early, and {@link #confirmDue(long, long)} drops a due number whose account is no longer
+ * due. So the numbers of the accounts that really are due&mdash;a pure function of the state&mdash;are visited in
+ * the same order whether this index was rebuilt on restart or has been maintained since genesis.
+ *
+ * New accounts are indexed by checking each entity number once, as the sequence number passes it.
+ *
+ * This class is <b>not</b> thread-safe; besides being rebuilt, it is only used from {@code handleTransaction}.
+ */
+@Singleton
+public class ExpiryOrderedAccounts {
+	public static final long NO_DUE_ACCOUNT = -1L;
+
+	private static final Comparator<ExpiryEvent<EntityNum>> EXPIRY_ORDER =
+			Comparator.comparingLong(ExpiryEvent::expiry);
+
+	private final long firstEntityToScan;
+	private final Supplier<SequenceNumber> seqNo;
+	private final Supplier<MerkleMap<EntityNum, MerkleAccount>> accounts;
+	private final TreeSet<Long> dueNums = new TreeSet<>();
+	private final PriorityQueueExpiries<EntityNum> expiries = new PriorityQueueExpiries<>(EXPIRY_ORDER);
+
+	private long nextNumToIndex;
+
+	@Inject
+	public ExpiryOrderedAccounts(
+			final HederaNumbers hederaNumbers,
+			final Supplier<SequenceNumber> seqNo,
+			final Supplier<MerkleMap<EntityNum, MerkleAccount>> accounts
+	) {
+		this.seqNo = seqNo;
+		this.accounts = accounts;
+
+		this.firstEntityToScan = hederaNumbers.numReservedSystemEntities() + 1;
+		this.nextNumToIndex = firstEntityToScan;
+	}
+
+	/**
+	 * Returns a builder that re-indexes every account in the state.
+	 *
+	 * @return the builder of this index
+	 */
+	public ViewBuilder<EntityNum, MerkleAccount> expiriesBuilder() {
+		return new ViewBuilder<>() {
+			private long maxNum;
+
+			@Override
+			public void start() {
+				maxNum = firstEntityToScan - 1;
+				dueNums.clear();
+				expiries.reset();
+			}
+
+			@Override
+			public void visit(final EntityNum num, final MerkleAccount account) {
+				final var numValue = num.longValue();
+				if (numValue >= firstEntityToScan && !account.isSmartContract()) {
+					expiries.track(num, account.getExpiry());
+					maxNum = Math.max(maxNum, numValue);
+				}
+			}
+
+			@Override
+			public void finish() {
+				nextNumToIndex = maxNum + 1;
+			}
+		};
+	}
+
+	/**
+	 * Indexes the accounts created since the last call, and then moves every account whose expiry is no later than
+	 * the given time into the due set.
+	 *
+	 * @param now
+	 * 		the consensus second
+	 */
+	public void markDueAt(final long now) {
+		indexNewAccounts();
+
+		final var curAccounts = accounts.get();
+		while (expiries.hasExpiringAt(now)) {
+			final var num = expiries.expireNextAt(now);
+			final var account = curAccounts.get(num);
+			if (account == null) {
+				continue;
+			}
+			final var expiry = account.getExpiry();
+			if (expiry <= now) {
+				dueNums.add(num.longValue());
+			} else {
+				expiries.track(num, expiry);
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of the due account that follows the given number, wrapping around to the lowest due number
+	 * after the highest one.
+	 *
+	 * @param num
+	 * 		the number to start after
+	 * @return the next due number, or {@link #NO_DUE_ACCOUNT} if there are none
+	 */
+	public long nextDueAfter(final long num) {
+		if (dueNums.isEmpty()) {
+			return NO_DUE_ACCOUNT;
+		}
+		final var next = dueNums.higher(num);
+		return (next != null) ? next : dueNums.first();
+	}
+
+	/**
+	 * Checks if the account with the given number from the due set is still due at the given time. If it is not,
+	 * because it was renewed, extended, or removed since being marked due, it leaves the due set (and, if it still
+	 * exists, goes back to the queue at its current expiry).
+	 *
+	 * @param num
+	 * 		a number from the due set
+	 * @param now
+	 * 		the consensus second
+	 * @return whether the account is still due
+	 */
+	public boolean confirmDue(final long num, final long now) {
+		final var key = EntityNum.fromLong(num);
+		final var account = accounts.get().get(key);
+		if (account != null && account.getExpiry() <= now) {
+			return true;
+		}
+		dueNums.remove(num);
+		if (account != null) {
+			expiries.track(key, account.getExpiry());
+		}
+		return false;
+	}
+
+	private void indexNewAccounts() {
+		final var wrapNum = seqNo.get().current();
+		if (nextNumToIndex >= wrapNum) {
+			return;
+		}
+		final var curAccounts = accounts.get();
+		for (; nextNumToIndex < wrapNum; nextNumToIndex++) {
+			final var num = EntityNum.fromLong(nextNumToIndex);
+			final var account = curAccounts.get(num);
+			if (account != null && !account.isSmartContract()) {
+				expiries.track(num, account.getExpiry());
+			}
+		}
+	}
+
+	/* --- Only used by unit tests --- */
+	TreeSet<Long> getDueNums() {
+		return dueNums;
+	}
+
+	PriorityQueueExpiries<EntityNum> getExpiries() {
+		return expiries;
+	}
+
+	long getNextNumToIndex() {
+		return nextNumToIndex;
+	}
+}
@@ -20,6 +20,7 @@ package com.hedera.services.state.exports;
  * ‍
  */
 
+import com.google.protobuf.CodedOutputStream;
 import com.hedera.services.ServicesState;
 import com.hedera.services.context.annotations.CompositeProps;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
@@ -45,18 +46,28 @@ import org.apache.logging.log4j.Logger;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.math.BigInteger;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
 
 import static com.hedera.services.ledger.HederaLedger.ACCOUNT_ID_COMPARATOR;
 import static com.hedera.services.state.merkle.MerkleEntityAssociation.fromAccountTokenRel;
@@ -76,6 +87,9 @@ public class SignedStateBalancesExporter implements BalancesExporter {
 
 	private static final String PROTO_FILE_EXTENSION = ".pb";
 
+	static final int ACCOUNTS_PER_CHUNK = 10_000;
+	private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
 	private Instant nextExportTime = null;
 
 	final long expectedFloat;
@@ -84,11 +98,11 @@ public class SignedStateBalancesExporter implements BalancesExporter {
 	private final GlobalDynamicProperties dynamicProperties;
 
 	SigFileWriter sigFileWriter = new StandardSigFileWriter();
-	FileHashReader hashReader = new Sha384HashReader();
 	DirectoryAssurance directories = loc -> Files.createDirectories(Paths.get(loc));
 
 	private String lastUsedExportDir = UNKNOWN_EXPORT_DIR;
-	private BalancesSummary summary;
+
+	int accountsPerChunk = ACCOUNTS_PER_CHUNK;
 
 	private final int exportPeriod;
 
@@ -141,38 +155,34 @@ public class SignedStateBalancesExporter implements BalancesExporter {
 			return;
 		}
 		var watch = StopWatch.createStarted();
-		summary = summarized(signedState);
+		var protoLoc = lastUsedExportDir
+				+ consensusTime.toString().replace(":", "_") + "_Balances" + PROTO_FILE_EXTENSION;
+		final var digest = sha384Digest();
+		final BigInteger totalFloat;
+		try (var fout = new DigestOutputStream(
+				new BufferedOutputStream(new FileOutputStream(protoLoc), OUTPUT_BUFFER_SIZE), digest)) {
+			totalFloat = streamTo(fout, signedState, consensusTime);
+		} catch (IOException | UncheckedIOException e) {
+			log.error(BAD_EXPORT_ATTEMPT_ERROR_MSG_TPL, protoLoc, e);
+			new File(protoLoc).delete();
+			return;
+		}
 		final var expected = BigInteger.valueOf(expectedFloat);
-		if (expected.equals(summary.totalFloat())) {
-			log.info("Took {}ms to summarize signed state balances", watch.getTime(TimeUnit.MILLISECONDS));
-			toProtoFile(consensusTime);
+		if (expected.equals(totalFloat)) {
+			log.info(" -> Took {}ms to export proto balances file at {}",
+					watch.getTime(TimeUnit.MILLISECONDS), consensusTime);
+			tryToSign(protoLoc, digest.digest());
 		} else {
+			new File(protoLoc).delete();
 			log.error(
 					"Signed state @ {} had total balance {} not {}; exiting",
-					consensusTime, summary.totalFloat(), expectedFloat);
+					consensusTime, totalFloat, expectedFloat);
 			systemExits.fail(1);
 		}
 	}
 
-	private void toProtoFile(Instant exportTimeStamp) {
-		var watch = StopWatch.createStarted();
-
-		var builder = AllAccountBalances.newBuilder();
-		summarizeAsProto(exportTimeStamp, builder);
-		var protoLoc = lastUsedExportDir
-				+ exportTimeStamp.toString().replace(":", "_") + "_Balances" + PROTO_FILE_EXTENSION;
-		boolean exportSucceeded = exportBalancesProtoFile(builder, protoLoc);
-		if (exportSucceeded) {
-			tryToSign(protoLoc);
-		}
-
-		log.info(" -> Took {}ms to export and sign proto balances file at {}", watch.getTime(TimeUnit.MILLISECONDS),
-				exportTimeStamp);
-	}
-
-	private void tryToSign(String fileLoc) {
+	private void tryToSign(String fileLoc, byte[] hash) {
 		try {
-			var hash = hashReader.readHash(fileLoc);
 			var sig = signer.apply(hash);
 			var sigFileLoc = sigFileWriter.writeSigFile(fileLoc, sig, hash);
 			if (log.isDebugEnabled()) {
@@ -183,54 +193,124 @@ public class SignedStateBalancesExporter implements BalancesExporter {
 		}
 	}
 
-	private void summarizeAsProto(Instant exportTimeStamp, AllAccountBalances.Builder builder) {
-		builder.setConsensusTimestamp(Timestamp.newBuilder()
+	/**
+	 * Writes the balances in the given signed state to the given stream, in exactly the serialized
+	 * form of an {@link AllAccountBalances} message with the accounts in {@code ACCOUNT_ID_COMPARATOR}
+	 * order; and returns the total hbar float of the non-deleted accounts.
+	 *
+	 * The account numbers are sorted up-front and split into chunks of {@code accountsPerChunk}; each
+	 * chunk is summarized and serialized on the common fork-join pool, and the finished chunks are
+	 * written in order. Since at most a small window of chunks is in memory at once, the peak memory
+	 * used is independent of the number of accounts in the state.
+	 *
+	 * @param out the stream to write to
+	 * @param signedState the signed state to export
+	 * @param exportTimeStamp the consensus time of the export
+	 * @return the total hbar float of the exported accounts
+	 * @throws IOException if the stream cannot be written
+	 */
+	BigInteger streamTo(OutputStream out, ServicesState signedState, Instant exportTimeStamp) throws IOException {
+		final var accounts = signedState.accounts();
+		final var nums = sortedNumsIn(accounts);
+		final var ctx = new ChunkContext(
+				accounts,
+				signedState.tokens(),
+				signedState.tokenAssociations(),
+				MiscUtils.getNodeAccounts(signedState.addressBook()),
+				dynamicProperties.nodeBalanceWarningThreshold(),
+				dynamicProperties.shouldExportTokenBalances());
+
+		final var coded = CodedOutputStream.newInstance(out, OUTPUT_BUFFER_SIZE);
+		coded.writeMessage(AllAccountBalances.CONSENSUSTIMESTAMP_FIELD_NUMBER, Timestamp.newBuilder()
 				.setSeconds(exportTimeStamp.getEpochSecond())
-				.setNanos(exportTimeStamp.getNano()));
-		builder.addAllAllAccounts(summary.orderedBalances());
+				.setNanos(exportTimeStamp.getNano())
+				.build());
+
+		var totalFloat = BigInteger.ZERO;
+		final int numChunks = (nums.length + accountsPerChunk - 1) / accountsPerChunk;
+		final int window = 2 * Math.max(1, ForkJoinPool.getCommonPoolParallelism());
+		for (int start = 0; start < numChunks; start += window) {
+			final var chunks = IntStream.range(start, Math.min(numChunks, start + window))
+					.parallel()
+					.mapToObj(i -> serializedChunk(
+							ctx, nums, i * accountsPerChunk, Math.min(nums.length, (i + 1) * accountsPerChunk)))
+					.toList();
+			for (var chunk : chunks) {
+				coded.writeRawBytes(chunk.data());
+				totalFloat = totalFloat.add(chunk.totalFloat());
+			}
+		}
+		coded.flush();
+		return totalFloat;
 	}
 
-	private boolean exportBalancesProtoFile(AllAccountBalances.Builder allAccountsBuilder, String protoLoc) {
-		try (FileOutputStream fout = new FileOutputStream(protoLoc)) {
-			allAccountsBuilder.build().writeTo(fout);
+	private SerializedChunk serializedChunk(ChunkContext ctx, long[] nums, int from, int to) {
+		var chunkFloat = BigInteger.ZERO;
+		int size = 0;
+		final List<SingleAccountBalances> balances = new ArrayList<>(to - from);
+		for (int i = from; i < to; i++) {
+			final var account = ctx.accounts().get(EntityNum.fromLong(nums[i]));
+			if (account.isDeleted()) {
+				continue;
+			}
+			final var accountId = EntityNum.fromLong(nums[i]).toGrpcAccountId();
+			final var balance = account.getBalance();
+			if (balance < ctx.nodeBalanceWarnThreshold() && ctx.nodeIds().contains(accountId)) {
+				log.warn(LOW_NODE_BALANCE_WARN_MSG_TPL, readableId(accountId), balance);
+			}
+			chunkFloat = chunkFloat.add(BigInteger.valueOf(balance));
+			final var sabBuilder = SingleAccountBalances.newBuilder()
+					.setHbarBalance(balance)
+					.setAccountID(accountId);
+			if (ctx.exportTokenBalances()) {
+				addTokenBalances(accountId, account, sabBuilder, ctx.tokens(), ctx.tokenAssociations());
+			}
+			final var sab = sabBuilder.build();
+			size += CodedOutputStream.computeMessageSize(AllAccountBalances.ALLACCOUNTS_FIELD_NUMBER, sab);
+			balances.add(sab);
+		}
+		final var data = new byte[size];
+		final var coded = CodedOutputStream.newInstance(data);
+		try {
+			for (var sab : balances) {
+				coded.writeMessage(AllAccountBalances.ALLACCOUNTS_FIELD_NUMBER, sab);
+			}
+			coded.checkNoSpaceLeft();
 		} catch (IOException e) {
-			log.error(BAD_EXPORT_ATTEMPT_ERROR_MSG_TPL, protoLoc, e);
-			return false;
+			throw new UncheckedIOException(e);
 		}
-		return true;
+		return new SerializedChunk(data, chunkFloat);
 	}
 
-	BalancesSummary summarized(ServicesState signedState) {
-		long nodeBalanceWarnThreshold = dynamicProperties.nodeBalanceWarningThreshold();
-		BigInteger totalFloat = BigInteger.valueOf(0L);
-		List<SingleAccountBalances> accountBalances = new ArrayList<>();
-
-		var nodeIds = MiscUtils.getNodeAccounts(signedState.addressBook());
-		var tokens = signedState.tokens();
-		var accounts = signedState.accounts();
-		var tokenAssociations = signedState.tokenAssociations();
-		for (var entry : accounts.entrySet()) {
-			var id = entry.getKey();
-			var account = entry.getValue();
-			if (!account.isDeleted()) {
-				var accountId = id.toGrpcAccountId();
-				var balance = account.getBalance();
-				if (nodeIds.contains(accountId) && balance < nodeBalanceWarnThreshold) {
-					log.warn(LOW_NODE_BALANCE_WARN_MSG_TPL,
-							readableId(accountId),
-							balance);
-				}
-				totalFloat = totalFloat.add(BigInteger.valueOf(account.getBalance()));
-				SingleAccountBalances.Builder sabBuilder = SingleAccountBalances.newBuilder();
-				sabBuilder.setHbarBalance(balance).setAccountID(accountId);
-				if (dynamicProperties.shouldExportTokenBalances()) {
-					addTokenBalances(accountId, account, sabBuilder, tokens, tokenAssociations);
-				}
-				accountBalances.add(sabBuilder.build());
-			}
+	private static long[] sortedNumsIn(MerkleMap<EntityNum, MerkleAccount> accounts) {
+		final var nums = new long[accounts.size()];
+		int i = 0;
+		for (var key : accounts.keySet()) {
+			nums[i++] = key.longValue();
+		}
+		Arrays.parallelSort(nums, 0, i);
+		return (i == nums.length) ? nums : Arrays.copyOf(nums, i);
+	}
+
+	private static MessageDigest sha384Digest() {
+		try {
+			return MessageDigest.getInstance("SHA-384");
+		} catch (NoSuchAlgorithmException impossible) {
+			throw new IllegalStateException("SHA-384 not supported by Java API!");
 		}
-		accountBalances.sort(SINGLE_ACCOUNT_BALANCES_COMPARATOR);
-		return new BalancesSummary(totalFloat, accountBalances);
+	}
+
+	private record ChunkContext(
+			MerkleMap<EntityNum, MerkleAccount> accounts,
+			MerkleMap<EntityNum, MerkleToken> tokens,
+			MerkleMap<EntityNumPair, MerkleTokenRelStatus> tokenAssociations,
+			Set<AccountID> nodeIds,
+			long nodeBalanceWarnThreshold,
+			boolean exportTokenBalances
+	) {
+	}
+
+	private record SerializedChunk(byte[] data, BigInteger totalFloat) {
 	}
 
 	private void addTokenBalances(
@@ -0,0 +1,84 @@
+package com.hedera.services.state.initialization;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.swirlds.common.merkle.MerkleNode;
+import com.swirlds.common.merkle.utility.Keyed;
+import com.swirlds.merkle.map.MerkleMap;
+
+import static com.hedera.services.utils.MiscUtils.forEach;
+
+/**
+ * Builds an in-memory view of the entities in a {@link MerkleMap} by visiting each of them once. Since a builder
+ * only needs to be told about each entity, many builders of views of the same map can share a single traversal
+ * (see {@link ViewsRebuild}).
+ *
+ * @param <K>
+ * 		the type of key in the map
+ * @param <V>
+ * 		the type of entity in the map
+ */
+public interface ViewBuilder<K, V> {
+	/**
+	 * Prepares to visit every entity in the map; for example, by clearing the existing view.
+	 */
+	default void start() {
+		/* No-op. */
+	}
+
+	/**
+	 * Adds the given entity to the view.
+	 *
+	 * @param key
+	 * 		the key of the entity
+	 * @param value
+	 * 		the entity
+	 */
+	void visit(K key, V value);
+
+	/**
+	 * Completes the view after every entity in the map has been visited; for example, by publishing it.
+	 */
+	default void finish() {
+		/* No-op. */
+	}
+
+	/**
+	 * Rebuilds the view of the given builder with a traversal of the given map dedicated to it.
+	 *
+	 * @param map
+	 * 		the map to traverse
+	 * @param builder
+	 * 		the builder of the view
+	 * @param <K>
+	 * 		the type of key in the map
+	 * @param <V>
+	 * 		the type of entity in the map
+	 */
+	static <K, V extends MerkleNode & Keyed<K>> void rebuild(
+			final MerkleMap<K, V> map,
+			final ViewBuilder<K, ? super V> builder
+	) {
+		builder.start();
+		forEach(map, builder::visit);
+		builder.finish();
+	}
+}
@@ -0,0 +1,123 @@
+package com.hedera.services.state.initialization;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.swirlds.common.merkle.MerkleNode;
+import com.swirlds.common.merkle.utility.Keyed;
+import com.swirlds.merkle.map.MerkleMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.hedera.services.utils.MiscUtils.forEach;
+import static java.util.concurrent.CompletableFuture.allOf;
+import static java.util.concurrent.CompletableFuture.runAsync;
+
+/**
+ * Rebuilds many in-memory views of the state at once, for example on restart or reconnect. Each
+ * {@link MerkleMap} is traversed exactly once, feeding every {@link ViewBuilder} registered for it; and the
+ * traversals of different maps run in parallel.
+ *
+ * Each builder still sees the entities of its map one at a time, in the same order as a dedicated traversal,
+ * on a single thread; so the rebuilt views are identical to those of rebuilding each view in turn.
+ */
+public class ViewsRebuild {
+	private static final Logger log = LogManager.getLogger(ViewsRebuild.class);
+
+	private final List<Traversal<?, ?>> traversals = new ArrayList<>();
+
+	/**
+	 * Registers a builder to be fed from the (single) traversal of the given map.
+	 *
+	 * @param name
+	 * 		the name of the map, for logging
+	 * @param map
+	 * 		the map to traverse
+	 * @param builder
+	 * 		the builder of a view of the map
+	 * @param <K>
+	 * 		the type of key in the map
+	 * @param <V>
+	 * 		the type of entity in the map
+	 * @return this rebuild
+	 */
+	@SuppressWarnings("unchecked")
+	public <K, V extends MerkleNode & Keyed<K>> ViewsRebuild of(
+			final String name,
+			final MerkleMap<K, V> map,
+			final ViewBuilder<K, ? super V> builder
+	) {
+		for (final var traversal : traversals) {
+			if (traversal.map == map) {
+				((Traversal<K, V>) traversal).builders.add(builder);
+				return this;
+			}
+		}
+		final var traversal = new Traversal<>(name, map);
+		traversal.builders.add(builder);
+		traversals.add(traversal);
+		return this;
+	}
+
+	/**
+	 * Traverses every registered map in parallel, returning once all the views are rebuilt.
+	 */
+	public void run() {
+		final var futures = new CompletableFuture<?>[traversals.size()];
+		for (int i = 0; i < futures.length; i++) {
+			futures[i] = runAsync(traversals.get(i)::run);
+		}
+		allOf(futures).join();
+	}
+
+	private static class Traversal<K, V extends MerkleNode & Keyed<K>> {
+		private final String name;
+		private final MerkleMap<K, V> map;
+		private final List<ViewBuilder<K, ? super V>> builders = new ArrayList<>();
+
+		private Traversal(final String name, final MerkleMap<K, V> map) {
+			this.name = name;
+			this.map = map;
+		}
+
+		private void run() {
+			log.info(" - Started rebuilding {} view(s) of {} in {}", builders.size(), name,
+					Thread.currentThread().getName());
+			builders.forEach(ViewBuilder::start);
+			forEach(map, (key, value) -> {
+				for (final var builder : builders) {
+					builder.visit(key, value);
+				}
+			});
+			builders.forEach(ViewBuilder::finish);
+			log.info(" - Finished rebuilding {} view(s) of {} in {}", builders.size(), name,
+					Thread.currentThread().getName());
+		}
+	}
+
+	/* --- Only used by unit tests --- */
+	int numTraversals() {
+		return traversals.size();
+	}
+}
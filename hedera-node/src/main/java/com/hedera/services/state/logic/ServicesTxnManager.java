@@ -28,6 +28,7 @@ import com.hedera.services.records.RecordCache;
 import com.hedera.services.state.annotations.RunRecordStreaming;
 import com.hedera.services.state.annotations.RunTopLevelTransition;
 import com.hedera.services.state.annotations.RunTriggeredTransition;
+import com.hedera.services.stats.HandlePhaseTracker;
 import com.hedera.services.utils.TxnAccessor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -36,6 +37,7 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.time.Instant;
 
+import static com.hedera.services.stats.HandlePhase.LEDGER_COMMIT;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.FAIL_INVALID;
 
 @Singleton
@@ -52,6 +54,7 @@ public class ServicesTxnManager {
 	private final TransactionContext txnCtx;
 	private final SigImpactHistorian sigImpactHistorian;
 	private final AccountRecordsHistorian recordsHistorian;
+	private final HandlePhaseTracker phaseTracker;
 
 	@Inject
 	public ServicesTxnManager(
@@ -62,7 +65,8 @@ public class ServicesTxnManager {
 			final HederaLedger ledger,
 			final TransactionContext txnCtx,
 			final SigImpactHistorian sigImpactHistorian,
-			final AccountRecordsHistorian recordsHistorian
+			final AccountRecordsHistorian recordsHistorian,
+			final HandlePhaseTracker phaseTracker
 	) {
 		this.txnCtx = txnCtx;
 		this.ledger = ledger;
@@ -72,6 +76,7 @@ public class ServicesTxnManager {
 		this.sigImpactHistorian = sigImpactHistorian;
 		this.scopedRecordStreaming = scopedRecordStreaming;
 		this.scopedTriggeredProcessing = scopedTriggeredProcessing;
+		this.phaseTracker = phaseTracker;
 	}
 
 	private boolean createdStreamableRecord;
@@ -117,7 +122,9 @@ public class ServicesTxnManager {
 
 	private void attemptCommit(TxnAccessor accessor, Instant consensusTime, long submittingMember) {
 		try {
+			final var commitStart = phaseTracker.start();
 			ledger.commit();
+			phaseTracker.stop(accessor.getFunction(), LEDGER_COMMIT, commitStart);
 			createdStreamableRecord = true;
 		} catch (Exception e) {
 			logContextualizedError(e, "txn commit");
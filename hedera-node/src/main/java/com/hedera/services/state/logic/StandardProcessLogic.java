@@ -27,6 +27,7 @@ import com.hedera.services.ledger.SigImpactHistorian;
 import com.hedera.services.state.expiry.EntityAutoRenewal;
 import com.hedera.services.state.expiry.ExpiryManager;
 import com.hedera.services.stats.ExecutionTimeTracker;
+import com.hedera.services.stats.HandlePhaseTracker;
 import com.hedera.services.txns.ProcessLogic;
 import com.hedera.services.txns.span.ExpandHandleSpan;
 import com.hedera.services.utils.PlatformTxnAccessor;
@@ -38,6 +39,10 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.time.Instant;
 
+import static com.hedera.services.stats.HandlePhase.ACCESSOR_LOOKUP;
+import static com.hedera.services.stats.HandlePhase.AUTO_RENEWAL;
+import static com.hedera.services.stats.HandlePhase.EXPIRY_PURGE;
+
 @Singleton
 public class StandardProcessLogic implements ProcessLogic {
 	private static final Logger log = LogManager.getLogger(StandardProcessLogic.class);
@@ -51,6 +56,7 @@ public class StandardProcessLogic implements ProcessLogic {
 	private final TransactionContext txnCtx;
 	private final ExecutionTimeTracker executionTimeTracker;
 	private final GlobalDynamicProperties dynamicProperties;
+	private final HandlePhaseTracker phaseTracker;
 
 	@Inject
 	public StandardProcessLogic(
@@ -62,7 +68,8 @@ public class StandardProcessLogic implements ProcessLogic {
 			final SigImpactHistorian sigImpactHistorian,
 			final TransactionContext txnCtx,
 			final ExecutionTimeTracker executionTimeTracker,
-			final GlobalDynamicProperties dynamicProperties
+			final GlobalDynamicProperties dynamicProperties,
+			final HandlePhaseTracker phaseTracker
 	) {
 		this.expiries = expiries;
 		this.invariantChecks = invariantChecks;
@@ -73,12 +80,16 @@ public class StandardProcessLogic implements ProcessLogic {
 		this.txnCtx = txnCtx;
 		this.dynamicProperties = dynamicProperties;
 		this.sigImpactHistorian = sigImpactHistorian;
+		this.phaseTracker = phaseTracker;
 	}
 
 	@Override
 	public void incorporateConsensusTxn(SwirldTransaction platformTxn, Instant consensusTime, long submittingMember) {
 		try {
+			final var lookupStart = phaseTracker.start();
 			final var accessor = expandHandleSpan.accessorFor(platformTxn);
+			final var function = accessor.getFunction();
+			phaseTracker.stop(function, ACCESSOR_LOOKUP, lookupStart);
 			Instant effectiveConsensusTime = consensusTime;
 			if (accessor.canTriggerTxn()) {
 				final var offset = dynamicProperties.triggerTxnWindBackNanos();
@@ -90,12 +101,16 @@ public class StandardProcessLogic implements ProcessLogic {
 			}
 
 			sigImpactHistorian.setChangeTime(effectiveConsensusTime);
+			final var purgeStart = phaseTracker.start();
 			expiries.purge(effectiveConsensusTime.getEpochSecond());
+			phaseTracker.stop(function, EXPIRY_PURGE, purgeStart);
 			sigImpactHistorian.purge();
 
 			doProcess(submittingMember, consensusTime, effectiveConsensusTime, accessor);
 
+			final var renewalStart = phaseTracker.start();
 			autoRenewal.execute(consensusTime);
+			phaseTracker.stop(function, AUTO_RENEWAL, renewalStart);
 		} catch (InvalidProtocolBufferException e) {
 			log.warn("Consensus platform txn was not gRPC!", e);
 		} catch (Exception internal) {
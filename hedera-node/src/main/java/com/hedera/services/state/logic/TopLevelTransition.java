@@ -22,10 +22,15 @@ package com.hedera.services.state.logic;
 
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.fees.charging.TxnChargingPolicyAgent;
+import com.hedera.services.stats.HandlePhaseTracker;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import static com.hedera.services.stats.HandlePhase.FEE_CHARGING;
+import static com.hedera.services.stats.HandlePhase.SIG_RATIONALIZATION;
+import static com.hedera.services.stats.HandlePhase.TRANSITION;
+
 @Singleton
 public class TopLevelTransition implements Runnable {
 	private final ScreenedTransition screenedTransition;
@@ -34,6 +39,7 @@ public class TopLevelTransition implements Runnable {
 	private final TxnChargingPolicyAgent chargingPolicyAgent;
 	private final SignatureScreen signatureScreen;
 	private final KeyActivationScreen keyActivationScreen;
+	private final HandlePhaseTracker phaseTracker;
 
 	@Inject
 	public TopLevelTransition(
@@ -42,7 +48,8 @@ public class TopLevelTransition implements Runnable {
 			TransactionContext txnCtx,
 			SignatureScreen signatureScreen,
 			TxnChargingPolicyAgent chargingPolicyAgent,
-			KeyActivationScreen keyActivationScreen
+			KeyActivationScreen keyActivationScreen,
+			HandlePhaseTracker phaseTracker
 	) {
 		this.txnCtx = txnCtx;
 		this.networkCtxManager = networkCtxManager;
@@ -50,6 +57,7 @@ public class TopLevelTransition implements Runnable {
 		this.signatureScreen = signatureScreen;
 		this.keyActivationScreen = keyActivationScreen;
 		this.screenedTransition = screenedTransition;
+		this.phaseTracker = phaseTracker;
 	}
 
 	@Override
@@ -59,14 +67,18 @@ public class TopLevelTransition implements Runnable {
 
 		networkCtxManager.advanceConsensusClockTo(now);
 
+		final var function = accessor.getFunction();
+		var phaseStart = phaseTracker.start();
 		final var sigStatus = signatureScreen.applyTo(accessor);
-		if (!chargingPolicyAgent.applyPolicyFor(accessor)) {
+		phaseStart = phaseTracker.stop(function, SIG_RATIONALIZATION, phaseStart);
+		final var wasCharged = chargingPolicyAgent.applyPolicyFor(accessor);
+		phaseStart = phaseTracker.stop(function, FEE_CHARGING, phaseStart);
+		if (!wasCharged) {
 			return;
 		}
-		if (!keyActivationScreen.reqKeysAreActiveGiven(sigStatus)) {
-			return;
+		if (keyActivationScreen.reqKeysAreActiveGiven(sigStatus)) {
+			screenedTransition.finishFor(accessor);
 		}
-
-		screenedTransition.finishFor(accessor);
+		phaseTracker.stop(function, TRANSITION, phaseStart);
 	}
 }
@@ -24,10 +24,13 @@ import com.hedera.services.context.TransactionContext;
 import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.fees.FeeCalculator;
 import com.hedera.services.fees.charging.FeeChargingPolicy;
+import com.hedera.services.stats.HandlePhaseTracker;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import static com.hedera.services.stats.HandlePhase.FEE_CHARGING;
+import static com.hedera.services.stats.HandlePhase.TRANSITION;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 
 @Singleton
@@ -38,6 +41,7 @@ public class TriggeredTransition implements Runnable {
 	private final NetworkCtxManager networkCtxManager;
 	private final ScreenedTransition screenedTransition;
 	private final TransactionContext txnCtx;
+	private final HandlePhaseTracker phaseTracker;
 
 	@Inject
 	public TriggeredTransition(
@@ -46,7 +50,8 @@ public class TriggeredTransition implements Runnable {
 			FeeChargingPolicy chargingPolicy,
 			TransactionContext txnCtx,
 			NetworkCtxManager networkCtxManager,
-			ScreenedTransition screenedTransition
+			ScreenedTransition screenedTransition,
+			HandlePhaseTracker phaseTracker
 	) {
 		this.currentView = currentView;
 		this.fees = fees;
@@ -54,6 +59,7 @@ public class TriggeredTransition implements Runnable {
 		this.txnCtx = txnCtx;
 		this.networkCtxManager = networkCtxManager;
 		this.screenedTransition = screenedTransition;
+		this.phaseTracker = phaseTracker;
 	}
 
 	@Override
@@ -64,13 +70,17 @@ public class TriggeredTransition implements Runnable {
 		networkCtxManager.advanceConsensusClockTo(now);
 		networkCtxManager.prepareForIncorporating(accessor);
 
+		final var function = accessor.getFunction();
+		var phaseStart = phaseTracker.start();
 		final var fee = fees.computeFee(accessor, txnCtx.activePayerKey(), currentView, now);
 		final var chargingOutcome = chargingPolicy.applyForTriggered(fee);
+		phaseStart = phaseTracker.stop(function, FEE_CHARGING, phaseStart);
 		if (chargingOutcome != OK) {
 			txnCtx.setStatus(chargingOutcome);
 			return;
 		}
 
 		screenedTransition.finishFor(accessor);
+		phaseTracker.stop(function, TRANSITION, phaseStart);
 	}
 }
@@ -23,7 +23,7 @@ package com.hedera.services.state.merkle;
 import com.google.common.base.MoreObjects;
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.legacy.core.jproto.JKeyList;
-import com.hedera.services.legacy.proto.utils.CommonUtils;
+import com.hedera.services.state.merkle.internals.TopicRunningHasher;
 import com.hedera.services.state.serdes.DomainSerdes;
 import com.hedera.services.state.serdes.TopicSerde;
 import com.hedera.services.state.submerkle.EntityId;
@@ -38,9 +38,7 @@ import com.swirlds.common.merkle.utility.AbstractMerkleLeaf;
 import com.swirlds.common.merkle.utility.Keyed;
 
 import javax.annotation.Nullable;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.ObjectOutputStream;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -256,15 +254,38 @@ public final class MerkleTopic extends AbstractMerkleLeaf implements Keyed<Entit
 	 * 		the topic id to receive the message
 	 * @param consensusTimestamp
 	 * 		the consensus timestamp
-	 * @throws IOException
-	 * 		when any component fails to write to a temporary stream for computing the running hash
 	 */
 	public void updateRunningHashAndSequenceNumber(
 			final AccountID payer,
 			@Nullable byte[] message,
 			@Nullable TopicID topicId,
 			@Nullable Instant consensusTimestamp
-	) throws IOException {
+	) {
+		updateRunningHashAndSequenceNumber(new TopicRunningHasher(), payer, message, topicId, consensusTimestamp);
+	}
+
+	/**
+	 * Does the same as {@link #updateRunningHashAndSequenceNumber(AccountID, byte[], TopicID, Instant)}, but computes
+	 * the new running hash with the given (re-usable) hasher.
+	 *
+	 * @param hasher
+	 * 		the hasher to compute the new running hash
+	 * @param payer
+	 * 		the account id to pay for the transaction
+	 * @param message
+	 * 		the message submitted to the topic
+	 * @param topicId
+	 * 		the topic id to receive the message
+	 * @param consensusTimestamp
+	 * 		the consensus timestamp
+	 */
+	public void updateRunningHashAndSequenceNumber(
+			final TopicRunningHasher hasher,
+			final AccountID payer,
+			@Nullable byte[] message,
+			@Nullable TopicID topicId,
+			@Nullable Instant consensusTimestamp
+	) {
 		throwIfImmutable("Cannot change this topic's running hash or sequence number if it's immutable.");
 		if (null == message) {
 			message = new byte[0];
@@ -276,24 +297,9 @@ public final class MerkleTopic extends AbstractMerkleLeaf implements Keyed<Entit
 			consensusTimestamp = Instant.ofEpochSecond(0);
 		}
 
-		var boas = new ByteArrayOutputStream();
-		try (var out = new ObjectOutputStream(boas)) {
-			out.writeObject(getRunningHash());
-			out.writeLong(RUNNING_HASH_VERSION);
-			out.writeLong(payer.getShardNum());
-			out.writeLong(payer.getRealmNum());
-			out.writeLong(payer.getAccountNum());
-			out.writeLong(topicId.getShardNum());
-			out.writeLong(topicId.getRealmNum());
-			out.writeLong(topicId.getTopicNum());
-			out.writeLong(consensusTimestamp.getEpochSecond());
-			out.writeInt(consensusTimestamp.getNano());
-			++sequenceNumber;
-			out.writeLong(sequenceNumber);
-			out.writeObject(CommonUtils.noThrowSha384HashOf(message));
-			out.flush();
-			runningHash = CommonUtils.noThrowSha384HashOf(boas.toByteArray());
-		}
+		++sequenceNumber;
+		runningHash = hasher.nextRunningHash(
+				getRunningHash(), payer, topicId, consensusTimestamp, sequenceNumber, message);
 	}
 
 	@Override
@@ -0,0 +1,133 @@
+package com.hedera.services.state.merkle.internals;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.TopicID;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+
+import static com.hedera.services.state.merkle.MerkleTopic.RUNNING_HASH_BYTE_ARRAY_SIZE;
+import static com.hedera.services.state.merkle.MerkleTopic.RUNNING_HASH_VERSION;
+
+/**
+ * Computes the running hash of a topic after a message, re-using one SHA-384 digest and one buffer for every
+ * message.
+ *
+ * The running hash is the SHA-384 hash of the bytes an {@link java.io.ObjectOutputStream} writes for the previous
+ * running hash, the message metadata, and the SHA-384 hash of the message. This class writes exactly the same bytes
+ * (stream header, {@code byte[]} class descriptor and back-reference, and block data header included) directly into
+ * its buffer, so it gives the same hashes without creating two streams, a byte array copy, and two digests per
+ * message.
+ *
+ * This class is <b>not</b> thread-safe.
+ */
+public final class TopicRunningHasher {
+	/* STREAM_MAGIC and STREAM_VERSION */
+	private static final byte[] STREAM_HEADER = { (byte) 0xac, (byte) 0xed, 0x00, 0x05 };
+	/* TC_ARRAY, then a TC_CLASSDESC for "[B" with its serialVersionUID, SC_SERIALIZABLE, no fields,
+	 * TC_ENDBLOCKDATA, and a TC_NULL superclass */
+	private static final byte[] FIRST_BYTE_ARRAY_HEADER = {
+			0x75,
+			0x72, 0x00, 0x02, 0x5b, 0x42,
+			(byte) 0xac, (byte) 0xf3, 0x17, (byte) 0xf8, 0x06, 0x08, 0x54, (byte) 0xe0,
+			0x02, 0x00, 0x00, 0x78, 0x70
+	};
+	/* TC_ARRAY, then a TC_REFERENCE to the first handle (the "[B" class descriptor) */
+	private static final byte[] NEXT_BYTE_ARRAY_HEADER = { 0x75, 0x71, 0x00, 0x7e, 0x00, 0x00 };
+	/* TC_BLOCKDATA for the nine longs and one int written between the two arrays */
+	private static final int METADATA_BYTES = 9 * Long.BYTES + Integer.BYTES;
+	private static final byte[] METADATA_BLOCK_HEADER = { 0x77, (byte) METADATA_BYTES };
+
+	private static final int FIXED_BYTES = STREAM_HEADER.length
+			+ FIRST_BYTE_ARRAY_HEADER.length + Integer.BYTES
+			+ METADATA_BLOCK_HEADER.length + METADATA_BYTES
+			+ NEXT_BYTE_ARRAY_HEADER.length + Integer.BYTES + RUNNING_HASH_BYTE_ARRAY_SIZE;
+
+	private final MessageDigest digest;
+
+	private ByteBuffer buffer = ByteBuffer.allocate(FIXED_BYTES + RUNNING_HASH_BYTE_ARRAY_SIZE);
+
+	public TopicRunningHasher() {
+		try {
+			digest = MessageDigest.getInstance("SHA-384");
+		} catch (NoSuchAlgorithmException fatal) {
+			throw new IllegalStateException(fatal);
+		}
+	}
+
+	/**
+	 * Returns the running hash of a topic after the given message.
+	 *
+	 * @param prevRunningHash
+	 * 		the running hash of the topic before the message
+	 * @param payer
+	 * 		the payer of the message
+	 * @param topicId
+	 * 		the topic receiving the message
+	 * @param consensusTime
+	 * 		the consensus time of the message
+	 * @param sequenceNumber
+	 * 		the (already incremented) sequence number of the message
+	 * @param message
+	 * 		the message
+	 * @return the new running hash
+	 */
+	public byte[] nextRunningHash(
+			final byte[] prevRunningHash,
+			final AccountID payer,
+			final TopicID topicId,
+			final Instant consensusTime,
+			final long sequenceNumber,
+			final byte[] message
+	) {
+		final var messageHash = digest.digest(message);
+
+		ensureCapacity(FIXED_BYTES + prevRunningHash.length);
+		buffer.clear();
+		buffer.put(STREAM_HEADER);
+		buffer.put(FIRST_BYTE_ARRAY_HEADER).putInt(prevRunningHash.length).put(prevRunningHash);
+		buffer.put(METADATA_BLOCK_HEADER)
+				.putLong(RUNNING_HASH_VERSION)
+				.putLong(payer.getShardNum())
+				.putLong(payer.getRealmNum())
+				.putLong(payer.getAccountNum())
+				.putLong(topicId.getShardNum())
+				.putLong(topicId.getRealmNum())
+				.putLong(topicId.getTopicNum())
+				.putLong(consensusTime.getEpochSecond())
+				.putInt(consensusTime.getNano())
+				.putLong(sequenceNumber);
+		buffer.put(NEXT_BYTE_ARRAY_HEADER).putInt(messageHash.length).put(messageHash);
+
+		digest.update(buffer.array(), 0, buffer.position());
+		return digest.digest();
+	}
+
+	private void ensureCapacity(final int n) {
+		if (buffer.capacity() < n) {
+			buffer = ByteBuffer.allocate(n);
+		}
+	}
+}
@@ -0,0 +1,47 @@
+package com.hedera.services.stats;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+/**
+ * The phases of handling a consensus transaction whose latencies are tracked per
+ * {@link com.hederahashgraph.api.proto.java.HederaFunctionality} by the {@link HandlePhaseTracker}.
+ *
+ * Since records are saved as part of the ledger commit, the {@code LEDGER_COMMIT} latency includes
+ * the {@code RECORD_CREATION} latency.
+ */
+public enum HandlePhase {
+	/* Getting the expanded accessor of the platform transaction */
+	ACCESSOR_LOOKUP,
+	/* Purging expired records and schedules */
+	EXPIRY_PURGE,
+	/* Rationalizing the expanded signatures with the final signing requirements */
+	SIG_RATIONALIZATION,
+	/* Computing and charging the fees */
+	FEE_CHARGING,
+	/* Checking the key activations and running the transition logic */
+	TRANSITION,
+	/* Committing the ledger, including record creation */
+	LEDGER_COMMIT,
+	/* Saving the records of the transaction and its children */
+	RECORD_CREATION,
+	/* Scanning for entities to auto-renew or remove */
+	AUTO_RENEWAL
+}
@@ -0,0 +1,164 @@
+package com.hedera.services.stats;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Keeps a {@link LatencyHistogram} of the time spent in each {@link HandlePhase} of handling a
+ * consensus transaction, per {@link HederaFunctionality}; and dumps them all as CSV on request.
+ *
+ * Callers bracket a phase with {@link HandlePhaseTracker#start()} and
+ * {@link HandlePhaseTracker#stop(HederaFunctionality, HandlePhase, long)}. Since {@code stop()}
+ * returns the time it read, consecutive phases can chain it in place of another {@code start()}.
+ * When {@code stats.handlePhases.enabled=false}, both are no-ops that never read the clock.
+ */
+@Singleton
+public class HandlePhaseTracker {
+	private static final Logger log = LogManager.getLogger(HandlePhaseTracker.class);
+
+	static final String CSV_HEADER =
+			"function,phase,count,meanNanos,p50Nanos,p90Nanos,p99Nanos,p999Nanos,maxNanos";
+
+	private static final HandlePhase[] PHASES = HandlePhase.values();
+	private static final HederaFunctionality[] FUNCTIONS = HederaFunctionality.values();
+
+	private final boolean shouldNoop;
+	private final AtomicReferenceArray<LatencyHistogram> histograms;
+
+	@Inject
+	public HandlePhaseTracker(final NodeLocalProperties properties) {
+		shouldNoop = !properties.isHandlePhaseTrackingEnabled();
+		if (shouldNoop) {
+			histograms = null;
+			log.info("Not tracking handle phase latencies (stats.handlePhases.enabled=false)");
+		} else {
+			histograms = new AtomicReferenceArray<>(FUNCTIONS.length * PHASES.length);
+			log.info("Tracking handle phase latencies");
+		}
+	}
+
+	public long start() {
+		return shouldNoop ? 0L : System.nanoTime();
+	}
+
+	/**
+	 * Records the time since the given start as a latency of the given phase for the given function.
+	 *
+	 * @param function the function of the transaction being handled
+	 * @param phase the phase that just finished
+	 * @param startNanos the value of {@link System#nanoTime()} when the phase started
+	 * @return the current value of {@link System#nanoTime()}, for use as the start of the next phase
+	 */
+	public long stop(final HederaFunctionality function, final HandlePhase phase, final long startNanos) {
+		if (shouldNoop) {
+			return 0L;
+		}
+		final var now = System.nanoTime();
+		histogramFor(function, phase).record(now - startNanos);
+		return now;
+	}
+
+	/**
+	 * Writes a CSV line for each phase and function with at least one recorded latency.
+	 *
+	 * @param out the destination of the CSV
+	 * @throws IOException if the destination cannot be written
+	 */
+	public void writeCsvTo(final Appendable out) throws IOException {
+		out.append(CSV_HEADER).append('\n');
+		if (shouldNoop) {
+			return;
+		}
+		for (final var function : FUNCTIONS) {
+			for (final var phase : PHASES) {
+				final var histogram = histograms.get(indexOf(function, phase));
+				if (histogram == null || histogram.count() == 0) {
+					continue;
+				}
+				out.append(function.name()).append(',')
+						.append(phase.name()).append(',')
+						.append(Long.toString(histogram.count())).append(',')
+						.append(Long.toString(histogram.meanNanos())).append(',')
+						.append(Long.toString(histogram.valueAtPercentile(50.0))).append(',')
+						.append(Long.toString(histogram.valueAtPercentile(90.0))).append(',')
+						.append(Long.toString(histogram.valueAtPercentile(99.0))).append(',')
+						.append(Long.toString(histogram.valueAtPercentile(99.9))).append(',')
+						.append(Long.toString(histogram.maxNanos())).append('\n');
+			}
+		}
+	}
+
+	/**
+	 * Replaces the given file with the current CSV of all latencies, writing a sibling temp
+	 * file first so readers never see a partial dump.
+	 *
+	 * @param path the file to (re-)create
+	 */
+	public void dumpTo(final Path path) {
+		final var tmpPath = path.resolveSibling(path.getFileName() + ".tmp");
+		try {
+			final var dir = path.toAbsolutePath().getParent();
+			if (dir != null) {
+				Files.createDirectories(dir);
+			}
+			try (final var out = Files.newBufferedWriter(tmpPath)) {
+				writeCsvTo(out);
+			}
+			Files.move(tmpPath, path, REPLACE_EXISTING, ATOMIC_MOVE);
+		} catch (IOException e) {
+			log.warn("Could not dump handle phase latencies to {}", path, e);
+		}
+	}
+
+	LatencyHistogram histogramFor(final HederaFunctionality function, final HandlePhase phase) {
+		final var i = indexOf(function, phase);
+		var histogram = histograms.get(i);
+		if (histogram == null) {
+			/* Only the handle thread records latencies, so this cannot race with another writer */
+			histogram = new LatencyHistogram();
+			histograms.set(i, histogram);
+		}
+		return histogram;
+	}
+
+	private static int indexOf(final HederaFunctionality function, final HandlePhase phase) {
+		return function.ordinal() * PHASES.length + phase.ordinal();
+	}
+
+	/* --- Only used by unit tests --- */
+	boolean isShouldNoop() {
+		return shouldNoop;
+	}
+}
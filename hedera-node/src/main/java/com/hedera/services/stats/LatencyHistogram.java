@@ -0,0 +1,115 @@
+package com.hedera.services.stats;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed-size, log-linear histogram of nanosecond latencies in the style of an HDR histogram.
+ * Values below 32 get their own buckets; every larger power of two is split into 16 linear
+ * sub-buckets, so each recorded value is known to within about 6%. Values above
+ * {@link LatencyHistogram#MAX_TRACKABLE_NANOS} (over an hour) are counted in the last bucket.
+ *
+ * Recording is a few array increments and never allocates, so it is safe for the handle thread.
+ * Readers on other threads may see a snapshot that is a few values behind the writer.
+ */
+public class LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 5;
+	private static final int HALF_SUB_BUCKET_COUNT = 1 << (SUB_BUCKET_BITS - 1);
+	private static final int MAX_MAGNITUDE = 42;
+
+	static final long MAX_TRACKABLE_NANOS = (1L << (MAX_MAGNITUDE + 1)) - 1;
+	static final int NUM_BUCKETS = bucketFor(MAX_TRACKABLE_NANOS) + 1;
+
+	private final AtomicLongArray counts = new AtomicLongArray(NUM_BUCKETS);
+	private final AtomicLong count = new AtomicLong();
+	private final AtomicLong totalNanos = new AtomicLong();
+	private final AtomicLong maxNanos = new AtomicLong();
+
+	public void record(final long nanos) {
+		final var value = Math.max(0L, nanos);
+		counts.incrementAndGet(bucketFor(Math.min(value, MAX_TRACKABLE_NANOS)));
+		totalNanos.addAndGet(value);
+		if (value > maxNanos.get()) {
+			maxNanos.set(value);
+		}
+		count.incrementAndGet();
+	}
+
+	public long count() {
+		return count.get();
+	}
+
+	public long totalNanos() {
+		return totalNanos.get();
+	}
+
+	public long maxNanos() {
+		return maxNanos.get();
+	}
+
+	public long meanNanos() {
+		final var n = count.get();
+		return n == 0 ? 0 : totalNanos.get() / n;
+	}
+
+	/**
+	 * Returns the highest value that is equivalent (within the histogram's precision) to the
+	 * value at the given percentile of all recorded values; or zero if nothing is recorded.
+	 *
+	 * @param percentile a percentile in {@code (0, 100]}
+	 * @return the value at that percentile
+	 */
+	public long valueAtPercentile(final double percentile) {
+		final var n = count.get();
+		if (n == 0) {
+			return 0;
+		}
+		final var rank = Math.max(1L, (long) Math.ceil(Math.min(percentile, 100.0) / 100.0 * n));
+		long seen = 0;
+		for (int i = 0; i < NUM_BUCKETS; i++) {
+			seen += counts.get(i);
+			if (seen >= rank) {
+				return Math.min(highestEquivalentTo(i), maxNanos.get());
+			}
+		}
+		return maxNanos.get();
+	}
+
+	static int bucketFor(final long value) {
+		if (value < (1L << SUB_BUCKET_BITS)) {
+			return (int) value;
+		}
+		final var magnitude = 63 - Long.numberOfLeadingZeros(value);
+		final var shift = magnitude - SUB_BUCKET_BITS + 1;
+		return shift * HALF_SUB_BUCKET_COUNT + (int) (value >>> shift);
+	}
+
+	static long highestEquivalentTo(final int bucket) {
+		if (bucket < (1 << SUB_BUCKET_BITS)) {
+			return bucket;
+		}
+		final var shift = bucket / HALF_SUB_BUCKET_COUNT - 1;
+		final long subBucket = bucket % HALF_SUB_BUCKET_COUNT + HALF_SUB_BUCKET_COUNT;
+		return ((subBucket + 1) << shift) - 1;
+	}
+}
@@ -33,6 +33,11 @@ public class MiscRunningAvgs {
 	StatsRunningAverage writeQueueSizeRecordStream;
 	StatsRunningAverage hashQueueSizeRecordStream;
 
+	StatsRunningAverage txnHandlerQueueDepth;
+	StatsRunningAverage txnHandlerWaitMs;
+	StatsRunningAverage queryHandlerQueueDepth;
+	StatsRunningAverage queryHandlerWaitMs;
+
 	public MiscRunningAvgs(final RunningAvgFactory runningAvg, final double halfLife) {
 		this.runningAvg = runningAvg;
 
@@ -42,6 +47,11 @@ public class MiscRunningAvgs {
 
 		writeQueueSizeRecordStream = new StatsRunningAverage(halfLife);
 		hashQueueSizeRecordStream = new StatsRunningAverage(halfLife);
+
+		txnHandlerQueueDepth = new StatsRunningAverage(halfLife);
+		txnHandlerWaitMs = new StatsRunningAverage(halfLife);
+		queryHandlerQueueDepth = new StatsRunningAverage(halfLife);
+		queryHandlerWaitMs = new StatsRunningAverage(halfLife);
 	}
 
 	public void registerWith(final Platform platform) {
@@ -72,6 +82,26 @@ public class MiscRunningAvgs {
 						hashQueueSizeRecordStream
 				)
 		);
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.TXN_HANDLER_QUEUE_DEPTH,
+						Descriptions.TXN_HANDLER_QUEUE_DEPTH,
+						txnHandlerQueueDepth));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.TXN_HANDLER_WAIT_MS,
+						Descriptions.TXN_HANDLER_WAIT_MS,
+						txnHandlerWaitMs));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.QUERY_HANDLER_QUEUE_DEPTH,
+						Descriptions.QUERY_HANDLER_QUEUE_DEPTH,
+						queryHandlerQueueDepth));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.QUERY_HANDLER_WAIT_MS,
+						Descriptions.QUERY_HANDLER_WAIT_MS,
+						queryHandlerWaitMs));
 	}
 
 	public void recordAccountLookupRetries(final int num) {
@@ -94,6 +124,22 @@ public class MiscRunningAvgs {
 		hashQueueSizeRecordStream.recordValue(num);
 	}
 
+	public void recordTxnHandlerQueueDepth(final int depth) {
+		txnHandlerQueueDepth.recordValue(depth);
+	}
+
+	public void recordTxnHandlerWaitMs(final double time) {
+		txnHandlerWaitMs.recordValue(time);
+	}
+
+	public void recordQueryHandlerQueueDepth(final int depth) {
+		queryHandlerQueueDepth.recordValue(depth);
+	}
+
+	public void recordQueryHandlerWaitMs(final double time) {
+		queryHandlerWaitMs.recordValue(time);
+	}
+
 	public static final class Names {
 		static final String ACCOUNT_RETRY_WAIT_MS = "avgAcctRetryWaitMs";
 		static final String ACCOUNT_LOOKUP_RETRIES = "avgAcctLookupRetryAttempts";
@@ -102,6 +148,11 @@ public class MiscRunningAvgs {
 		static final String WRITE_QUEUE_SIZE_RECORD_STREAM = "writeQueueSizeRecordStream";
 		static final String HASH_QUEUE_SIZE_RECORD_STREAM = "hashQueueSizeRecordStream";
 
+		static final String TXN_HANDLER_QUEUE_DEPTH = "txnHandlerQueueDepth";
+		static final String TXN_HANDLER_WAIT_MS = "avgTxnHandlerWaitMs";
+		static final String QUERY_HANDLER_QUEUE_DEPTH = "queryHandlerQueueDepth";
+		static final String QUERY_HANDLER_WAIT_MS = "avgQueryHandlerWaitMs";
+
 		private Names() {
 			throw new UnsupportedOperationException("Utility Class");
 		}
@@ -120,6 +171,15 @@ public class MiscRunningAvgs {
 		static final String HASH_QUEUE_SIZE_RECORD_STREAM =
 				"size of working queue for calculating hash and runningHash";
 
+		static final String TXN_HANDLER_QUEUE_DEPTH =
+				"number of gRPC transactions waiting for a handler thread";
+		static final String TXN_HANDLER_WAIT_MS =
+				"average time in millis a gRPC transaction waits for a handler thread";
+		static final String QUERY_HANDLER_QUEUE_DEPTH =
+				"number of gRPC queries waiting for a handler thread";
+		static final String QUERY_HANDLER_WAIT_MS =
+				"average time in millis a gRPC query waits for a handler thread";
+
 		private Descriptions() {
 			throw new UnsupportedOperationException("Utility Class");
 		}
@@ -26,6 +26,7 @@ import com.swirlds.common.Platform;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.nio.file.Paths;
 import java.util.function.Function;
 
 import static com.hedera.services.utils.SleepingPause.SLEEPING_PAUSE;
@@ -40,12 +41,15 @@ public class ServicesStatsManager {
 	});
 
 	static final String SPEEDOMETER_UPDATE_THREAD_NAME_TPL = "SpeedometerUpdateThread%d";
+	static final String HANDLE_PHASES_DUMP_THREAD_NAME_TPL = "HandlePhasesDumpThread%d";
+	static final String HANDLE_PHASES_DUMP_FILE_TPL = "handlePhases%d.csv";
 
 	private final HapiOpCounters opCounters;
 	private final MiscRunningAvgs runningAvgs;
 	private final MiscSpeedometers speedometers;
 	private final HapiOpSpeedometers opSpeedometers;
 	private final NodeLocalProperties properties;
+	private final HandlePhaseTracker handlePhaseTracker;
 
 	@Inject
 	public ServicesStatsManager(
@@ -53,9 +57,11 @@ public class ServicesStatsManager {
 			MiscRunningAvgs runningAvgs,
 			MiscSpeedometers speedometers,
 			HapiOpSpeedometers opSpeedometers,
-			NodeLocalProperties properties
+			NodeLocalProperties properties,
+			HandlePhaseTracker handlePhaseTracker
 	) {
 		this.properties = properties;
+		this.handlePhaseTracker = handlePhaseTracker;
 		this.opCounters = opCounters;
 		this.runningAvgs = runningAvgs;
 		this.speedometers = speedometers;
@@ -76,5 +82,18 @@ public class ServicesStatsManager {
 		});
 		updateThread.setName(String.format(SPEEDOMETER_UPDATE_THREAD_NAME_TPL, platform.getSelfId().getId()));
 		updateThread.start();
+
+		if (properties.isHandlePhaseTrackingEnabled()) {
+			final var selfId = platform.getSelfId().getId();
+			final var dumpPath = Paths.get(
+					properties.handlePhasesDumpDir(),
+					String.format(HANDLE_PHASES_DUMP_FILE_TPL, selfId));
+			var dumpThread = loopFactory.apply(() -> {
+				pause.forMs(properties.handlePhasesDumpIntervalMs());
+				handlePhaseTracker.dumpTo(dumpPath);
+			});
+			dumpThread.setName(String.format(HANDLE_PHASES_DUMP_THREAD_NAME_TPL, selfId));
+			dumpThread.start();
+		}
 	}
 }
@@ -23,7 +23,9 @@ package com.hedera.services.store;
 import com.hedera.services.ledger.HederaLedger;
 import com.hedera.services.ledger.TransactionalLedger;
 import com.hedera.services.ledger.properties.AccountProperty;
+import com.hedera.services.state.initialization.ViewBuilder;
 import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.utils.EntityNum;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 
@@ -45,6 +47,16 @@ public interface Store<T, K> {
         /* No-op. */
     }
 
+    /**
+     * Returns a builder of this store's internal views, for a rebuild that shares its traversal of
+     * the underlying entities with other views; by default, a builder of no views.
+     *
+     * @return the builder of this store's views
+     */
+    default ViewBuilder<EntityNum, K> viewsBuilder() {
+        return (num, entity) -> { /* No-op. */ };
+    }
+
     void commitCreation();
     void rollbackCreation();
     boolean isCreationPending();
@@ -23,6 +23,7 @@ package com.hedera.services.store.contracts;
  */
 
 import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.contracts.execution.CodeCache;
 import com.hedera.services.ledger.HederaLedger;
 import com.hedera.services.ledger.accounts.HederaAccountCustomizer;
 import com.hedera.services.ledger.ids.EntityIdSource;
@@ -52,12 +53,13 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
-import java.util.TreeSet;
+import java.util.TreeMap;
 import java.util.stream.Stream;
 
 import static com.hedera.services.context.properties.StaticPropertiesHolder.STATIC_PROPERTIES;
@@ -65,6 +67,7 @@ import static com.hedera.services.exceptions.ValidationUtils.validateFalse;
 import static com.hedera.services.exceptions.ValidationUtils.validateTrue;
 import static com.hedera.services.ledger.HederaLedger.CONTRACT_ID_COMPARATOR;
 import static com.hedera.services.utils.EntityIdUtils.accountParsedFromSolidityAddress;
+import static com.hedera.services.utils.EntityIdUtils.asSolidityAddress;
 import static com.hedera.services.utils.EntityIdUtils.contractParsedFromSolidityAddress;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.FAIL_INVALID;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.MAX_CONTRACT_STORAGE_EXCEEDED;
@@ -78,23 +81,30 @@ public class HederaWorldState implements HederaMutableWorldState {
 	private final Map<Address, Address> sponsorMap = new LinkedHashMap<>();
 	private final List<ContractID> provisionalContractCreations = new LinkedList<>();
 	private final GlobalDynamicProperties globalDynamicProperties;
+	private final CodeCache codeCache;
+	private final Map<Long, Map<UInt256, UInt256>> pendingSlotWrites = new TreeMap<>();
+	/* The new code at each address whose code was changed by the pending commit (empty if deleted) */
+	private final Map<Address, Bytes> pendingCodeChanges = new LinkedHashMap<>();
 
 	@Inject
 	public HederaWorldState(
 			final EntityIdSource ids,
 			final HederaLedger ledger,
 			final ServicesRepositoryRoot repositoryRoot,
-			final GlobalDynamicProperties globalDynamicProperties
+			final GlobalDynamicProperties globalDynamicProperties,
+			final CodeCache codeCache
 	) {
 		this.ids = ids;
 		this.repositoryRoot = repositoryRoot;
 		this.ledger = ledger;
 		this.globalDynamicProperties = globalDynamicProperties;
+		this.codeCache = codeCache;
 	}
 
 	@Override
 	public List<ContractID> persist() {
 		var status = SUCCESS;
+		applyPendingWritesToContractDetails();
 		if (!repositoryRoot.flushStorageCacheIfTotalSizeLessThan(globalDynamicProperties.maxContractStorageKb())) {
 			status = MAX_CONTRACT_STORAGE_EXCEEDED;
 		}
@@ -104,6 +114,7 @@ public class HederaWorldState implements HederaMutableWorldState {
 		}
 
 		repositoryRoot.flush();
+		updateCodeCacheAfterFlush(status == SUCCESS);
 
 		validateTrue(status == SUCCESS, status);
 		final var copy = new ArrayList<>(provisionalContractCreations);
@@ -113,6 +124,30 @@ public class HederaWorldState implements HederaMutableWorldState {
 		return copy;
 	}
 
+	private void updateCodeCacheAfterFlush(final boolean wasSuccessful) {
+		pendingCodeChanges.forEach((address, code) -> {
+			codeCache.invalidate(address);
+			if (wasSuccessful) {
+				codeCache.cacheDeployed(address, code);
+			}
+		});
+		pendingCodeChanges.clear();
+	}
+
+	private void applyPendingWritesToContractDetails() {
+		pendingSlotWrites.forEach((contractNum, writes) -> {
+			final var storageTrie = repositoryRoot.getContractDetails(
+					asSolidityAddress(STATIC_PROPERTIES.scopedAccountWith(contractNum)));
+			writes.forEach((slot, value) -> storageTrie.put(DWUtil.fromUInt256(slot), DWUtil.fromUInt256(value)));
+		});
+		pendingSlotWrites.clear();
+	}
+
+	private void stageSlotWrites(final Address address, final Map<UInt256, UInt256> updatedStorage) {
+		final var contractNum = accountParsedFromSolidityAddress(address.toArrayUnsafe()).getAccountNum();
+		pendingSlotWrites.computeIfAbsent(contractNum, ignore -> new TreeMap<>()).putAll(updatedStorage);
+	}
+
 	@Override
 	public void customizeSponsoredAccounts() {
 		// copy over sponsor account info for CREATE operations
@@ -197,6 +232,11 @@ public class HederaWorldState implements HederaMutableWorldState {
 		private long expiry;
 		private long autoRenew;
 
+		/* Read-through caches of the committed code and storage; valid until the next world state commit */
+		private Bytes code;
+		private Hash codeHash;
+		private final Map<UInt256, UInt256> storageReads = new HashMap<>();
+
 		public WorldStateAccount(final Address address, final Wei balance, long expiry, long autoRenew,
 								 EntityId proxyAccount) {
 			this.expiry = expiry;
@@ -232,8 +272,17 @@ public class HederaWorldState implements HederaMutableWorldState {
 
 		@Override
 		public Bytes getCode() {
-			var codeBytes = repositoryRoot.getCode(getAddress().toArray());
-			return codeBytes == null ? Bytes.EMPTY : Bytes.of(codeBytes);
+			if (code == null) {
+				final var cached = codeCache.getIfCached(address);
+				if (cached != null) {
+					code = cached.getBytes();
+					codeHash = cached.getCodeHash();
+				} else {
+					final var codeBytes = repositoryRoot.getCode(getAddress().toArray());
+					code = codeBytes == null ? Bytes.EMPTY : Bytes.of(codeBytes);
+				}
+			}
+			return code;
 		}
 
 		public EntityId getProxyAccount() {
@@ -251,11 +300,23 @@ public class HederaWorldState implements HederaMutableWorldState {
 
 		@Override
 		public Hash getCodeHash() {
-			return Hash.hash(this.getCode());
+			if (codeHash == null) {
+				codeHash = Hash.hash(this.getCode());
+			}
+			return codeHash;
 		}
 
 		@Override
 		public UInt256 getStorageValue(final UInt256 key) {
+			var value = storageReads.get(key);
+			if (value == null) {
+				value = committedStorageValue(key);
+				storageReads.put(key, value);
+			}
+			return value;
+		}
+
+		private UInt256 committedStorageValue(final UInt256 key) {
 			DataWord dwValue = storageTrie().get(DWUtil.fromUInt256(key));
 			return dwValue == null ? UInt256.ZERO : DWUtil.fromDataWord(dwValue);
 		}
@@ -319,6 +380,8 @@ public class HederaWorldState implements HederaMutableWorldState {
 			implements HederaWorldUpdater {
 
 		final Map<Address, Address> sponsorMap = new LinkedHashMap<>();
+		/* Accounts read from the world state during this transaction, including those that do not exist */
+		final Map<Address, WorldStateAccount> accountReads = new HashMap<>();
 		Gas sbhRefund = Gas.ZERO;
 
 		protected Updater(final HederaWorldState world) {
@@ -329,10 +392,20 @@ public class HederaWorldState implements HederaMutableWorldState {
 			return sponsorMap;
 		}
 
+		/**
+		 * Returns the committed state of the account at the given address, reading it from the world state
+		 * at most once per transaction. Since nothing is written to the world state until this updater
+		 * commits, the returned account can also cache its code, code hash, and storage reads.
+		 */
 		@Override
 		protected WorldStateAccount getForMutation(final Address address) {
+			if (accountReads.containsKey(address)) {
+				return accountReads.get(address);
+			}
 			final HederaWorldState wrapped = wrappedWorldView();
-			return wrapped.get(address);
+			final var account = wrapped.get(address);
+			accountReads.put(address, account);
+			return account;
 		}
 
 		@Override
@@ -383,6 +456,8 @@ public class HederaWorldState implements HederaMutableWorldState {
 				validateFalse(repository.isDeleted(bytesAddress), FAIL_INVALID);
 				repository.addBalance(bytesAddress, repository.getBalance(bytesAddress).negate());
 				repository.setDeleted(bytesAddress, true);
+				wrapped.codeCache.invalidate(address);
+				wrapped.pendingCodeChanges.put(address, Bytes.EMPTY);
 			});
 
 			for (final UpdateTrackingAccount<WorldStateAccount> updated : getUpdatedAccounts()) {
@@ -398,31 +473,16 @@ public class HederaWorldState implements HederaMutableWorldState {
 				final var adjustment = updated.getBalance().toBigInteger().subtract(oldBalance);
 				repository.addBalance(address, adjustment);
 
-				final WorldStateAccount origin = updated.getWrappedAccount();
-				// ...and storage in the account trie first.
-				final boolean freshState = origin == null || updated.getStorageWasCleared();
 				final Map<UInt256, UInt256> updatedStorage = updated.getUpdatedStorage();
 				if (!updatedStorage.isEmpty()) {
-					// Apply any storage updates
-					final ContractDetails storageTrie =
-							freshState ? wrapped.repositoryRoot.getContractDetails(
-									updated.getAddress().toArray()) : origin.storageTrie();
-					final TreeSet<Map.Entry<UInt256, UInt256>> entries =
-							new TreeSet<>(Map.Entry.comparingByKey());
-					entries.addAll(updatedStorage.entrySet());
-
-					for (final Map.Entry<UInt256, UInt256> entry : entries) {
-						final UInt256 value = entry.getValue();
-						if (value.isZero()) {
-							storageTrie.put(DWUtil.fromUInt256(entry.getKey()), DataWord.ZERO);
-						} else {
-							storageTrie.put(DWUtil.fromUInt256(entry.getKey()), DWUtil.fromUInt256(value));
-						}
-					}
+					// Stage the updated slots as one batch for this contract, applied in persist()
+					wrapped.stageSlotWrites(updated.getAddress(), updatedStorage);
 				}
 				// Save the code in storage ...
 				if (updated.codeWasUpdated()) {
 					repository.saveCode(address, updated.getCode().toArray());
+					wrapped.codeCache.invalidate(updated.getAddress());
+					wrapped.pendingCodeChanges.put(updated.getAddress(), updated.getCode());
 				}
 			}
 		}
@@ -0,0 +1,64 @@
+package com.hedera.services.store.contracts;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.contracts.execution.CodeCache;
+import com.hederahashgraph.api.proto.java.ContractID;
+import org.ethereum.db.ServicesRepositoryRoot;
+import org.hyperledger.besu.datatypes.Address;
+
+import java.util.List;
+
+/**
+ * A {@link HederaWorldState} for static calls, over a repository that reads from a copy of the state and rejects
+ * writes. Each query gets its own instance (see {@link ReadOnlyWorldStateFactory}), so concurrent queries share
+ * no mutable repository caches with each other or with {@code handleTransaction}.
+ */
+public class ReadOnlyWorldState extends HederaWorldState {
+	public ReadOnlyWorldState(
+			final ServicesRepositoryRoot repositoryRoot,
+			final GlobalDynamicProperties globalDynamicProperties,
+			final CodeCache codeCache
+	) {
+		super(null, null, repositoryRoot, globalDynamicProperties, codeCache);
+	}
+
+	@Override
+	public List<ContractID> persist() {
+		throw new UnsupportedOperationException("A read-only world state cannot be persisted");
+	}
+
+	@Override
+	public void customizeSponsoredAccounts() {
+		throw new UnsupportedOperationException("A read-only world state cannot create contracts");
+	}
+
+	@Override
+	public Address newContractAddress(final Address sponsor) {
+		throw new UnsupportedOperationException("A read-only world state cannot create contracts");
+	}
+
+	@Override
+	public void reclaimContractId() {
+		throw new UnsupportedOperationException("A read-only world state cannot create contracts");
+	}
+}
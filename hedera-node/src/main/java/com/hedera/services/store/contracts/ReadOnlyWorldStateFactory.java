@@ -0,0 +1,69 @@
+package com.hedera.services.store.contracts;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.contracts.execution.CodeCache;
+import com.hedera.services.contracts.persistence.BlobStoragePersistence;
+import com.hedera.services.contracts.sources.BlobStorageSource;
+import com.hedera.services.contracts.sources.ReadOnlyAccountsSource;
+import org.ethereum.db.ServicesRepositoryRoot;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.time.Instant;
+
+/**
+ * Creates a {@link ReadOnlyWorldState} over the accounts, bytecode and storage of a {@link StateView}. When the view
+ * is of the latest signed state (see {@code queries.useLatestSignedState}), the world state reads only immutable
+ * state; otherwise it reads the working state as the shared {@link HederaWorldState} does.
+ */
+@Singleton
+public class ReadOnlyWorldStateFactory {
+	private final CodeCache codeCache;
+	private final GlobalDynamicProperties dynamicProperties;
+
+	@Inject
+	public ReadOnlyWorldStateFactory(
+			final CodeCache codeCache,
+			final GlobalDynamicProperties dynamicProperties
+	) {
+		this.codeCache = codeCache;
+		this.dynamicProperties = dynamicProperties;
+	}
+
+	/**
+	 * Returns a new world state that reads from the given view, as of the given time.
+	 *
+	 * @param view the view to read from
+	 * @param now the time used to decide if accounts are detached
+	 * @return the read-only world state
+	 */
+	public ReadOnlyWorldState worldStateOver(final StateView view, final Instant now) {
+		final var accountsSource = new ReadOnlyAccountsSource(view.accounts(), dynamicProperties, now.getEpochSecond());
+		final var repositoryRoot = new ServicesRepositoryRoot(
+				accountsSource,
+				new BlobStorageSource(view.contractBytecode()));
+		repositoryRoot.setStoragePersistence(new BlobStoragePersistence(view.contractStorage()));
+		return new ReadOnlyWorldState(repositoryRoot, dynamicProperties, codeCache);
+	}
+}
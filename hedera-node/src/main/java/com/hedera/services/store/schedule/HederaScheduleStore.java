@@ -22,6 +22,7 @@ package com.hedera.services.store.schedule;
 
 import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.ledger.ids.EntityIdSource;
+import com.hedera.services.state.initialization.ViewBuilder;
 import com.hedera.services.state.merkle.MerkleSchedule;
 import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.state.submerkle.RichInstant;
@@ -46,7 +47,6 @@ import static com.hedera.services.store.CreationResult.success;
 import static com.hedera.services.utils.EntityIdUtils.readableId;
 import static com.hedera.services.utils.EntityNum.fromLong;
 import static com.hedera.services.utils.EntityNum.fromScheduleId;
-import static com.hedera.services.utils.MiscUtils.forEach;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_SCHEDULE_ACCOUNT_ID;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_SCHEDULE_ID;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_SCHEDULE_PAYER_ID;
@@ -184,14 +184,31 @@ public final class HederaScheduleStore extends HederaStore implements ScheduleSt
 
 	@Override
 	public void rebuildViews() {
-		extantSchedules.clear();
-		buildContentAddressableViewOfExtantSchedules();
+		ViewBuilder.rebuild(schedules.get(), viewsBuilder());
+	}
+
+	@Override
+	public ViewBuilder<EntityNum, MerkleSchedule> viewsBuilder() {
+		return new ViewBuilder<>() {
+			@Override
+			public void start() {
+				extantSchedules.clear();
+			}
+
+			@Override
+			public void visit(final EntityNum num, final MerkleSchedule schedule) {
+				extantSchedules.put(schedule.toContentAddressableView(), num);
+			}
+		};
 	}
 
 	@Override
 	public Pair<ScheduleID, MerkleSchedule> lookupSchedule(final byte[] bodyBytes) {
-		final var schedule = MerkleSchedule.from(bodyBytes, 0L);
+		return lookupSchedule(MerkleSchedule.from(bodyBytes, 0L));
+	}
 
+	@Override
+	public Pair<ScheduleID, MerkleSchedule> lookupSchedule(final MerkleSchedule schedule) {
 		if (isCreationPending()) {
 			if (schedule.equals(pendingCreation)) {
 				return Pair.of(pendingId, pendingCreation);
@@ -241,11 +258,6 @@ public final class HederaScheduleStore extends HederaStore implements ScheduleSt
 		}
 	}
 
-	private void buildContentAddressableViewOfExtantSchedules() {
-		final var curSchedules = schedules.get();
-		forEach(curSchedules, (key, value) -> extantSchedules.put(value.toContentAddressableView(), key));
-	}
-
 	private ResponseCodeEnum usabilityCheck(
 			ScheduleID id,
 			boolean requiresMutability
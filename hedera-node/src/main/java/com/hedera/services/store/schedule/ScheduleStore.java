@@ -44,6 +44,7 @@ public interface ScheduleStore extends Store<ScheduleID, MerkleSchedule> {
 	CreationResult<ScheduleID> createProvisionally(MerkleSchedule candidate, RichInstant consensusTime);
 
 	Pair<ScheduleID, MerkleSchedule> lookupSchedule(byte[] bodyBytes);
+	Pair<ScheduleID, MerkleSchedule> lookupSchedule(MerkleSchedule candidate);
 	ResponseCodeEnum markAsExecuted(ScheduleID id, Instant consensusTime);
 	void expire(EntityId id);
 
@@ -30,6 +30,7 @@ import com.hedera.services.ledger.properties.TokenRelProperty;
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.sigs.utils.ImmutableKeyUtils;
 import com.hedera.services.state.enums.TokenType;
+import com.hedera.services.state.initialization.ViewBuilder;
 import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hedera.services.state.merkle.MerkleUniqueToken;
@@ -78,7 +79,6 @@ import static com.hedera.services.utils.EntityIdUtils.readableId;
 import static com.hedera.services.utils.EntityNum.fromTokenId;
 import static com.hedera.services.utils.MiscUtils.asFcKeyUnchecked;
 import static com.hedera.services.utils.MiscUtils.asUsableFcKey;
-import static com.hedera.services.utils.MiscUtils.forEach;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.ACCOUNT_AMOUNT_TRANSFERS_ONLY_ALLOWED_FOR_FUNGIBLE_COMMON;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.ACCOUNT_FROZEN_FOR_TOKEN;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.ACCOUNT_KYC_NOT_GRANTED_FOR_TOKEN;
@@ -153,17 +153,25 @@ public class HederaTokenStore extends HederaStore implements TokenStore {
 
 	@Override
 	public void rebuildViews() {
-		knownTreasuries.clear();
-		rebuildViewOfKnownTreasuries();
+		ViewBuilder.rebuild(tokens.get(), viewsBuilder());
 	}
 
-	private void rebuildViewOfKnownTreasuries() {
-		forEach(tokens.get(), (key, value) -> {
-			/* A deleted token's treasury is no longer bound by ACCOUNT_IS_TREASURY restrictions. */
-			if (!value.isDeleted()) {
-				addKnownTreasury(value.treasury().toGrpcAccountId(), key.toGrpcTokenId());
+	@Override
+	public ViewBuilder<EntityNum, MerkleToken> viewsBuilder() {
+		return new ViewBuilder<>() {
+			@Override
+			public void start() {
+				knownTreasuries.clear();
 			}
-		});
+
+			@Override
+			public void visit(final EntityNum num, final MerkleToken token) {
+				/* A deleted token's treasury is no longer bound by ACCOUNT_IS_TREASURY restrictions. */
+				if (!token.isDeleted()) {
+					addKnownTreasury(token.treasury().toGrpcAccountId(), num.toGrpcTokenId());
+				}
+			}
+		};
 	}
 
 	@Override
@@ -23,6 +23,7 @@ package com.hedera.services.store.tokens.views;
 import com.hedera.services.state.annotations.NftsByOwner;
 import com.hedera.services.state.annotations.NftsByType;
 import com.hedera.services.state.annotations.TreasuryNftsByType;
+import com.hedera.services.state.initialization.ViewBuilder;
 import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleUniqueToken;
 import com.hedera.services.state.submerkle.EntityId;
@@ -124,6 +125,37 @@ public class UniqTokenViewsManager {
 		futureRebuild.join();
 	}
 
+	/**
+	 * Returns a builder of the internal views of the unique tokens, for a rebuild that shares its
+	 * traversal of the unique tokens with other views. The builder updates every view as it visits
+	 * each unique token, so the views are identical to those built by
+	 * {@link UniqTokenViewsManager#rebuildNotice(MerkleMap, MerkleMap)}.
+	 *
+	 * @param tokens
+	 * 		token types in the world state
+	 * @return the builder of the unique token views
+	 */
+	public ViewBuilder<EntityNumPair, MerkleUniqueToken> viewsBuilder(MerkleMap<EntityNum, MerkleToken> tokens) {
+		if (doNoops) {
+			return (nftId, nft) -> { /* No-op. */ };
+		}
+		final var curNftsByType = nftsByType.get();
+		final var curNftsByOwner = nftsByOwner.get();
+		if (isUsingTreasuryWildcards()) {
+			final var curTreasuryNftsByType = curTreasuryNftsByType();
+			return (nftId, nft) -> {
+				visitNftsByType(curNftsByType, tokens, nftId);
+				visitTreasuryNftsByType(curTreasuryNftsByType, tokens, nftId, nft);
+				visitNonTreasuryNftsByOwner(curNftsByOwner, tokens, nftId, nft);
+			};
+		} else {
+			return (nftId, nft) -> {
+				visitNftsByType(curNftsByType, tokens, nftId);
+				visitAllNftsByOwner(curNftsByOwner, tokens, nftId, nft);
+			};
+		}
+	}
+
 	/**
 	 * Updates the internal view of the unique tokens in the world state to reflect
 	 * the minting of an NFT with the given id in the given treasury.
@@ -401,15 +433,7 @@ public class UniqTokenViewsManager {
 			MerkleMap<EntityNumPair, MerkleUniqueToken> nfts
 	) {
 		final var curTreasuryNftsByType = curTreasuryNftsByType();
-		forEach(nfts, (nftId, nft) -> {
-			if (nft.isTreasuryOwned()) {
-				final var tokenId = nftId.getHiPhi();
-				if (!tokens.containsKey(tokenId)) {
-					return;
-				}
-				curTreasuryNftsByType.associate(tokenId, nftId.value());
-			}
-		});
+		forEach(nfts, (nftId, nft) -> visitTreasuryNftsByType(curTreasuryNftsByType, tokens, nftId, nft));
 	}
 
 	private void rebuildNonTreasuryNftsByOwner(
@@ -417,14 +441,7 @@ public class UniqTokenViewsManager {
 			MerkleMap<EntityNumPair, MerkleUniqueToken> nfts
 	) {
 		final var curNftsByOwner = nftsByOwner.get();
-		forEach(nfts, (nftId, nft) -> {
-			if (!tokens.containsKey(nftId.getHiPhi())) {
-				return;
-			}
-			if (!nft.isTreasuryOwned()) {
-				curNftsByOwner.associate(fromInt(nft.getOwner().identityCode()), nftId.value());
-			}
-		});
+		forEach(nfts, (nftId, nft) -> visitNonTreasuryNftsByOwner(curNftsByOwner, tokens, nftId, nft));
 	}
 
 	private void rebuildAllNftsByOwner(
@@ -432,18 +449,7 @@ public class UniqTokenViewsManager {
 			MerkleMap<EntityNumPair, MerkleUniqueToken> nfts
 	) {
 		final var curNftsByOwner = nftsByOwner.get();
-		forEach(nfts, (nftId, nft) -> {
-			final var tokenId = nftId.getHiPhi();
-			if (!tokens.containsKey(tokenId)) {
-				return;
-			}
-			if (nft.isTreasuryOwned()) {
-				final var token = tokens.get(tokenId);
-				curNftsByOwner.associate(fromInt(token.treasury().identityCode()), nftId.value());
-			} else {
-				curNftsByOwner.associate(fromInt(nft.getOwner().identityCode()), nftId.value());
-			}
-		});
+		forEach(nfts, (nftId, nft) -> visitAllNftsByOwner(curNftsByOwner, tokens, nftId, nft));
 	}
 
 	private void rebuildNftsByType(
@@ -451,13 +457,66 @@ public class UniqTokenViewsManager {
 			MerkleMap<EntityNumPair, MerkleUniqueToken> nfts
 	) {
 		final var curNftsByType = nftsByType.get();
-		forEach(nfts, (nftId, nft) -> {
+		forEach(nfts, (nftId, nft) -> visitNftsByType(curNftsByType, tokens, nftId));
+	}
+
+	private static void visitTreasuryNftsByType(
+			FCOneToManyRelation<EntityNum, Long> curTreasuryNftsByType,
+			MerkleMap<EntityNum, MerkleToken> tokens,
+			EntityNumPair nftId,
+			MerkleUniqueToken nft
+	) {
+		if (nft.isTreasuryOwned()) {
 			final var tokenId = nftId.getHiPhi();
 			if (!tokens.containsKey(tokenId)) {
 				return;
 			}
-			curNftsByType.associate(tokenId, nftId.value());
-		});
+			curTreasuryNftsByType.associate(tokenId, nftId.value());
+		}
+	}
+
+	private static void visitNonTreasuryNftsByOwner(
+			FCOneToManyRelation<EntityNum, Long> curNftsByOwner,
+			MerkleMap<EntityNum, MerkleToken> tokens,
+			EntityNumPair nftId,
+			MerkleUniqueToken nft
+	) {
+		if (!tokens.containsKey(nftId.getHiPhi())) {
+			return;
+		}
+		if (!nft.isTreasuryOwned()) {
+			curNftsByOwner.associate(fromInt(nft.getOwner().identityCode()), nftId.value());
+		}
+	}
+
+	private static void visitAllNftsByOwner(
+			FCOneToManyRelation<EntityNum, Long> curNftsByOwner,
+			MerkleMap<EntityNum, MerkleToken> tokens,
+			EntityNumPair nftId,
+			MerkleUniqueToken nft
+	) {
+		final var tokenId = nftId.getHiPhi();
+		if (!tokens.containsKey(tokenId)) {
+			return;
+		}
+		if (nft.isTreasuryOwned()) {
+			final var token = tokens.get(tokenId);
+			curNftsByOwner.associate(fromInt(token.treasury().identityCode()), nftId.value());
+		} else {
+			curNftsByOwner.associate(fromInt(nft.getOwner().identityCode()), nftId.value());
+		}
+	}
+
+	private static void visitNftsByType(
+			FCOneToManyRelation<EntityNum, Long> curNftsByType,
+			MerkleMap<EntityNum, MerkleToken> tokens,
+			EntityNumPair nftId
+	) {
+		final var tokenId = nftId.getHiPhi();
+		if (!tokens.containsKey(tokenId)) {
+			return;
+		}
+		curNftsByType.associate(tokenId, nftId.value());
 	}
 
 	/* --- Only used by unit tests --- */
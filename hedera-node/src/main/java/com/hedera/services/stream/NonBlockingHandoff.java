@@ -24,16 +24,27 @@ import com.hedera.services.context.properties.NodeLocalProperties;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static java.util.concurrent.Executors.newSingleThreadExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
+/**
+ * Hands {@link RecordStreamObject}s from the handle thread to the {@link RecordStreamManager} on a
+ * dedicated thread. When the queue is empty the handoff thread parks (waking at least every
+ * {@code IDLE_PARK_MS} to check for shutdown) instead of spinning; when records are flowing, it
+ * drains everything queued, up to {@code MAX_BATCH_SIZE}, and streams it as one batch.
+ */
 @Singleton
 public class NonBlockingHandoff {
 	private static final int MIN_CAPACITY = 5_000;
+	static final int MAX_BATCH_SIZE = 1_024;
+	static final long IDLE_PARK_MS = 100L;
 
 	private ExecutorService executor = newSingleThreadExecutor();
 
@@ -56,11 +67,19 @@ public class NonBlockingHandoff {
 	}
 
 	private void handoff() {
-		while (!timeToStop.get()) {
-			final var rso = queue.poll();
-			if (rso != null) {
-				recordStreamManager.addRecordStreamObject(rso);
+		final List<RecordStreamObject> batch = new ArrayList<>(MAX_BATCH_SIZE);
+		try {
+			while (!timeToStop.get()) {
+				final var first = queue.poll(IDLE_PARK_MS, MILLISECONDS);
+				if (first != null) {
+					batch.add(first);
+					queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+					recordStreamManager.addRecordStreamObjects(batch);
+					batch.clear();
+				}
 			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
 		}
 	}
 
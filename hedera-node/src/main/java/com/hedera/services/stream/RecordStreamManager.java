@@ -205,11 +205,25 @@ public class RecordStreamManager {
 	 * 		the {@link RecordStreamObject} object to be added
 	 */
 	public void addRecordStreamObject(final RecordStreamObject recordStreamObject) {
-		if (!inFreeze) {
-			try {
-				multiStream.addObject(recordStreamObject);
-			} catch (Exception e) {
-				log.warn("Unhandled exception while streaming {}", recordStreamObject, e);
+		addRecordStreamObjects(List.of(recordStreamObject));
+	}
+
+	/**
+	 * Streams a batch of {@link RecordStreamObject}s in order, exactly as if each were passed to
+	 * {@link RecordStreamManager#addRecordStreamObject(RecordStreamObject)}; but only updates the
+	 * queue size stats once for the whole batch.
+	 *
+	 * @param recordStreamObjects
+	 * 		the {@link RecordStreamObject}s to be added, in consensus order
+	 */
+	public void addRecordStreamObjects(final List<RecordStreamObject> recordStreamObjects) {
+		for (final var recordStreamObject : recordStreamObjects) {
+			if (!inFreeze) {
+				try {
+					multiStream.addObject(recordStreamObject);
+				} catch (Exception e) {
+					log.warn("Unhandled exception while streaming {}", recordStreamObject, e);
+				}
 			}
 		}
 		if (writeQueueThread != null) {
@@ -0,0 +1,142 @@
+package com.hedera.services.throttling;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.sysfiles.domain.throttling.ThrottleReqOpsScaleFactor;
+import com.hedera.services.throttles.ConcurrentBucketThrottle;
+import com.hedera.services.throttles.DeterministicThrottle;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link ThrottleReqsManager} that can be used by many threads at once. Each requirement is
+ * checked against a {@link ConcurrentBucketThrottle} with the same rate and capacity as its
+ * {@link DeterministicThrottle}; if any requirement fails, the capacity taken from the
+ * throttles that already passed is returned before reporting the failure.
+ *
+ * Several functions can draw on the same bucket, so the managers built for one set of throttle
+ * definitions must share a single {@link ConcurrentBucketThrottle} per {@link DeterministicThrottle};
+ * otherwise each function would get its own copy of the bucket's capacity.
+ */
+public class ConcurrentThrottleReqsManager extends ThrottleReqsManager {
+	private static final long NANOS_PER_SEC = 1_000_000_000L;
+
+	private final int[] opsReqs;
+	private final DeterministicThrottle[] mirrors;
+	private final ConcurrentBucketThrottle[] throttles;
+
+	public ConcurrentThrottleReqsManager(List<Pair<DeterministicThrottle, Integer>> allReqs) {
+		this(allReqs, new IdentityHashMap<>());
+	}
+
+	/**
+	 * Creates a manager whose concurrent throttles are taken from (or, if missing, added to) the given
+	 * map, which must be keyed by identity and used for every manager built from the same definitions.
+	 *
+	 * @param allReqs the requirements of the function
+	 * @param sharedThrottles the concurrent throttles already created for the requirements' buckets
+	 */
+	public ConcurrentThrottleReqsManager(
+			List<Pair<DeterministicThrottle, Integer>> allReqs,
+			Map<DeterministicThrottle, ConcurrentBucketThrottle> sharedThrottles
+	) {
+		super(allReqs);
+		final var n = allReqs.size();
+		opsReqs = new int[n];
+		mirrors = new DeterministicThrottle[n];
+		throttles = new ConcurrentBucketThrottle[n];
+		for (int i = 0; i < n; i++) {
+			final var req = allReqs.get(i);
+			mirrors[i] = req.getLeft();
+			throttles[i] = sharedThrottles.computeIfAbsent(req.getLeft(), ConcurrentBucketThrottle::from);
+			opsReqs[i] = req.getRight();
+		}
+	}
+
+	@Override
+	public boolean allReqsMetAt(Instant now) {
+		return allConcurrentReqsMetAt(now, 0, null);
+	}
+
+	@Override
+	public boolean allReqsMetAt(Instant now, int nTransactions, ThrottleReqOpsScaleFactor scaleFactor) {
+		return allConcurrentReqsMetAt(now, nTransactions, scaleFactor);
+	}
+
+	/**
+	 * Returns the usage of the concurrent throttles, since the deterministic throttles
+	 * this manager was built from are never asked for capacity.
+	 */
+	@Override
+	public List<DeterministicThrottle.UsageSnapshot> currentUsage() {
+		final var now = Instant.now();
+		final var nowNanos = nanosOf(now);
+		List<DeterministicThrottle.UsageSnapshot> usages = new ArrayList<>();
+		for (var throttle : throttles) {
+			usages.add(new DeterministicThrottle.UsageSnapshot(throttle.used(nowNanos), now));
+		}
+		return usages;
+	}
+
+	/**
+	 * Returns the deterministic throttles this manager was built from, after bringing their
+	 * usage up to date with the concurrent throttles.
+	 */
+	@Override
+	List<DeterministicThrottle> managedThrottles() {
+		final var usages = currentUsage();
+		for (int i = 0; i < mirrors.length; i++) {
+			mirrors[i].resetUsageTo(usages.get(i));
+		}
+		return List.of(mirrors);
+	}
+
+	private boolean allConcurrentReqsMetAt(Instant now, int nTransactions, ThrottleReqOpsScaleFactor scaleFactor) {
+		final var nowNanos = nanosOf(now);
+		for (int i = 0; i < throttles.length; i++) {
+			if (!throttles[i].allow(opsRequired(i, nTransactions, scaleFactor), nowNanos)) {
+				for (int j = 0; j < i; j++) {
+					throttles[j].reclaim(opsRequired(j, nTransactions, scaleFactor));
+				}
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static long nanosOf(Instant now) {
+		return now.getEpochSecond() * NANOS_PER_SEC + now.getNano();
+	}
+
+	private int opsRequired(int i, int nTransactions, ThrottleReqOpsScaleFactor scaleFactor) {
+		return (scaleFactor == null) ? opsReqs[i] : scaleFactor.scaling(nTransactions * opsReqs[i]);
+	}
+
+	/* --- Only used by unit tests --- */
+	ConcurrentBucketThrottle[] concurrentThrottles() {
+		return throttles;
+	}
+}
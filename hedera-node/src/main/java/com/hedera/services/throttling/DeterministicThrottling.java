@@ -25,6 +25,7 @@ import com.hedera.services.grpc.marshalling.AliasResolver;
 import com.hedera.services.ledger.accounts.AliasManager;
 import com.hedera.services.sysfiles.domain.throttling.ThrottleDefinitions;
 import com.hedera.services.sysfiles.domain.throttling.ThrottleReqOpsScaleFactor;
+import com.hedera.services.throttles.ConcurrentBucketThrottle;
 import com.hedera.services.throttles.DeterministicThrottle;
 import com.hedera.services.utils.TxnAccessor;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
@@ -39,7 +40,10 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.EnumMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
 import java.util.function.IntSupplier;
 
 import static com.hedera.services.grpc.marshalling.AliasResolver.usesAliases;
@@ -56,18 +60,37 @@ public class DeterministicThrottling implements TimedFunctionalityThrottling {
 	private final IntSupplier capacitySplitSource;
 	private final AliasManager aliasManager;
 	private final GlobalDynamicProperties dynamicProperties;
+	private final BiFunction<
+			List<Pair<DeterministicThrottle, Integer>>,
+			Map<DeterministicThrottle, ConcurrentBucketThrottle>,
+			ThrottleReqsManager> managerFactory;
 
-	private List<DeterministicThrottle> activeThrottles = Collections.emptyList();
-	private EnumMap<HederaFunctionality, ThrottleReqsManager> functionReqs = new EnumMap<>(HederaFunctionality.class);
+	/* Volatile so that a rebuild is safely published to frontend threads that are not synchronized with it */
+	private volatile List<DeterministicThrottle> activeThrottles = Collections.emptyList();
+	private volatile EnumMap<HederaFunctionality, ThrottleReqsManager> functionReqs =
+			new EnumMap<>(HederaFunctionality.class);
 
 	public DeterministicThrottling(
 			final IntSupplier capacitySplitSource,
 			final AliasManager aliasManager,
 			final GlobalDynamicProperties dynamicProperties
+	) {
+		this(capacitySplitSource, aliasManager, dynamicProperties, (reqs, ignore) -> new ThrottleReqsManager(reqs));
+	}
+
+	public DeterministicThrottling(
+			final IntSupplier capacitySplitSource,
+			final AliasManager aliasManager,
+			final GlobalDynamicProperties dynamicProperties,
+			final BiFunction<
+					List<Pair<DeterministicThrottle, Integer>>,
+					Map<DeterministicThrottle, ConcurrentBucketThrottle>,
+					ThrottleReqsManager> managerFactory
 	) {
 		this.capacitySplitSource = capacitySplitSource;
 		this.dynamicProperties = dynamicProperties;
 		this.aliasManager = aliasManager;
+		this.managerFactory = managerFactory;
 	}
 
 	@Override
@@ -153,7 +176,9 @@ public class DeterministicThrottling implements TimedFunctionalityThrottling {
 			}
 		}
 		EnumMap<HederaFunctionality, ThrottleReqsManager> newFunctionReqs = new EnumMap<>(HederaFunctionality.class);
-		reqLists.forEach((function, reqs) -> newFunctionReqs.put(function, new ThrottleReqsManager(reqs)));
+		/* Keyed by identity, so every function drawing on a bucket shares its one concurrent throttle */
+		Map<DeterministicThrottle, ConcurrentBucketThrottle> sharedThrottles = new IdentityHashMap<>();
+		reqLists.forEach((function, reqs) -> newFunctionReqs.put(function, managerFactory.apply(reqs, sharedThrottles)));
 
 		functionReqs = newFunctionReqs;
 		activeThrottles = newActiveThrottles;
@@ -28,6 +28,11 @@ import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import java.time.Instant;
 import java.util.List;
 
+/**
+ * The frontend throttle consulted by every gRPC thread at ingest. It is not synchronized; so its
+ * delegate must be safe for concurrent use, as is a {@link DeterministicThrottling} built with
+ * {@link ConcurrentThrottleReqsManager}s.
+ */
 public class HapiThrottling implements FunctionalityThrottling {
 	private final TimedFunctionalityThrottling delegate;
 
@@ -36,12 +41,12 @@ public class HapiThrottling implements FunctionalityThrottling {
 	}
 
 	@Override
-	public synchronized boolean shouldThrottleTxn(TxnAccessor accessor) {
+	public boolean shouldThrottleTxn(TxnAccessor accessor) {
 		return delegate.shouldThrottleTxn(accessor, Instant.now());
 	}
 
 	@Override
-	public synchronized boolean shouldThrottleQuery(HederaFunctionality queryFunction) {
+	public boolean shouldThrottleQuery(HederaFunctionality queryFunction) {
 		return delegate.shouldThrottleQuery(queryFunction, Instant.now());
 	}
 
@@ -43,7 +43,7 @@ public final class ThrottlingModule {
 			final GlobalDynamicProperties dynamicProperties
 	) {
 		final var delegate = new DeterministicThrottling(
-				() -> addressBook.get().getSize(), aliasManager, dynamicProperties);
+				() -> addressBook.get().getSize(), aliasManager, dynamicProperties, ConcurrentThrottleReqsManager::new);
 		return new HapiThrottling(delegate);
 	}
 
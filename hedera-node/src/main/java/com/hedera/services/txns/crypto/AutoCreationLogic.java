@@ -121,7 +121,7 @@ public class AutoCreationLogic {
 		if (!pendingCreations.isEmpty()) {
 			for (final var pendingCreation : pendingCreations) {
 				final var alias = pendingCreation.recordBuilder().getAlias();
-				aliasManager.getAliases().remove(alias);
+				aliasManager.unlink(alias);
 			}
 			return true;
 		} else {
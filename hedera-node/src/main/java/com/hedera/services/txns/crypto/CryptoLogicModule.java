@@ -22,6 +22,8 @@ package com.hedera.services.txns.crypto;
 
 import com.hedera.services.fees.annotations.FunctionKey;
 import com.hedera.services.txns.TransitionLogic;
+import com.hedera.services.txns.span.CryptoTransferSpanExpander;
+import com.hedera.services.txns.span.SpanExpander;
 import dagger.Module;
 import dagger.Provides;
 import dagger.multibindings.IntoMap;
@@ -71,6 +73,15 @@ public final class CryptoLogicModule {
 		return List.of(cryptoTransferTransitionLogic);
 	}
 
+	@Provides
+	@IntoMap
+	@FunctionKey(CryptoTransfer)
+	public static SpanExpander provideCryptoTransferExpander(
+			final CryptoTransferSpanExpander cryptoTransferSpanExpander
+	) {
+		return cryptoTransferSpanExpander;
+	}
+
 	private CryptoLogicModule() {
 		throw new UnsupportedOperationException("Dagger2 module");
 	}
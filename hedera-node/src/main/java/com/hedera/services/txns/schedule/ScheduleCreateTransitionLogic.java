@@ -29,12 +29,15 @@ import com.hedera.services.state.merkle.MerkleSchedule;
 import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.store.schedule.ScheduleStore;
 import com.hedera.services.txns.TransitionLogic;
+import com.hedera.services.txns.span.ExpandHandleSpanMapAccessor;
 import com.hedera.services.txns.validation.OptionValidator;
 import com.hedera.services.txns.validation.PureValidation;
+import com.hedera.services.utils.TxnAccessor;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.hederahashgraph.api.proto.java.ScheduleID;
 import com.hederahashgraph.api.proto.java.SignatureMap;
 import com.hederahashgraph.api.proto.java.TransactionBody;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -68,6 +71,7 @@ public class ScheduleCreateTransitionLogic implements TransitionLogic {
 	private final ScheduleExecutor executor;
 	private final ScheduleStore store;
 	private final TransactionContext txnCtx;
+	private final ExpandHandleSpanMapAccessor spanMapAccessor;
 
 	SigMapScheduleClassifier classifier = new SigMapScheduleClassifier();
 	SignatoryUtils.ScheduledSigningsWitness signingsWitness = SignatoryUtils::witnessScoped;
@@ -79,7 +83,8 @@ public class ScheduleCreateTransitionLogic implements TransitionLogic {
 			final InHandleActivationHelper activationHelper,
 			final OptionValidator validator,
 			final ScheduleExecutor executor,
-			final SigImpactHistorian sigImpactHistorian
+			final SigImpactHistorian sigImpactHistorian,
+			final ExpandHandleSpanMapAccessor spanMapAccessor
 	) {
 		this.store = store;
 		this.txnCtx = txnCtx;
@@ -87,21 +92,33 @@ public class ScheduleCreateTransitionLogic implements TransitionLogic {
 		this.validator = validator;
 		this.executor = executor;
 		this.sigImpactHistorian = sigImpactHistorian;
+		this.spanMapAccessor = spanMapAccessor;
 	}
 
 	@Override
 	public void doStateTransition() {
 		try {
 			final var accessor = txnCtx.accessor();
-			transitionFor(accessor.getTxnBytes(), accessor.getSigMap());
+			transitionFor(lookupFor(accessor), accessor.getSigMap());
 		} catch (Exception e) {
 			log.warn("Unhandled error while processing :: {}!", txnCtx.accessor().getSignedTxnWrapper(), e);
 			abortWith(FAIL_INVALID);
 		}
 	}
 
-	private void transitionFor(final byte[] bodyBytes, final SignatureMap sigMap) throws InvalidProtocolBufferException {
-		final var idSchedulePair = store.lookupSchedule(bodyBytes);
+	private Pair<ScheduleID, MerkleSchedule> lookupFor(final TxnAccessor accessor) {
+		final var proposedSchedule = spanMapAccessor.getProposedSchedule(accessor);
+		if (proposedSchedule != null) {
+			/* Expanded in the span of a consensus transaction, so skip re-parsing its bytes. */
+			return store.lookupSchedule(proposedSchedule);
+		}
+		return store.lookupSchedule(accessor.getTxnBytes());
+	}
+
+	private void transitionFor(
+			final Pair<ScheduleID, MerkleSchedule> idSchedulePair,
+			final SignatureMap sigMap
+	) throws InvalidProtocolBufferException {
 		@Nullable final var existingScheduleId = idSchedulePair.getLeft();
 		final var schedule = idSchedulePair.getRight();
 		if (null != existingScheduleId) {
@@ -22,6 +22,8 @@ package com.hedera.services.txns.schedule;
 
 import com.hedera.services.fees.annotations.FunctionKey;
 import com.hedera.services.txns.TransitionLogic;
+import com.hedera.services.txns.span.ScheduleCreateSpanExpander;
+import com.hedera.services.txns.span.SpanExpander;
 import dagger.Module;
 import dagger.Provides;
 import dagger.multibindings.IntoMap;
@@ -43,6 +45,15 @@ public final class ScheduleLogicModule {
 		return List.of(scheduleCreateLogic);
 	}
 
+	@Provides
+	@IntoMap
+	@FunctionKey(ScheduleCreate)
+	public static SpanExpander provideScheduleCreateExpander(
+			final ScheduleCreateSpanExpander scheduleCreateSpanExpander
+	) {
+		return scheduleCreateSpanExpander;
+	}
+
 	@Provides
 	@IntoMap
 	@FunctionKey(ScheduleSign)
@@ -0,0 +1,98 @@
+package com.hedera.services.txns.span;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.grpc.marshalling.ImpliedTransfers;
+import com.hedera.services.grpc.marshalling.ImpliedTransfersMarshal;
+import com.hedera.services.ledger.accounts.AliasManager;
+import com.hedera.services.state.submerkle.EntityId;
+import com.hedera.services.txns.customfees.CustomFeeSchedules;
+import com.hedera.services.utils.TxnAccessor;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Expands the span of a CryptoTransfer with the {@link ImpliedTransfers} produced by the
+ * {@link ImpliedTransfersMarshal}, including all assessed custom fees; and re-derives them at
+ * consensus only if the {@link com.hedera.services.grpc.marshalling.ImpliedTransfersMeta} shows
+ * they are stale.
+ */
+@Singleton
+public class CryptoTransferSpanExpander implements SpanExpander {
+	private final AliasManager aliasManager;
+	private final CustomFeeSchedules customFeeSchedules;
+	private final GlobalDynamicProperties dynamicProperties;
+	private final ImpliedTransfersMarshal impliedTransfersMarshal;
+	private final ExpandHandleSpanMapAccessor spanMapAccessor = new ExpandHandleSpanMapAccessor();
+
+	@Inject
+	public CryptoTransferSpanExpander(
+			final ImpliedTransfersMarshal impliedTransfersMarshal,
+			final GlobalDynamicProperties dynamicProperties,
+			final CustomFeeSchedules customFeeSchedules,
+			final AliasManager aliasManager
+	) {
+		this.impliedTransfersMarshal = impliedTransfersMarshal;
+		this.dynamicProperties = dynamicProperties;
+		this.customFeeSchedules = customFeeSchedules;
+		this.aliasManager = aliasManager;
+	}
+
+	@Override
+	public void expand(final TxnAccessor accessor) {
+		final var op = accessor.getTxn().getCryptoTransfer();
+		final var impliedTransfers = impliedTransfersMarshal.unmarshalFromGrpc(op);
+		reCalculateXferMeta(accessor, impliedTransfers);
+		spanMapAccessor.setImpliedTransfers(accessor, impliedTransfers);
+		accessor.setNumAutoCreations(impliedTransfers.getMeta().getNumAutoCreations());
+	}
+
+	@Override
+	public void rationalize(final TxnAccessor accessor) {
+		final var impliedTransfers = spanMapAccessor.getImpliedTransfers(accessor);
+		if (!impliedTransfers.getMeta().wasDerivedFrom(dynamicProperties, customFeeSchedules, aliasManager)) {
+			expand(accessor);
+		}
+	}
+
+	private void reCalculateXferMeta(final TxnAccessor accessor, final ImpliedTransfers impliedTransfers) {
+		final var xferMeta = accessor.availXferUsageMeta();
+
+		var customFeeTokenTransfers = 0;
+		var customFeeHbarTransfers = 0;
+		final Set<EntityId> involvedTokens = new HashSet<>();
+		for (var assessedFee : impliedTransfers.getAssessedCustomFees()) {
+			if (assessedFee.isForHbar()) {
+				customFeeHbarTransfers++;
+			} else {
+				customFeeTokenTransfers++;
+				involvedTokens.add(assessedFee.token());
+			}
+		}
+		xferMeta.setCustomFeeHbarTransfers(customFeeHbarTransfers);
+		xferMeta.setCustomFeeTokensInvolved(involvedTokens.size());
+		xferMeta.setCustomFeeTokenTransfers(customFeeTokenTransfers);
+	}
+}
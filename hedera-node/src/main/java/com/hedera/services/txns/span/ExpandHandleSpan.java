@@ -24,6 +24,7 @@ import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.services.utils.PlatformTxnAccessor;
+import com.hedera.services.utils.SignedTxnAccessor;
 import com.swirlds.common.SwirldDualState;
 import com.swirlds.common.SwirldTransaction;
 
@@ -38,7 +39,9 @@ import java.util.concurrent.TimeUnit;
  *
  * At first this span only tracks the {@link PlatformTxnAccessor} parsed from the
  * transaction contents in an expiring cache. Since the parsing is a pure function
- * of the contents, this is a trivial exercise.
+ * of the contents, this is a trivial exercise. And when this node submitted the
+ * transaction itself, the span begins with the accessor already parsed at precheck,
+ * looked up by the identity of the submitted {@code byte[]} contents.
  *
  * However, a major (perhaps <i>the</i> major) performance optimization available
  * to Services will be to,
@@ -54,6 +57,7 @@ import java.util.concurrent.TimeUnit;
 public class ExpandHandleSpan {
 	private final SpanMapManager spanMapManager;
 	private final Cache<SwirldTransaction, PlatformTxnAccessor> accessorCache;
+	private final Cache<byte[], SignedTxnAccessor> submittedAccessors;
 
 	public ExpandHandleSpan(
 			long duration,
@@ -64,6 +68,31 @@ public class ExpandHandleSpan {
 		this.accessorCache = CacheBuilder.newBuilder()
 				.expireAfterWrite(duration, timeUnit)
 				.build();
+		/* Weak keys are compared by identity, so only the exact array this node submitted can match */
+		this.submittedAccessors = CacheBuilder.newBuilder()
+				.weakKeys()
+				.expireAfterWrite(duration, timeUnit)
+				.build();
+	}
+
+	/**
+	 * Notes that this node is submitting the given transaction to the platform, having already
+	 * parsed its contents into the given accessor.
+	 *
+	 * @param transaction the transaction being submitted
+	 * @param accessor the accessor parsed from its contents
+	 */
+	public void noteSubmitted(SwirldTransaction transaction, SignedTxnAccessor accessor) {
+		submittedAccessors.put(transaction.getContents(), accessor);
+	}
+
+	/**
+	 * Forgets a submitted transaction that the platform refused to create.
+	 *
+	 * @param transaction the refused transaction
+	 */
+	public void forgetSubmitted(SwirldTransaction transaction) {
+		submittedAccessors.invalidate(transaction.getContents());
 	}
 
 	public PlatformTxnAccessor track(SwirldTransaction transaction) throws InvalidProtocolBufferException {
@@ -83,7 +112,15 @@ public class ExpandHandleSpan {
 	}
 
 	private PlatformTxnAccessor spanAccessorFor(SwirldTransaction transaction) throws InvalidProtocolBufferException {
-		final var accessor = new PlatformTxnAccessor(transaction);
+		final var contents = transaction.getContents();
+		final var submitted = submittedAccessors.getIfPresent(contents);
+		final PlatformTxnAccessor accessor;
+		if (submitted != null) {
+			submittedAccessors.invalidate(contents);
+			accessor = new PlatformTxnAccessor(submitted, transaction);
+		} else {
+			accessor = new PlatformTxnAccessor(transaction);
+		}
 		spanMapManager.expandSpan(accessor);
 		return accessor;
 	}
@@ -21,6 +21,7 @@ package com.hedera.services.txns.span;
  */
 
 import com.hedera.services.grpc.marshalling.ImpliedTransfers;
+import com.hedera.services.state.merkle.MerkleSchedule;
 import com.hedera.services.usage.crypto.CryptoCreateMeta;
 import com.hedera.services.usage.crypto.CryptoUpdateMeta;
 import com.hedera.services.usage.token.meta.FeeScheduleUpdateMeta;
@@ -37,111 +38,107 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 
 /**
- * Minimal helper class for getting/setting entries in a span map.
+ * Minimal helper class for getting/setting entries in a {@link SpanMap}.
  */
 @Singleton
 public class ExpandHandleSpanMapAccessor {
-	private static final String IMPLIED_TRANSFERS_KEY = "impliedTransfers";
-	private static final String FEE_SCHEDULE_UPDATE_META_KEY = "feeScheduleUpdateMeta";
-	private static final String TOKEN_CREATE_META_KEY = "tokenCreateMeta";
-	private static final String TOKEN_BURN_META_KEY = "tokenBurnMeta";
-	private static final String TOKEN_WIPE_META_KEY = "tokenWipeMeta";
-	private static final String TOKEN_FREEZE_META_KEY = "tokenFreezeMeta";
-	private static final String TOKEN_UNFREEZE_META_KEY = "tokenUnfreezeMeta";
-	private static final String TOKEN_PAUSE_META_KEY = "tokenPauseMeta";
-	private static final String TOKEN_UNPAUSE_META_KEY = "tokenUnpauseMeta";
-	private static final String CRYPTO_CREATE_META_KEY = "cryptoCreateMeta";
-	private static final String CRYPTO_UPDATE_META_KEY = "cryptoUpdateMeta";
-
 	@Inject
 	public ExpandHandleSpanMapAccessor() {
 	}
 
 	public void setFeeScheduleUpdateMeta(TxnAccessor accessor, FeeScheduleUpdateMeta feeScheduleUpdateMeta) {
-		accessor.getSpanMap().put(FEE_SCHEDULE_UPDATE_META_KEY, feeScheduleUpdateMeta);
+		accessor.getSpanMap().setFeeScheduleUpdateMeta(feeScheduleUpdateMeta);
 	}
 
 	public FeeScheduleUpdateMeta getFeeScheduleUpdateMeta(TxnAccessor accessor) {
-		return (FeeScheduleUpdateMeta) accessor.getSpanMap().get(FEE_SCHEDULE_UPDATE_META_KEY);
+		return accessor.getSpanMap().getFeeScheduleUpdateMeta();
 	}
 
 	public void setImpliedTransfers(TxnAccessor accessor, ImpliedTransfers impliedTransfers) {
-		accessor.getSpanMap().put(IMPLIED_TRANSFERS_KEY, impliedTransfers);
+		accessor.getSpanMap().setImpliedTransfers(impliedTransfers);
 	}
 
 	public ImpliedTransfers getImpliedTransfers(TxnAccessor accessor) {
-		return (ImpliedTransfers) accessor.getSpanMap().get(IMPLIED_TRANSFERS_KEY);
+		return accessor.getSpanMap().getImpliedTransfers();
 	}
 
 	public void setTokenCreateMeta(TxnAccessor accessor, TokenCreateMeta tokenCreateMeta) {
-		accessor.getSpanMap().put(TOKEN_CREATE_META_KEY, tokenCreateMeta);
+		accessor.getSpanMap().setTokenCreateMeta(tokenCreateMeta);
 	}
 
 	public TokenCreateMeta getTokenCreateMeta(TxnAccessor accessor) {
-		return (TokenCreateMeta) accessor.getSpanMap().get(TOKEN_CREATE_META_KEY);
+		return accessor.getSpanMap().getTokenCreateMeta();
 	}
 
 	public void setTokenBurnMeta(TxnAccessor accessor, TokenBurnMeta tokenBurnMeta) {
-		accessor.getSpanMap().put(TOKEN_BURN_META_KEY, tokenBurnMeta);
+		accessor.getSpanMap().setTokenBurnMeta(tokenBurnMeta);
 	}
 
 	public TokenBurnMeta getTokenBurnMeta(TxnAccessor accessor) {
-		return (TokenBurnMeta) accessor.getSpanMap().get(TOKEN_BURN_META_KEY);
+		return accessor.getSpanMap().getTokenBurnMeta();
 	}
 
 	public void setTokenWipeMeta(TxnAccessor accessor, TokenWipeMeta tokenWipeMeta) {
-		accessor.getSpanMap().put(TOKEN_WIPE_META_KEY, tokenWipeMeta);
+		accessor.getSpanMap().setTokenWipeMeta(tokenWipeMeta);
 	}
 
 	public TokenWipeMeta getTokenWipeMeta(TxnAccessor accessor) {
-		return (TokenWipeMeta) accessor.getSpanMap().get(TOKEN_WIPE_META_KEY);
+		return accessor.getSpanMap().getTokenWipeMeta();
 	}
 
 	public void setTokenFreezeMeta(TxnAccessor accessor, TokenFreezeMeta tokenFreezeMeta) {
-		accessor.getSpanMap().put(TOKEN_FREEZE_META_KEY, tokenFreezeMeta);
+		accessor.getSpanMap().setTokenFreezeMeta(tokenFreezeMeta);
 	}
 
 	public TokenFreezeMeta getTokenFreezeMeta(TxnAccessor accessor) {
-		return (TokenFreezeMeta) accessor.getSpanMap().get(TOKEN_FREEZE_META_KEY);
+		return accessor.getSpanMap().getTokenFreezeMeta();
 	}
 
 	public void setTokenUnfreezeMeta(TxnAccessor accessor, TokenUnfreezeMeta tokenUnfreezeMeta) {
-		accessor.getSpanMap().put(TOKEN_UNFREEZE_META_KEY, tokenUnfreezeMeta);
+		accessor.getSpanMap().setTokenUnfreezeMeta(tokenUnfreezeMeta);
 	}
 
 	public TokenUnfreezeMeta getTokenUnfreezeMeta(TxnAccessor accessor) {
-		return (TokenUnfreezeMeta) accessor.getSpanMap().get(TOKEN_UNFREEZE_META_KEY);
+		return accessor.getSpanMap().getTokenUnfreezeMeta();
 	}
 
 	public void setTokenPauseMeta(TxnAccessor accessor, TokenPauseMeta tokenPauseMeta) {
-		accessor.getSpanMap().put(TOKEN_PAUSE_META_KEY, tokenPauseMeta);
+		accessor.getSpanMap().setTokenPauseMeta(tokenPauseMeta);
 	}
 
 	public TokenPauseMeta getTokenPauseMeta(TxnAccessor accessor) {
-		return (TokenPauseMeta) accessor.getSpanMap().get(TOKEN_PAUSE_META_KEY);
+		return accessor.getSpanMap().getTokenPauseMeta();
 	}
 
 	public void setTokenUnpauseMeta(TxnAccessor accessor, TokenUnpauseMeta tokenUnpauseMeta) {
-		accessor.getSpanMap().put(TOKEN_UNPAUSE_META_KEY, tokenUnpauseMeta);
+		accessor.getSpanMap().setTokenUnpauseMeta(tokenUnpauseMeta);
 	}
 
 	public TokenUnpauseMeta getTokenUnpauseMeta(TxnAccessor accessor) {
-		return (TokenUnpauseMeta) accessor.getSpanMap().get(TOKEN_UNPAUSE_META_KEY);
+		return accessor.getSpanMap().getTokenUnpauseMeta();
 	}
 
 	public void setCryptoCreateMeta(TxnAccessor accessor, CryptoCreateMeta cryptoCreateMeta) {
-		accessor.getSpanMap().put(CRYPTO_CREATE_META_KEY, cryptoCreateMeta);
+		accessor.getSpanMap().setCryptoCreateMeta(cryptoCreateMeta);
 	}
 
 	public CryptoCreateMeta getCryptoCreateMeta(TxnAccessor accessor) {
-		return (CryptoCreateMeta) accessor.getSpanMap().get(CRYPTO_CREATE_META_KEY);
+		return accessor.getSpanMap().getCryptoCreateMeta();
 	}
 
 	public void setCryptoUpdate(TxnAccessor accessor, CryptoUpdateMeta cryptoUpdateMeta) {
-		accessor.getSpanMap().put(CRYPTO_UPDATE_META_KEY, cryptoUpdateMeta);
+		accessor.getSpanMap().setCryptoUpdateMeta(cryptoUpdateMeta);
 	}
 
 	public CryptoUpdateMeta getCryptoUpdateMeta(TxnAccessor accessor) {
-		return (CryptoUpdateMeta) accessor.getSpanMap().get(CRYPTO_UPDATE_META_KEY);
+		return accessor.getSpanMap().getCryptoUpdateMeta();
+	}
+
+	public void setProposedSchedule(TxnAccessor accessor, MerkleSchedule proposedSchedule) {
+		accessor.getSpanMap().setProposedSchedule(proposedSchedule);
+	}
+
+	public MerkleSchedule getProposedSchedule(TxnAccessor accessor) {
+		return accessor.getSpanMap().getProposedSchedule();
 	}
 }
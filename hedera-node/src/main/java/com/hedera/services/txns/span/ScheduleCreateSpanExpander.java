@@ -0,0 +1,59 @@
+package com.hedera.services.txns.span;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.state.merkle.MerkleSchedule;
+import com.hedera.services.utils.TxnAccessor;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Expands the span of a ScheduleCreate with the candidate {@link MerkleSchedule} parsed from its
+ * body bytes; this is the key of the content-addressed lookup for an identical extant schedule,
+ * and the schedule that will be created if there is none.
+ *
+ * The candidate depends only on the transaction's own bytes, so it can never go stale; but since
+ * the schedule store may take ownership of it, each candidate must be used by at most one
+ * {@code handleTransaction}.
+ */
+@Singleton
+public class ScheduleCreateSpanExpander implements SpanExpander {
+	private final ExpandHandleSpanMapAccessor spanMapAccessor = new ExpandHandleSpanMapAccessor();
+
+	@Inject
+	public ScheduleCreateSpanExpander() {
+	}
+
+	@Override
+	public void expand(final TxnAccessor accessor) {
+		try {
+			spanMapAccessor.setProposedSchedule(accessor, MerkleSchedule.from(accessor.getTxnBytes(), 0L));
+		} catch (IllegalArgumentException ignore) {
+			/* The transition logic will fail with the same exception if this transaction is handled. */
+		}
+	}
+
+	@Override
+	public void rationalize(final TxnAccessor accessor) {
+		/* No-op, since the proposed schedule depends only on the transaction itself. */
+	}
+}
@@ -0,0 +1,50 @@
+package com.hedera.services.txns.span;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.utils.TxnAccessor;
+
+/**
+ * Does the work that can be done for one kind of transaction before it reaches
+ * {@code handleTransaction}, and stores the results in the accessor's {@link SpanMap}.
+ *
+ * Since {@link SpanExpander#expand(TxnAccessor)} runs on a platform thread with a view of the
+ * state that may be stale by the time of consensus, every expanded result should remember the
+ * inputs it was derived from (as {@link com.hedera.services.grpc.marshalling.ImpliedTransfersMeta#wasDerivedFrom}
+ * does); so that {@link SpanExpander#rationalize(TxnAccessor)} can cheaply re-derive only those
+ * results that went stale.
+ */
+public interface SpanExpander {
+	/**
+	 * Computes and stores in the span map any results that are likely reusable in {@code handleTransaction}.
+	 *
+	 * @param accessor the accessor of the transaction whose span is being expanded
+	 */
+	void expand(TxnAccessor accessor);
+
+	/**
+	 * Ensures every result in the span map is still valid for the current state, re-deriving any
+	 * that are not.
+	 *
+	 * @param accessor the accessor of the transaction about to be handled
+	 */
+	void rationalize(TxnAccessor accessor);
+}
@@ -0,0 +1,171 @@
+package com.hedera.services.txns.span;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.grpc.marshalling.ImpliedTransfers;
+import com.hedera.services.state.merkle.MerkleSchedule;
+import com.hedera.services.usage.crypto.CryptoCreateMeta;
+import com.hedera.services.usage.crypto.CryptoUpdateMeta;
+import com.hedera.services.usage.token.meta.FeeScheduleUpdateMeta;
+import com.hedera.services.usage.token.meta.TokenBurnMeta;
+import com.hedera.services.usage.token.meta.TokenCreateMeta;
+import com.hedera.services.usage.token.meta.TokenFreezeMeta;
+import com.hedera.services.usage.token.meta.TokenPauseMeta;
+import com.hedera.services.usage.token.meta.TokenUnfreezeMeta;
+import com.hedera.services.usage.token.meta.TokenUnpauseMeta;
+import com.hedera.services.usage.token.meta.TokenWipeMeta;
+
+/**
+ * The information computed for a transaction during its span, with one typed slot per entry.
+ * (Only the {@link ExpandHandleSpanMapAccessor} reads or writes these slots.)
+ */
+public final class SpanMap {
+	private ImpliedTransfers impliedTransfers;
+	private FeeScheduleUpdateMeta feeScheduleUpdateMeta;
+	private TokenCreateMeta tokenCreateMeta;
+	private TokenBurnMeta tokenBurnMeta;
+	private TokenWipeMeta tokenWipeMeta;
+	private TokenFreezeMeta tokenFreezeMeta;
+	private TokenUnfreezeMeta tokenUnfreezeMeta;
+	private TokenPauseMeta tokenPauseMeta;
+	private TokenUnpauseMeta tokenUnpauseMeta;
+	private CryptoCreateMeta cryptoCreateMeta;
+	private CryptoUpdateMeta cryptoUpdateMeta;
+	private MerkleSchedule proposedSchedule;
+
+	/**
+	 * Returns a new span map with the same entries as this one, except any proposed schedule;
+	 * which is mutable, and so cannot be shared between accessors.
+	 *
+	 * @return a copy of this span map
+	 */
+	public SpanMap copy() {
+		final var copy = new SpanMap();
+		copy.impliedTransfers = impliedTransfers;
+		copy.feeScheduleUpdateMeta = feeScheduleUpdateMeta;
+		copy.tokenCreateMeta = tokenCreateMeta;
+		copy.tokenBurnMeta = tokenBurnMeta;
+		copy.tokenWipeMeta = tokenWipeMeta;
+		copy.tokenFreezeMeta = tokenFreezeMeta;
+		copy.tokenUnfreezeMeta = tokenUnfreezeMeta;
+		copy.tokenPauseMeta = tokenPauseMeta;
+		copy.tokenUnpauseMeta = tokenUnpauseMeta;
+		copy.cryptoCreateMeta = cryptoCreateMeta;
+		copy.cryptoUpdateMeta = cryptoUpdateMeta;
+		return copy;
+	}
+
+	ImpliedTransfers getImpliedTransfers() {
+		return impliedTransfers;
+	}
+
+	void setImpliedTransfers(final ImpliedTransfers impliedTransfers) {
+		this.impliedTransfers = impliedTransfers;
+	}
+
+	FeeScheduleUpdateMeta getFeeScheduleUpdateMeta() {
+		return feeScheduleUpdateMeta;
+	}
+
+	void setFeeScheduleUpdateMeta(final FeeScheduleUpdateMeta feeScheduleUpdateMeta) {
+		this.feeScheduleUpdateMeta = feeScheduleUpdateMeta;
+	}
+
+	TokenCreateMeta getTokenCreateMeta() {
+		return tokenCreateMeta;
+	}
+
+	void setTokenCreateMeta(final TokenCreateMeta tokenCreateMeta) {
+		this.tokenCreateMeta = tokenCreateMeta;
+	}
+
+	TokenBurnMeta getTokenBurnMeta() {
+		return tokenBurnMeta;
+	}
+
+	void setTokenBurnMeta(final TokenBurnMeta tokenBurnMeta) {
+		this.tokenBurnMeta = tokenBurnMeta;
+	}
+
+	TokenWipeMeta getTokenWipeMeta() {
+		return tokenWipeMeta;
+	}
+
+	void setTokenWipeMeta(final TokenWipeMeta tokenWipeMeta) {
+		this.tokenWipeMeta = tokenWipeMeta;
+	}
+
+	TokenFreezeMeta getTokenFreezeMeta() {
+		return tokenFreezeMeta;
+	}
+
+	void setTokenFreezeMeta(final TokenFreezeMeta tokenFreezeMeta) {
+		this.tokenFreezeMeta = tokenFreezeMeta;
+	}
+
+	TokenUnfreezeMeta getTokenUnfreezeMeta() {
+		return tokenUnfreezeMeta;
+	}
+
+	void setTokenUnfreezeMeta(final TokenUnfreezeMeta tokenUnfreezeMeta) {
+		this.tokenUnfreezeMeta = tokenUnfreezeMeta;
+	}
+
+	TokenPauseMeta getTokenPauseMeta() {
+		return tokenPauseMeta;
+	}
+
+	void setTokenPauseMeta(final TokenPauseMeta tokenPauseMeta) {
+		this.tokenPauseMeta = tokenPauseMeta;
+	}
+
+	TokenUnpauseMeta getTokenUnpauseMeta() {
+		return tokenUnpauseMeta;
+	}
+
+	void setTokenUnpauseMeta(final TokenUnpauseMeta tokenUnpauseMeta) {
+		this.tokenUnpauseMeta = tokenUnpauseMeta;
+	}
+
+	CryptoCreateMeta getCryptoCreateMeta() {
+		return cryptoCreateMeta;
+	}
+
+	void setCryptoCreateMeta(final CryptoCreateMeta cryptoCreateMeta) {
+		this.cryptoCreateMeta = cryptoCreateMeta;
+	}
+
+	CryptoUpdateMeta getCryptoUpdateMeta() {
+		return cryptoUpdateMeta;
+	}
+
+	void setCryptoUpdateMeta(final CryptoUpdateMeta cryptoUpdateMeta) {
+		this.cryptoUpdateMeta = cryptoUpdateMeta;
+	}
+
+	MerkleSchedule getProposedSchedule() {
+		return proposedSchedule;
+	}
+
+	void setProposedSchedule(final MerkleSchedule proposedSchedule) {
+		this.proposedSchedule = proposedSchedule;
+	}
+}
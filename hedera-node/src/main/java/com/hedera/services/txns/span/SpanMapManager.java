@@ -20,20 +20,13 @@ package com.hedera.services.txns.span;
  * ‍
  */
 
-import com.hedera.services.context.properties.GlobalDynamicProperties;
-import com.hedera.services.grpc.marshalling.ImpliedTransfers;
-import com.hedera.services.grpc.marshalling.ImpliedTransfersMarshal;
-import com.hedera.services.ledger.accounts.AliasManager;
-import com.hedera.services.state.submerkle.EntityId;
-import com.hedera.services.txns.customfees.CustomFeeSchedules;
 import com.hedera.services.utils.TxnAccessor;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import java.util.HashSet;
-import java.util.Set;
-
-import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
+import java.util.EnumMap;
+import java.util.Map;
 
 /**
  * Responsible for managing the properties in a {@link TxnAccessor#getSpanMap()}.
@@ -47,78 +40,33 @@ import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTrans
  * safely.</li>
  * </ol>
  *
- * The only entry currently in the span map is the {@link com.hedera.services.grpc.marshalling.ImpliedTransfers}
- * produced by the {@link ImpliedTransfersMarshal}; this improves performance for
- * CrypoTransfers specifically.
- *
- * Other operations will certainly be able to benefit from the same infrastructure
- * over time.
+ * Both steps are delegated to the {@link SpanExpander} (if any) bound to the
+ * transaction's {@link HederaFunctionality}; for example, the {@link CryptoTransferSpanExpander}
+ * pre-computes the {@link com.hedera.services.grpc.marshalling.ImpliedTransfers} of a
+ * CryptoTransfer, including its assessed custom fees.
  */
 @Singleton
 public class SpanMapManager {
-	private final AliasManager aliasManager;
-	private final CustomFeeSchedules customFeeSchedules;
-	private final GlobalDynamicProperties dynamicProperties;
-	private final ImpliedTransfersMarshal impliedTransfersMarshal;
-	private final ExpandHandleSpanMapAccessor spanMapAccessor = new ExpandHandleSpanMapAccessor();
+	private final Map<HederaFunctionality, SpanExpander> expanders;
 
 	@Inject
-	public SpanMapManager(
-			final ImpliedTransfersMarshal impliedTransfersMarshal,
-			final GlobalDynamicProperties dynamicProperties,
-			final CustomFeeSchedules customFeeSchedules,
-			final AliasManager aliasManager
-	) {
-		this.impliedTransfersMarshal = impliedTransfersMarshal;
-		this.dynamicProperties = dynamicProperties;
-		this.customFeeSchedules = customFeeSchedules;
-		this.aliasManager = aliasManager;
+	public SpanMapManager(final Map<HederaFunctionality, SpanExpander> expanders) {
+		this.expanders = expanders.isEmpty()
+				? new EnumMap<>(HederaFunctionality.class)
+				: new EnumMap<>(expanders);
 	}
 
 	public void expandSpan(TxnAccessor accessor) {
-		final var function = accessor.getFunction();
-		if (function == CryptoTransfer) {
-			expandImpliedTransfers(accessor);
+		final var expander = expanders.get(accessor.getFunction());
+		if (expander != null) {
+			expander.expand(accessor);
 		}
 	}
 
 	public void rationalizeSpan(TxnAccessor accessor) {
-		if (accessor.getFunction() == CryptoTransfer) {
-			rationalizeImpliedTransfers(accessor);
-		}
-	}
-
-	private void expandImpliedTransfers(TxnAccessor accessor) {
-		final var op = accessor.getTxn().getCryptoTransfer();
-		final var impliedTransfers = impliedTransfersMarshal.unmarshalFromGrpc(op);
-		reCalculateXferMeta(accessor, impliedTransfers);
-		spanMapAccessor.setImpliedTransfers(accessor, impliedTransfers);
-		accessor.setNumAutoCreations(impliedTransfers.getMeta().getNumAutoCreations());
-	}
-
-	private void rationalizeImpliedTransfers(TxnAccessor accessor) {
-		final var impliedTransfers = spanMapAccessor.getImpliedTransfers(accessor);
-		if (!impliedTransfers.getMeta().wasDerivedFrom(dynamicProperties, customFeeSchedules, aliasManager)) {
-			expandImpliedTransfers(accessor);
-		}
-	}
-
-	private void reCalculateXferMeta(TxnAccessor accessor, ImpliedTransfers impliedTransfers) {
-		final var xferMeta = accessor.availXferUsageMeta();
-
-		var customFeeTokenTransfers = 0;
-		var customFeeHbarTransfers = 0;
-		final Set<EntityId> involvedTokens = new HashSet<>();
-		for (var assessedFee : impliedTransfers.getAssessedCustomFees()) {
-			if (assessedFee.isForHbar()) {
-				customFeeHbarTransfers++;
-			} else {
-				customFeeTokenTransfers++;
-				involvedTokens.add(assessedFee.token());
-			}
+		final var expander = expanders.get(accessor.getFunction());
+		if (expander != null) {
+			expander.rationalize(accessor);
 		}
-		xferMeta.setCustomFeeHbarTransfers(customFeeHbarTransfers);
-		xferMeta.setCustomFeeTokensInvolved(involvedTokens.size());
-		xferMeta.setCustomFeeTokenTransfers(customFeeTokenTransfers);
 	}
 }
@@ -23,6 +23,7 @@ package com.hedera.services.txns.submission;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.services.records.RecordCache;
 import com.hedera.services.stats.MiscSpeedometers;
+import com.hedera.services.txns.span.ExpandHandleSpan;
 import com.hedera.services.utils.SignedTxnAccessor;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.swirlds.common.Platform;
@@ -43,23 +44,34 @@ public class PlatformSubmissionManager {
 	private final Platform platform;
 	private final RecordCache recordCache;
 	private final MiscSpeedometers speedometers;
+	private final ExpandHandleSpan expandHandleSpan;
 
 	@Inject
 	public PlatformSubmissionManager(
 			Platform platform,
 			RecordCache recordCache,
-			MiscSpeedometers speedometers
+			MiscSpeedometers speedometers,
+			ExpandHandleSpan expandHandleSpan
 	) {
 		this.platform = platform;
 		this.recordCache = recordCache;
 		this.speedometers = speedometers;
+		this.expandHandleSpan = expandHandleSpan;
 	}
 
 	public ResponseCodeEnum trySubmission(SignedTxnAccessor accessor) {
 		accessor = effective(accessor);
 
-		var success = (accessor != null) &&
-				platform.createTransaction(new SwirldTransaction(accessor.getSignedTxnWrapperBytes()));
+		var success = false;
+		if (accessor != null) {
+			final var platformTxn = new SwirldTransaction(accessor.getSignedTxnWrapperBytes());
+			/* Must be noted before creation, since the platform may expand the txn at once */
+			expandHandleSpan.noteSubmitted(platformTxn, accessor);
+			success = platform.createTransaction(platformTxn);
+			if (!success) {
+				expandHandleSpan.forgetSubmitted(platformTxn);
+			}
+		}
 		if (success) {
 			recordCache.addPreConsensus(accessor.getTxnId());
 			return OK;
@@ -20,6 +20,7 @@ package com.hedera.services.txns.submission;
  * ‍
  */
 
+import com.hedera.services.grpc.GrpcHandlerStages;
 import com.hedera.services.stats.HapiOpCounters;
 import com.hedera.services.txns.SubmissionFlow;
 import com.hedera.services.utils.SignedTxnAccessor;
@@ -33,6 +34,7 @@ import org.apache.logging.log4j.Logger;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.BUSY;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.FAIL_INVALID;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 
@@ -43,14 +45,23 @@ public final class TxnResponseHelper {
 	static final TransactionResponse FAIL_INVALID_RESPONSE = TransactionResponse.newBuilder()
 			.setNodeTransactionPrecheckCode(FAIL_INVALID)
 			.build();
+	static final TransactionResponse BUSY_RESPONSE = TransactionResponse.newBuilder()
+			.setNodeTransactionPrecheckCode(BUSY)
+			.build();
 
 	private final SubmissionFlow submissionFlow;
 	private final HapiOpCounters opCounters;
+	private final GrpcHandlerStages handlerStages;
 
 	@Inject
-	public TxnResponseHelper(final SubmissionFlow submissionFlow, final HapiOpCounters opCounters) {
+	public TxnResponseHelper(
+			final SubmissionFlow submissionFlow,
+			final HapiOpCounters opCounters,
+			final GrpcHandlerStages handlerStages
+	) {
 		this.opCounters = opCounters;
 		this.submissionFlow = submissionFlow;
+		this.handlerStages = handlerStages;
 	}
 
 	public void submit(
@@ -58,11 +69,19 @@ public final class TxnResponseHelper {
 			final StreamObserver<TransactionResponse> observer,
 			final HederaFunctionality statedFunction
 	) {
-		respondWithMetrics(
+		final Runnable respondBusy = () -> {
+			opCounters.countReceived(statedFunction);
+			observer.onNext(BUSY_RESPONSE);
+			observer.onCompleted();
+		};
+		final var dispatched = handlerStages.txns().tryDispatch(() -> respondWithMetrics(
 				signedTxn,
 				observer,
 				() -> opCounters.countReceived(statedFunction),
-				() -> opCounters.countSubmitted(statedFunction));
+				() -> opCounters.countSubmitted(statedFunction)), respondBusy);
+		if (!dispatched) {
+			respondBusy.run();
+		}
 	}
 
 	private void respondWithMetrics(
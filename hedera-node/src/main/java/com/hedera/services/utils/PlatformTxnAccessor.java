@@ -40,6 +40,18 @@ public class PlatformTxnAccessor extends SignedTxnAccessor {
 		this.platformTxn = platformTxn;
 	}
 
+	/**
+	 * Creates an accessor for a platform txn whose contents were already parsed by the given
+	 * accessor (for example, because this node submitted the txn itself).
+	 *
+	 * @param parsed an accessor already parsed from the txn contents
+	 * @param platformTxn the txn to provide accessors for
+	 */
+	public PlatformTxnAccessor(SignedTxnAccessor parsed, SwirldTransaction platformTxn) {
+		super(parsed);
+		this.platformTxn = platformTxn;
+	}
+
 	/**
 	 * Convenience static factory for a txn whose {@code byte[]} contents are <i>certain</i>
 	 * to be a valid serialized gRPC txn.
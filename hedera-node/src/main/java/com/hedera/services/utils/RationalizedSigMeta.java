@@ -52,7 +52,9 @@ import static com.hedera.services.keys.HederaKeyActivation.pkToSigMapFrom;
  * Note that the mapping from public key to verified {@link TransactionSignature} is equivalent
  * to just the list of verified {@link TransactionSignature}s, since each {@link TransactionSignature}
  * instance includes the relevant public key. We construct the function in this class just
- * to avoid repeating that work twice in {@code handleTransaction}.
+ * to avoid repeating that work twice in {@code handleTransaction}; since the function is a
+ * hash index over the verified sigs, building it once also lets every activation test during
+ * handling (payer, other parties, and schedule or contract checks) look up each key in constant time.
  */
 public class RationalizedSigMeta {
 	private static final RationalizedSigMeta NONE_AVAIL = new RationalizedSigMeta();
@@ -20,14 +20,17 @@ package com.hedera.services.utils;
  * ‍
  */
 
+import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.services.exceptions.UnknownHederaFunctionality;
+import com.hedera.services.fees.calculation.FeeMemo;
 import com.hedera.services.grpc.marshalling.AliasResolver;
 import com.hedera.services.ledger.accounts.AliasManager;
 import com.hedera.services.sigs.order.LinkedRefs;
 import com.hedera.services.sigs.sourcing.PojoSigMapPubKeyToSigBytes;
 import com.hedera.services.sigs.sourcing.PubKeyToSigBytes;
 import com.hedera.services.txns.span.ExpandHandleSpanMapAccessor;
+import com.hedera.services.txns.span.SpanMap;
 import com.hedera.services.usage.BaseTransactionMeta;
 import com.hedera.services.usage.consensus.SubmitMessageMeta;
 import com.hedera.services.usage.crypto.CryptoCreateMeta;
@@ -50,8 +53,6 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.bouncycastle.util.Arrays;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.function.Function;
 
 import static com.hedera.services.legacy.proto.utils.CommonUtils.noThrowSha384HashOf;
@@ -76,6 +77,12 @@ import static com.hederahashgraph.api.proto.java.SubType.TOKEN_NON_FUNGIBLE_UNIQ
 
 /**
  * Encapsulates access to several commonly referenced parts of a gRPC {@link Transaction}.
+ *
+ * The constructor parses (and so validates) the transaction, but derived values that are not
+ * needed by every consumer---the transaction hash, the copied body bytes, and the signature
+ * lookup function---are computed on first use. The body and hashed bytes are kept as the
+ * {@link ByteString}s from the parsed wrapper, so nothing is copied unless a caller asks for
+ * a {@code byte[]}.
  */
 public class SignedTxnAccessor implements TxnAccessor {
 	private static final Logger log = LogManager.getLogger(SignedTxnAccessor.class);
@@ -86,13 +93,16 @@ public class SignedTxnAccessor implements TxnAccessor {
 	private static final TokenOpsUsage TOKEN_OPS_USAGE = new TokenOpsUsage();
 	private static final ExpandHandleSpanMapAccessor SPAN_MAP_ACCESSOR = new ExpandHandleSpanMapAccessor();
 
-	private final Map<String, Object> spanMap = new HashMap<>();
+	private final SpanMap spanMap;
 
 	private int sigMapSize;
 	private int numSigPairs;
 	private int numAutoCreations = UNKNOWN_NUM_AUTO_CREATIONS;
+	private FeeMemo feeMemo;
 	private byte[] hash;
 	private byte[] txnBytes;
+	private ByteString bodyBytes;
+	private ByteString hashedBytes;
 	private byte[] utf8MemoBytes;
 	private byte[] signedTxnWrapperBytes;
 	private String memo;
@@ -127,23 +137,22 @@ public class SignedTxnAccessor implements TxnAccessor {
 	}
 
 	public SignedTxnAccessor(byte[] signedTxnWrapperBytes) throws InvalidProtocolBufferException {
+		this.spanMap = new SpanMap();
 		this.signedTxnWrapperBytes = signedTxnWrapperBytes;
 		signedTxnWrapper = Transaction.parseFrom(signedTxnWrapperBytes);
 
 		final var signedTxnBytes = signedTxnWrapper.getSignedTransactionBytes();
 		if (signedTxnBytes.isEmpty()) {
-			txnBytes = signedTxnWrapper.getBodyBytes().toByteArray();
+			bodyBytes = signedTxnWrapper.getBodyBytes();
 			sigMap = signedTxnWrapper.getSigMap();
-			hash = noThrowSha384HashOf(signedTxnWrapperBytes);
 		} else {
 			final var signedTxn = SignedTransaction.parseFrom(signedTxnBytes);
-			txnBytes = signedTxn.getBodyBytes().toByteArray();
+			bodyBytes = signedTxn.getBodyBytes();
 			sigMap = signedTxn.getSigMap();
-			hash = noThrowSha384HashOf(signedTxnBytes.toByteArray());
+			hashedBytes = signedTxnBytes;
 		}
-		pubKeyToSigBytes = new PojoSigMapPubKeyToSigBytes(sigMap);
 
-		txn = TransactionBody.parseFrom(txnBytes);
+		txn = TransactionBody.parseFrom(bodyBytes);
 		memo = txn.getMemo();
 		txnId = txn.getTransactionID();
 		sigMapSize = sigMap.getSerializedSize();
@@ -160,6 +169,36 @@ public class SignedTxnAccessor implements TxnAccessor {
 		this(signedTxnWrapper.toByteArray());
 	}
 
+	/**
+	 * Creates an accessor that reuses everything already parsed or computed by the given accessor,
+	 * but none of its mutable per-span state (expanded signatures, linked references, and so on).
+	 * Its span map starts as a copy of the given accessor's, and it keeps any fees memoized in precheck.
+	 *
+	 * @param parsed the accessor to reuse
+	 */
+	protected SignedTxnAccessor(final SignedTxnAccessor parsed) {
+		this.spanMap = parsed.spanMap.copy();
+		this.signedTxnWrapperBytes = parsed.signedTxnWrapperBytes;
+		this.signedTxnWrapper = parsed.signedTxnWrapper;
+		this.bodyBytes = parsed.bodyBytes;
+		this.hashedBytes = parsed.hashedBytes;
+		this.hash = parsed.hash;
+		this.txnBytes = parsed.txnBytes;
+		this.sigMap = parsed.sigMap;
+		this.txn = parsed.txn;
+		this.memo = parsed.memo;
+		this.txnId = parsed.txnId;
+		this.sigMapSize = parsed.sigMapSize;
+		this.numSigPairs = parsed.numSigPairs;
+		this.utf8MemoBytes = parsed.utf8MemoBytes;
+		this.memoHasZeroByte = parsed.memoHasZeroByte;
+		this.function = parsed.function;
+		this.txnUsageMeta = parsed.txnUsageMeta;
+		this.xferUsageMeta = parsed.xferUsageMeta;
+		this.submitMessageMeta = parsed.submitMessageMeta;
+		this.feeMemo = parsed.feeMemo;
+	}
+
 	@Override
 	public void setExpandedSigStatus(final ResponseCodeEnum expandedSigStatus) {
 		this.expandedSigStatus = expandedSigStatus;
@@ -180,6 +219,16 @@ public class SignedTxnAccessor implements TxnAccessor {
 		this.linkedRefs = linkedRefs;
 	}
 
+	@Override
+	public FeeMemo getFeeMemo() {
+		return feeMemo;
+	}
+
+	@Override
+	public void setFeeMemo(final FeeMemo feeMemo) {
+		this.feeMemo = feeMemo;
+	}
+
 	@Override
 	public void countAutoCreationsWith(final AliasManager aliasManager) {
 		final var resolver = new AliasResolver();
@@ -239,6 +288,9 @@ public class SignedTxnAccessor implements TxnAccessor {
 
 	@Override
 	public byte[] getTxnBytes() {
+		if (txnBytes == null) {
+			txnBytes = bodyBytes.toByteArray();
+		}
 		return txnBytes;
 	}
 
@@ -289,6 +341,11 @@ public class SignedTxnAccessor implements TxnAccessor {
 
 	@Override
 	public byte[] getHash() {
+		if (hash == null) {
+			hash = (hashedBytes == null)
+					? noThrowSha384HashOf(signedTxnWrapperBytes)
+					: noThrowSha384HashOf(hashedBytes);
+		}
 		return hash;
 	}
 
@@ -336,11 +393,14 @@ public class SignedTxnAccessor implements TxnAccessor {
 
 	@Override
 	public PubKeyToSigBytes getPkToSigsFn() {
+		if (pubKeyToSigBytes == null) {
+			pubKeyToSigBytes = new PojoSigMapPubKeyToSigBytes(sigMap);
+		}
 		return pubKeyToSigBytes;
 	}
 
 	@Override
-	public Map<String, Object> getSpanMap() {
+	public SpanMap getSpanMap() {
 		return spanMap;
 	}
 
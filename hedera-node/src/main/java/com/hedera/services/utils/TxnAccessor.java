@@ -20,10 +20,12 @@ package com.hedera.services.utils;
  * ‍
  */
 
+import com.hedera.services.fees.calculation.FeeMemo;
 import com.hedera.services.ledger.accounts.AliasManager;
 import com.hedera.services.sigs.order.LinkedRefs;
 import com.hedera.services.sigs.sourcing.PubKeyToSigBytes;
 import com.hedera.services.txns.span.ExpandHandleSpanMapAccessor;
+import com.hedera.services.txns.span.SpanMap;
 import com.hedera.services.usage.BaseTransactionMeta;
 import com.hedera.services.usage.consensus.SubmitMessageMeta;
 import com.hedera.services.usage.crypto.CryptoTransferMeta;
@@ -38,8 +40,6 @@ import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionID;
 import com.swirlds.common.SwirldTransaction;
 
-import java.util.Map;
-
 /**
  * Defines a type that gives access to several commonly referenced
  * parts of a Hedera Services gRPC {@link Transaction}.
@@ -94,7 +94,7 @@ public interface TxnAccessor {
         throw new UnsupportedOperationException();
     }
 
-    default Map<String, Object> getSpanMap() {
+    default SpanMap getSpanMap() {
         throw new UnsupportedOperationException();
     }
 
@@ -109,4 +109,7 @@ public interface TxnAccessor {
 
     void setLinkedRefs(LinkedRefs linkedRefs);
     LinkedRefs getLinkedRefs();
+
+    void setFeeMemo(FeeMemo feeMemo);
+    FeeMemo getFeeMemo();
 }
@@ -22,6 +22,7 @@ package com.hedera.services;
 
 import com.hedera.services.context.CurrentPlatformStatus;
 import com.hedera.services.context.NodeInfo;
+import com.hedera.services.context.properties.NodeLocalProperties;
 import com.hedera.services.grpc.GrpcStarter;
 import com.hedera.services.ledger.accounts.BackingStore;
 import com.hedera.services.state.StateAccessor;
@@ -134,6 +135,8 @@ class ServicesMainTest {
 	private BalancesExporter balancesExporter;
 	@Mock
 	private StateAccessor latestSignedState;
+	@Mock
+	private NodeLocalProperties nodeLocalProperties;
 
 	private ServicesMain subject = new ServicesMain();
 
@@ -267,6 +270,8 @@ class ServicesMainTest {
 		given(app.platformStatus()).willReturn(currentPlatformStatus);
 		given(app.balancesExporter()).willReturn(balancesExporter);
 		given(app.latestSignedState()).willReturn(latestSignedState);
+		given(app.nodeLocalProperties()).willReturn(nodeLocalProperties);
+		given(nodeLocalProperties.shouldQueriesUseLatestSignedState()).willReturn(true);
 		given(currentPlatformStatus.get()).willReturn(MAINTENANCE);
 		// and:
 		subject.init(platform, nodeId);
@@ -276,7 +281,7 @@ class ServicesMainTest {
 
 		// then:
 		verify(signedState).logSummary();
-		verify(latestSignedState).replaceChildrenFrom(signedState, consensusNow);
+		verify(latestSignedState).replaceChildrenFrom(signedState, consensusNow, true);
 	}
 
 	@Test
@@ -286,6 +291,7 @@ class ServicesMainTest {
 		given(app.platformStatus()).willReturn(currentPlatformStatus);
 		given(app.balancesExporter()).willReturn(balancesExporter);
 		given(app.latestSignedState()).willReturn(latestSignedState);
+		given(app.nodeLocalProperties()).willReturn(nodeLocalProperties);
 		given(app.nodeId()).willReturn(nodeId);
 		given(balancesExporter.isTimeToExport(consensusNow)).willReturn(true);
 		given(currentPlatformStatus.get()).willReturn(ACTIVE);
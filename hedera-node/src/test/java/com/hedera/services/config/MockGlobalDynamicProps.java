@@ -240,4 +240,9 @@ public class MockGlobalDynamicProps extends GlobalDynamicProperties {
 	public boolean isAutoCreationEnabled() {
 		return true;
 	}
+
+	@Override
+	public boolean areChunkedFileAppendsEnabled() {
+		return false;
+	}
 }
@@ -21,29 +21,33 @@ package com.hedera.services.context.init;
  */
 
 import com.hedera.services.ledger.accounts.AliasManager;
-import com.hedera.services.ledger.accounts.BackingStore;
+import com.hedera.services.ledger.accounts.BackingAccounts;
 import com.hedera.services.state.StateAccessor;
+import com.hedera.services.state.expiry.renewal.ExpiryOrderedAccounts;
+import com.hedera.services.state.initialization.ViewBuilder;
 import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.merkle.MerkleSchedule;
 import com.hedera.services.state.merkle.MerkleToken;
-import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hedera.services.state.merkle.MerkleUniqueToken;
-import com.hedera.services.store.models.NftId;
 import com.hedera.services.store.schedule.ScheduleStore;
 import com.hedera.services.store.tokens.TokenStore;
 import com.hedera.services.store.tokens.views.UniqTokenViewsManager;
 import com.hedera.services.utils.EntityNum;
 import com.hedera.services.utils.EntityNumPair;
-import com.hederahashgraph.api.proto.java.AccountID;
-import com.hederahashgraph.api.proto.java.TokenID;
 import com.swirlds.merkle.map.MerkleMap;
-import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 
@@ -60,17 +64,26 @@ class StoreInitializationFlowTest {
 	@Mock
 	private UniqTokenViewsManager uniqTokenViewsManager;
 	@Mock
-	private BackingStore<AccountID, MerkleAccount> backingAccounts;
+	private BackingAccounts backingAccounts;
+	@Mock
+	private ExpiryOrderedAccounts expiryOrderedAccounts;
+	@Mock
+	private ViewBuilder<EntityNum, MerkleAccount> existingAccountsBuilder;
 	@Mock
-	private BackingStore<NftId, MerkleUniqueToken> backingNfts;
+	private ViewBuilder<EntityNum, MerkleAccount> aliasesBuilder;
 	@Mock
-	private BackingStore<Pair<AccountID, TokenID>, MerkleTokenRelStatus> backingTokenRels;
+	private ViewBuilder<EntityNum, MerkleAccount> expiriesBuilder;
 	@Mock
-	private MerkleMap<EntityNum, MerkleToken> tokens;
+	private ViewBuilder<EntityNum, MerkleToken> tokenViewsBuilder;
 	@Mock
-	private MerkleMap<EntityNumPair, MerkleUniqueToken> nfts;
+	private ViewBuilder<EntityNum, MerkleSchedule> scheduleViewsBuilder;
 	@Mock
-	private MerkleMap<EntityNum, MerkleAccount> accounts;
+	private ViewBuilder<EntityNumPair, MerkleUniqueToken> uniqTokenViewsBuilder;
+
+	private final MerkleMap<EntityNum, MerkleToken> tokens = new MerkleMap<>();
+	private final MerkleMap<EntityNumPair, MerkleUniqueToken> nfts = new MerkleMap<>();
+	private final MerkleMap<EntityNum, MerkleAccount> accounts = new MerkleMap<>();
+	private final MerkleMap<EntityNum, MerkleSchedule> schedules = new MerkleMap<>();
 
 	private StoreInitializationFlow subject;
 
@@ -83,26 +96,49 @@ class StoreInitializationFlowTest {
 				stateAccessor,
 				uniqTokenViewsManager,
 				backingAccounts,
-				backingNfts,
-				backingTokenRels);
+				expiryOrderedAccounts);
 	}
 
 	@Test
 	void initsAsExpected() {
+		// setup:
+		final var aNum = EntityNum.fromLong(1001L);
+		final var bNum = EntityNum.fromLong(1002L);
+		final var aAccount = new MerkleAccount();
+		final var bAccount = new MerkleAccount();
+		accounts.put(aNum, aAccount);
+		accounts.put(bNum, bAccount);
+		final var tokenNum = EntityNum.fromLong(1003L);
+		final var token = new MerkleToken();
+		tokens.put(tokenNum, token);
+
 		given(stateAccessor.tokens()).willReturn(tokens);
 		given(stateAccessor.accounts()).willReturn(accounts);
+		given(stateAccessor.schedules()).willReturn(schedules);
 		given(stateAccessor.uniqueTokens()).willReturn(nfts);
+		given(backingAccounts.existingAccountsBuilder()).willReturn(existingAccountsBuilder);
+		given(aliasManager.aliasesBuilder()).willReturn(aliasesBuilder);
+		given(expiryOrderedAccounts.expiriesBuilder()).willReturn(expiriesBuilder);
+		given(tokenStore.viewsBuilder()).willReturn(tokenViewsBuilder);
+		given(scheduleStore.viewsBuilder()).willReturn(scheduleViewsBuilder);
+		given(uniqTokenViewsManager.viewsBuilder(tokens)).willReturn(uniqTokenViewsBuilder);
 
 		// when:
 		subject.run();
 
 		// then:
-		verify(backingTokenRels).rebuildFromSources();
-		verify(backingAccounts).rebuildFromSources();
-		verify(backingNfts).rebuildFromSources();
-		verify(tokenStore).rebuildViews();
-		verify(scheduleStore).rebuildViews();
-		verify(uniqTokenViewsManager).rebuildNotice(tokens, nfts);
-		verify(aliasManager).rebuildAliasesMap(accounts);
+		for (final var accountsBuilder : List.of(existingAccountsBuilder, aliasesBuilder, expiriesBuilder)) {
+			final var inOrder = inOrder(accountsBuilder);
+			inOrder.verify(accountsBuilder).start();
+			inOrder.verify(accountsBuilder, times(2)).visit(any(), any());
+			inOrder.verify(accountsBuilder).finish();
+			verify(accountsBuilder).visit(aNum, aAccount);
+			verify(accountsBuilder).visit(bNum, bAccount);
+		}
+		verify(tokenViewsBuilder).visit(tokenNum, token);
+		verify(tokenViewsBuilder).finish();
+		verify(scheduleViewsBuilder).start();
+		verify(scheduleViewsBuilder, never()).visit(any(), any());
+		verify(uniqTokenViewsBuilder).finish();
 	}
 }
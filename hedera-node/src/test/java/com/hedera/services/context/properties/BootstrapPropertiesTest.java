@@ -97,6 +97,13 @@ class BootstrapPropertiesTest {
 			entry("contracts.maxGas", 300000),
 			entry("contracts.maxStorageKb", 1024),
 			entry("contracts.chainId", 1),
+			entry("contracts.codeCache.maxSizeKb", 16384),
+			entry("contracts.localCall.queueCapacity", 500),
+			entry("contracts.localCall.threads", 8),
+			entry("contracts.localCall.timeoutMs", 2000L),
+			entry("precheck.sigVerification.maxBatchSize", 256),
+			entry("precheck.sigVerification.maxWaitMs", 1000L),
+			entry("precheck.sigVerification.threads", 0),
 			entry("dev.onlyDefaultNodeListens", true),
 			entry("dev.defaultListeningNodeAccount", "0.0.3"),
 			entry("entities.maxLifetime", 3153600000L),
@@ -110,6 +117,12 @@ class BootstrapPropertiesTest {
 			entry("files.throttleDefinitions", 123L),
 			entry("files.nodeDetails", 102L),
 			entry("files.softwareUpdateRange", Pair.of(150L, 159L)),
+			entry("grpc.handlerStages.isEnabled", false),
+			entry("grpc.handlerStages.queries.queueCapacity", 2000),
+			entry("grpc.handlerStages.queries.threads", 8),
+			entry("grpc.handlerStages.txns.queueCapacity", 2000),
+			entry("grpc.handlerStages.txns.threads", 8),
+			entry("grpc.handlerStages.useVirtualThreads", false),
 			entry("grpc.port", 50211),
 			entry("grpc.tlsPort", 50212),
 			entry("hedera.accountsExportPath", "data/onboard/exportedAccount.txt"),
@@ -157,12 +170,14 @@ class BootstrapPropertiesTest {
 			entry("netty.tlsCrt.path", "hedera.crt"),
 			entry("netty.tlsKey.path", "hedera.key"),
 			entry("queries.blob.lookupRetries", 3),
+			entry("queries.useLatestSignedState", false),
 			entry("tokens.maxPerAccount", 1_000),
 			entry("tokens.maxSymbolUtf8Bytes", 100),
 			entry("tokens.maxTokenNameUtf8Bytes", 100),
 			entry("tokens.maxCustomFeesAllowed", 10),
 			entry("tokens.maxCustomFeeDepth", 2),
 			entry("files.maxSizeKb", 1024),
+			entry("files.chunkedAppends.isEnabled", false),
 			entry("fees.tokenTransferUsageMultiplier", 380),
 			entry("cache.records.ttl", 180),
 			entry("rates.intradayChangeLimitPercent", 25),
@@ -177,6 +192,9 @@ class BootstrapPropertiesTest {
 			entry("stats.hapiOps.speedometerUpdateIntervalMs", 3_000L),
 			entry("stats.speedometerHalfLifeSecs", 10.0),
 			entry("stats.executionTimesToTrack", 0),
+			entry("stats.handlePhases.dumpDir", "data/stats"),
+			entry("stats.handlePhases.dumpIntervalMs", 60_000L),
+			entry("stats.handlePhases.enabled", false),
 			entry("consensus.message.maxBytesAllowed", 1024),
 			entry("ledger.nftTransfers.maxLen", 10),
 			entry("ledger.xferBalanceChanges.maxLen", 20),
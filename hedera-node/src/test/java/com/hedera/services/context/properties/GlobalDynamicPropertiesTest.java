@@ -77,6 +77,7 @@ class GlobalDynamicPropertiesTest {
 		assertFalse(subject.autoRenewEnabled());
 		assertTrue(subject.areNftsEnabled());
 		assertFalse(subject.isAutoCreationEnabled());
+		assertFalse(subject.areChunkedFileAppendsEnabled());
 	}
 
 	@Test
@@ -177,6 +178,7 @@ class GlobalDynamicPropertiesTest {
 		assertTrue(subject.autoRenewEnabled());
 		assertFalse(subject.areNftsEnabled());
 		assertTrue(subject.isAutoCreationEnabled());
+		assertTrue(subject.areChunkedFileAppendsEnabled());
 	}
 
 	@Test
@@ -309,6 +311,7 @@ class GlobalDynamicPropertiesTest {
 		given(properties.getLongProperty("scheduling.triggerTxn.windBackNanos")).willReturn(i + 47L);
 		given(properties.getIntProperty("ledger.changeHistorian.memorySecs")).willReturn(i + 48);
 		given(properties.getBooleanProperty("autoCreation.enabled")).willReturn(i % 2 == 0);
+		given(properties.getBooleanProperty("files.chunkedAppends.isEnabled")).willReturn(i % 2 == 0);
 	}
 
 	private AccountID accountWith(long shard, long realm, long num) {
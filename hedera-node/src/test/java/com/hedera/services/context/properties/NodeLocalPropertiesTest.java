@@ -60,6 +60,18 @@ class NodeLocalPropertiesTest {
 		assertEquals(25, subject.numExecutionTimesToTrack());
 		assertEquals(26, subject.issResetPeriod());
 		assertEquals(27, subject.issRoundsToDump());
+		assertEquals(28, subject.txnHandlerThreads());
+		assertEquals(29, subject.txnHandlerQueueCapacity());
+		assertEquals(30, subject.queryHandlerThreads());
+		assertEquals(31, subject.queryHandlerQueueCapacity());
+		assertEquals(32L, subject.handlePhasesDumpIntervalMs());
+		assertEquals(33, subject.contractsCodeCacheMaxSizeKb());
+		assertEquals(34, subject.contractsLocalCallThreads());
+		assertEquals(35, subject.contractsLocalCallQueueCapacity());
+		assertEquals(36L, subject.contractsLocalCallTimeoutMs());
+		assertEquals(37, subject.precheckSigVerificationThreads());
+		assertEquals(38, subject.precheckSigVerificationMaxBatchSize());
+		assertEquals(39L, subject.precheckSigVerificationMaxWaitMs());
 	}
 
 	@Test
@@ -89,6 +101,11 @@ class NodeLocalPropertiesTest {
 		assertEquals(Profile.PROD, subject.nettyMode());
 		assertEquals(24L, subject.nettyStartRetryIntervalMs());
 		assertTrue(subject.shouldDumpFcmsOnIss());
+		assertTrue(subject.areHandlerStagesEnabled());
+		assertFalse(subject.shouldHandlerStagesUseVirtualThreads());
+		assertTrue(subject.shouldQueriesUseLatestSignedState());
+		assertTrue(subject.isHandlePhaseTrackingEnabled());
+		assertEquals("stats1", subject.handlePhasesDumpDir());
 	}
 
 	@Test
@@ -110,6 +127,17 @@ class NodeLocalPropertiesTest {
 		assertEquals(26, subject.numExecutionTimesToTrack());
 		assertEquals(27, subject.issResetPeriod());
 		assertEquals(28, subject.issRoundsToDump());
+		assertEquals(29, subject.txnHandlerThreads());
+		assertEquals(30, subject.txnHandlerQueueCapacity());
+		assertEquals(31, subject.queryHandlerThreads());
+		assertEquals(32, subject.queryHandlerQueueCapacity());
+		assertEquals(34, subject.contractsCodeCacheMaxSizeKb());
+		assertEquals(35, subject.contractsLocalCallThreads());
+		assertEquals(36, subject.contractsLocalCallQueueCapacity());
+		assertEquals(37L, subject.contractsLocalCallTimeoutMs());
+		assertEquals(38, subject.precheckSigVerificationThreads());
+		assertEquals(39, subject.precheckSigVerificationMaxBatchSize());
+		assertEquals(40L, subject.precheckSigVerificationMaxWaitMs());
 	}
 
 	@Test
@@ -141,6 +169,11 @@ class NodeLocalPropertiesTest {
 		assertEquals(Profile.TEST, subject.nettyMode());
 		assertEquals(25L, subject.nettyStartRetryIntervalMs());
 		assertFalse(subject.shouldDumpFcmsOnIss());
+		assertFalse(subject.areHandlerStagesEnabled());
+		assertTrue(subject.shouldHandlerStagesUseVirtualThreads());
+		assertFalse(subject.shouldQueriesUseLatestSignedState());
+		assertFalse(subject.isHandlePhaseTrackingEnabled());
+		assertEquals("stats2", subject.handlePhasesDumpDir());
 	}
 
 	private void givenPropsWithSeed(int i) {
@@ -178,6 +211,23 @@ class NodeLocalPropertiesTest {
 		given(properties.getIntProperty("stats.executionTimesToTrack")).willReturn(i + 24);
 		given(properties.getIntProperty("iss.resetPeriod")).willReturn(i + 25);
 		given(properties.getIntProperty("iss.roundsToDump")).willReturn(i + 26);
+		given(properties.getBooleanProperty("grpc.handlerStages.isEnabled")).willReturn(i % 2 == 1);
+		given(properties.getBooleanProperty("grpc.handlerStages.useVirtualThreads")).willReturn(i % 2 == 0);
+		given(properties.getIntProperty("grpc.handlerStages.txns.threads")).willReturn(i + 27);
+		given(properties.getIntProperty("grpc.handlerStages.txns.queueCapacity")).willReturn(i + 28);
+		given(properties.getIntProperty("grpc.handlerStages.queries.threads")).willReturn(i + 29);
+		given(properties.getIntProperty("grpc.handlerStages.queries.queueCapacity")).willReturn(i + 30);
+		given(properties.getBooleanProperty("queries.useLatestSignedState")).willReturn(i % 2 == 1);
+		given(properties.getBooleanProperty("stats.handlePhases.enabled")).willReturn(i % 2 == 1);
+		given(properties.getLongProperty("stats.handlePhases.dumpIntervalMs")).willReturn(i + 31L);
+		given(properties.getStringProperty("stats.handlePhases.dumpDir")).willReturn("stats" + i);
+		given(properties.getIntProperty("contracts.codeCache.maxSizeKb")).willReturn(i + 32);
+		given(properties.getIntProperty("contracts.localCall.threads")).willReturn(i + 33);
+		given(properties.getIntProperty("contracts.localCall.queueCapacity")).willReturn(i + 34);
+		given(properties.getLongProperty("contracts.localCall.timeoutMs")).willReturn(i + 35L);
+		given(properties.getIntProperty("precheck.sigVerification.threads")).willReturn(i + 36);
+		given(properties.getIntProperty("precheck.sigVerification.maxBatchSize")).willReturn(i + 37);
+		given(properties.getLongProperty("precheck.sigVerification.maxWaitMs")).willReturn(i + 38L);
 	}
 
 	static String logDir(int num) {
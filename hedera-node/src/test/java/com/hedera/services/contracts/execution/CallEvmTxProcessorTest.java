@@ -36,7 +36,9 @@ import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.hederahashgraph.api.proto.java.Timestamp;
 import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.datatypes.Wei;
+import org.hyperledger.besu.evm.Code;
 import org.hyperledger.besu.evm.Gas;
 import org.hyperledger.besu.evm.account.EvmAccount;
 import org.hyperledger.besu.evm.account.MutableAccount;
@@ -83,6 +85,8 @@ class CallEvmTxProcessorTest {
 	@Mock
 	private GasCalculator gasCalculator;
 	@Mock
+	private CodeCache codeCache;
+	@Mock
 	private Set<Operation> operations;
 	@Mock
 	private Transaction transaction;
@@ -104,7 +108,7 @@ class CallEvmTxProcessorTest {
 		CommonProcessorSetup.setup(gasCalculator);
 
 		callEvmTxProcessor = new CallEvmTxProcessor(worldState, hbarCentExchange, usagePricesProvider,
-				globalDynamicProperties, gasCalculator, operations);
+				globalDynamicProperties, gasCalculator, operations, codeCache);
 	}
 
 	@Test
@@ -170,7 +174,7 @@ class CallEvmTxProcessorTest {
 		doReturn(Optional.of(receiver.getId().asEvmAddress())).when(transaction).getTo();
 		given(worldState.updater()).willReturn(mock(HederaWorldState.Updater.class));
 		given(worldState.updater().get(any())).willReturn(mock(org.hyperledger.besu.evm.account.Account.class));
-		given(worldState.updater().get(any()).getCode()).willReturn(Bytes.EMPTY);
+		given(codeCache.getOrLoad(any())).willReturn(new Code(Bytes.EMPTY, Hash.EMPTY));
 		given(transaction.getSender()).willReturn(sender.getId().asEvmAddress());
 		given(transaction.getValue()).willReturn(Wei.of(1L));
 		final MessageFrame.Builder commonInitialFrame =
@@ -224,7 +228,7 @@ class CallEvmTxProcessorTest {
 
 		given(updater.getOrCreateSenderAccount(sender.getId().asEvmAddress())).willReturn(evmAccount);
 		given(worldState.updater().get(any())).willReturn(mock(org.hyperledger.besu.evm.account.Account.class));
-		given(worldState.updater().get(any()).getCode()).willReturn(Bytes.EMPTY);
+		given(codeCache.getOrLoad(any())).willReturn(new Code(Bytes.EMPTY, Hash.EMPTY));
 		given(worldState.updater()).willReturn(updater);
 
 		given(gasCalculator.getSelfDestructRefundAmount()).willReturn(Gas.ZERO);
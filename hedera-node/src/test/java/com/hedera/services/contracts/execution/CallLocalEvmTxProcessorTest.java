@@ -35,7 +35,9 @@ import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import com.hederahashgraph.api.proto.java.Timestamp;
 import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.datatypes.Wei;
+import org.hyperledger.besu.evm.Code;
 import org.hyperledger.besu.evm.Gas;
 import org.hyperledger.besu.evm.account.EvmAccount;
 import org.hyperledger.besu.evm.account.MutableAccount;
@@ -78,6 +80,8 @@ class CallLocalEvmTxProcessorTest {
 	@Mock
 	private GasCalculator gasCalculator;
 	@Mock
+	private CodeCache codeCache;
+	@Mock
 	private Set<Operation> operations;
 	@Mock
 	private Transaction transaction;
@@ -97,13 +101,14 @@ class CallLocalEvmTxProcessorTest {
 		CommonProcessorSetup.setup(gasCalculator);
 
 		callLocalEvmTxProcessor = new CallLocalEvmTxProcessor(worldState, hbarCentExchange, usagePricesProvider,
-				globalDynamicProperties, gasCalculator, operations);
+				globalDynamicProperties, gasCalculator, operations, codeCache);
 	}
 
 	@Test
 	void assertSuccessExecutе() {
 		givenValidMock();
-		var result = callLocalEvmTxProcessor.execute(sender, receiver.getId().asEvmAddress(), 33_333L, 1234L, Bytes.EMPTY, consensusTime);
+		var result = callLocalEvmTxProcessor.execute(
+				worldState, sender, receiver.getId().asEvmAddress(), 33_333L, 1234L, Bytes.EMPTY, consensusTime, 0L);
 		assertTrue(result.isSuccessful());
 		assertEquals(receiver.getId().asGrpcContract(), result.toGrpc().getContractID());
 	}
@@ -121,7 +126,7 @@ class CallLocalEvmTxProcessorTest {
 		doReturn(Optional.of(receiver.getId().asEvmAddress())).when(transaction).getTo();
 		given(worldState.updater()).willReturn(mock(HederaWorldState.Updater.class));
 		given(worldState.updater().get(any())).willReturn(mock(org.hyperledger.besu.evm.account.Account.class));
-		given(worldState.updater().get(any()).getCode()).willReturn(Bytes.EMPTY);
+		given(codeCache.getOrLoadWithoutCaching(any())).willReturn(new Code(Bytes.EMPTY, Hash.EMPTY));
 		given(transaction.getSender()).willReturn(sender.getId().asEvmAddress());
 		given(transaction.getValue()).willReturn(Wei.of(1L));
 		final MessageFrame.Builder commonInitialFrame =
@@ -162,7 +167,7 @@ class CallLocalEvmTxProcessorTest {
 		given(updater.getOrCreateSenderAccount(sender.getId().asEvmAddress())).willReturn(evmAccount);
 		given(updater.getOrCreateSenderAccount(sender.getId().asEvmAddress()).getMutable()).willReturn(mock(MutableAccount.class));
 		given(worldState.updater().get(any())).willReturn(mock(org.hyperledger.besu.evm.account.Account.class));
-		given(worldState.updater().get(any()).getCode()).willReturn(Bytes.EMPTY);
+		given(codeCache.getOrLoadWithoutCaching(any())).willReturn(new Code(Bytes.EMPTY, Hash.EMPTY));
 		given(worldState.updater()).willReturn(updater);
 
 
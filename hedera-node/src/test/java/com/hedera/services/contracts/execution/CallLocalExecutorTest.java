@@ -21,9 +21,14 @@ package com.hedera.services.contracts.execution;
  */
 
 import com.google.protobuf.ByteString;
+import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.context.properties.NodeLocalProperties;
 import com.hedera.services.contracts.operation.HederaExceptionalHaltReason;
 import com.hedera.services.exceptions.InvalidTransactionException;
+import com.hedera.services.grpc.BoundedHandlerStage;
 import com.hedera.services.store.AccountStore;
+import com.hedera.services.store.contracts.ReadOnlyWorldState;
+import com.hedera.services.store.contracts.ReadOnlyWorldStateFactory;
 import com.hedera.services.store.models.Account;
 import com.hedera.services.store.models.Id;
 import com.hederahashgraph.api.proto.java.ContractCallLocalQuery;
@@ -45,6 +50,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.ArrayList;
 import java.util.Optional;
 
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.BUSY;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.CONTRACT_REVERT_EXECUTED;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_ACCOUNT_ID;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_SOLIDITY_ADDRESS;
@@ -52,9 +58,13 @@ import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.LOCAL_CALL_MOD
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 import static com.hederahashgraph.api.proto.java.ResponseType.ANSWER_ONLY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
@@ -63,6 +73,7 @@ class CallLocalExecutorTest {
 	ByteString params = ByteString.copyFrom("Hungry, and...".getBytes());
 	Id callerID = new Id(0, 0, 123);
 	Id contractID = new Id(0, 0, 456);
+	long timeoutMs = 2_000L;
 
 	ContractCallLocalQuery query;
 
@@ -70,6 +81,16 @@ class CallLocalExecutorTest {
 	AccountStore accountStore;
 	@Mock
 	CallLocalEvmTxProcessor evmTxProcessor;
+	@Mock
+	ReadOnlyWorldStateFactory worldStateFactory;
+	@Mock
+	ReadOnlyWorldState worldState;
+	@Mock
+	StateView view;
+	@Mock
+	BoundedHandlerStage stage;
+	@Mock
+	NodeLocalProperties properties;
 
 	CallLocalExecutor subject;
 
@@ -77,7 +98,8 @@ class CallLocalExecutorTest {
 	private void setup() {
 		query = localCallQuery(contractID.asGrpcContract(), ANSWER_ONLY);
 
-		subject = new CallLocalExecutor(accountStore, evmTxProcessor);
+		subject = new CallLocalExecutor(
+				accountStore, evmTxProcessor, worldStateFactory, BoundedHandlerStage.direct(), timeoutMs);
 	}
 
 	@Test
@@ -89,11 +111,12 @@ class CallLocalExecutorTest {
 
 		given(accountStore.loadAccount(any())).willReturn(new Account(callerID));
 		given(accountStore.loadContract(any())).willReturn(new Account(contractID));
-		given(evmTxProcessor.execute(any(), any(), anyLong(), anyLong(), any(), any()))
+		given(worldStateFactory.worldStateOver(eq(view), any())).willReturn(worldState);
+		given(evmTxProcessor.execute(eq(worldState), any(), any(), anyLong(), anyLong(), any(), any(), anyLong()))
 				.willReturn(transactionProcessingResult);
 
 		// when:
-		final var result = subject.execute(query);
+		final var result = subject.execute(query, view);
 
 		// then:
 		assertEquals(expected, result);
@@ -108,11 +131,12 @@ class CallLocalExecutorTest {
 
 		given(accountStore.loadAccount(any())).willReturn(new Account(callerID));
 		given(accountStore.loadContract(any())).willReturn(new Account(contractID));
-		given(evmTxProcessor.execute(any(), any(), anyLong(), anyLong(), any(), any()))
+		given(worldStateFactory.worldStateOver(eq(view), any())).willReturn(worldState);
+		given(evmTxProcessor.execute(eq(worldState), any(), any(), anyLong(), anyLong(), any(), any(), anyLong()))
 				.willReturn(transactionProcessingResult);
 
 		// when:
-		final var result = subject.execute(query);
+		final var result = subject.execute(query, view);
 
 		// then:
 		assertEquals(expected, result);
@@ -127,11 +151,12 @@ class CallLocalExecutorTest {
 
 		given(accountStore.loadAccount(any())).willReturn(new Account(callerID));
 		given(accountStore.loadContract(any())).willReturn(new Account(contractID));
-		given(evmTxProcessor.execute(any(), any(), anyLong(), anyLong(), any(), any()))
+		given(worldStateFactory.worldStateOver(eq(view), any())).willReturn(worldState);
+		given(evmTxProcessor.execute(eq(worldState), any(), any(), anyLong(), anyLong(), any(), any(), anyLong()))
 				.willReturn(transactionProcessingResult);
 
 		// when:
-		final var result = subject.execute(query);
+		final var result = subject.execute(query, view);
 
 		// then:
 		assertEquals(expected, result);
@@ -146,11 +171,12 @@ class CallLocalExecutorTest {
 
 		given(accountStore.loadAccount(any())).willReturn(new Account(callerID));
 		given(accountStore.loadContract(any())).willReturn(new Account(contractID));
-		given(evmTxProcessor.execute(any(), any(), anyLong(), anyLong(), any(), any()))
+		given(worldStateFactory.worldStateOver(eq(view), any())).willReturn(worldState);
+		given(evmTxProcessor.execute(eq(worldState), any(), any(), anyLong(), anyLong(), any(), any(), anyLong()))
 				.willReturn(transactionProcessingResult);
 
 		// when:
-		final var result = subject.execute(query);
+		final var result = subject.execute(query, view);
 
 		// then:
 		assertEquals(expected, result);
@@ -162,13 +188,100 @@ class CallLocalExecutorTest {
 		given(accountStore.loadAccount(any())).willThrow(new InvalidTransactionException(INVALID_ACCOUNT_ID));
 
 		// when:
-		final var result = subject.execute(query);
+		final var result = subject.execute(query, view);
 
 		assertEquals(failedResponse(INVALID_ACCOUNT_ID), result);
 		// and:
 		verifyNoInteractions(evmTxProcessor);
 	}
 
+	@Test
+	void passesTimeoutToProcessor() {
+		// setup:
+		final var transactionProcessingResult = TransactionProcessingResult
+				.successful(new ArrayList<>(), 0, 0,1, Bytes.EMPTY, callerID.asEvmAddress());
+
+		given(accountStore.loadAccount(any())).willReturn(new Account(callerID));
+		given(accountStore.loadContract(any())).willReturn(new Account(contractID));
+		given(worldStateFactory.worldStateOver(eq(view), any())).willReturn(worldState);
+		given(evmTxProcessor.execute(eq(worldState), any(), any(), anyLong(), anyLong(), any(), any(), anyLong()))
+				.willReturn(transactionProcessingResult);
+
+		// when:
+		subject.execute(query, view);
+
+		// then:
+		verify(evmTxProcessor).execute(
+				eq(worldState), any(), any(), anyLong(), anyLong(), any(), any(), eq(timeoutMs * 1_000_000L));
+	}
+
+	@Test
+	void answersBusyIfStageIsSaturated() {
+		// setup:
+		subject = new CallLocalExecutor(accountStore, evmTxProcessor, worldStateFactory, stage, timeoutMs);
+
+		given(stage.tryDispatch(any(), any())).willReturn(false);
+
+		// when:
+		final var result = subject.execute(query, view);
+
+		// then:
+		assertEquals(failedResponse(BUSY), result);
+		verifyNoInteractions(accountStore, evmTxProcessor);
+	}
+
+	@Test
+	void answersBusyIfDroppedAtShutdown() {
+		// setup:
+		subject = new CallLocalExecutor(accountStore, evmTxProcessor, worldStateFactory, stage, timeoutMs);
+
+		willAnswer(invocation -> {
+			invocation.<Runnable>getArgument(1).run();
+			return true;
+		}).given(stage).tryDispatch(any(), any());
+
+		// when:
+		final var result = subject.execute(query, view);
+
+		// then:
+		assertEquals(failedResponse(BUSY), result);
+		verifyNoInteractions(accountStore, evmTxProcessor);
+	}
+
+	@Test
+	void runsOnPooledStageWhenConfigured() {
+		// setup:
+		final var transactionProcessingResult = TransactionProcessingResult
+				.successful(new ArrayList<>(), 0, 0,1, Bytes.EMPTY, callerID.asEvmAddress());
+		final var expected = response(OK, transactionProcessingResult);
+
+		given(properties.contractsLocalCallThreads()).willReturn(2);
+		given(properties.contractsLocalCallQueueCapacity()).willReturn(2);
+		given(properties.contractsLocalCallTimeoutMs()).willReturn(timeoutMs);
+		given(accountStore.loadAccount(any())).willReturn(new Account(callerID));
+		given(accountStore.loadContract(any())).willReturn(new Account(contractID));
+		given(worldStateFactory.worldStateOver(eq(view), any())).willReturn(worldState);
+		given(evmTxProcessor.execute(eq(worldState), any(), any(), anyLong(), anyLong(), any(), any(), anyLong()))
+				.willReturn(transactionProcessingResult);
+		// and:
+		subject = new CallLocalExecutor(accountStore, evmTxProcessor, worldStateFactory, properties);
+
+		// when:
+		final var result = subject.execute(query, view);
+
+		// then:
+		assertEquals(expected, result);
+	}
+
+	@Test
+	void propagatesUnexpectedFailures() {
+		// setup:
+		given(accountStore.loadAccount(any())).willThrow(IllegalStateException.class);
+
+		// expect:
+		assertThrows(IllegalStateException.class, () -> subject.execute(query, view));
+	}
+
 	private ContractCallLocalResponse response(ResponseCodeEnum status, TransactionProcessingResult result) {
 		return ContractCallLocalResponse.newBuilder()
 				.setHeader(ResponseHeader.newBuilder().setNodeTransactionPrecheckCode(status))
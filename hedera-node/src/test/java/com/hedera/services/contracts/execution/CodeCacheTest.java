@@ -0,0 +1,188 @@
+package com.hedera.services.contracts.execution;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.context.properties.NodeLocalProperties;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.evm.account.Account;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CodeCacheTest {
+	private static final Address contract = Address.fromHexString("0x00000000000000000000000000000000000003e9");
+	private static final Address twin = Address.fromHexString("0x00000000000000000000000000000000000003ea");
+	private static final Bytes bytecode = Bytes.fromHexString("0x6103e85b600190038060035700");
+
+	@Mock
+	private NodeLocalProperties nodeLocalProperties;
+	@Mock
+	private Account account;
+
+	private CodeCache subject;
+
+	@Test
+	void isNoopIfMaxSizeIsZero() {
+		// given:
+		givenContractAccount();
+		subject = new CodeCache(nodeLocalProperties);
+
+		// when:
+		final var first = subject.getOrLoad(account);
+		final var second = subject.getOrLoad(account);
+		subject.cacheDeployed(contract, bytecode);
+
+		// then:
+		assertTrue(subject.isShouldNoop());
+		assertNull(subject.getCodeByHash());
+		assertNull(subject.getHashByAddress());
+		assertNull(subject.getIfCached(contract));
+		assertNotSame(first, second);
+		assertEquals(bytecode, first.getBytes());
+		verify(account, times(2)).getCode();
+		// and:
+		assertDoesNotThrow(() -> subject.invalidate(contract));
+	}
+
+	@Test
+	void loadsEachContractCodeOnce() {
+		// given:
+		givenContractAccount();
+		givenEnabledSubject();
+
+		// when:
+		final var first = subject.getOrLoad(account);
+		final var second = subject.getOrLoad(account);
+
+		// then:
+		assertFalse(subject.isShouldNoop());
+		assertSame(first, second);
+		assertSame(first, subject.getIfCached(contract));
+		assertEquals(bytecode, first.getBytes());
+		assertEquals(Hash.hash(bytecode), first.getCodeHash());
+		verify(account).getCode();
+	}
+
+	@Test
+	void neverCachesEmptyCode() {
+		// given:
+		given(account.getAddress()).willReturn(contract);
+		given(account.getCode()).willReturn(Bytes.EMPTY);
+		given(account.getCodeHash()).willReturn(Hash.EMPTY);
+		givenEnabledSubject();
+
+		// when:
+		final var code = subject.getOrLoad(account);
+		subject.cacheDeployed(twin, Bytes.EMPTY);
+
+		// then:
+		assertEquals(Bytes.EMPTY, code.getBytes());
+		assertNull(subject.getIfCached(contract));
+		assertNull(subject.getIfCached(twin));
+		assertEquals(0, subject.getCodeByHash().size());
+	}
+
+	@Test
+	void loadingWithoutCachingOnlyReads() {
+		// given:
+		givenContractAccount();
+		givenEnabledSubject();
+
+		// when:
+		final var uncached = subject.getOrLoadWithoutCaching(account);
+
+		// then:
+		assertEquals(bytecode, uncached.getBytes());
+		assertNull(subject.getIfCached(contract));
+		assertEquals(0, subject.getCodeByHash().size());
+
+		// and when:
+		final var cached = subject.getOrLoad(account);
+
+		// then:
+		assertSame(cached, subject.getOrLoadWithoutCaching(account));
+	}
+
+	@Test
+	void sharesCodeDeployedAtManyAddresses() {
+		// given:
+		givenContractAccount();
+		givenEnabledSubject();
+		// and:
+		final var loaded = subject.getOrLoad(account);
+
+		// when:
+		subject.cacheDeployed(twin, bytecode);
+
+		// then:
+		assertSame(loaded, subject.getIfCached(twin));
+		assertEquals(1, subject.getCodeByHash().size());
+		assertEquals(2, subject.getHashByAddress().size());
+	}
+
+	@Test
+	void reloadsInvalidatedAddress() {
+		// given:
+		givenContractAccount();
+		givenEnabledSubject();
+		// and:
+		final var first = subject.getOrLoad(account);
+
+		// when:
+		subject.invalidate(contract);
+
+		// then:
+		assertNull(subject.getIfCached(contract));
+
+		// and when:
+		final var second = subject.getOrLoad(account);
+
+		// then:
+		assertSame(first, second);
+		verify(account, times(2)).getCode();
+	}
+
+	private void givenEnabledSubject() {
+		given(nodeLocalProperties.contractsCodeCacheMaxSizeKb()).willReturn(1);
+		subject = new CodeCache(nodeLocalProperties);
+	}
+
+	private void givenContractAccount() {
+		given(account.getAddress()).willReturn(contract);
+		given(account.getCode()).willReturn(bytecode);
+		given(account.getCodeHash()).willReturn(Hash.hash(bytecode));
+	}
+}
@@ -24,6 +24,7 @@ package com.hedera.services.contracts.execution;
 
 import org.hyperledger.besu.evm.frame.MessageFrame;
 import org.hyperledger.besu.evm.tracing.OperationTracer;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -32,7 +33,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Optional;
 
+import static com.hedera.services.contracts.operation.HederaExceptionalHaltReason.EXECUTION_TIMEOUT;
 import static com.hedera.services.contracts.operation.HederaExceptionalHaltReason.INVALID_SOLIDITY_ADDRESS;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -50,10 +54,50 @@ class HederaTracerTest {
         subject = new HederaTracer();
     }
 
+    @AfterEach
+    void cleanup() {
+        HederaTracer.nanoTime = System::nanoTime;
+    }
+
     @Test
     void traceExecution() {
         subject.traceExecution(mf, eo);
         verify(eo).execute();
+        verify(mf, never()).setState(any());
+    }
+
+    @Test
+    void doesNotHaltBeforeDeadline() {
+        // given:
+        HederaTracer.nanoTime = () -> 1_000L;
+        subject = HederaTracer.withTimeout(500L);
+        // and:
+        HederaTracer.nanoTime = () -> 1_500L;
+
+        // when:
+        subject.traceExecution(mf, eo);
+
+        // then:
+        verify(eo).execute();
+        verify(mf, never()).setExceptionalHaltReason(any());
+        verify(mf, never()).setState(any());
+    }
+
+    @Test
+    void haltsAfterDeadline() {
+        // given:
+        HederaTracer.nanoTime = () -> 1_000L;
+        subject = HederaTracer.withTimeout(500L);
+        // and:
+        HederaTracer.nanoTime = () -> 1_501L;
+
+        // when:
+        subject.traceExecution(mf, eo);
+
+        // then:
+        verify(eo).execute();
+        verify(mf).setExceptionalHaltReason(Optional.of(EXECUTION_TIMEOUT));
+        verify(mf).setState(MessageFrame.State.EXCEPTIONAL_HALT);
     }
 
     @Test
@@ -0,0 +1,139 @@
+package com.hedera.services.contracts.sources;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.utils.EntityIdUtils;
+import com.hedera.services.utils.EntityNum;
+import com.hedera.test.utils.IdUtils;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.swirlds.merkle.map.MerkleMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigInteger;
+
+import static com.hedera.test.factories.accounts.MerkleAccountFactory.newAccount;
+import static com.hedera.test.factories.accounts.MerkleAccountFactory.newContract;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ReadOnlyAccountsSourceTest {
+	private static final long now = 1_234_567L;
+	private static final long balance = 1_000L;
+	private static final long autoRenew = 7_776_000L;
+	private static final AccountID proxy = IdUtils.asAccount("1.2.3");
+	private static final AccountID target = IdUtils.asAccount("1.2.13257");
+	private static final byte[] key = EntityIdUtils.asSolidityAddress(1, 2, 13257);
+
+	@Mock
+	private MerkleMap<EntityNum, MerkleAccount> accounts;
+	@Mock
+	private GlobalDynamicProperties dynamicProperties;
+
+	private ReadOnlyAccountsSource subject;
+
+	@BeforeEach
+	void setUp() {
+		subject = new ReadOnlyAccountsSource(accounts, dynamicProperties, now);
+	}
+
+	@Test
+	void getsNullForMissingAccount() {
+		// expect:
+		assertNull(subject.get(key));
+	}
+
+	@Test
+	void getsExpectedStateForPresentAccount() {
+		// given:
+		given(accounts.get(EntityNum.fromAccountId(target))).willReturn(newContract()
+				.balance(balance)
+				.proxy(proxy)
+				.autoRenewPeriod(autoRenew)
+				.expirationTime(now)
+				.receiverSigRequired(true)
+				.get());
+
+		// when:
+		final var evmState = subject.get(key);
+
+		// then:
+		assertEquals(BigInteger.valueOf(balance), evmState.getBalance());
+		assertEquals(1L, evmState.getShardId());
+		assertEquals(2L, evmState.getRealmId());
+		assertEquals(13257L, evmState.getAccountNum());
+		assertEquals(autoRenew, evmState.getAutoRenewPeriod());
+		assertEquals(now, evmState.getExpirationTime());
+		assertTrue(evmState.isSmartContract());
+		assertTrue(evmState.isReceiverSigRequired());
+		assertFalse(evmState.isDeleted());
+		// and:
+		assertEquals(1L, evmState.getProxyAccountShard());
+		assertEquals(2L, evmState.getProxyAccountRealm());
+		assertEquals(3L, evmState.getProxyAccountNum());
+	}
+
+	@Test
+	void getsNullForDetachedAccount() {
+		// given:
+		given(dynamicProperties.autoRenewEnabled()).willReturn(true);
+		given(accounts.get(EntityNum.fromAccountId(target))).willReturn(newAccount()
+				.balance(0L)
+				.expirationTime(now)
+				.get());
+
+		// expect:
+		assertNull(subject.get(key));
+	}
+
+	@Test
+	void getsStateForExpiredAccountIfAutoRenewDisabled() {
+		// given:
+		given(accounts.get(EntityNum.fromAccountId(target))).willReturn(newAccount()
+				.balance(0L)
+				.expirationTime(now)
+				.get());
+
+		// when:
+		final var evmState = subject.get(key);
+
+		// then:
+		assertEquals(BigInteger.ZERO, evmState.getBalance());
+	}
+
+	@Test
+	void rejectsWrites() {
+		// expect:
+		assertThrows(UnsupportedOperationException.class, () -> subject.put(key, null));
+		assertThrows(UnsupportedOperationException.class, () -> subject.delete(key));
+		assertFalse(subject.flush());
+	}
+}
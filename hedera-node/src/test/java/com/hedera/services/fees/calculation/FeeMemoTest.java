@@ -0,0 +1,94 @@
+package com.hedera.services.fees.calculation;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.usage.crypto.CryptoTransferMeta;
+import com.hedera.services.utils.TxnAccessor;
+import com.hederahashgraph.api.proto.java.ExchangeRate;
+import com.hederahashgraph.api.proto.java.FeeComponents;
+import com.hederahashgraph.api.proto.java.FeeData;
+import com.hederahashgraph.fee.FeeObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoUpdate;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenMint;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenPause;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class FeeMemoTest {
+	private static final long multiplier = 3L;
+	private static final int numPayerKeys = 2;
+	private static final FeeObject fees = new FeeObject(1L, 2L, 3L);
+	private static final ExchangeRate rate = ExchangeRate.newBuilder().setCentEquiv(12).setHbarEquiv(1).build();
+	private static final FeeData prices = FeeData.newBuilder()
+			.setNodedata(FeeComponents.newBuilder().setBpt(1L))
+			.build();
+
+	@Mock
+	private TxnAccessor accessor;
+
+	private final FeeMemo subject = new FeeMemo(prices, rate, multiplier, numPayerKeys, fees);
+
+	@Test
+	void isValidOnlyForSameInputs() {
+		// setup:
+		final var equalButNotSamePrices = prices.toBuilder().build();
+		final var equalButNotSameRate = rate.toBuilder().build();
+
+		// expect:
+		assertTrue(subject.isValidFor(prices, equalButNotSameRate, multiplier, numPayerKeys));
+		assertFalse(subject.isValidFor(equalButNotSamePrices, rate, multiplier, numPayerKeys));
+		assertFalse(subject.isValidFor(prices, rate.toBuilder().setCentEquiv(13).build(), multiplier, numPayerKeys));
+		assertFalse(subject.isValidFor(prices, rate, multiplier + 1, numPayerKeys));
+		assertFalse(subject.isValidFor(prices, rate, multiplier, numPayerKeys + 1));
+		assertSame(fees, subject.fees());
+	}
+
+	@Test
+	void onlyContextFreeFunctionsAreMemoizable() {
+		given(accessor.getFunction()).willReturn(TokenPause, CryptoUpdate, TokenMint);
+
+		// expect:
+		assertTrue(FeeMemo.isMemoizable(accessor));
+		assertFalse(FeeMemo.isMemoizable(accessor));
+		assertFalse(FeeMemo.isMemoizable(accessor));
+	}
+
+	@Test
+	void onlyHbarTransfersAreMemoizable() {
+		given(accessor.getFunction()).willReturn(CryptoTransfer);
+		given(accessor.availXferUsageMeta()).willReturn(
+				new CryptoTransferMeta(1, 0, 0, 0),
+				new CryptoTransferMeta(1, 1, 2, 0));
+
+		// expect:
+		assertTrue(FeeMemo.isMemoizable(accessor));
+		assertFalse(FeeMemo.isMemoizable(accessor));
+	}
+}
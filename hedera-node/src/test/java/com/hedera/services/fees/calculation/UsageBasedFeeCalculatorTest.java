@@ -33,6 +33,7 @@ import com.hedera.test.factories.keys.KeyTree;
 import com.hedera.test.factories.scenarios.TxnHandlingScenario;
 import com.hedera.test.utils.IdUtils;
 import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.CryptoUpdateTransactionBody;
 import com.hederahashgraph.api.proto.java.ExchangeRate;
 import com.hederahashgraph.api.proto.java.FeeComponents;
 import com.hederahashgraph.api.proto.java.FeeData;
@@ -43,6 +44,7 @@ import com.hederahashgraph.api.proto.java.Timestamp;
 import com.hederahashgraph.api.proto.java.TokenID;
 import com.hederahashgraph.api.proto.java.TokenType;
 import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.exception.InvalidTxBodyException;
 import com.hederahashgraph.fee.FeeBuilder;
 import com.hederahashgraph.fee.FeeObject;
@@ -78,6 +80,7 @@ import static com.hederahashgraph.api.proto.java.HederaFunctionality.ContractCre
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoAccountAutoRenew;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoCreate;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoUpdate;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenAccountWipe;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenBurn;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenMint;
@@ -88,6 +91,7 @@ import static com.hederahashgraph.fee.FeeBuilder.getFeeObject;
 import static com.hederahashgraph.fee.FeeBuilder.getTinybarsFromTinyCents;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -95,6 +99,7 @@ import static org.mockito.BDDMockito.any;
 import static org.mockito.BDDMockito.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.never;
 import static org.mockito.BDDMockito.verify;
 import static org.mockito.BDDMockito.willThrow;
 
@@ -561,6 +566,91 @@ class UsageBasedFeeCalculatorTest {
 		assertEquals(fees.getServiceFee(), expectedFees.getServiceFee());
 	}
 
+	@Test
+	void reusesPrecheckFeesAtConsensusIfNoInputChanged() {
+		// setup:
+		final var prices = currentPrices.get(SubType.DEFAULT);
+		final var expectedFees = new FeeObject(1L, 2L, 3L);
+
+		givenPricedPrecheckAndHandle(CryptoCreate, expectedFees);
+
+		// when:
+		final var precheckFees = subject.estimateFee(accessor, payerKey, view, at);
+		final var handleFees = subject.computeFee(accessor, payerKey, view, consensusNow);
+
+		// then:
+		assertSame(expectedFees, precheckFees);
+		assertSame(expectedFees, handleFees);
+		verify(pricedUsageCalculator, never()).inHandleFees(accessor, prices, currentRate, payerKey);
+	}
+
+	@Test
+	void recomputesFeesIfMultiplierChanged() {
+		// setup:
+		final var prices = currentPrices.get(SubType.DEFAULT);
+		final var precheckFees = new FeeObject(1L, 2L, 3L);
+		final var handleFees = new FeeObject(2L, 4L, 6L);
+
+		givenPricedPrecheckAndHandle(CryptoCreate, precheckFees);
+		given(pricedUsageCalculator.inHandleFees(accessor, prices, currentRate, payerKey)).willReturn(handleFees);
+
+		// when:
+		subject.estimateFee(accessor, payerKey, view, at);
+		suggestedMultiplier.set(2L);
+		final var actual = subject.computeFee(accessor, payerKey, view, consensusNow);
+
+		// then:
+		assertSame(handleFees, actual);
+	}
+
+	@Test
+	void recomputesFeesIfExchangeRateChanged() {
+		// setup:
+		final var prices = currentPrices.get(SubType.DEFAULT);
+		final var newRate = currentRate.toBuilder().setCentEquiv(23).build();
+		final var handleFees = new FeeObject(2L, 4L, 6L);
+
+		givenPricedPrecheckAndHandle(CryptoCreate, new FeeObject(1L, 2L, 3L));
+		given(exchange.activeRate(consensusNow)).willReturn(newRate);
+		given(pricedUsageCalculator.inHandleFees(accessor, prices, newRate, payerKey)).willReturn(handleFees);
+
+		// when:
+		subject.estimateFee(accessor, payerKey, view, at);
+		final var actual = subject.computeFee(accessor, payerKey, view, consensusNow);
+
+		// then:
+		assertSame(handleFees, actual);
+	}
+
+	@Test
+	void doesNotMemoizeFeesWithStateDependentUsage() throws Throwable {
+		// setup:
+		accessor = SignedTxnAccessor.uncheckedFrom(Transaction.newBuilder()
+				.setBodyBytes(TransactionBody.newBuilder()
+						.setCryptoUpdateAccount(CryptoUpdateTransactionBody.getDefaultInstance())
+						.build()
+						.toByteString())
+				.build());
+
+		givenPricedPrecheckAndHandle(CryptoUpdate, new FeeObject(1L, 2L, 3L));
+
+		// when:
+		subject.estimateFee(accessor, payerKey, view, at);
+
+		// then:
+		assertNull(accessor.getFeeMemo());
+	}
+
+	private void givenPricedPrecheckAndHandle(final HederaFunctionality function, final FeeObject precheckFees) {
+		final var prices = currentPrices.get(SubType.DEFAULT);
+		given(pricedUsageCalculator.supports(function)).willReturn(true);
+		given(usagePrices.pricesGiven(function, at)).willReturn(currentPrices);
+		given(usagePrices.activePrices(accessor)).willReturn(currentPrices);
+		given(exchange.rate(at)).willReturn(currentRate);
+		given(exchange.activeRate(consensusNow)).willReturn(currentRate);
+		given(pricedUsageCalculator.extraHandleFees(accessor, prices, currentRate, payerKey)).willReturn(precheckFees);
+	}
+
 	private final Function<SigValueObj, ArgumentMatcher<SigValueObj>> factory = expectedSigUsage -> sigUsage ->
 			expectedSigUsage.getSignatureSize() == sigUsage.getSignatureSize()
 					&& expectedSigUsage.getPayerAcctSigCount() == sigUsage.getPayerAcctSigCount()
@@ -116,7 +116,7 @@ class ContractCallLocalResourceUsageTest {
 		final var estimateResponse = subject.dummyResponse(target);
 		final var expected = expectedUsage();
 
-		given(executor.execute(satisfiableAnswerOnly.getContractCallLocal()))
+		given(executor.execute(satisfiableAnswerOnly.getContractCallLocal(), view))
 				.willReturn(response);
 		given(usageEstimator.getContractCallLocalFeeMatrices(
 				params.size(),
@@ -156,13 +156,29 @@ class ContractCallLocalResourceUsageTest {
 	void translatesExecutionException() {
 		final var queryCtx = new HashMap<String, Object>();
 
-		given(executor.execute(satisfiableAnswerOnly.getContractCallLocal())).willThrow(InvalidTransactionException.class);
+		given(executor.execute(satisfiableAnswerOnly.getContractCallLocal(), view)).willThrow(InvalidTransactionException.class);
 
 		assertThrows(IllegalStateException.class, () -> subject.usageGiven(satisfiableAnswerOnly, view, queryCtx));
 		assertFalse(queryCtx.containsKey(ContractCallLocalAnswer.CONTRACT_CALL_LOCAL_CTX_KEY));
 		assertThat(logCaptor.warnLogs(), contains(startsWith("Usage estimation unexpectedly failed for")));
 	}
 
+	@Test
+	void stopsFlowWithoutCachingBusyResponse() {
+		final var queryCtx = new HashMap<String, Object>();
+		final var busy = ContractCallLocalResponse.newBuilder()
+				.setHeader(ResponseHeader.newBuilder().setNodeTransactionPrecheckCode(ResponseCodeEnum.BUSY))
+				.build();
+
+		given(executor.execute(satisfiableAnswerOnly.getContractCallLocal(), view)).willReturn(busy);
+
+		final var e = assertThrows(InvalidTransactionException.class,
+				() -> subject.usageGiven(satisfiableAnswerOnly, view, queryCtx));
+		assertEquals(ResponseCodeEnum.BUSY, e.getResponseCode());
+		assertFalse(queryCtx.containsKey(ContractCallLocalAnswer.CONTRACT_CALL_LOCAL_CTX_KEY));
+		verifyNoInteractions(usageEstimator);
+	}
+
 	@Test
 	void dummyResponseAsExpected() {
 		final var dummy = subject.dummyResponse(target);
@@ -24,6 +24,7 @@ import com.hedera.services.context.TransactionContext;
 import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.fees.FeeCalculator;
 import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.records.TxnIdKey;
 import com.hedera.services.records.TxnIdRecentHistory;
 import com.hedera.services.state.logic.AwareNodeDiligenceScreen;
 import com.hedera.services.utils.SignedTxnAccessor;
@@ -86,7 +87,7 @@ class TxnChargingPolicyAgentTest {
 	@Mock
 	private AwareNodeDiligenceScreen nodeDiligenceScreen;
 	@Mock
-	private Map<TransactionID, TxnIdRecentHistory> txnHistories;
+	private Map<TxnIdKey, TxnIdRecentHistory> txnHistories;
 
 	private TxnChargingPolicyAgent subject;
 
@@ -113,7 +114,7 @@ class TxnChargingPolicyAgentTest {
 	void appliesForPayerDuplicate() {
 		givenBaseCtx();
 		given(txnCtx.submittingSwirldsMember()).willReturn(submittingNode);
-		given(txnHistories.get(accessor.getTxnId())).willReturn(recentHistory);
+		given(txnHistories.get(TxnIdKey.from(accessor.getTxnId()))).willReturn(recentHistory);
 		given(recentHistory.currentDuplicityFor(submittingNode)).willReturn(DUPLICATE);
 
 		// when:
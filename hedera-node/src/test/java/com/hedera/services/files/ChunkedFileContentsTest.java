@@ -0,0 +1,251 @@
+package com.hedera.services.files;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.test.utils.IdUtils;
+import com.hederahashgraph.api.proto.java.FileID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChunkedFileContentsTest {
+	private static final FileID fid = IdUtils.asFile("0.0.1234");
+	private static final FileID otherFid = IdUtils.asFile("0.0.4321");
+	private static final byte[] first = "Where, like a pillow on a bed /".getBytes();
+	private static final byte[] second = " A pregnant bank swelled up to rest /".getBytes();
+	private static final byte[] third = " The violet's reclining head".getBytes();
+
+	private Map<String, byte[]> blobs;
+	private ChunkedFileContents subject;
+
+	@BeforeEach
+	void setUp() {
+		blobs = new HashMap<>();
+		subject = new ChunkedFileContents(blobs);
+	}
+
+	@Test
+	void unappendedFileIsSingleLegacyBlob() {
+		// when:
+		subject.put(fid, first);
+
+		// then:
+		assertEquals(Map.of("/0/f1234", first), blobs);
+		assertArrayEquals(first, subject.get(fid));
+		assertEquals(first.length, subject.sizeOf(fid));
+		assertTrue(subject.containsKey(fid));
+		assertFalse(subject.containsKey(otherFid));
+		assertNull(subject.get(otherFid));
+		assertEquals(-1, subject.sizeOf(otherFid));
+	}
+
+	@Test
+	void appendsOnlyWriteNewChunkAndManifest() {
+		// given:
+		subject.put(fid, first);
+
+		// when:
+		subject.append(fid, second);
+		subject.append(fid, third);
+
+		// then:
+		assertArrayEquals(first, blobs.get("/0/f1234"));
+		assertArrayEquals(second, blobs.get("/0/f1234/1"));
+		assertArrayEquals(third, blobs.get("/0/f1234/2"));
+		assertTrue(blobs.containsKey("/0/f1234/n"));
+		assertEquals(4, blobs.size());
+		// and:
+		assertArrayEquals(concat(first, second, third), subject.get(fid));
+		assertEquals(first.length + second.length + third.length, subject.sizeOf(fid));
+	}
+
+	@Test
+	void appendToMissingFileCreatesIt() {
+		// when:
+		subject.append(fid, second);
+
+		// then:
+		assertEquals(Map.of("/0/f1234", second), blobs);
+	}
+
+	@Test
+	void emptyAppendIsNoop() {
+		// given:
+		subject.put(fid, first);
+
+		// when:
+		subject.append(fid, new byte[0]);
+
+		// then:
+		assertEquals(1, blobs.size());
+	}
+
+	@Test
+	void overwriteAndRemoveClearContinuations() {
+		// given:
+		subject.put(fid, first);
+		subject.append(fid, second);
+		subject.put(otherFid, third);
+
+		// when:
+		subject.put(fid, third);
+
+		// then:
+		assertEquals(2, blobs.size());
+		assertArrayEquals(third, subject.get(fid));
+		assertEquals(third.length, subject.sizeOf(fid));
+
+		// and when:
+		subject.append(fid, first);
+		subject.remove(fid);
+
+		// then:
+		assertEquals(Map.of("/0/f4321", third), blobs);
+	}
+
+	@Test
+	void consolidatesAtMaxChunks() {
+		// given:
+		final var expected = new ByteArrayOutputStream();
+		subject.put(fid, first);
+		expected.writeBytes(first);
+
+		// when:
+		for (int i = 1; i <= ChunkedFileContents.MAX_CHUNKS_PER_FILE; i++) {
+			final var chunk = ("chunk" + i).getBytes();
+			subject.append(fid, chunk);
+			expected.writeBytes(chunk);
+		}
+
+		// then:
+		assertEquals(1, blobs.size());
+		assertArrayEquals(expected.toByteArray(), subject.get(fid));
+		assertEquals(expected.size(), subject.sizeOf(fid));
+	}
+
+	@Test
+	void entrySetOnlyHasWholeFiles() {
+		// given:
+		subject.put(fid, first);
+		subject.append(fid, second);
+		blobs.put("/0/s1234", third);
+
+		// when:
+		final var entries = subject.entrySet();
+
+		// then:
+		assertEquals(1, entries.size());
+		final var entry = entries.iterator().next();
+		assertEquals(fid, entry.getKey());
+		assertArrayEquals(concat(first, second), entry.getValue());
+	}
+
+	@Test
+	void failsRatherThanReadChunksOutOfStepWithManifest() {
+		// given:
+		subject.put(fid, first);
+		subject.append(fid, second);
+		subject.append(fid, third);
+		// and:
+		blobs.remove("/0/f1234/2");
+
+		// expect:
+		assertThrows(IllegalStateException.class, () -> subject.get(fid));
+
+		// and when:
+		blobs.put("/0/f1234/2", first);
+
+		// then:
+		assertThrows(IllegalStateException.class, () -> subject.get(fid));
+	}
+
+	@Test
+	void ignoresMalformedManifest() {
+		// given:
+		subject.put(fid, first);
+		subject.append(fid, second);
+		// and:
+		blobs.put("/0/f1234/n", new byte[1]);
+
+		// expect:
+		assertArrayEquals(first, subject.get(fid));
+		assertEquals(first.length, subject.sizeOf(fid));
+	}
+
+	@Test
+	void sizeCountsFilesNotBlobs() {
+		// given:
+		subject.put(fid, first);
+		subject.append(fid, second);
+		blobs.put("/0/s1234", third);
+
+		// expect:
+		assertFalse(subject.isEmpty());
+		assertEquals(1, subject.size());
+
+		// and when:
+		subject.put(otherFid, third);
+
+		// then:
+		assertEquals(2, subject.size());
+	}
+
+	@Test
+	void isEmptyWithOnlyOtherBlobs() {
+		// given:
+		blobs.put("/0/s1234", third);
+
+		// expect:
+		assertTrue(subject.isEmpty());
+		assertEquals(0, subject.size());
+	}
+
+	@Test
+	void delegatesClear() {
+		// given:
+		subject.put(fid, first);
+		subject.append(fid, second);
+
+		// and when:
+		subject.clear();
+
+		// then:
+		assertTrue(subject.isEmpty());
+	}
+
+	private static byte[] concat(final byte[]... parts) {
+		final var out = new ByteArrayOutputStream();
+		for (final var part : parts) {
+			out.writeBytes(part);
+		}
+		return out.toByteArray();
+	}
+}
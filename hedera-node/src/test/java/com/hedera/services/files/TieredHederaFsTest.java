@@ -149,6 +149,83 @@ class TieredHederaFsTest {
 				)));
 	}
 
+	@Test
+	void appendsOnlyNewChunkSansInterception() {
+		final var chunkedData = mock(ChunkedFileContents.class);
+		subject = new TieredHederaFs(ids, properties, clock, chunkedData, metadata, () -> specialFiles);
+		subject.register(noInterceptor);
+		given(metadata.containsKey(fid)).willReturn(true);
+		given(metadata.get(fid)).willReturn(livingAttr);
+		given(chunkedData.sizeOf(fid)).willReturn((long) origContents.length);
+		given(properties.areChunkedFileAppendsEnabled()).willReturn(true);
+
+		final var result = subject.append(fid, moreContents);
+
+		assertEquals(SUCCESS, result.outcome());
+		assertTrue(result.fileReplaced());
+		verify(chunkedData).append(fid, moreContents);
+		verify(chunkedData, never()).get(fid);
+		verify(chunkedData, never()).put(any(), any());
+	}
+
+	@Test
+	void chunkedAppendRejectsOversizeContents() {
+		final var chunkedData = mock(ChunkedFileContents.class);
+		subject = new TieredHederaFs(ids, properties, clock, chunkedData, metadata, () -> specialFiles);
+		given(metadata.containsKey(fid)).willReturn(true);
+		given(metadata.get(fid)).willReturn(livingAttr);
+		given(chunkedData.sizeOf(fid)).willReturn(BYTES_PER_KB - 1L);
+		given(properties.areChunkedFileAppendsEnabled()).willReturn(true);
+
+		final var iae = assertThrows(IllegalArgumentException.class, () -> subject.append(fid, new byte[2]));
+
+		assertEquals(
+				IllegalArgumentType.OVERSIZE_CONTENTS,
+				IllegalArgumentType.valueOf(iae.getMessage()));
+		verify(chunkedData, never()).append(any(), any());
+	}
+
+	@Test
+	void appendsWholeFileIfChunkedAppendsAreDisabled() {
+		final var chunkedData = mock(ChunkedFileContents.class);
+		subject = new TieredHederaFs(ids, properties, clock, chunkedData, metadata, () -> specialFiles);
+		subject.register(noInterceptor);
+		given(metadata.containsKey(fid)).willReturn(true);
+		given(metadata.get(fid)).willReturn(livingAttr);
+		given(chunkedData.get(fid)).willReturn(origContents);
+
+		final var result = subject.append(fid, moreContents);
+
+		assertEquals(SUCCESS, result.outcome());
+		verify(chunkedData, never()).append(any(), any());
+		verify(chunkedData).put(
+				argThat(fid::equals),
+				argThat(bytes -> new String(bytes).equals(
+						new String(origContents) + new String(moreContents)
+				)));
+	}
+
+	@Test
+	void chunkedAppendStillShowsInterceptorsTheWholeFile() {
+		final var chunkedData = mock(ChunkedFileContents.class);
+		subject = new TieredHederaFs(ids, properties, clock, chunkedData, metadata, () -> specialFiles);
+		subject.register(lowInterceptor);
+		given(lowInterceptor.preUpdate(any(), any())).willReturn(new AbstractMap.SimpleEntry<>(SUCCESS, true));
+		given(metadata.containsKey(fid)).willReturn(true);
+		given(metadata.get(fid)).willReturn(livingAttr);
+		given(chunkedData.get(fid)).willReturn(origContents);
+
+		final var result = subject.append(fid, moreContents);
+
+		assertEquals(SUCCESS, result.outcome());
+		verify(chunkedData, never()).append(any(), any());
+		verify(chunkedData).put(
+				argThat(fid::equals),
+				argThat(bytes -> new String(bytes).equals(
+						new String(origContents) + new String(moreContents)
+				)));
+	}
+
 	@Test
 	void overwritesWithExpectedResultSansInterception() {
 		given(metadata.containsKey(fid)).willReturn(true);
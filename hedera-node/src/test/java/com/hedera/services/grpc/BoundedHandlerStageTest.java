@@ -0,0 +1,213 @@
+package com.hedera.services.grpc;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoundedHandlerStageTest {
+	private static final Runnable NO_OP = () -> { };
+
+	private final List<Integer> depths = new ArrayList<>();
+	private final List<Double> waits = new ArrayList<>();
+
+	private BoundedHandlerStage subject;
+
+	@AfterEach
+	void tearDown() {
+		if (subject != null) {
+			subject.shutdown();
+		}
+	}
+
+	@Test
+	void directStageRunsOnCallingThread() {
+		// setup:
+		final AtomicReference<Thread> runner = new AtomicReference<>();
+		subject = BoundedHandlerStage.direct();
+
+		// when:
+		final var accepted = subject.tryDispatch(() -> runner.set(Thread.currentThread()), NO_OP);
+
+		// then:
+		assertTrue(accepted);
+		assertSame(Thread.currentThread(), runner.get());
+		assertNull(subject.getExecutor());
+	}
+
+	@Test
+	void pooledStageRunsOnNamedDaemonThreads() throws InterruptedException {
+		// setup:
+		final AtomicReference<Thread> runner = new AtomicReference<>();
+		final var done = new CountDownLatch(1);
+		subject = BoundedHandlerStage.pooled("test-stage", 1, 1, false, this::recordDepth, this::recordWait);
+
+		// when:
+		final var accepted = subject.tryDispatch(() -> {
+			runner.set(Thread.currentThread());
+			done.countDown();
+		}, NO_OP);
+
+		// then:
+		assertTrue(accepted);
+		assertTrue(done.await(5, TimeUnit.SECONDS));
+		assertTrue(runner.get().getName().startsWith("test-stage-"));
+		assertTrue(runner.get().isDaemon());
+		assertInstanceOf(ThreadPoolExecutor.class, subject.getExecutor());
+		synchronized (this) {
+			assertEquals(List.of(1), depths);
+		}
+	}
+
+	@Test
+	void rejectsOnceThreadsAndQueueAreFull() throws InterruptedException {
+		// setup:
+		final var started = new CountDownLatch(1);
+		final var release = new CountDownLatch(1);
+		final var finished = new CountDownLatch(2);
+		subject = BoundedHandlerStage.pooled("test-stage", 1, 1, false, this::recordDepth, this::recordWait);
+		final Runnable blocking = () -> {
+			started.countDown();
+			awaitQuietly(release);
+			finished.countDown();
+		};
+
+		// given:
+		assertTrue(subject.tryDispatch(blocking, NO_OP));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		assertTrue(subject.tryDispatch(finished::countDown, NO_OP));
+
+		// expect:
+		assertFalse(subject.tryDispatch(NO_OP, NO_OP));
+		assertEquals(1, subject.queueDepth());
+
+		// and when:
+		release.countDown();
+
+		// then:
+		assertTrue(finished.await(5, TimeUnit.SECONDS));
+		assertEquals(0, subject.queueDepth());
+		synchronized (this) {
+			assertEquals(2, waits.size());
+			assertTrue(waits.stream().allMatch(ms -> ms >= 0.0));
+		}
+	}
+
+	@Test
+	void rejectsStagesWithoutThreadsOrQueueCapacity() {
+		// expect:
+		assertThrows(IllegalArgumentException.class, () ->
+				BoundedHandlerStage.pooled("test-stage", 0, 1, false, this::recordDepth, this::recordWait));
+		assertThrows(IllegalArgumentException.class, () ->
+				BoundedHandlerStage.pooled("test-stage", 1, 0, false, this::recordDepth, this::recordWait));
+		assertThrows(IllegalArgumentException.class, () ->
+				BoundedHandlerStage.pooled("test-stage", 1, -1, true, this::recordDepth, this::recordWait));
+	}
+
+	@Test
+	void rejectsWorkOnceShutDown() {
+		// setup:
+		subject = BoundedHandlerStage.pooled("test-stage", 1, 1, false, this::recordDepth, this::recordWait);
+
+		// when:
+		subject.shutdown();
+
+		// then:
+		assertFalse(subject.tryDispatch(NO_OP, NO_OP));
+		assertEquals(0, subject.queueDepth());
+	}
+
+	@Test
+	void answersWaitingWorkDroppedAtShutdown() throws InterruptedException {
+		// setup:
+		final var started = new CountDownLatch(1);
+		final var release = new CountDownLatch(1);
+		final var ran = new AtomicBoolean();
+		final var dropped = new AtomicBoolean();
+		subject = BoundedHandlerStage.pooled("test-stage", 1, 1, false, this::recordDepth, this::recordWait);
+
+		// given:
+		assertTrue(subject.tryDispatch(() -> {
+			started.countDown();
+			awaitQuietly(release);
+		}, NO_OP));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		assertTrue(subject.tryDispatch(() -> ran.set(true), () -> dropped.set(true)));
+
+		// when:
+		subject.shutdown();
+		release.countDown();
+
+		// then:
+		assertTrue(dropped.get());
+		assertFalse(ran.get());
+		assertEquals(0, subject.queueDepth());
+	}
+
+	@Test
+	void fallsBackToPlatformThreadsWithoutVirtualThreadSupport() throws InterruptedException {
+		// setup:
+		final var done = new CountDownLatch(1);
+		subject = BoundedHandlerStage.pooled("test-stage", 1, 1, true, this::recordDepth, this::recordWait);
+
+		// when:
+		final var accepted = subject.tryDispatch(done::countDown, NO_OP);
+
+		// then:
+		assertTrue(accepted);
+		assertTrue(done.await(5, TimeUnit.SECONDS));
+		if (BoundedHandlerStage.virtualThreadExecutor() == null) {
+			assertInstanceOf(ThreadPoolExecutor.class, subject.getExecutor());
+		}
+	}
+
+	private synchronized void recordDepth(final int depth) {
+		depths.add(depth);
+	}
+
+	private synchronized void recordWait(final double waitMs) {
+		waits.add(waitMs);
+	}
+
+	private static void awaitQuietly(final CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,107 @@
+package com.hedera.services.grpc;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.stats.MiscRunningAvgs;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class GrpcHandlerStagesTest {
+	@Mock
+	private NodeLocalProperties properties;
+	@Mock
+	private MiscRunningAvgs runningAvgs;
+	@Mock
+	private Consumer<Thread> hookAdder;
+
+	private GrpcHandlerStages subject;
+
+	@Test
+	void usesDirectStagesWhenDisabled() {
+		given(properties.areHandlerStagesEnabled()).willReturn(false);
+
+		subject = new GrpcHandlerStages(properties, runningAvgs, hookAdder);
+
+		assertNull(subject.txns().getExecutor());
+		assertNull(subject.queries().getExecutor());
+		verifyNoInteractions(hookAdder);
+	}
+
+	@Test
+	void usesSeparatePooledStagesWhenEnabled() {
+		given(properties.areHandlerStagesEnabled()).willReturn(true);
+		given(properties.txnHandlerThreads()).willReturn(1);
+		given(properties.txnHandlerQueueCapacity()).willReturn(2);
+		given(properties.queryHandlerThreads()).willReturn(3);
+		given(properties.queryHandlerQueueCapacity()).willReturn(4);
+
+		subject = new GrpcHandlerStages(properties, runningAvgs, hookAdder);
+
+		try {
+			assertNotNull(subject.txns().getExecutor());
+			assertNotNull(subject.queries().getExecutor());
+			assertNotSame(subject.txns(), subject.queries());
+			verify(hookAdder).accept(any(Thread.class));
+		} finally {
+			subject.shutdown();
+		}
+	}
+
+	@Test
+	void shutdownStopsBothStages() {
+		given(properties.areHandlerStagesEnabled()).willReturn(true);
+		given(properties.txnHandlerThreads()).willReturn(1);
+		given(properties.txnHandlerQueueCapacity()).willReturn(1);
+		given(properties.queryHandlerThreads()).willReturn(1);
+		given(properties.queryHandlerQueueCapacity()).willReturn(1);
+
+		subject = new GrpcHandlerStages(properties, runningAvgs, hookAdder);
+		subject.shutdown();
+
+		assertTrue(subject.txns().getExecutor().isShutdown());
+		assertTrue(subject.queries().getExecutor().isShutdown());
+		assertFalse(subject.txns().tryDispatch(() -> { }, () -> { }));
+	}
+
+	@Test
+	void directFactoryRunsInline() {
+		subject = GrpcHandlerStages.direct();
+
+		assertNull(subject.txns().getExecutor());
+		assertNull(subject.queries().getExecutor());
+	}
+}
@@ -0,0 +1,173 @@
+package com.hedera.services.keys;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.swirlds.common.crypto.TransactionSignature;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static com.hedera.services.keys.HederaKeyActivation.INVALID_MISSING_SIG;
+import static com.hedera.services.sigs.factories.PlatformSigFactory.ecdsaSecp256k1Sig;
+import static com.hedera.services.sigs.factories.PlatformSigFactory.ed25519Sig;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class PkToSigIndexTest {
+	private static final byte[] sig = "SIG".getBytes();
+	private static final byte[] data = "DATA".getBytes();
+
+	@Test
+	void emptyListFindsNothing() {
+		// given:
+		final var subject = PkToSigIndex.from(List.of());
+
+		// expect:
+		assertSame(INVALID_MISSING_SIG, subject.apply(new byte[32]));
+		assertEquals(0, subject.size());
+	}
+
+	@Test
+	void findsEd25519SigByPublicKey() {
+		// given:
+		final var aPk = bytesOf(32, (byte) 0xAA);
+		final var bPk = bytesOf(32, (byte) 0xBB);
+		final var aSig = ed25519Sig(aPk, sig, data);
+		final var bSig = ed25519Sig(bPk, sig, data);
+
+		// when:
+		final var subject = PkToSigIndex.from(List.of(aSig, bSig));
+
+		// then:
+		assertSame(aSig, subject.apply(aPk.clone()));
+		assertSame(bSig, subject.apply(bPk.clone()));
+		assertSame(INVALID_MISSING_SIG, subject.apply(bytesOf(32, (byte) 0xCC)));
+	}
+
+	@Test
+	void findsSecp256k1SigByCompressedKeyWithMatchingParity() {
+		// given:
+		final var uncompressed = bytesOf(64, (byte) 0x11);
+		uncompressed[63] = (byte) 0x03;
+		final var oddCompressed = compressed(uncompressed, (byte) 0x03);
+		final var evenCompressed = compressed(uncompressed, (byte) 0x02);
+		final var secpSig = ecdsaSecp256k1Sig(uncompressed, sig, data);
+
+		// when:
+		final var subject = PkToSigIndex.from(List.of(secpSig));
+
+		// then:
+		assertSame(secpSig, subject.apply(oddCompressed));
+		assertSame(INVALID_MISSING_SIG, subject.apply(evenCompressed));
+		assertSame(INVALID_MISSING_SIG, subject.apply(uncompressed));
+	}
+
+	@Test
+	void firstOfDuplicateSigsWins() {
+		// given:
+		final var pk = bytesOf(32, (byte) 0xAA);
+		final var first = ed25519Sig(pk, sig, data);
+		final var second = ed25519Sig(pk, "OTHER".getBytes(), data);
+
+		// when:
+		final var subject = PkToSigIndex.from(List.of(first, second));
+
+		// then:
+		assertSame(first, subject.apply(pk));
+		assertEquals(1, subject.size());
+	}
+
+	@Test
+	void ignoresKeysOfUnknownLength() {
+		// given:
+		final var oddPk = bytesOf(31, (byte) 0xAA);
+		final var subject = PkToSigIndex.from(List.of(ed25519Sig(oddPk, sig, data)));
+
+		// expect:
+		assertSame(INVALID_MISSING_SIG, subject.apply(oddPk));
+		assertEquals(0, subject.size());
+	}
+
+	@Test
+	void agreesWithLinearScanOnRandomMixedKeys() {
+		// setup:
+		final var r = new SplittableRandom(1_234L);
+		final List<TransactionSignature> sigs = new ArrayList<>();
+		final List<byte[]> lookups = new ArrayList<>();
+
+		/* A tiny alphabet forces many shared keys, x-coordinates, and parities */
+		for (int i = 0; i < 200; i++) {
+			if (r.nextBoolean()) {
+				final var pk = randomBytes(r, 32);
+				sigs.add(ed25519Sig(pk, sig, data));
+				lookups.add(pk);
+			} else {
+				final var uncompressed = randomBytes(r, 64);
+				sigs.add(ecdsaSecp256k1Sig(uncompressed, sig, data));
+				lookups.add(compressed(uncompressed, (byte) (0x02 | r.nextInt(2))));
+			}
+		}
+		for (int i = 0; i < 200; i++) {
+			lookups.add(r.nextBoolean() ? randomBytes(r, 32) : compressed(randomBytes(r, 64), (byte) r.nextInt(4)));
+		}
+
+		// when:
+		final var subject = PkToSigIndex.from(sigs);
+
+		// then:
+		for (final var pk : lookups) {
+			assertSame(linearScan(sigs, pk), subject.apply(pk));
+		}
+	}
+
+	private static TransactionSignature linearScan(final List<TransactionSignature> sigs, final byte[] pk) {
+		for (final var sig : sigs) {
+			if (HederaKeyActivation.keysMatch(pk, sig.getExpandedPublicKeyDirect())) {
+				return sig;
+			}
+		}
+		return INVALID_MISSING_SIG;
+	}
+
+	private static byte[] compressed(final byte[] uncompressed, final byte prefix) {
+		final var compressed = new byte[33];
+		compressed[0] = prefix;
+		System.arraycopy(uncompressed, 0, compressed, 1, 32);
+		return compressed;
+	}
+
+	private static byte[] randomBytes(final SplittableRandom r, final int n) {
+		final var bytes = new byte[n];
+		for (int i = 0; i < n; i++) {
+			bytes[i] = (byte) r.nextInt(2);
+		}
+		return bytes;
+	}
+
+	private static byte[] bytesOf(final int n, final byte b) {
+		final var bytes = new byte[n];
+		Arrays.fill(bytes, b);
+		return bytes;
+	}
+}
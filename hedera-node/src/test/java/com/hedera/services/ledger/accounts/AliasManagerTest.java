@@ -28,9 +28,13 @@ import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static com.hedera.services.utils.EntityNum.MISSING_NUM;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class AliasManagerTest {
@@ -101,4 +105,65 @@ class AliasManagerTest {
 		assertTrue(subject.forgetAliasIfPresent(withNum, liveAccounts));
 		assertEquals(0, subject.getAliases().size());
 	}
+
+	@Test
+	void unlinksAlias() {
+		final var alias = ByteString.copyFromUtf8("aaaa");
+		subject.createAlias(alias, EntityNum.fromLong(1234L));
+
+		subject.unlink(alias);
+
+		assertFalse(subject.contains(alias));
+		assertEquals(MISSING_NUM, subject.lookupIdBy(alias));
+	}
+
+	@Test
+	void rebuildPublishesNewMapWithoutDisturbingReaders() {
+		final var oldAlias = ByteString.copyFromUtf8("zyxwvut");
+		final var newAlias = ByteString.copyFromUtf8("abcdefg");
+		final var num = EntityNum.fromLong(1L);
+		final var account = new MerkleAccount();
+		account.setAlias(newAlias);
+		final MerkleMap<EntityNum, MerkleAccount> liveAccounts = new MerkleMap<>();
+		liveAccounts.put(num, account);
+
+		subject.createAlias(oldAlias, num);
+		final var readerView = subject.getAliases();
+
+		subject.rebuildAliasesMap(liveAccounts);
+
+		assertNotSame(readerView, subject.getAliases());
+		assertEquals(Map.of(oldAlias, num), readerView);
+		assertEquals(Map.of(newAlias, num), subject.getAliases());
+	}
+
+	@Test
+	void readersSeeConsistentEntriesDuringConcurrentWrites() throws InterruptedException {
+		final var n = 10_000;
+		final var done = new AtomicBoolean();
+		final var inconsistencies = new AtomicInteger();
+		final var reader = new Thread(() -> {
+			while (!done.get()) {
+				for (int i = 0; i < n; i += 97) {
+					final var num = subject.lookupIdBy(ByteString.copyFromUtf8("alias" + i));
+					if (num != MISSING_NUM && num.longValue() != i) {
+						inconsistencies.incrementAndGet();
+					}
+				}
+			}
+		});
+		reader.start();
+
+		for (int i = 0; i < n; i++) {
+			subject.createAlias(ByteString.copyFromUtf8("alias" + i), EntityNum.fromLong(i));
+			if (i % 2 == 1) {
+				subject.unlink(ByteString.copyFromUtf8("alias" + (i - 1)));
+			}
+		}
+		done.set(true);
+		reader.join();
+
+		assertEquals(0, inconsistencies.get());
+		assertEquals(n / 2, subject.getAliases().size());
+	}
 }
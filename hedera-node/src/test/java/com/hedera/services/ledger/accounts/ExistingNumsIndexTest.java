@@ -0,0 +1,143 @@
+package com.hedera.services.ledger.accounts;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static com.hedera.services.state.merkle.internals.BitPackUtils.codeFromNum;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExistingNumsIndexTest {
+	private ExistingNumsIndex subject = new ExistingNumsIndex();
+
+	@Test
+	void addsAndRemovesAsExpected() {
+		// when:
+		assertTrue(subject.add(1));
+		assertFalse(subject.add(1));
+		assertTrue(subject.add(2));
+
+		// then:
+		assertTrue(subject.contains(1));
+		assertTrue(subject.contains(2));
+		assertFalse(subject.contains(3));
+		assertEquals(2, subject.size());
+
+		// and when:
+		assertTrue(subject.remove(1));
+		assertFalse(subject.remove(1));
+
+		// then:
+		assertFalse(subject.contains(1));
+		assertTrue(subject.contains(2));
+		assertEquals(1, subject.size());
+	}
+
+	@Test
+	void ignoresFreeCode() {
+		// expect:
+		assertFalse(subject.add(0));
+		assertFalse(subject.contains(0));
+		assertFalse(subject.remove(0));
+		assertEquals(0, subject.size());
+	}
+
+	@Test
+	void supportsNumsThatDoNotFitInSignedInt() {
+		// given:
+		final var code = codeFromNum(4_000_000_000L);
+
+		// when:
+		subject.add(code);
+
+		// then:
+		assertTrue(code < 0);
+		assertTrue(subject.contains(code));
+	}
+
+	@Test
+	void growsAsNeeded() {
+		// given:
+		final var initialCapacity = subject.capacity();
+
+		// when:
+		for (int i = 1; i <= 1_000; i++) {
+			subject.add(i);
+		}
+
+		// then:
+		assertEquals(1_000, subject.size());
+		assertTrue(subject.capacity() > initialCapacity);
+		assertTrue(subject.capacity() >= 2 * subject.size());
+		for (int i = 1; i <= 1_000; i++) {
+			assertTrue(subject.contains(i));
+		}
+		assertFalse(subject.contains(1_001));
+	}
+
+	@Test
+	void findsRemainingCodesAfterInterleavedRemovals() {
+		// given:
+		for (int i = 1; i <= 1_000; i++) {
+			subject.add(i);
+		}
+
+		// when:
+		for (int i = 1; i <= 1_000; i += 3) {
+			subject.remove(i);
+		}
+
+		// then:
+		for (int i = 1; i <= 1_000; i++) {
+			assertEquals((i - 1) % 3 != 0, subject.contains(i));
+		}
+		assertEquals(666, subject.size());
+	}
+
+	@Test
+	void visitsAndClearsAllCodes() {
+		// setup:
+		final Set<Integer> visited = new HashSet<>();
+
+		// given:
+		subject.add(1);
+		subject.add(2);
+		subject.add(-3);
+
+		// when:
+		subject.forEach(visited::add);
+
+		// then:
+		assertEquals(Set.of(1, 2, -3), visited);
+
+		// and when:
+		subject.clear();
+
+		// then:
+		assertEquals(0, subject.size());
+		assertFalse(subject.contains(1));
+	}
+}
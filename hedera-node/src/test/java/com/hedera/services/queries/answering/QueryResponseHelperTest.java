@@ -20,6 +20,8 @@ package com.hedera.services.queries.answering;
  * ‍
  */
 
+import com.hedera.services.grpc.BoundedHandlerStage;
+import com.hedera.services.grpc.GrpcHandlerStages;
 import com.hedera.services.queries.AnswerFlow;
 import com.hedera.services.queries.AnswerService;
 import com.hedera.services.stats.HapiOpCounters;
@@ -30,13 +32,17 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 
+import static com.hedera.services.context.primitives.StateView.EMPTY_VIEW;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenGetInfo;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.BUSY;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_TRANSACTION_START;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.inOrder;
 import static org.mockito.BDDMockito.mock;
 import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
 
 class QueryResponseHelperTest {
 	Query query = Query.getDefaultInstance();
@@ -60,7 +66,7 @@ class QueryResponseHelperTest {
 		okResponse = mock(Response.class);
 		notOkResponse = mock(Response.class);
 
-		subject = new QueryResponseHelper(answerFlow, opCounters);
+		subject = new QueryResponseHelper(answerFlow, opCounters, GrpcHandlerStages.direct());
 	}
 
 	@Test
@@ -100,4 +106,28 @@ class QueryResponseHelperTest {
 		inOrder.verify(observer).onCompleted();
 		inOrder.verify(opCounters, never()).countAnswered(TokenGetInfo);
 	}
+
+	@Test
+	void respondsBusyWhenQueryStageIsSaturated() {
+		// setup:
+		final var stages = mock(GrpcHandlerStages.class);
+		final var queryStage = mock(BoundedHandlerStage.class);
+		InOrder inOrder = inOrder(opCounters, observer);
+
+		given(stages.queries()).willReturn(queryStage);
+		given(queryStage.tryDispatch(any(), any())).willReturn(false);
+		given(answer.responseGiven(query, EMPTY_VIEW, BUSY, 0L)).willReturn(notOkResponse);
+		// and:
+		subject = new QueryResponseHelper(answerFlow, opCounters, stages);
+
+		// when:
+		subject.answer(query, observer, answer, TokenGetInfo);
+
+		// then:
+		inOrder.verify(opCounters).countReceived(TokenGetInfo);
+		inOrder.verify(observer).onNext(notOkResponse);
+		inOrder.verify(observer).onCompleted();
+		verify(answerFlow, never()).satisfyUsing(answer, query);
+		verify(opCounters, never()).countAnswered(TokenGetInfo);
+	}
 }
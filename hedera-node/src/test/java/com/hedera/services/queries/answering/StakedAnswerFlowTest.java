@@ -25,6 +25,7 @@ import com.hedera.services.config.MockAccountNumbers;
 import com.hedera.services.context.domain.process.TxnValidityAndFeeReq;
 import com.hedera.services.context.domain.security.HapiOpPermissions;
 import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.exceptions.InvalidTransactionException;
 import com.hedera.services.fees.FeeCalculator;
 import com.hedera.services.fees.calculation.UsagePricesProvider;
 import com.hedera.services.queries.AnswerService;
@@ -138,6 +139,7 @@ class StakedAnswerFlowTest {
 		final var actual = subject.satisfyUsing(service, query);
 
 		assertEquals(response, actual);
+		verify(stateView).close();
 	}
 
 	@Test
@@ -338,6 +340,27 @@ class StakedAnswerFlowTest {
 		assertEquals(response, actual);
 	}
 
+	@Test
+	void answersBusyWithoutChargingIfCostCannotBeComputed() {
+		setupServiceResponse(BUSY);
+		givenValidHeader();
+		givenExtractablePayment();
+		givenValidExtraction();
+		givenPaymentIsRequired();
+		givenAvailFunction();
+		givenPermission();
+		givenCapacity();
+		givenHappyService();
+		givenAvailableResourcePrices();
+		given(fees.computePayment(eq(query), eq(usagePrices), eq(stateView), eq(now), any()))
+				.willThrow(new InvalidTransactionException(BUSY));
+
+		final var actual = subject.satisfyUsing(service, query);
+
+		assertEquals(response, actual);
+		verify(submissionManager, never()).trySubmission(any());
+	}
+
 	@Test
 	void returnsCostToCostAnswer() {
 		setupCostAwareSuccessServiceResponse();
@@ -102,6 +102,7 @@ class ZeroStakeAnswerFlowTest {
 		// then:
 		assertEquals(response, actual);
 		verify(throttles).shouldThrottleQuery(function);
+		verify(view).close();
 	}
 
 	@Test
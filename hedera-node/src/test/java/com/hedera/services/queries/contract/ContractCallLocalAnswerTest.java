@@ -63,6 +63,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.mock;
 import static org.mockito.Mockito.never;
@@ -196,7 +197,7 @@ class ContractCallLocalAnswerTest {
 		assertEquals(CONTRACT_EXECUTION_EXCEPTION, opResponse.getHeader().getNodeTransactionPrecheckCode());
 		assertEquals(result, opResponse.getFunctionResult().getContractCallResult());
 		assertEquals(target, opResponse.getFunctionResult().getContractID());
-		verify(callLocalExecutor, never()).execute(any());
+		verify(callLocalExecutor, never()).execute(any(), any());
 	}
 
 	@Test
@@ -205,7 +206,7 @@ class ContractCallLocalAnswerTest {
 		Query sensibleQuery = validQuery(ANSWER_ONLY, 5L);
 		var executionResponse = response(CONTRACT_EXECUTION_EXCEPTION);
 
-		given(callLocalExecutor.execute(argThat(sensibleQuery.getContractCallLocal()::equals)))
+		given(callLocalExecutor.execute(argThat(sensibleQuery.getContractCallLocal()::equals), eq(view)))
 				.willReturn(executionResponse);
 
 		// when:
@@ -224,7 +225,7 @@ class ContractCallLocalAnswerTest {
 		// setup:
 		Query sensibleQuery = validQuery(ANSWER_ONLY, 5L);
 
-		given(callLocalExecutor.execute(any())).willThrow(RuntimeException.class);
+		given(callLocalExecutor.execute(any(), any())).willThrow(RuntimeException.class);
 
 		// when:
 		Response response = subject.responseGiven(sensibleQuery, view, OK, 0L);
@@ -41,12 +41,12 @@ import static org.mockito.BDDMockito.mock;
 
 @ExtendWith({ LogCaptureExtension.class })
 class RecordCacheFactoryTest {
-	private static final TransactionID txnIdA = TransactionID.newBuilder()
+	private static final TxnIdKey txnIdA = TxnIdKey.from(TransactionID.newBuilder()
 			.setAccountID(asAccount("0.0.2"))
-			.build();
-	private static final TransactionID txnIdB = TransactionID.newBuilder()
+			.build());
+	private static final TxnIdKey txnIdB = TxnIdKey.from(TransactionID.newBuilder()
 			.setAccountID(asAccount("2.2.0"))
-			.build();
+			.build());
 
 	@LoggingTarget
 	private LogCaptor logCaptor;
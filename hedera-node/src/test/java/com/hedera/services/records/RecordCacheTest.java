@@ -77,9 +77,9 @@ class RecordCacheTest {
 	@Mock
 	private EntityCreator creator;
 	@Mock
-	private Cache<TransactionID, Boolean> receiptCache;
+	private Cache<TxnIdKey, Boolean> receiptCache;
 	@Mock
-	private Map<TransactionID, TxnIdRecentHistory> histories;
+	private Map<TxnIdKey, TxnIdRecentHistory> histories;
 	@Mock
 	private TxnIdRecentHistory recentHistory;
 	@Mock
@@ -97,7 +97,7 @@ class RecordCacheTest {
 	@Test
 	void getsReceiptWithKnownStatusPostConsensus() {
 		given(recentHistory.priorityRecord()).willReturn(aRecord);
-		given(histories.get(txnIdA)).willReturn(recentHistory);
+		given(histories.get(keyA)).willReturn(recentHistory);
 
 		assertEquals(knownReceipt, subject.getPriorityReceipt(txnIdA));
 	}
@@ -106,7 +106,7 @@ class RecordCacheTest {
 	void getsDuplicateRecordsAsExpected() {
 		final var duplicateRecords = List.of(aRecord);
 		given(recentHistory.allDuplicateRecords()).willReturn(duplicateRecords);
-		given(histories.get(txnIdA)).willReturn(recentHistory);
+		given(histories.get(keyA)).willReturn(recentHistory);
 
 		final var actual = subject.getDuplicateRecords(txnIdA);
 
@@ -118,8 +118,8 @@ class RecordCacheTest {
 		final var expectedChildren = List.of(aChildRecord.asGrpc());
 
 		given(recentHistory.priorityRecord()).willReturn(aRecord);
-		given(histories.get(txnIdA)).willReturn(recentHistory);
-		given(histories.get(txnIdA.toBuilder().setNonce(1).build())).willReturn(recentChildHistory);
+		given(histories.get(keyA)).willReturn(recentHistory);
+		given(histories.get(keyA.withNonce(1))).willReturn(recentChildHistory);
 		given(recentChildHistory.priorityRecord()).willReturn(aChildRecord);
 
 		final var actual = subject.getChildRecords(txnIdA);
@@ -132,8 +132,8 @@ class RecordCacheTest {
 		final var expectedChildren = List.of(aChildRecord.asGrpc().getReceipt());
 
 		given(recentHistory.priorityRecord()).willReturn(aRecord);
-		given(histories.get(txnIdA)).willReturn(recentHistory);
-		given(histories.get(txnIdA.toBuilder().setNonce(1).build())).willReturn(recentChildHistory);
+		given(histories.get(keyA)).willReturn(recentHistory);
+		given(histories.get(keyA.withNonce(1))).willReturn(recentChildHistory);
 		given(recentChildHistory.priorityRecord()).willReturn(aChildRecord);
 
 		final var actual = subject.getChildReceipts(txnIdA);
@@ -145,7 +145,7 @@ class RecordCacheTest {
 	void getsNoChildReceiptsIfParentRecordMissingOrUnknownOrHasNoChildren() {
 		assertSame(Collections.emptyList(), subject.getChildReceipts(txnIdA));
 
-		given(histories.get(txnIdA)).willReturn(recentHistory);
+		given(histories.get(keyA)).willReturn(recentHistory);
 		aRecord.setNumChildRecords((short) 0);
 		given(recentHistory.priorityRecord()).willReturn(aRecord);
 
@@ -155,8 +155,8 @@ class RecordCacheTest {
 	@Test
 	void worksAroundExpiredChildRecordInExtraordinaryEdgeCase() {
 		given(recentHistory.priorityRecord()).willReturn(aRecord);
-		given(histories.get(txnIdA)).willReturn(recentHistory);
-		given(histories.get(txnIdA.toBuilder().setNonce(1).build())).willReturn(null);
+		given(histories.get(keyA)).willReturn(recentHistory);
+		given(histories.get(keyA.withNonce(1))).willReturn(null);
 
 		final var actual = subject.getChildReceipts(txnIdA);
 
@@ -173,7 +173,7 @@ class RecordCacheTest {
 		final var history = mock(TxnIdRecentHistory.class);
 		final var duplicateRecords = List.of(aRecord);
 		given(history.allDuplicateRecords()).willReturn(duplicateRecords);
-		given(histories.get(txnIdA)).willReturn(history);
+		given(histories.get(keyA)).willReturn(history);
 
 		final var duplicateReceipts = subject.getDuplicateReceipts(txnIdA);
 
@@ -187,8 +187,8 @@ class RecordCacheTest {
 
 	@Test
 	void getsReceiptWithUnknownStatusPreconsensus() {
-		given(histories.get(txnIdA)).willReturn(null);
-		given(receiptCache.getIfPresent(txnIdA)).willReturn(Boolean.TRUE);
+		given(histories.get(keyA)).willReturn(null);
+		given(receiptCache.getIfPresent(keyA)).willReturn(Boolean.TRUE);
 
 		assertEquals(unknownReceipt, subject.getPriorityReceipt(txnIdA));
 	}
@@ -196,7 +196,7 @@ class RecordCacheTest {
 	@Test
 	void getsReceiptWithUnknownStatusWhenNoPriorityRecordExists() {
 		given(recentHistory.priorityRecord()).willReturn(null);
-		given(histories.get(txnIdA)).willReturn(recentHistory);
+		given(histories.get(keyA)).willReturn(recentHistory);
 
 		assertEquals(unknownReceipt, subject.getPriorityReceipt(txnIdA));
 	}
@@ -208,7 +208,7 @@ class RecordCacheTest {
 
 	@Test
 	void getsNullRecordWhenPreconsensus() {
-		given(histories.get(txnIdA)).willReturn(null);
+		given(histories.get(keyA)).willReturn(null);
 
 		assertNull(subject.getPriorityRecord(txnIdA));
 	}
@@ -217,7 +217,7 @@ class RecordCacheTest {
 	void getsNullRecordWhenNoPriorityExists() {
 		final var history = mock(TxnIdRecentHistory.class);
 		given(history.priorityRecord()).willReturn(null);
-		given(histories.get(txnIdA)).willReturn(history);
+		given(histories.get(keyA)).willReturn(history);
 
 		assertNull(subject.getPriorityRecord(txnIdA));
 	}
@@ -225,7 +225,7 @@ class RecordCacheTest {
 	@Test
 	void getsRecordWhenPresent() {
 		given(recentHistory.priorityRecord()).willReturn(aRecord);
-		given(histories.get(txnIdA)).willReturn(recentHistory);
+		given(histories.get(keyA)).willReturn(recentHistory);
 
 		assertEquals(aRecord, subject.getPriorityRecord(txnIdA));
 	}
@@ -234,12 +234,12 @@ class RecordCacheTest {
 	void addsMarkerForPreconsensusReceipt() {
 		subject.addPreConsensus(txnIdB);
 
-		verify(receiptCache).put(txnIdB, Boolean.TRUE);
+		verify(receiptCache).put(keyB, Boolean.TRUE);
 	}
 
 	@Test
 	void delegatesToPutPostConsensus() {
-		given(histories.computeIfAbsent(argThat(txnIdA::equals), any())).willReturn(recentHistory);
+		given(histories.computeIfAbsent(argThat(keyA::equals), any())).willReturn(recentHistory);
 
 		subject.setPostConsensus(
 				txnIdA,
@@ -261,7 +261,7 @@ class RecordCacheTest {
 				.build();
 		final var platformTxn = new SwirldTransaction(signedTxn.toByteArray());
 		final var effectivePayer = IdUtils.asAccount("0.0.3");
-		given(histories.computeIfAbsent(argThat(txnId::equals), any())).willReturn(recentHistory);
+		given(histories.computeIfAbsent(argThat(TxnIdKey.from(txnId)::equals), any())).willReturn(recentHistory);
 		final var accessor = uncheckedAccessorFor(platformTxn);
 
 		final var expirableTxnRecordBuilder = ExpirableTxnRecord.newBuilder()
@@ -297,7 +297,7 @@ class RecordCacheTest {
 				.build();
 		final var effectivePayer = IdUtils.asAccount("0.0.3");
 		final var effectiveScheduleID = IdUtils.asSchedule("0.0.123");
-		given(histories.computeIfAbsent(argThat(txnId::equals), any())).willReturn(recentHistory);
+		given(histories.computeIfAbsent(argThat(TxnIdKey.from(txnId)::equals), any())).willReturn(recentHistory);
 
 		final var accessor = new TriggeredTxnAccessor(signedTxn.toByteArray(), effectivePayer, effectiveScheduleID);
 		final var expirableTxnRecordBuilder = ExpirableTxnRecord.newBuilder()
@@ -325,11 +325,11 @@ class RecordCacheTest {
 
 	@Test
 	void usesHistoryThenCacheToTestReceiptPresence() {
-		given(histories.containsKey(txnIdA)).willReturn(true);
-		given(histories.containsKey(txnIdB)).willReturn(false);
-		given(receiptCache.getIfPresent(txnIdB)).willReturn(RecordCache.MARKER);
-		given(histories.containsKey(txnIdC)).willReturn(false);
-		given(receiptCache.getIfPresent(txnIdC)).willReturn(null);
+		given(histories.containsKey(keyA)).willReturn(true);
+		given(histories.containsKey(keyB)).willReturn(false);
+		given(receiptCache.getIfPresent(keyB)).willReturn(RecordCache.MARKER);
+		given(histories.containsKey(keyC)).willReturn(false);
+		given(receiptCache.getIfPresent(keyC)).willReturn(null);
 
 		final var hasA = subject.isReceiptPresent(txnIdA);
 		final var hasB = subject.isReceiptPresent(txnIdB);
@@ -349,9 +349,12 @@ class RecordCacheTest {
 			.setTransactionValidStart(Timestamp.newBuilder().setSeconds(12_345L).setNanos(54321))
 			.build();
 	private static final TransactionID txnIdC = TransactionID.newBuilder()
-			.setAccountID(asAccount("2.2.3"))
+			.setAccountID(asAccount("0.0.3"))
 			.setTransactionValidStart(Timestamp.newBuilder().setSeconds(12_345L).setNanos(54321))
 			.build();
+	private static final TxnIdKey keyA = TxnIdKey.from(txnIdA);
+	private static final TxnIdKey keyB = TxnIdKey.from(txnIdB);
+	private static final TxnIdKey keyC = TxnIdKey.from(txnIdC);
 	private static final TxnReceipt unknownReceipt = TxnReceipt.newBuilder()
 			.setStatus(UNKNOWN.name())
 			.build();
@@ -30,6 +30,7 @@ import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.state.submerkle.ExpirableTxnRecord;
 import com.hedera.services.state.submerkle.RichInstant;
 import com.hedera.services.state.submerkle.TxnId;
+import com.hedera.services.stats.HandlePhaseTracker;
 import com.hedera.services.utils.PlatformTxnAccessor;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
@@ -51,8 +52,10 @@ import java.util.Collections;
 import java.util.function.Consumer;
 
 import static com.hedera.services.legacy.proto.utils.CommonUtils.noThrowSha384HashOf;
+import static com.hedera.services.stats.HandlePhase.RECORD_CREATION;
 import static com.hedera.test.utils.IdUtils.asAccount;
 import static com.hedera.test.utils.TxnUtils.withAdjustments;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_ACCOUNT_ID;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_CHUNK_NUMBER;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.SUCCESS;
@@ -61,6 +64,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyShort;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.mock;
@@ -113,12 +117,14 @@ class TxnAwareRecordsHistorianTest {
 	private TransactionContext txnCtx;
 	@Mock
 	private PlatformTxnAccessor accessor;
+	@Mock
+	private HandlePhaseTracker phaseTracker;
 
 	private TxnAwareRecordsHistorian subject;
 
 	@BeforeEach
 	void setUp() {
-		subject = new TxnAwareRecordsHistorian(recordCache, txnCtx, expiries);
+		subject = new TxnAwareRecordsHistorian(recordCache, txnCtx, expiries, phaseTracker);
 		subject.setCreator(creator);
 	}
 
@@ -260,6 +266,7 @@ class TxnAwareRecordsHistorianTest {
 	@Test
 	void addsPayerRecord() {
 		givenTopLevelContext();
+		given(accessor.getFunction()).willReturn(CryptoTransfer);
 		given(txnCtx.recordSoFar()).willReturn(jFinalRecord);
 		given(creator.saveExpiringRecord(
 				effPayer,
@@ -278,6 +285,7 @@ class TxnAwareRecordsHistorianTest {
 				payerRecord);
 		verify(creator).saveExpiringRecord(effPayer, builtFinal, nows, submittingMember);
 		assertEquals(builtFinal, subject.lastCreatedTopLevelRecord());
+		verify(phaseTracker).stop(eq(CryptoTransfer), eq(RECORD_CREATION), anyLong());
 	}
 
 	@Test
@@ -0,0 +1,126 @@
+package com.hedera.services.records;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.state.submerkle.TxnId;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import org.junit.jupiter.api.Test;
+
+import static com.hedera.test.utils.IdUtils.asAccount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TxnIdKeyTest {
+	private static final TransactionID grpcId = TransactionID.newBuilder()
+			.setAccountID(asAccount("0.0.1001"))
+			.setTransactionValidStart(Timestamp.newBuilder().setSeconds(1_234_567L).setNanos(999_999_999))
+			.setScheduled(true)
+			.setNonce(-1)
+			.build();
+
+	@Test
+	void packsAllFieldsFromGrpc() {
+		// when:
+		final var subject = TxnIdKey.from(grpcId);
+
+		// then:
+		assertEquals(0L, subject.payerShard());
+		assertEquals(0L, subject.payerRealm());
+		assertEquals(1001L, subject.payerNum());
+		assertEquals(1_234_567L, subject.validStartSecs());
+		assertEquals(999_999_999, subject.validStartNanos());
+		assertTrue(subject.isScheduled());
+		assertEquals(-1, subject.nonce());
+	}
+
+	@Test
+	void agreesWithStateRepresentation() {
+		// expect:
+		assertEquals(TxnIdKey.from(grpcId), TxnIdKey.from(TxnId.fromGrpc(grpcId)));
+		assertEquals(TxnIdKey.from(grpcId).hashCode(), TxnIdKey.from(TxnId.fromGrpc(grpcId)).hashCode());
+	}
+
+	@Test
+	void childKeyMatchesChildId() {
+		// given:
+		final var parent = TxnIdKey.from(grpcId.toBuilder().setNonce(0).build());
+
+		// when:
+		final var child = parent.withNonce(2);
+
+		// then:
+		assertEquals(TxnIdKey.from(grpcId.toBuilder().setNonce(2).build()), child);
+		assertNotEquals(parent, child);
+		assertEquals(999_999_999, child.validStartNanos());
+	}
+
+	@Test
+	void distinguishesEveryField() {
+		// given:
+		final var subject = TxnIdKey.from(grpcId);
+
+		// expect:
+		assertNotEquals(subject, TxnIdKey.from(grpcId.toBuilder().setAccountID(asAccount("0.0.1002")).build()));
+		assertNotEquals(subject, TxnIdKey.from(grpcId.toBuilder()
+				.setTransactionValidStart(Timestamp.newBuilder().setSeconds(1_234_568L).setNanos(999_999_999))
+				.build()));
+		assertNotEquals(subject, TxnIdKey.from(grpcId.toBuilder()
+				.setTransactionValidStart(Timestamp.newBuilder().setSeconds(1_234_567L).setNanos(1))
+				.build()));
+		assertNotEquals(subject, TxnIdKey.from(grpcId.toBuilder().setScheduled(false).build()));
+		assertNotEquals(subject, TxnIdKey.from(grpcId.toBuilder().setNonce(1).build()));
+		assertNotEquals(subject.hashCode(), TxnIdKey.from(grpcId.toBuilder().setScheduled(false).build()).hashCode());
+	}
+
+	@Test
+	void keepsShardAndRealmOfForeignPayers() {
+		// when:
+		final var subject = TxnIdKey.from(grpcId.toBuilder().setAccountID(asAccount("1.2.1001")).build());
+
+		// then:
+		assertEquals(1L, subject.payerShard());
+		assertEquals(2L, subject.payerRealm());
+		assertEquals(1001L, subject.payerNum());
+		assertNotEquals(TxnIdKey.from(grpcId), subject);
+		assertNotEquals(TxnIdKey.from(grpcId.toBuilder().setAccountID(asAccount("1.3.1001")).build()), subject);
+		assertNotEquals(TxnIdKey.from(grpcId.toBuilder().setAccountID(asAccount("2.2.1001")).build()), subject);
+		assertNotEquals(TxnIdKey.from(grpcId.toBuilder().setAccountID(asAccount("1.2.1002")).build()), subject);
+	}
+
+	@Test
+	void objectContractMet() {
+		// given:
+		final var subject = TxnIdKey.from(grpcId);
+		final var identical = subject;
+
+		// expect:
+		assertEquals(subject, identical);
+		assertFalse(subject.equals(null));
+		assertFalse(subject.equals(grpcId));
+		assertEquals(
+				"TxnIdKey{payerShard=0, payerRealm=0, payerNum=1001, validStartSecs=1234567, " +
+						"validStartNanos=999999999, scheduled=true, nonce=-1}",
+				subject.toString());
+	}
+}
@@ -45,7 +45,6 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.BDDMockito.mock;
 
 class TxnIdRecentHistoryTest {
 	private static final Instant now = Instant.now();
@@ -74,17 +73,46 @@ class TxnIdRecentHistoryTest {
 
 	@Test
 	void getsMemory() {
-		subject.classifiableRecords = List.of(mock(ExpirableTxnRecord.class));
+		assertTrue(subject.isForgotten());
+
+		subject.observe(recordOf(1, 0, SUCCESS), SUCCESS);
 		assertFalse(subject.isForgotten());
 
-		subject.classifiableRecords = null;
-		subject.unclassifiableRecords = List.of(mock(ExpirableTxnRecord.class));
+		subject.forgetExpiredAt(expiryAtOffset(0));
+		subject.observe(recordOf(1, 1, INVALID_PAYER_SIGNATURE), INVALID_PAYER_SIGNATURE);
 		assertFalse(subject.isForgotten());
 
-		subject.unclassifiableRecords = null;
+		subject.forgetExpiredAt(expiryAtOffset(1));
 		assertTrue(subject.isForgotten());
 	}
 
+	@Test
+	void keepsClassificationPrefixAcrossManyRecords() {
+		for (int i = 0; i < 8; i++) {
+			subject.observe(recordOf(i % 4, i, SUCCESS), SUCCESS);
+		}
+
+		assertEquals(
+				List.of(
+						memoIdentifying(0, 0, SUCCESS),
+						memoIdentifying(1, 1, SUCCESS),
+						memoIdentifying(2, 2, SUCCESS),
+						memoIdentifying(3, 3, SUCCESS),
+						memoIdentifying(0, 4, SUCCESS),
+						memoIdentifying(1, 5, SUCCESS),
+						memoIdentifying(2, 6, SUCCESS),
+						memoIdentifying(3, 7, SUCCESS)
+				), subject.classifiableRecords().stream().map(ExpirableTxnRecord::getMemo).collect(toList()));
+		assertEquals(NODE_DUPLICATE, subject.currentDuplicityFor(3));
+		assertEquals(DUPLICATE, subject.currentDuplicityFor(4));
+
+		subject.forgetExpiredAt(expiryAtOffset(1));
+
+		assertEquals(NODE_DUPLICATE, subject.currentDuplicityFor(2));
+		assertEquals(DUPLICATE, subject.currentDuplicityFor(0));
+		assertEquals(memoIdentifying(2, 2, SUCCESS), subject.priorityRecord().getMemo());
+	}
+
 	@Test
 	void classifiesAsExpected() {
 		subject.observe(
@@ -119,13 +147,13 @@ class TxnIdRecentHistoryTest {
 						memoIdentifying(3, 5, DUPLICATE_TRANSACTION),
 						memoIdentifying(1, 2, DUPLICATE_TRANSACTION),
 						memoIdentifying(2, 4, DUPLICATE_TRANSACTION)
-				), subject.classifiableRecords.stream().map(sr -> sr.getMemo()).collect(toList()));
+				), subject.classifiableRecords().stream().map(sr -> sr.getMemo()).collect(toList()));
 		assertEquals(
 				List.of(
 						memoIdentifying(1, 0, INVALID_PAYER_SIGNATURE),
 						memoIdentifying(1, 6, INVALID_PAYER_SIGNATURE),
 						memoIdentifying(2, 7, INVALID_NODE_ACCOUNT)
-				), subject.unclassifiableRecords.stream().map(sr -> sr.getMemo()).collect(toList()));
+				), subject.unclassifiableRecords().stream().map(sr -> sr.getMemo()).collect(toList()));
 		assertNull(subject.memory);
 	}
 
@@ -177,12 +205,12 @@ class TxnIdRecentHistoryTest {
 		assertEquals(
 				List.of(
 						memoIdentifying(3, 5, DUPLICATE_TRANSACTION)
-				), subject.classifiableRecords.stream().map(ExpirableTxnRecord::getMemo).collect(toList()));
+				), subject.classifiableRecords().stream().map(ExpirableTxnRecord::getMemo).collect(toList()));
 		assertEquals(
 				List.of(
 						memoIdentifying(1, 6, INVALID_PAYER_SIGNATURE),
 						memoIdentifying(2, 7, INVALID_NODE_ACCOUNT)
-				), subject.unclassifiableRecords.stream().map(ExpirableTxnRecord::getMemo).collect(toList()));
+				), subject.unclassifiableRecords().stream().map(ExpirableTxnRecord::getMemo).collect(toList()));
 	}
 
 	@Test
@@ -204,8 +232,8 @@ class TxnIdRecentHistoryTest {
 		assertEquals(
 				List.of(
 						memoIdentifying(3, 5, DUPLICATE_TRANSACTION)
-				), subject.classifiableRecords.stream().map(ExpirableTxnRecord::getMemo).collect(toList()));
-		assertEquals(0, subject.unclassifiableRecords.size());
+				), subject.classifiableRecords().stream().map(ExpirableTxnRecord::getMemo).collect(toList()));
+		assertEquals(0, subject.unclassifiableRecords().size());
 	}
 
 	@Test
@@ -214,7 +242,7 @@ class TxnIdRecentHistoryTest {
 
 		subject.forgetExpiredAt(expiryAtOffset(-1));
 
-		assertEquals(1, subject.unclassifiableRecords.size());
+		assertEquals(1, subject.unclassifiableRecords().size());
 	}
 
 	@Test
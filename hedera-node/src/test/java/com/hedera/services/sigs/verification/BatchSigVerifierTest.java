@@ -0,0 +1,387 @@
+package com.hedera.services.sigs.verification;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.swirlds.common.crypto.TransactionSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+class BatchSigVerifierTest {
+	@Mock
+	private NodeLocalProperties properties;
+
+	private final List<List<TransactionSignature>> batches = new CopyOnWriteArrayList<>();
+	private final ExecutorService callers = Executors.newCachedThreadPool();
+
+	private BatchSigVerifier subject;
+
+	@AfterEach
+	void cleanup() {
+		if (subject != null) {
+			subject.getShutdownHook().run();
+		}
+		callers.shutdownNow();
+	}
+
+	@Test
+	void verifiesOnCallingThreadWithoutWorkers() {
+		// given:
+		final var sigs = sigs(2);
+		final var caller = Thread.currentThread();
+		final List<Thread> verifyingThreads = new ArrayList<>();
+		subject = new BatchSigVerifier(batch -> {
+			batches.add(new ArrayList<>(batch));
+			verifyingThreads.add(Thread.currentThread());
+		}, properties);
+
+		// when:
+		subject.verifySync(sigs);
+
+		// then:
+		assertNull(subject.getExecutor());
+		assertEquals(List.of(sigs), batches);
+		assertEquals(List.of(caller), verifyingThreads);
+	}
+
+	@Test
+	void ignoresEmptyVerifications() {
+		// given:
+		givenWorkers(1, 8);
+		subject = new BatchSigVerifier(batch -> batches.add(new ArrayList<>(batch)), properties);
+
+		// when:
+		subject.verifySync(Collections.emptyList());
+
+		// then:
+		assertTrue(batches.isEmpty());
+	}
+
+	@Test
+	void verifiesConcurrentCallersTogether() throws InterruptedException {
+		// setup:
+		final var firstSigs = sigs(1);
+		final var secondSigs = sigs(2);
+		final var thirdSigs = sigs(3);
+		final var firstBatchStarted = new CountDownLatch(1);
+		final var releaseFirstBatch = new CountDownLatch(1);
+
+		givenWorkers(1, 8);
+		subject = new BatchSigVerifier(batch -> {
+			batches.add(new ArrayList<>(batch));
+			if (batches.size() == 1) {
+				firstBatchStarted.countDown();
+				awaitUninterruptibly(releaseFirstBatch);
+			}
+		}, properties);
+
+		// when:
+		final var first = verifyInBackground(firstSigs);
+		assertTrue(firstBatchStarted.await(1, TimeUnit.SECONDS));
+		final var second = verifyInBackground(secondSigs);
+		awaitQueued(1);
+		final var third = verifyInBackground(thirdSigs);
+		awaitQueued(2);
+		releaseFirstBatch.countDown();
+		// and:
+		first.join();
+		second.join();
+		third.join();
+
+		// then:
+		assertEquals(2, batches.size());
+		assertEquals(firstSigs, batches.get(0));
+		final var expectedSecondBatch = new ArrayList<>(secondSigs);
+		expectedSecondBatch.addAll(thirdSigs);
+		assertEquals(expectedSecondBatch, batches.get(1));
+	}
+
+	@Test
+	void stopsDrainingOnceBatchIsFull() throws InterruptedException {
+		// setup:
+		final var firstBatchStarted = new CountDownLatch(1);
+		final var releaseFirstBatch = new CountDownLatch(1);
+
+		givenWorkers(1, 3);
+		subject = new BatchSigVerifier(batch -> {
+			batches.add(new ArrayList<>(batch));
+			if (batches.size() == 1) {
+				firstBatchStarted.countDown();
+				awaitUninterruptibly(releaseFirstBatch);
+			}
+		}, properties);
+
+		// when:
+		final var first = verifyInBackground(sigs(1));
+		assertTrue(firstBatchStarted.await(1, TimeUnit.SECONDS));
+		final var second = verifyInBackground(sigs(2));
+		final var third = verifyInBackground(sigs(2));
+		final var fourth = verifyInBackground(sigs(2));
+		awaitQueued(3);
+		releaseFirstBatch.countDown();
+		// and:
+		first.join();
+		second.join();
+		third.join();
+		fourth.join();
+
+		// then:
+		assertEquals(3, batches.size());
+		assertEquals(4, batches.get(1).size());
+		assertEquals(2, batches.get(2).size());
+	}
+
+	@Test
+	void propagatesVerificationFailureToEachCaller() {
+		// given:
+		givenWorkers(2, 8);
+		subject = new BatchSigVerifier(batch -> {
+			throw new IllegalStateException("No crypto for you");
+		}, properties);
+
+		// expect:
+		assertNotNull(subject.getExecutor());
+		assertThrows(IllegalStateException.class, () -> subject.verifySync(sigs(1)));
+	}
+
+	@Test
+	void verifiesEachCallerSeparatelyIfBatchFails() throws InterruptedException {
+		// setup:
+		final var goodSigs = sigs(2);
+		final var badSigs = sigs(1);
+		final var firstBatchStarted = new CountDownLatch(1);
+		final var releaseFirstBatch = new CountDownLatch(1);
+
+		givenWorkers(1, 8);
+		subject = new BatchSigVerifier(batch -> {
+			batches.add(new ArrayList<>(batch));
+			if (batches.size() == 1) {
+				firstBatchStarted.countDown();
+				awaitUninterruptibly(releaseFirstBatch);
+			}
+			if (batch.containsAll(badSigs)) {
+				throw new IllegalArgumentException("Malformed signature");
+			}
+		}, properties);
+
+		// when:
+		final var first = verifyInBackground(sigs(1));
+		assertTrue(firstBatchStarted.await(1, TimeUnit.SECONDS));
+		final var good = verifyInBackground(goodSigs);
+		awaitQueued(1);
+		final var bad = verifyInBackground(badSigs);
+		awaitQueued(2);
+		releaseFirstBatch.countDown();
+		// and:
+		first.join();
+		good.join();
+		final var failure = assertThrows(CompletionException.class, bad::join);
+
+		// then:
+		assertInstanceOf(IllegalArgumentException.class, failure.getCause());
+		assertEquals(5, batches.size());
+		assertEquals(goodSigs, batches.get(2));
+		assertEquals(badSigs, batches.get(3));
+		assertEquals(badSigs, batches.get(4));
+	}
+
+	@Test
+	void survivesErrorsAndRethrowsThemFromTheCallingThread() {
+		// setup:
+		final var calls = new AtomicInteger();
+
+		givenWorkers(1, 8);
+		subject = new BatchSigVerifier(batch -> {
+			batches.add(new ArrayList<>(batch));
+			if (calls.getAndIncrement() < 2) {
+				throw new AssertionError("Not a RuntimeException");
+			}
+		}, properties);
+
+		// expect:
+		assertThrows(AssertionError.class, () -> subject.verifySync(sigs(1)));
+		// and:
+		subject.verifySync(sigs(2));
+		assertEquals(3, batches.size());
+	}
+
+	@Test
+	void verifiesOnCallingThreadIfStillQueuedAfterMaxWait() throws InterruptedException {
+		// setup:
+		final var sigs = sigs(1);
+		final var caller = Thread.currentThread();
+		final var firstBatchStarted = new CountDownLatch(1);
+		final var releaseWorker = new CountDownLatch(1);
+		final List<Thread> verifyingThreads = new CopyOnWriteArrayList<>();
+
+		givenWorkers(1, 8, 10L);
+		subject = new BatchSigVerifier(batch -> {
+			batches.add(new ArrayList<>(batch));
+			verifyingThreads.add(Thread.currentThread());
+			if (Thread.currentThread() != caller) {
+				firstBatchStarted.countDown();
+				awaitUninterruptibly(releaseWorker);
+			}
+		}, properties);
+
+		// given:
+		final var first = verifyInBackground(sigs(1));
+		assertTrue(firstBatchStarted.await(1, TimeUnit.SECONDS));
+
+		// when:
+		subject.verifySync(sigs);
+		releaseWorker.countDown();
+		first.join();
+
+		// then:
+		assertEquals(List.of(caller), verifyingThreads.subList(1, verifyingThreads.size()));
+		assertEquals(0, subject.numQueued());
+		assertEquals(2, batches.size());
+	}
+
+	@Test
+	void waitsForWorkerThatAlreadyTookTheSigs() throws InterruptedException {
+		// setup:
+		final var sigs = sigs(1);
+		final var batchStarted = new CountDownLatch(1);
+		final var releaseWorker = new CountDownLatch(1);
+
+		givenWorkers(1, 8, 10L);
+		subject = new BatchSigVerifier(batch -> {
+			batches.add(new ArrayList<>(batch));
+			batchStarted.countDown();
+			awaitUninterruptibly(releaseWorker);
+		}, properties);
+
+		// when:
+		final var call = verifyInBackground(sigs);
+		assertTrue(batchStarted.await(1, TimeUnit.SECONDS));
+		Thread.sleep(50L);
+
+		// then:
+		assertFalse(call.isDone());
+		// and when:
+		releaseWorker.countDown();
+		call.join();
+		// then:
+		assertEquals(List.of(sigs), batches);
+	}
+
+	@Test
+	void failsPendingVerificationsOnShutdown() throws Exception {
+		// setup:
+		final var firstBatchStarted = new CountDownLatch(1);
+		final var releaseFirstBatch = new CountDownLatch(1);
+		final var calls = new AtomicInteger();
+
+		givenWorkers(1, 8);
+		subject = new BatchSigVerifier(batch -> {
+			batches.add(new ArrayList<>(batch));
+			if (calls.getAndIncrement() == 0) {
+				firstBatchStarted.countDown();
+				awaitUninterruptibly(releaseFirstBatch);
+			}
+		}, properties);
+
+		// given:
+		final var first = verifyInBackground(sigs(1));
+		assertTrue(firstBatchStarted.await(1, TimeUnit.SECONDS));
+		final var second = verifyInBackground(sigs(2));
+		awaitQueued(1);
+
+		// when:
+		subject.getShutdownHook().run();
+
+		// then:
+		second.get(1, TimeUnit.SECONDS);
+		assertEquals(0, subject.numQueued());
+		// and:
+		releaseFirstBatch.countDown();
+		first.get(1, TimeUnit.SECONDS);
+		// and:
+		subject.verifySync(sigs(3));
+		assertEquals(3, batches.get(batches.size() - 1).size());
+	}
+
+	private CompletableFuture<Void> verifyInBackground(final List<TransactionSignature> sigs) {
+		return CompletableFuture.runAsync(() -> subject.verifySync(sigs), callers);
+	}
+
+	private void awaitQueued(final int n) throws InterruptedException {
+		final var deadline = System.currentTimeMillis() + 1_000L;
+		while (subject.numQueued() < n && System.currentTimeMillis() < deadline) {
+			Thread.sleep(1L);
+		}
+		assertEquals(n, subject.numQueued());
+	}
+
+	private void givenWorkers(final int threads, final int maxBatchSize) {
+		givenWorkers(threads, maxBatchSize, 1_000L);
+	}
+
+	private void givenWorkers(final int threads, final int maxBatchSize, final long maxWaitMs) {
+		given(properties.precheckSigVerificationThreads()).willReturn(threads);
+		given(properties.precheckSigVerificationMaxBatchSize()).willReturn(maxBatchSize);
+		given(properties.precheckSigVerificationMaxWaitMs()).willReturn(maxWaitMs);
+	}
+
+	private static List<TransactionSignature> sigs(final int n) {
+		final List<TransactionSignature> sigs = new ArrayList<>();
+		for (int i = 0; i < n; i++) {
+			sigs.add(mock(TransactionSignature.class));
+		}
+		return sigs;
+	}
+
+	private static void awaitUninterruptibly(final CountDownLatch latch) {
+		try {
+			latch.await(1, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,89 @@
+package com.hedera.services.state;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.ServicesState;
+import com.hedera.services.context.StateChildren;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PinnedStateTest {
+	@Mock
+	private ServicesState state;
+	@Mock
+	private StateChildren children;
+
+	private PinnedState subject;
+
+	@BeforeEach
+	void setUp() {
+		subject = new PinnedState(state, children);
+	}
+
+	@Test
+	void takesPlatformReferenceOnCreation() {
+		// expect:
+		verify(state).incrementReferenceCount();
+		assertSame(children, subject.children());
+		assertEquals(1, subject.refCount());
+	}
+
+	@Test
+	void dropsPlatformReferenceOnlyWithLastRelease() {
+		// given:
+		assertTrue(subject.tryRetain());
+
+		// when:
+		subject.release();
+
+		// then:
+		verify(state, never()).decrementReferenceCount();
+
+		// and when:
+		subject.release();
+
+		// then:
+		verify(state).decrementReferenceCount();
+		assertEquals(0, subject.refCount());
+	}
+
+	@Test
+	void cannotRetainOnceFullyReleased() {
+		// given:
+		subject.release();
+
+		// expect:
+		assertFalse(subject.tryRetain());
+		assertThrows(IllegalStateException.class, subject::release);
+	}
+}
@@ -47,8 +47,12 @@ import java.time.Instant;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class StateAccessorTest {
@@ -97,13 +101,55 @@ class StateAccessorTest {
 		subject.updateChildrenFrom(state);
 		final var currentChildren = subject.children();
 
-		subject.replaceChildrenFrom(state, signedAt);
+		subject.replaceChildrenFrom(state, signedAt, true);
 
 		assertNotSame(currentChildren, subject.children());
 		assertEquals(signedAt, subject.children().signedAt());
 		Assertions.assertThrows(IllegalStateException.class, () -> subject.updateChildrenFrom(state));
 	}
 
+	@Test
+	void nothingToPinBeforeFirstSignedState() {
+		// expect:
+		assertNull(subject.pinLatest());
+	}
+
+	@Test
+	void pinsLatestSignedStateUntilReplacedAndReleased() {
+		givenStateWithMockChildren();
+		final var nextState = mock(ServicesState.class);
+
+		subject.replaceChildrenFrom(state, signedAt, true);
+		final var pinned = subject.pinLatest();
+
+		verify(state).incrementReferenceCount();
+		assertSame(subject.children(), pinned.children());
+		assertEquals(signedAt, pinned.children().signedAt());
+
+		subject.replaceChildrenFrom(nextState, signedAt.plusSeconds(1), true);
+		verify(state, never()).decrementReferenceCount();
+		pinned.release();
+		verify(state).decrementReferenceCount();
+
+		final var nextPinned = subject.pinLatest();
+		assertNotSame(pinned, nextPinned);
+		assertEquals(signedAt.plusSeconds(1), nextPinned.children().signedAt());
+	}
+
+	@Test
+	void doesNotPinUnlessRequested() {
+		givenStateWithMockChildren();
+		final var nextState = mock(ServicesState.class);
+
+		subject.replaceChildrenFrom(state, signedAt, true);
+		subject.replaceChildrenFrom(nextState, signedAt.plusSeconds(1), false);
+
+		verify(state).decrementReferenceCount();
+		verify(nextState, never()).incrementReferenceCount();
+		assertNull(subject.pinLatest());
+		assertEquals(signedAt.plusSeconds(1), subject.children().signedAt());
+	}
+
 	@Test
 	void childrenGetUpdatedAsExpected() {
 		givenStateWithMockChildren();
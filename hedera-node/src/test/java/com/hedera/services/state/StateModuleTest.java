@@ -20,6 +20,7 @@ package com.hedera.services.state;
  * ‍
  */
 
+import com.hedera.services.context.StateChildren;
 import com.hedera.services.context.properties.NodeLocalProperties;
 import com.hedera.services.context.properties.PropertySource;
 import com.hedera.services.keys.LegacyEd25519KeyReader;
@@ -34,10 +35,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.nio.charset.Charset;
 
+import static com.hedera.services.state.StateModule.provideQueryStateViews;
 import static com.hedera.services.state.StateModule.provideStateViews;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.never;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
@@ -55,6 +58,12 @@ class StateModuleTest {
 	@Mock
 	private StateAccessor workingState;
 	@Mock
+	private StateAccessor latestSignedState;
+	@Mock
+	private PinnedState pinnedState;
+	@Mock
+	private StateChildren signedChildren;
+	@Mock
 	private LegacyEd25519KeyReader b64KeyReader;
 	@Mock
 	private PropertySource properties;
@@ -90,6 +99,58 @@ class StateModuleTest {
 		verify(workingState).children();
 	}
 
+	@Test
+	void queryViewsUseWorkingStateUnlessConfigured() {
+		// given:
+		final var viewFactory = provideQueryStateViews(
+				tokenStore, scheduleStore, nodeLocalProperties, uniqTokenViewFactory, workingState, latestSignedState);
+
+		// when:
+		viewFactory.get().close();
+
+		// then:
+		verify(workingState).children();
+		verify(latestSignedState, never()).pinLatest();
+	}
+
+	@Test
+	void queryViewsFallBackToWorkingStateWithoutSignedState() {
+		// setup:
+		given(nodeLocalProperties.shouldQueriesUseLatestSignedState()).willReturn(true);
+
+		// given:
+		final var viewFactory = provideQueryStateViews(
+				tokenStore, scheduleStore, nodeLocalProperties, uniqTokenViewFactory, workingState, latestSignedState);
+
+		// when:
+		viewFactory.get();
+
+		// then:
+		verify(workingState).children();
+	}
+
+	@Test
+	void queryViewsPinLatestSignedStateIfConfigured() {
+		// setup:
+		given(nodeLocalProperties.shouldQueriesUseLatestSignedState()).willReturn(true);
+		given(latestSignedState.pinLatest()).willReturn(pinnedState);
+		given(pinnedState.children()).willReturn(signedChildren);
+
+		// given:
+		final var viewFactory = provideQueryStateViews(
+				tokenStore, scheduleStore, nodeLocalProperties, uniqTokenViewFactory, workingState, latestSignedState);
+
+		// when:
+		final var view = viewFactory.get();
+		// and:
+		view.close();
+		view.close();
+
+		// then:
+		verify(workingState, never()).children();
+		verify(pinnedState).release();
+	}
+
 	@Test
 	void looksUpExpectedKey() {
 		// setup:
@@ -23,10 +23,15 @@ package com.hedera.services.state.expiry;
 import com.hedera.services.config.HederaNumbers;
 import com.hedera.services.config.MockGlobalDynamicProps;
 import com.hedera.services.config.MockHederaNumbers;
+import com.hedera.services.state.expiry.renewal.ExpiryOrderedAccounts;
 import com.hedera.services.state.expiry.renewal.RenewalProcess;
 import com.hedera.services.state.logic.NetworkCtxManager;
+import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleNetworkContext;
 import com.hedera.services.state.submerkle.SequenceNumber;
+import com.hedera.services.utils.EntityNum;
+import com.hedera.test.factories.accounts.MerkleAccountFactory;
+import com.swirlds.merkle.map.MerkleMap;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -35,18 +40,22 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
 
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class EntityAutoRenewalTest {
-	private final Instant instantNow = Instant.ofEpochSecond(1_234_567L);
+	private final long now = 1_234_567L;
+	private final Instant instantNow = Instant.ofEpochSecond(now);
 	private final HederaNumbers mockHederaNums = new MockHederaNumbers();
 	private final MockGlobalDynamicProps properties = new MockGlobalDynamicProps();
 
-	private final long aNum = 1002L, bNum = 1003L, cNum = 1004L;
+	private final long aNum = 1002L, bNum = 1003L, cNum = 1004L, dNum = 1005L;
 
 	@Mock
 	private SequenceNumber seqNo;
@@ -57,12 +66,24 @@ class EntityAutoRenewalTest {
 	@Mock
 	private MerkleNetworkContext networkCtx;
 
+	private MerkleMap<EntityNum, MerkleAccount> accounts;
+	private ExpiryOrderedAccounts expiryOrderedAccounts;
+
 	private EntityAutoRenewal subject;
 
 	@BeforeEach
 	void setUp() {
+		accounts = new MerkleMap<>();
+		expiryOrderedAccounts = new ExpiryOrderedAccounts(mockHederaNums, () -> seqNo, () -> accounts);
+
 		subject = new EntityAutoRenewal(
-				mockHederaNums, renewalProcess, properties, networkCtxManager, () -> networkCtx, () -> seqNo);
+				mockHederaNums,
+				renewalProcess,
+				expiryOrderedAccounts,
+				properties,
+				networkCtxManager,
+				() -> networkCtx,
+				() -> seqNo);
 	}
 
 	@Test
@@ -103,35 +124,45 @@ class EntityAutoRenewalTest {
 
 		// then:
 		verify(networkCtx).clearAutoRenewSummaryCounts();
+		verify(networkCtx).updateAutoRenewSummaryCounts(0, 0);
+		verify(networkCtx).updateLastScannedEntity(aNum - 1);
 	}
 
 	@Test
-	void scansToExpectedNumWithNothingToTouch() {
+	void visitsOnlyDueAccounts() {
 		// setup:
-		long numToScan = properties.autoRenewNumberOfEntitiesToScan();
+		givenAccount(aNum, now - 1);
+		givenAccount(bNum, now + 1);
+		givenAccount(cNum, now);
+		givenContract(dNum, now - 1);
 
-		givenWrapNum(aNum + numToScan);
+		givenWrapNum(dNum + 1);
 		givenLastScanned(aNum - 1);
 
 		// when:
 		subject.execute(instantNow);
 
 		// then:
-		verify(renewalProcess).beginRenewalCycle(instantNow);
-		for (long i = aNum; i < aNum + numToScan; i++) {
-			verify(renewalProcess).process(i);
-		}
+		final var inOrder = inOrder(renewalProcess);
+		inOrder.verify(renewalProcess).beginRenewalCycle(instantNow);
+		inOrder.verify(renewalProcess).process(aNum);
+		inOrder.verify(renewalProcess).process(cNum);
+		inOrder.verify(renewalProcess).endRenewalCycle();
+		verify(renewalProcess, never()).process(bNum);
+		verify(renewalProcess, never()).process(dNum);
 		// and:
-		verify(renewalProcess).endRenewalCycle();
-		verify(networkCtx).updateLastScannedEntity(aNum + numToScan - 1);
+		verify(networkCtx).updateLastScannedEntity(cNum);
+		verify(networkCtx).updateAutoRenewSummaryCounts(2, 0);
 	}
 
 	@Test
 	void stopsEarlyWhenLotsToTouch() {
 		// setup:
-		long numToScan = properties.autoRenewNumberOfEntitiesToScan();
+		givenAccount(aNum, now);
+		givenAccount(bNum, now);
+		givenAccount(cNum, now);
 
-		givenWrapNum(aNum + numToScan);
+		givenWrapNum(cNum + 1);
 		givenLastScanned(aNum - 1);
 		given(renewalProcess.process(aNum)).willReturn(true);
 		given(renewalProcess.process(bNum)).willReturn(true);
@@ -141,44 +172,76 @@ class EntityAutoRenewalTest {
 
 		// then:
 		verify(renewalProcess).beginRenewalCycle(instantNow);
-		for (long i = aNum; i < cNum; i++) {
-			verify(renewalProcess).process(i);
-		}
-		// and:
+		verify(renewalProcess).process(aNum);
+		verify(renewalProcess).process(bNum);
 		verify(renewalProcess, never()).process(cNum);
 		verify(renewalProcess).endRenewalCycle();
+		// and:
 		verify(networkCtx).updateLastScannedEntity(bNum);
+		verify(networkCtx).updateAutoRenewSummaryCounts(2, 2);
 	}
 
 	@Test
-	void understandsHowToWrap() {
+	void understandsHowToWrapAndVisitsEachDueAccountOnce() {
 		// setup:
-		long numToScan = properties.autoRenewNumberOfEntitiesToScan();
+		givenAccount(aNum, now);
+		givenAccount(bNum, now);
+		givenAccount(cNum, now);
 
-		givenWrapNum(aNum + numToScan);
-		givenLastScanned(aNum + numToScan - 2);
-		given(renewalProcess.process(aNum + numToScan - 1)).willReturn(false);
-		given(renewalProcess.process(aNum - 1)).willReturn(false);
-		given(renewalProcess.process(aNum)).willReturn(true);
-		given(renewalProcess.process(bNum)).willReturn(true);
+		givenWrapNum(cNum + 1);
+		givenLastScanned(bNum);
 
 		// when:
 		subject.execute(instantNow);
 
 		// then:
-		verify(renewalProcess).beginRenewalCycle(instantNow);
-		verify(renewalProcess).process(aNum + numToScan - 1);
-		for (long i = aNum; i < cNum; i++) {
-			verify(renewalProcess).process(i);
-		}
+		final var inOrder = inOrder(renewalProcess);
+		inOrder.verify(renewalProcess).process(cNum);
+		inOrder.verify(renewalProcess).process(aNum);
+		inOrder.verify(renewalProcess).process(bNum);
+		verify(renewalProcess, times(3)).process(anyLong());
 		// and:
-		verify(renewalProcess, never()).process(cNum);
-		verify(renewalProcess).endRenewalCycle();
 		verify(networkCtx).updateLastScannedEntity(bNum);
+		verify(networkCtx).updateAutoRenewSummaryCounts(3, 0);
+	}
+
+	@Test
+	void doesNotCountAccountsRenewedSinceMarkedDue() {
+		// setup:
+		givenAccount(aNum, now);
+		givenAccount(bNum, now);
+
+		givenWrapNum(bNum + 1);
+		givenLastScanned(aNum - 1);
+		given(renewalProcess.process(aNum)).willAnswer(invocation -> {
+			accounts.get(EntityNum.fromLong(aNum)).setExpiry(now + 1);
+			return true;
+		});
+		given(renewalProcess.process(bNum)).willReturn(false);
+
+		// when:
+		subject.execute(instantNow);
 		// and:
-		verify(networkCtx).updateAutoRenewSummaryCounts(4, 2);
+		subject.execute(instantNow);
+
+		// then:
+		verify(renewalProcess).process(aNum);
+		verify(renewalProcess, times(2)).process(bNum);
+		// and:
+		verify(networkCtx).updateAutoRenewSummaryCounts(2, 1);
+		verify(networkCtx).updateAutoRenewSummaryCounts(1, 0);
 	}
 
+	private void givenAccount(final long num, final long expiry) {
+		accounts.put(EntityNum.fromLong(num), MerkleAccountFactory.newAccount().expirationTime(expiry).get());
+	}
+
+	private void givenContract(final long num, final long expiry) {
+		accounts.put(EntityNum.fromLong(num), MerkleAccountFactory.newAccount()
+				.isSmartContract(true)
+				.expirationTime(expiry)
+				.get());
+	}
 
 	private void givenWrapNum(long num) {
 		given(seqNo.current()).willReturn(num);
@@ -24,6 +24,7 @@ import com.hedera.services.config.HederaNumbers;
 import com.hedera.services.config.MockHederaNumbers;
 import com.hedera.services.ledger.SigImpactHistorian;
 import com.hedera.services.legacy.core.jproto.TxnReceipt;
+import com.hedera.services.records.TxnIdKey;
 import com.hedera.services.records.TxnIdRecentHistory;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleSchedule;
@@ -70,7 +71,7 @@ class ExpiryManagerTest {
 
 	private MerkleMap<EntityNum, MerkleAccount> liveAccounts = new MerkleMap<>();
 	private MerkleMap<EntityNum, MerkleSchedule> liveSchedules = new MerkleMap<>();
-	private Map<TransactionID, TxnIdRecentHistory> liveTxnHistories = new HashMap<>();
+	private Map<TxnIdKey, TxnIdRecentHistory> liveTxnHistories = new HashMap<>();
 
 	private final HederaNumbers nums = new MockHederaNumbers();
 
@@ -79,7 +80,7 @@ class ExpiryManagerTest {
 	@Mock
 	private SigImpactHistorian sigImpactHistorian;
 	@Mock
-	private Map<TransactionID, TxnIdRecentHistory> mockTxnHistories;
+	private Map<TxnIdKey, TxnIdRecentHistory> mockTxnHistories;
 	@Mock
 	private MerkleMap<EntityNum, MerkleAccount> mockAccounts;
 	@Mock
@@ -97,12 +98,12 @@ class ExpiryManagerTest {
 		liveSchedules.put(bKey, bSchedule);
 
 		subject.reviewExistingShortLivedEntities();
-		final var resultingExpiries = subject.getShortLivedEntityExpiries();
-		final var firstExpiry = resultingExpiries.expireNextAt(now);
+		subject.purge(now);
 
 		// then:
-		assertEquals(aKey.longValue(), firstExpiry.getLeft());
-		assertEquals(1, resultingExpiries.getAllExpiries().size());
+		verify(mockScheduleStore).expire(new EntityId(0, 0, aKey.longValue()));
+		verify(sigImpactHistorian).markEntityChanged(aKey.longValue());
+		assertEquals(1, subject.getShortLivedEntityExpiries().size());
 	}
 
 	@Test
@@ -121,15 +122,15 @@ class ExpiryManagerTest {
 		// then:
 		verify(mockScheduleStore).expire(new EntityId(0, 0, aKey.longValue()));
 		verify(sigImpactHistorian).markEntityChanged(aKey.longValue());
-		assertEquals(1, subject.getShortLivedEntityExpiries().getAllExpiries().size());
+		assertEquals(1, subject.getShortLivedEntityExpiries().size());
 	}
 
 	@Test
 	void rebuildsExpectedRecordsFromState() {
 		subject = new ExpiryManager(
 				mockScheduleStore, nums, sigImpactHistorian, liveTxnHistories, () -> liveAccounts, () -> mockSchedules);
-		final var newTxnId = recordWith(aGrpcId, start).getTxnId().toGrpc();
-		final var leftoverTxnId = recordWith(bGrpcId, now).getTxnId().toGrpc();
+		final var newTxnId = TxnIdKey.from(recordWith(aGrpcId, start).getTxnId());
+		final var leftoverTxnId = TxnIdKey.from(recordWith(bGrpcId, now).getTxnId());
 		liveTxnHistories.put(leftoverTxnId, new TxnIdRecentHistory());
 		anAccount.records().offer(expiring(recordWith(aGrpcId, start), firstThen));
 		anAccount.records().offer(expiring(recordWith(aGrpcId, start), secondThen));
@@ -141,13 +142,32 @@ class ExpiryManagerTest {
 		assertFalse(liveTxnHistories.containsKey(leftoverTxnId));
 		assertEquals(firstThen, liveTxnHistories.get(newTxnId).priorityRecord().getExpiry());
 		assertEquals(secondThen, liveTxnHistories.get(newTxnId).allDuplicateRecords().get(0).getExpiry());
+		assertEquals(2, subject.getPayerRecordExpiries().size());
+	}
+
+	@Test
+	void expiresRebuiltRecordsAsExpected() {
+		subject = new ExpiryManager(
+				mockScheduleStore, nums, sigImpactHistorian, liveTxnHistories, () -> liveAccounts, () -> mockSchedules);
+		final var newTxnId = TxnIdKey.from(recordWith(aGrpcId, start).getTxnId());
+		anAccount.records().offer(expiring(recordWith(aGrpcId, start), firstThen));
+		anAccount.records().offer(expiring(recordWith(aGrpcId, start), secondThen));
+		liveAccounts.put(aKey, anAccount);
+
+		subject.reviewExistingPayerRecords();
+		subject.purge(now);
+
+		// then:
+		assertEquals(1, liveAccounts.get(aKey).records().size());
+		assertEquals(secondThen, liveTxnHistories.get(newTxnId).priorityRecord().getExpiry());
+		assertEquals(1, subject.getPayerRecordExpiries().size());
 	}
 
 	@Test
 	void expiresRecordsAsExpected() {
 		subject = new ExpiryManager(
 				mockScheduleStore, nums, sigImpactHistorian, liveTxnHistories, () -> liveAccounts, () -> mockSchedules);
-		final var newTxnId = recordWith(aGrpcId, start).getTxnId().toGrpc();
+		final var newTxnId = TxnIdKey.from(recordWith(aGrpcId, start).getTxnId());
 		liveAccounts.put(aKey, anAccount);
 
 		final var firstRecord = expiring(recordWith(aGrpcId, start), firstThen);
@@ -170,7 +190,7 @@ class ExpiryManagerTest {
 	void expiresLoneRecordAsExpected() {
 		subject = new ExpiryManager(
 				mockScheduleStore, nums, sigImpactHistorian, liveTxnHistories, () -> liveAccounts, () -> mockSchedules);
-		final var newTxnId = recordWith(aGrpcId, start).getTxnId().toGrpc();
+		final var newTxnId = TxnIdKey.from(recordWith(aGrpcId, start).getTxnId());
 		liveAccounts.put(aKey, anAccount);
 
 		final var firstRecord = expiring(recordWith(aGrpcId, start), firstThen);
@@ -0,0 +1,253 @@
+package com.hedera.services.state.expiry;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelExpiriesTest {
+	private static final int NUM_SLOTS = 16;
+
+	private final List<String> expired = new ArrayList<>();
+
+	private TimingWheelExpiries<String> subject;
+
+	@BeforeEach
+	void setUp() {
+		subject = new TimingWheelExpiries<>(NUM_SLOTS);
+	}
+
+	@Test
+	void rejectsNonPowerOfTwoSlots() {
+		// expect:
+		assertThrows(IllegalArgumentException.class, () -> new TimingWheelExpiries<>(12));
+		assertThrows(IllegalArgumentException.class, () -> new TimingWheelExpiries<>(0));
+	}
+
+	@Test
+	void expiresInOrderOfExpiryThenTracking() {
+		// given:
+		subject.track(3L, "c", 101L);
+		subject.track(1L, "a", 100L);
+		subject.track(2L, "b", 101L);
+		subject.track(4L, "d", 103L);
+
+		// when:
+		subject.expireAllAt(101L, this::record);
+
+		// then:
+		assertEquals(List.of("1:a", "3:c", "2:b"), expired);
+		assertEquals(1, subject.size());
+	}
+
+	@Test
+	void nothingToDoBeforeAnythingTracked() {
+		// when:
+		subject.expireAllAt(1_000L, this::record);
+
+		// then:
+		assertTrue(expired.isEmpty());
+		assertEquals(0, subject.size());
+	}
+
+	@Test
+	void lateTracksExpireAtNextPurge() {
+		// given:
+		subject.track(1L, "a", 100L);
+		subject.expireAllAt(100L, this::record);
+
+		// when:
+		subject.track(2L, "b", 50L);
+		subject.expireAllAt(101L, this::record);
+
+		// then:
+		assertEquals(List.of("1:a", "2:b"), expired);
+	}
+
+	@Test
+	void cascadesEventsBeyondTheWindow() {
+		// given:
+		subject.track(1L, "far", 100L + 3 * NUM_SLOTS);
+		subject.track(2L, "near", 100L);
+		subject.track(3L, "farther", 100L + 5 * NUM_SLOTS + 1);
+
+		// when:
+		subject.expireAllAt(100L + 3 * NUM_SLOTS - 1, this::record);
+
+		// then:
+		assertEquals(List.of("2:near"), expired);
+		assertEquals(2, subject.size());
+
+		// and when:
+		subject.expireAllAt(100L + 3 * NUM_SLOTS, this::record);
+		subject.expireAllAt(100L + 5 * NUM_SLOTS, this::record);
+
+		// then:
+		assertEquals(List.of("2:near", "1:far"), expired);
+
+		// and when:
+		subject.expireAllAt(Long.MAX_VALUE - 1, this::record);
+
+		// then:
+		assertEquals(List.of("2:near", "1:far", "3:farther"), expired);
+		assertEquals(0, subject.size());
+	}
+
+	@Test
+	void actionsCanTrackMoreEventsForTheSameSecond() {
+		// given:
+		subject.track(1L, "a", 100L);
+
+		// when:
+		subject.expireAllAt(100L, (id, payload) -> {
+			record(id, payload);
+			if (id == 1L) {
+				subject.track(2L, "b", 100L);
+			}
+		});
+
+		// then:
+		assertEquals(List.of("1:a", "2:b"), expired);
+		assertEquals(0, subject.size());
+	}
+
+	@Test
+	void failedActionDoesNotRepeatEarlierExpirations() {
+		// given:
+		subject.track(1L, "a", 100L);
+		subject.track(2L, "b", 100L);
+		subject.track(3L, "c", 100L);
+
+		// when:
+		assertThrows(IllegalStateException.class, () -> subject.expireAllAt(100L, (id, payload) -> {
+			if (id == 2L) {
+				throw new IllegalStateException();
+			}
+			record(id, payload);
+		}));
+		// and:
+		subject.expireAllAt(100L, this::record);
+
+		// then:
+		assertEquals(List.of("1:a", "3:c"), expired);
+	}
+
+	@Test
+	void rebuildSortsByExpiryThenId() {
+		// setup:
+		final var staging = new TimingWheelExpiries.Staging();
+
+		// given:
+		subject.track(99L, "gone", 1L);
+		staging.add(7L, 200L);
+		staging.add(5L, 200L);
+		staging.add(9L, 150L);
+		staging.add(6L, 200L + 2 * NUM_SLOTS);
+
+		// when:
+		subject.rebuildFrom(staging, "x");
+		subject.expireAllAt(200L + 2 * NUM_SLOTS, this::record);
+
+		// then:
+		assertEquals(4, staging.size());
+		assertEquals(List.of("9:x", "5:x", "7:x", "6:x"), expired);
+	}
+
+	@Test
+	void rebuildFallsBackForUnpackableEvents() {
+		// setup:
+		final var staging = new TimingWheelExpiries.Staging();
+
+		// given:
+		staging.add(1L << 40, 200L);
+		staging.add(2L, 200L);
+		staging.add(3L, 100L);
+
+		// when:
+		subject.rebuildFrom(staging, "x");
+		subject.expireAllAt(200L, this::record);
+
+		// then:
+		assertEquals(List.of("3:x", "2:x", (1L << 40) + ":x"), expired);
+	}
+
+	@Test
+	void resetForgetsEverything() {
+		// given:
+		subject.track(1L, "a", 100L);
+		subject.track(2L, "b", 100L + 4 * NUM_SLOTS);
+		subject.expireAllAt(99L, this::record);
+
+		// when:
+		subject.reset();
+		subject.track(3L, "c", 10L);
+		subject.expireAllAt(1_000L, this::record);
+
+		// then:
+		assertEquals(List.of("3:c"), expired);
+		assertEquals(0, subject.size());
+	}
+
+	@Test
+	void agreesWithPriorityQueueUnderRandomOps() {
+		// setup:
+		final var r = new SplittableRandom(1_234L);
+		final var reference = new PriorityQueueExpiries<String>((a, b) -> {
+			final var byExpiry = Long.compare(a.expiry(), b.expiry());
+			return byExpiry != 0 ? byExpiry : a.id().compareTo(b.id());
+		});
+		final List<String> expected = new ArrayList<>();
+		long now = 1_000L;
+		int nextId = 0;
+
+		for (int i = 0; i < 10_000; i++) {
+			if (r.nextInt(3) > 0) {
+				final var expiry = now + 1 + r.nextInt(5 * NUM_SLOTS);
+				final var id = nextId++;
+				subject.track(id, "p", expiry);
+				reference.track(String.format("%08d@%d", id, expiry), expiry);
+			} else {
+				now += r.nextInt(2 * NUM_SLOTS);
+				subject.expireAllAt(now, this::record);
+				while (reference.hasExpiringAt(now)) {
+					final var key = reference.expireNextAt(now);
+					expected.add(Integer.parseInt(key.substring(0, 8)) + ":p");
+				}
+			}
+		}
+
+		// expect:
+		assertEquals(expected, expired);
+		assertEquals(reference.getAllExpiries().size(), subject.size());
+	}
+
+	private void record(final long id, final String payload) {
+		expired.add(id + ":" + payload);
+	}
+}
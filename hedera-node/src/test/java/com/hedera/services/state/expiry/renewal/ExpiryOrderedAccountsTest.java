@@ -0,0 +1,196 @@
+package com.hedera.services.state.expiry.renewal;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.config.MockHederaNumbers;
+import com.hedera.services.state.initialization.ViewBuilder;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.submerkle.SequenceNumber;
+import com.hedera.services.utils.EntityNum;
+import com.hedera.test.factories.accounts.MerkleAccountFactory;
+import com.swirlds.merkle.map.MerkleMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static com.hedera.services.state.expiry.renewal.ExpiryOrderedAccounts.NO_DUE_ACCOUNT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExpiryOrderedAccountsTest {
+	private final long now = 1_234_567L;
+	private final long systemNum = 800L, aNum = 1002L, bNum = 1003L, cNum = 1004L, dNum = 1005L;
+
+	private MerkleMap<EntityNum, MerkleAccount> accounts;
+	private SequenceNumber seqNo;
+
+	private ExpiryOrderedAccounts subject;
+
+	@BeforeEach
+	void setUp() {
+		accounts = new MerkleMap<>();
+		seqNo = new SequenceNumber(1001L);
+
+		subject = new ExpiryOrderedAccounts(new MockHederaNumbers(), () -> seqNo, () -> accounts);
+	}
+
+	@Test
+	void rebuildIgnoresSystemAccountsAndContracts() {
+		// setup:
+		givenAccount(systemNum, now);
+		givenAccount(aNum, now);
+		givenContract(bNum, now);
+		givenAccount(cNum, now + 1);
+		seqNo = new SequenceNumber(cNum + 1);
+
+		// when:
+		ViewBuilder.rebuild(accounts, subject.expiriesBuilder());
+		// and:
+		subject.markDueAt(now);
+
+		// then:
+		assertEquals(Set.of(aNum), subject.getDueNums());
+		assertEquals(cNum + 1, subject.getNextNumToIndex());
+		assertTrue(subject.getExpiries().hasExpiringAt(now + 1));
+	}
+
+	@Test
+	void rebuildStartsOver() {
+		// setup:
+		givenAccount(aNum, now);
+		seqNo = new SequenceNumber(aNum + 1);
+		subject.markDueAt(now);
+
+		// when:
+		accounts.remove(EntityNum.fromLong(aNum));
+		ViewBuilder.rebuild(accounts, subject.expiriesBuilder());
+
+		// then:
+		assertTrue(subject.getDueNums().isEmpty());
+		assertFalse(subject.getExpiries().hasExpiringAt(Long.MAX_VALUE));
+		assertEquals(aNum - 1, subject.getNextNumToIndex());
+	}
+
+	@Test
+	void indexesEachNewAccountOnce() {
+		// setup:
+		givenAccount(aNum, now + 1);
+		givenContract(bNum, now);
+		seqNo = new SequenceNumber(cNum);
+
+		// when:
+		subject.markDueAt(now);
+
+		// then:
+		assertTrue(subject.getDueNums().isEmpty());
+		assertEquals(cNum, subject.getNextNumToIndex());
+
+		// and when:
+		givenAccount(cNum, now + 1);
+		seqNo = new SequenceNumber(dNum);
+		subject.markDueAt(now + 1);
+
+		// then:
+		assertEquals(Set.of(aNum, cNum), subject.getDueNums());
+		assertFalse(subject.getExpiries().hasExpiringAt(Long.MAX_VALUE));
+	}
+
+	@Test
+	void requeuesExtendedAndDropsRemovedAccounts() {
+		// setup:
+		givenAccount(aNum, now);
+		givenAccount(bNum, now);
+		seqNo = new SequenceNumber(cNum);
+		ViewBuilder.rebuild(accounts, subject.expiriesBuilder());
+
+		// given:
+		accounts.get(EntityNum.fromLong(aNum)).setExpiry(now + 2);
+		accounts.remove(EntityNum.fromLong(bNum));
+
+		// when:
+		subject.markDueAt(now);
+
+		// then:
+		assertTrue(subject.getDueNums().isEmpty());
+		assertFalse(subject.getExpiries().hasExpiringAt(now + 1));
+		assertTrue(subject.getExpiries().hasExpiringAt(now + 2));
+	}
+
+	@Test
+	void findsNextDueWithWrapping() {
+		// setup:
+		givenAccount(aNum, now);
+		givenAccount(cNum, now);
+		seqNo = new SequenceNumber(dNum);
+
+		// expect:
+		assertEquals(NO_DUE_ACCOUNT, subject.nextDueAfter(aNum));
+
+		// and when:
+		subject.markDueAt(now);
+
+		// then:
+		assertEquals(aNum, subject.nextDueAfter(aNum - 1));
+		assertEquals(cNum, subject.nextDueAfter(aNum));
+		assertEquals(cNum, subject.nextDueAfter(bNum));
+		assertEquals(aNum, subject.nextDueAfter(cNum));
+	}
+
+	@Test
+	void confirmsOnlyAccountsStillDue() {
+		// setup:
+		givenAccount(aNum, now);
+		givenAccount(bNum, now);
+		givenAccount(cNum, now);
+		seqNo = new SequenceNumber(dNum);
+		subject.markDueAt(now);
+
+		// given:
+		accounts.get(EntityNum.fromLong(bNum)).setExpiry(now + 1);
+		accounts.remove(EntityNum.fromLong(cNum));
+
+		// expect:
+		assertTrue(subject.confirmDue(aNum, now));
+		assertFalse(subject.confirmDue(bNum, now));
+		assertFalse(subject.confirmDue(cNum, now));
+		// and:
+		assertEquals(Set.of(aNum), subject.getDueNums());
+
+		// and when:
+		subject.markDueAt(now + 1);
+
+		// then:
+		assertEquals(Set.of(aNum, bNum), subject.getDueNums());
+	}
+
+	private void givenAccount(final long num, final long expiry) {
+		accounts.put(EntityNum.fromLong(num), MerkleAccountFactory.newAccount().expirationTime(expiry).get());
+	}
+
+	private void givenContract(final long num, final long expiry) {
+		accounts.put(EntityNum.fromLong(num), MerkleAccountFactory.newAccount()
+				.isSmartContract(true)
+				.expirationTime(expiry)
+				.get());
+	}
+}
@@ -39,6 +39,7 @@ import com.hedera.test.extensions.LoggingSubject;
 import com.hedera.test.extensions.LoggingTarget;
 import com.hedera.test.factories.accounts.MerkleAccountFactory;
 import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.Timestamp;
 import com.hederahashgraph.api.proto.java.TokenID;
 import com.swirlds.common.Address;
 import com.swirlds.common.AddressBook;
@@ -54,11 +55,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -74,6 +78,7 @@ import static com.hedera.test.utils.IdUtils.asAccount;
 import static com.hedera.test.utils.IdUtils.asToken;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -83,6 +88,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(LogCaptureExtension.class)
 class SignedStateBalancesExporterTest {
@@ -112,7 +118,6 @@ class SignedStateBalancesExporterTest {
 	private static final TokenID theMissingToken = asToken("0.0.1006");
 
 	private static final byte[] sig = "not-really-a-sig".getBytes();
-	private static final byte[] fileHash = "not-really-a-hash".getBytes();
 
 	private MerkleAccount thisNodeAccount, anotherNodeAccount, firstNonNodeAccount, secondNonNodeAccount,
 			deletedAccount;
@@ -125,7 +130,6 @@ class SignedStateBalancesExporterTest {
 	private PropertySource properties;
 	private UnaryOperator<byte[]> signer;
 	private SigFileWriter sigFileWriter;
-	private FileHashReader hashReader;
 	private DirectoryAssurance assurance;
 	private SystemExits systemExits;
 
@@ -191,16 +195,14 @@ class SignedStateBalancesExporterTest {
 		given(state.addressBook()).willReturn(book);
 
 		signer = mock(UnaryOperator.class);
-		given(signer.apply(fileHash)).willReturn(sig);
+		given(signer.apply(any())).willReturn(sig);
 
 		systemExits = mock(SystemExits.class);
 
 		subject = new SignedStateBalancesExporter(systemExits, properties, signer, dynamicProperties);
 
 		sigFileWriter = mock(SigFileWriter.class);
-		hashReader = mock(FileHashReader.class);
 		subject.sigFileWriter = sigFileWriter;
-		subject.hashReader = hashReader;
 	}
 
 	@Test
@@ -219,10 +221,20 @@ class SignedStateBalancesExporterTest {
 		assertThat(logCaptor.errorLogs(), contains(Matchers.startsWith("Could not export to")));
 	}
 
+	@Test
+	void removesPartiallyWrittenFileOnIoException() {
+		given(state.addressBook()).willThrow(new UncheckedIOException(new IOException("No more disk")));
+
+		subject.exportBalancesFrom(state, now, nodeId);
+
+		assertThat(logCaptor.errorLogs(), contains(Matchers.startsWith("Could not export to")));
+		assertFalse(new File(expectedExportLoc()).exists());
+	}
+
 	@Test
 	void logsOnSigningFailure() {
 		final var loc = expectedExportLoc();
-		given(hashReader.readHash(loc)).willThrow(IllegalStateException.class);
+		given(signer.apply(any())).willThrow(IllegalStateException.class);
 
 		subject.exportBalancesFrom(state, now, nodeId);
 
@@ -232,11 +244,10 @@ class SignedStateBalancesExporterTest {
 	}
 
 	@Test
-	void testExportingTokenBalancesProto() {
+	void testExportingTokenBalancesProto() throws Exception {
 		final var captor = ArgumentCaptor.forClass(String.class);
 		final var loc = expectedExportLoc();
 		final var desiredDebugMsg = "Created balance signature file " + "'" + loc + "_sig'.";
-		given(hashReader.readHash(loc)).willReturn(fileHash);
 		given(sigFileWriter.writeSigFile(captor.capture(), any(), any())).willReturn(loc + "_sig");
 
 		subject.exportBalancesFrom(state, now, nodeId);
@@ -255,7 +266,7 @@ class SignedStateBalancesExporterTest {
 			}
 		}
 
-		verify(sigFileWriter).writeSigFile(loc, sig, fileHash);
+		verify(sigFileWriter).writeSigFile(loc, sig, sha384Of(loc));
 		assertThat(logCaptor.debugLogs(), contains(desiredDebugMsg));
 
 		new File(loc).delete();
@@ -321,17 +332,52 @@ class SignedStateBalancesExporterTest {
 	}
 
 	@Test
-	void summarizesAsExpected() {
+	void summarizesAsExpected() throws IOException {
 		final var expectedBalances = theExpectedBalances();
 		final var desiredWarning = "Node '0.0.4' has unacceptably low balance " + anotherNodeBalance + "!";
 
-		final var summary = subject.summarized(state);
+		final var out = new ByteArrayOutputStream();
+
+		final var totalFloat = subject.streamTo(out, state, now);
+		final var exported = AllAccountBalances.parseFrom(out.toByteArray());
 
-		assertEquals(ledgerFloat, summary.totalFloat().longValue());
-		assertEquals(expectedBalances, summary.orderedBalances());
+		assertEquals(ledgerFloat, totalFloat.longValue());
+		assertEquals(expectedBalances, exported.getAllAccountsList());
+		assertEquals(now.getEpochSecond(), exported.getConsensusTimestamp().getSeconds());
+		assertEquals(now.getNano(), exported.getConsensusTimestamp().getNanos());
 		assertThat(logCaptor.warnLogs(), contains(desiredWarning));
 	}
 
+	@Test
+	void streamsChunksInAccountOrder() throws IOException {
+		final var expectedBalances = theExpectedBalances();
+		final var out = new ByteArrayOutputStream();
+		subject.accountsPerChunk = 1;
+
+		final var totalFloat = subject.streamTo(out, state, now);
+		final var exported = AllAccountBalances.parseFrom(out.toByteArray());
+
+		assertEquals(ledgerFloat, totalFloat.longValue());
+		assertEquals(expectedBalances, exported.getAllAccountsList());
+	}
+
+	@Test
+	void streamsSameBytesAsInMemoryProto() throws IOException {
+		final var expected = AllAccountBalances.newBuilder()
+				.setConsensusTimestamp(Timestamp.newBuilder()
+						.setSeconds(now.getEpochSecond())
+						.setNanos(now.getNano()))
+				.addAllAllAccounts(theExpectedBalances())
+				.build()
+				.toByteArray();
+		final var out = new ByteArrayOutputStream();
+		subject.accountsPerChunk = 3;
+
+		subject.streamTo(out, state, now);
+
+		assertArrayEquals(expected, out.toByteArray());
+	}
+
 	private List<SingleAccountBalances> theExpectedBalances() {
 		final var singleAcctBuilder = SingleAccountBalances.newBuilder();
 		final var thisNode = singleAcctBuilder
@@ -386,6 +432,8 @@ class SignedStateBalancesExporterTest {
 		// then:
 		assertThat(logCaptor.errorLogs(), contains(Matchers.endsWith(desiredSuffix)));
 		verify(systemExits).fail(1);
+		assertFalse(new File(expectedExportLoc()).exists());
+		verifyNoInteractions(signer);
 	}
 
 	@Test
@@ -455,6 +503,10 @@ class SignedStateBalancesExporterTest {
 				.forEach(File::delete);
 	}
 
+	private static byte[] sha384Of(final String loc) throws Exception {
+		return MessageDigest.getInstance("SHA-384").digest(Files.readAllBytes(Path.of(loc)));
+	}
+
 	static Optional<AllAccountBalances> importBalanceProtoFile(final String protoLoc) {
 		try {
 			final var fin = new FileInputStream(protoLoc);
@@ -0,0 +1,114 @@
+package com.hedera.services.state.initialization;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.merkle.MerkleToken;
+import com.hedera.services.utils.EntityNum;
+import com.swirlds.merkle.map.MerkleMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ViewsRebuildTest {
+	private final MerkleMap<EntityNum, MerkleAccount> accounts = new MerkleMap<>();
+	private final MerkleMap<EntityNum, MerkleToken> tokens = new MerkleMap<>();
+
+	private ViewsRebuild subject;
+
+	@BeforeEach
+	void setUp() {
+		for (long i = 1001L; i < 1101L; i++) {
+			accounts.put(EntityNum.fromLong(i), new MerkleAccount());
+		}
+		for (long i = 2001L; i < 2011L; i++) {
+			tokens.put(EntityNum.fromLong(i), new MerkleToken());
+		}
+
+		subject = new ViewsRebuild();
+	}
+
+	@Test
+	void sharesOneTraversalPerMap() {
+		// when:
+		subject.of("accounts", accounts, new RecordingBuilder<>())
+				.of("accounts", accounts, new RecordingBuilder<>())
+				.of("tokens", tokens, new RecordingBuilder<>());
+
+		// then:
+		assertEquals(2, subject.numTraversals());
+	}
+
+	@Test
+	void buildsSameViewsAsDedicatedTraversals() {
+		// setup:
+		final var expectedAccounts = new RecordingBuilder<EntityNum, MerkleAccount>();
+		final var expectedTokens = new RecordingBuilder<EntityNum, MerkleToken>();
+		ViewBuilder.rebuild(accounts, expectedAccounts);
+		ViewBuilder.rebuild(tokens, expectedTokens);
+		// and:
+		final var firstAccounts = new RecordingBuilder<EntityNum, MerkleAccount>();
+		final var secondAccounts = new RecordingBuilder<EntityNum, MerkleAccount>();
+		final var onlyTokens = new RecordingBuilder<EntityNum, MerkleToken>();
+
+		// when:
+		subject.of("accounts", accounts, firstAccounts)
+				.of("tokens", tokens, onlyTokens)
+				.of("accounts", accounts, secondAccounts)
+				.run();
+
+		// then:
+		assertEquals(102, expectedAccounts.events.size());
+		assertEquals(expectedAccounts.events, firstAccounts.events);
+		assertEquals(expectedAccounts.events, secondAccounts.events);
+		assertEquals(expectedTokens.events, onlyTokens.events);
+	}
+
+	@Test
+	void runsNothingWithoutBuilders() {
+		// expect:
+		subject.run();
+		assertEquals(0, subject.numTraversals());
+	}
+
+	private static class RecordingBuilder<K, V> implements ViewBuilder<K, V> {
+		private final List<Object> events = new ArrayList<>();
+
+		@Override
+		public void start() {
+			events.add("start");
+		}
+
+		@Override
+		public void visit(final K key, final V value) {
+			events.add(key);
+		}
+
+		@Override
+		public void finish() {
+			events.add("finish");
+		}
+	}
+}
@@ -25,6 +25,7 @@ import com.hedera.services.ledger.HederaLedger;
 import com.hedera.services.ledger.SigImpactHistorian;
 import com.hedera.services.records.AccountRecordsHistorian;
 import com.hedera.services.records.RecordCache;
+import com.hedera.services.stats.HandlePhaseTracker;
 import com.hedera.services.utils.TxnAccessor;
 import com.hedera.test.extensions.LogCaptor;
 import com.hedera.test.extensions.LogCaptureExtension;
@@ -44,6 +45,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
 
+import static com.hedera.services.stats.HandlePhase.LEDGER_COMMIT;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -52,6 +55,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith({ MockitoExtension.class, LogCaptureExtension.class })
 class ServicesTxnManagerTest {
@@ -77,6 +81,8 @@ class ServicesTxnManagerTest {
 	private AccountRecordsHistorian recordsHistorian;
 	@Mock
 	private SigImpactHistorian sigImpactHistorian;
+	@Mock
+	private HandlePhaseTracker phaseTracker;
 
 	@LoggingTarget
 	private LogCaptor logCaptor;
@@ -87,7 +93,7 @@ class ServicesTxnManagerTest {
 	void setup() {
 		subject = new ServicesTxnManager(
 				processLogic, recordStreaming, triggeredProcessLogic, recordCache,
-				ledger, txnCtx, sigImpactHistorian, recordsHistorian);
+				ledger, txnCtx, sigImpactHistorian, recordsHistorian, phaseTracker);
 	}
 
 	@Test
@@ -95,6 +101,9 @@ class ServicesTxnManagerTest {
 		// setup:
 		InOrder inOrder = inOrder(ledger, txnCtx, processLogic, recordStreaming, recordsHistorian, sigImpactHistorian);
 
+		given(accessor.getFunction()).willReturn(CryptoTransfer);
+		given(phaseTracker.start()).willReturn(1L);
+
 		// when:
 		subject.process(accessor, consensusTime, submittingMember);
 
@@ -106,6 +115,8 @@ class ServicesTxnManagerTest {
 		inOrder.verify(processLogic).run();
 		inOrder.verify(ledger).commit();
 		inOrder.verify(recordStreaming).run();
+		// and:
+		verify(phaseTracker).stop(CryptoTransfer, LEDGER_COMMIT, 1L);
 	}
 
 	@Test
@@ -27,6 +27,7 @@ import com.hedera.services.ledger.SigImpactHistorian;
 import com.hedera.services.state.expiry.EntityAutoRenewal;
 import com.hedera.services.state.expiry.ExpiryManager;
 import com.hedera.services.stats.ExecutionTimeTracker;
+import com.hedera.services.stats.HandlePhaseTracker;
 import com.hedera.services.txns.span.ExpandHandleSpan;
 import com.hedera.services.utils.PlatformTxnAccessor;
 import com.hedera.services.utils.TxnAccessor;
@@ -45,8 +46,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
 
+import static com.hedera.services.stats.HandlePhase.ACCESSOR_LOOKUP;
+import static com.hedera.services.stats.HandlePhase.AUTO_RENEWAL;
+import static com.hedera.services.stats.HandlePhase.EXPIRY_PURGE;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.verify;
@@ -84,6 +91,8 @@ class StandardProcessLogicTest {
 	private GlobalDynamicProperties dynamicProperties;
 	@Mock
 	private SigImpactHistorian sigImpactHistorian;
+	@Mock
+	private HandlePhaseTracker phaseTracker;
 
 	@LoggingTarget
 	private LogCaptor logCaptor;
@@ -95,13 +104,15 @@ class StandardProcessLogicTest {
 		subject = new StandardProcessLogic(
 				expiries, invariantChecks,
 				expandHandleSpan, autoRenewal, txnManager,
-				sigImpactHistorian, txnCtx, executionTimeTracker, dynamicProperties);
+				sigImpactHistorian, txnCtx, executionTimeTracker, dynamicProperties, phaseTracker);
 	}
 
 	@Test
 	void happyPathFlowsForNonTriggered() throws InvalidProtocolBufferException {
-		final InOrder inOrder = inOrder(expiries, executionTimeTracker, txnManager, autoRenewal, sigImpactHistorian);
+		final InOrder inOrder = inOrder(
+				expiries, executionTimeTracker, txnManager, autoRenewal, sigImpactHistorian, phaseTracker);
 
+		given(accessor.getFunction()).willReturn(CryptoTransfer);
 		given(expandHandleSpan.accessorFor(swirldTransaction)).willReturn(accessor);
 		given(invariantChecks.holdFor(accessor, consensusNow, member)).willReturn(true);
 
@@ -109,13 +120,16 @@ class StandardProcessLogicTest {
 		subject.incorporateConsensusTxn(swirldTransaction, consensusNow, member);
 
 		// then:
+		inOrder.verify(phaseTracker).stop(eq(CryptoTransfer), eq(ACCESSOR_LOOKUP), anyLong());
 		inOrder.verify(sigImpactHistorian).setChangeTime(consensusNow);
 		inOrder.verify(expiries).purge(consensusNow.getEpochSecond());
+		inOrder.verify(phaseTracker).stop(eq(CryptoTransfer), eq(EXPIRY_PURGE), anyLong());
 		inOrder.verify(sigImpactHistorian).purge();
 		inOrder.verify(executionTimeTracker).start();
 		inOrder.verify(txnManager).process(accessor, consensusNow, member);
 		inOrder.verify(executionTimeTracker).stop();
 		inOrder.verify(autoRenewal).execute(consensusNow);
+		inOrder.verify(phaseTracker).stop(eq(CryptoTransfer), eq(AUTO_RENEWAL), anyLong());
 	}
 
 	@Test
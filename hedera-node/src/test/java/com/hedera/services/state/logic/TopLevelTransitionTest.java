@@ -22,6 +22,7 @@ package com.hedera.services.state.logic;
 
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.fees.charging.TxnChargingPolicyAgent;
+import com.hedera.services.stats.HandlePhaseTracker;
 import com.hedera.services.utils.TxnAccessor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -33,7 +34,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
 
+import static com.hedera.services.stats.HandlePhase.FEE_CHARGING;
+import static com.hedera.services.stats.HandlePhase.SIG_RATIONALIZATION;
+import static com.hedera.services.stats.HandlePhase.TRANSITION;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -56,6 +64,8 @@ class TopLevelTransitionTest {
 	private SignatureScreen signatureScreen;
 	@Mock
 	private KeyActivationScreen keyActivationScreen;
+	@Mock
+	private HandlePhaseTracker phaseTracker;
 
 	private TopLevelTransition subject;
 
@@ -67,7 +77,8 @@ class TopLevelTransitionTest {
 				txnCtx,
 				signatureScreen,
 				chargingPolicyAgent,
-				keyActivationScreen);
+				keyActivationScreen,
+				phaseTracker);
 	}
 
 	@Test
@@ -77,6 +88,10 @@ class TopLevelTransitionTest {
 
 		given(txnCtx.accessor()).willReturn(accessor);
 		given(txnCtx.consensusTime()).willReturn(consensusNow);
+		given(accessor.getFunction()).willReturn(CryptoTransfer);
+		given(phaseTracker.start()).willReturn(1L);
+		given(phaseTracker.stop(CryptoTransfer, SIG_RATIONALIZATION, 1L)).willReturn(2L);
+		given(phaseTracker.stop(CryptoTransfer, FEE_CHARGING, 2L)).willReturn(3L);
 		given(signatureScreen.applyTo(accessor)).willReturn(OK);
 		given(chargingPolicyAgent.applyPolicyFor(accessor)).willReturn(true);
 		given(keyActivationScreen.reqKeysAreActiveGiven(OK)).willReturn(true);
@@ -90,6 +105,8 @@ class TopLevelTransitionTest {
 		inOrder.verify(chargingPolicyAgent).applyPolicyFor(accessor);
 		inOrder.verify(keyActivationScreen).reqKeysAreActiveGiven(OK);
 		verify(screenedTransition).finishFor(accessor);
+		// and:
+		verify(phaseTracker).stop(CryptoTransfer, TRANSITION, 3L);
 	}
 
 	@Test
@@ -103,6 +120,8 @@ class TopLevelTransitionTest {
 
 		// then:
 		verify(screenedTransition, never()).finishFor(accessor);
+		verify(phaseTracker).stop(any(), eq(FEE_CHARGING), anyLong());
+		verify(phaseTracker, never()).stop(any(), eq(TRANSITION), anyLong());
 	}
 
 	@Test
@@ -26,6 +26,7 @@ import com.hedera.services.fees.FeeCalculator;
 import com.hedera.services.fees.charging.FeeChargingPolicy;
 import com.hedera.services.legacy.core.jproto.JEd25519Key;
 import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.stats.HandlePhaseTracker;
 import com.hedera.services.utils.TxnAccessor;
 import com.hederahashgraph.fee.FeeObject;
 import org.junit.jupiter.api.BeforeEach;
@@ -62,13 +63,15 @@ class TriggeredTransitionTest {
 	private ScreenedTransition screenedTransition;
 	@Mock
 	private TransactionContext txnCtx;
+	@Mock
+	private HandlePhaseTracker phaseTracker;
 
 	private TriggeredTransition subject;
 
 	@BeforeEach
 	void setUp() {
 		subject = new TriggeredTransition(
-				currentView, fees, chargingPolicy, txnCtx, networkCtxManager, screenedTransition);
+				currentView, fees, chargingPolicy, txnCtx, networkCtxManager, screenedTransition, phaseTracker);
 	}
 
 	@Test
@@ -0,0 +1,125 @@
+package com.hedera.services.state.merkle.internals;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.TopicID;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.SplittableRandom;
+
+import static com.hedera.services.state.merkle.MerkleTopic.RUNNING_HASH_BYTE_ARRAY_SIZE;
+import static com.hedera.services.state.merkle.MerkleTopic.RUNNING_HASH_VERSION;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class TopicRunningHasherTest {
+	private final SplittableRandom r = new SplittableRandom(1_234_567L);
+
+	private TopicRunningHasher subject = new TopicRunningHasher();
+
+	@Test
+	void matchesObjectStreamEncodingAcrossManyMessages() throws Exception {
+		// setup:
+		var runningHash = new byte[RUNNING_HASH_BYTE_ARRAY_SIZE];
+
+		for (long seqNo = 1; seqNo <= 1_000; seqNo++) {
+			// given:
+			final var payer = AccountID.newBuilder()
+					.setShardNum(r.nextLong())
+					.setRealmNum(r.nextLong())
+					.setAccountNum(r.nextLong())
+					.build();
+			final var topicId = TopicID.newBuilder()
+					.setShardNum(r.nextLong())
+					.setRealmNum(r.nextLong())
+					.setTopicNum(r.nextLong())
+					.build();
+			final var consensusTime = Instant.ofEpochSecond(r.nextLong(1L << 40), r.nextInt(1_000_000_000));
+			final var message = randomBytes(r.nextInt(1024));
+
+			// when:
+			final var expected = legacyRunningHash(runningHash, payer, topicId, consensusTime, seqNo, message);
+			final var actual = subject.nextRunningHash(runningHash, payer, topicId, consensusTime, seqNo, message);
+
+			// then:
+			assertArrayEquals(expected, actual);
+			runningHash = actual;
+		}
+	}
+
+	@Test
+	void matchesObjectStreamEncodingForUnusualPrevHashLengths() throws Exception {
+		// setup:
+		final var payer = AccountID.newBuilder().setAccountNum(2).build();
+		final var topicId = TopicID.newBuilder().setTopicNum(1001).build();
+		final var consensusTime = Instant.ofEpochSecond(1_234_567L, 890);
+		final var message = "Hello world!".getBytes();
+
+		for (final var len : new int[] { 0, 2, 47, 49, 200 }) {
+			// given:
+			final var prevHash = randomBytes(len);
+
+			// expect:
+			assertArrayEquals(
+					legacyRunningHash(prevHash, payer, topicId, consensusTime, 42L, message),
+					subject.nextRunningHash(prevHash, payer, topicId, consensusTime, 42L, message));
+		}
+	}
+
+	private byte[] randomBytes(final int n) {
+		final var bytes = new byte[n];
+		r.nextBytes(bytes);
+		return bytes;
+	}
+
+	private static byte[] legacyRunningHash(
+			final byte[] prevRunningHash,
+			final AccountID payer,
+			final TopicID topicId,
+			final Instant consensusTime,
+			final long sequenceNumber,
+			final byte[] message
+	) throws IOException, NoSuchAlgorithmException {
+		final var boas = new ByteArrayOutputStream();
+		try (var out = new ObjectOutputStream(boas)) {
+			out.writeObject(prevRunningHash);
+			out.writeLong(RUNNING_HASH_VERSION);
+			out.writeLong(payer.getShardNum());
+			out.writeLong(payer.getRealmNum());
+			out.writeLong(payer.getAccountNum());
+			out.writeLong(topicId.getShardNum());
+			out.writeLong(topicId.getRealmNum());
+			out.writeLong(topicId.getTopicNum());
+			out.writeLong(consensusTime.getEpochSecond());
+			out.writeInt(consensusTime.getNano());
+			out.writeLong(sequenceNumber);
+			out.writeObject(MessageDigest.getInstance("SHA-384").digest(message));
+			out.flush();
+		}
+		return MessageDigest.getInstance("SHA-384").digest(boas.toByteArray());
+	}
+}
@@ -36,6 +36,7 @@ import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.booleanThat;
 import static org.mockito.BDDMockito.given;
@@ -66,6 +67,8 @@ class TxnIdTest {
 		subject = scheduledSubject();
 		assertEquals(fcPayer, subject.getPayerAccount());
 		assertEquals(fcValidStart, subject.getValidStart());
+		assertTrue(subject.isScheduled());
+		assertEquals(nonce, subject.getNonce());
 	}
 
 	@Test
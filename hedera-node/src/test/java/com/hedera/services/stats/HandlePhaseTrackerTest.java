@@ -0,0 +1,140 @@
+package com.hedera.services.stats;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.context.properties.NodeLocalProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.hedera.services.stats.HandlePhase.FEE_CHARGING;
+import static com.hedera.services.stats.HandlePhase.LEDGER_COMMIT;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ConsensusSubmitMessage;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class HandlePhaseTrackerTest {
+	@Mock
+	private NodeLocalProperties nodeLocalProperties;
+
+	private HandlePhaseTracker subject;
+
+	@Test
+	void isNoopIfNotEnabled() throws IOException {
+		// given:
+		subject = new HandlePhaseTracker(nodeLocalProperties);
+		final var out = new StringBuilder();
+
+		// when:
+		final var start = subject.start();
+		final var end = subject.stop(CryptoTransfer, FEE_CHARGING, start);
+		subject.writeCsvTo(out);
+
+		// then:
+		assertTrue(subject.isShouldNoop());
+		assertEquals(0L, start);
+		assertEquals(0L, end);
+		assertEquals(HandlePhaseTracker.CSV_HEADER + "\n", out.toString());
+	}
+
+	@Test
+	void recordsPerFunctionAndPhase() {
+		givenEnabledSubject();
+
+		// when:
+		final var start = subject.start();
+		final var end = subject.stop(CryptoTransfer, FEE_CHARGING, start);
+		subject.stop(CryptoTransfer, LEDGER_COMMIT, end);
+		subject.stop(CryptoTransfer, LEDGER_COMMIT, end);
+
+		// then:
+		assertFalse(subject.isShouldNoop());
+		assertTrue(end >= start);
+		assertEquals(1, subject.histogramFor(CryptoTransfer, FEE_CHARGING).count());
+		assertEquals(2, subject.histogramFor(CryptoTransfer, LEDGER_COMMIT).count());
+		assertEquals(0, subject.histogramFor(ConsensusSubmitMessage, LEDGER_COMMIT).count());
+		assertSame(
+				subject.histogramFor(CryptoTransfer, LEDGER_COMMIT),
+				subject.histogramFor(CryptoTransfer, LEDGER_COMMIT));
+	}
+
+	@Test
+	void writesOnlyRecordedHistograms() throws IOException {
+		givenEnabledSubject();
+		final var out = new StringBuilder();
+		subject.histogramFor(CryptoTransfer, FEE_CHARGING).record(1_000L);
+		subject.histogramFor(ConsensusSubmitMessage, LEDGER_COMMIT);
+
+		// when:
+		subject.writeCsvTo(out);
+
+		// then:
+		final var lines = out.toString().split("\n");
+		assertEquals(2, lines.length);
+		assertEquals(HandlePhaseTracker.CSV_HEADER, lines[0]);
+		assertEquals("CryptoTransfer,FEE_CHARGING,1,1000,1000,1000,1000,1000,1000", lines[1]);
+	}
+
+	@Test
+	void dumpsToFileReplacingAnyPrevious(@TempDir final Path dir) throws IOException {
+		givenEnabledSubject();
+		final var path = dir.resolve("stats").resolve("handlePhases3.csv");
+		subject.histogramFor(CryptoTransfer, FEE_CHARGING).record(10L);
+
+		// when:
+		subject.dumpTo(path);
+		subject.histogramFor(CryptoTransfer, LEDGER_COMMIT).record(20L);
+		subject.dumpTo(path);
+
+		// then:
+		final var lines = Files.readAllLines(path);
+		assertEquals(3, lines.size());
+		assertEquals("CryptoTransfer,FEE_CHARGING,1,10,10,10,10,10,10", lines.get(1));
+		assertEquals("CryptoTransfer,LEDGER_COMMIT,1,20,20,20,20,20,20", lines.get(2));
+		assertFalse(Files.exists(dir.resolve("stats").resolve("handlePhases3.csv.tmp")));
+	}
+
+	@Test
+	void survivesUnwritableDumpPath(@TempDir final Path dir) throws IOException {
+		givenEnabledSubject();
+		final var blocker = dir.resolve("blocker");
+		Files.writeString(blocker, "Not a directory");
+
+		// expect:
+		subject.dumpTo(blocker.resolve("handlePhases3.csv"));
+	}
+
+	private void givenEnabledSubject() {
+		given(nodeLocalProperties.isHandlePhaseTrackingEnabled()).willReturn(true);
+		subject = new HandlePhaseTracker(nodeLocalProperties);
+	}
+}
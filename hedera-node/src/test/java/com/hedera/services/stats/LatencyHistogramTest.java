@@ -0,0 +1,107 @@
+package com.hedera.services.stats;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+	private LatencyHistogram subject = new LatencyHistogram();
+
+	@Test
+	void isEmptyAtFirst() {
+		// expect:
+		assertEquals(0, subject.count());
+		assertEquals(0, subject.meanNanos());
+		assertEquals(0, subject.maxNanos());
+		assertEquals(0, subject.valueAtPercentile(50.0));
+	}
+
+	@Test
+	void bucketsAreContiguousAndBoundedByHighestEquivalent() {
+		// expect:
+		for (int bucket = 0; bucket < LatencyHistogram.NUM_BUCKETS - 1; bucket++) {
+			final var highest = LatencyHistogram.highestEquivalentTo(bucket);
+			assertEquals(bucket, LatencyHistogram.bucketFor(highest));
+			assertEquals(bucket + 1, LatencyHistogram.bucketFor(highest + 1));
+		}
+		assertEquals(
+				LatencyHistogram.MAX_TRACKABLE_NANOS,
+				LatencyHistogram.highestEquivalentTo(LatencyHistogram.NUM_BUCKETS - 1));
+	}
+
+	@Test
+	void smallValuesAreExact() {
+		// expect:
+		for (long value = 0; value < 32; value++) {
+			assertEquals(value, LatencyHistogram.highestEquivalentTo(LatencyHistogram.bucketFor(value)));
+		}
+	}
+
+	@Test
+	void largeValuesAreWithinSixPercent() {
+		// given:
+		final long[] values = { 33L, 1_000L, 123_456L, 7_654_321L, 999_999_999L, 3_600_000_000_000L };
+
+		// expect:
+		for (final var value : values) {
+			final var highest = LatencyHistogram.highestEquivalentTo(LatencyHistogram.bucketFor(value));
+			assertTrue(highest >= value);
+			assertTrue(highest - value <= value / 16, "Bucket of " + value + " ends at " + highest);
+		}
+	}
+
+	@Test
+	void summarizesRecordedValues() {
+		// given:
+		for (long value = 1; value <= 1_000; value++) {
+			subject.record(value * 1_000L);
+		}
+
+		// expect:
+		assertEquals(1_000, subject.count());
+		assertEquals(500_500_000L, subject.totalNanos());
+		assertEquals(500_500L, subject.meanNanos());
+		assertEquals(1_000_000L, subject.maxNanos());
+		assertWithinSixPercent(500_000L, subject.valueAtPercentile(50.0));
+		assertWithinSixPercent(990_000L, subject.valueAtPercentile(99.0));
+		assertEquals(1_000_000L, subject.valueAtPercentile(100.0));
+	}
+
+	@Test
+	void clampsOutOfRangeValues() {
+		// when:
+		subject.record(-1L);
+		subject.record(Long.MAX_VALUE);
+
+		// then:
+		assertEquals(2, subject.count());
+		assertEquals(0L, subject.valueAtPercentile(50.0));
+		assertEquals(Long.MAX_VALUE, subject.maxNanos());
+		assertEquals(LatencyHistogram.MAX_TRACKABLE_NANOS, subject.valueAtPercentile(100.0));
+	}
+
+	private static void assertWithinSixPercent(final long expected, final long actual) {
+		assertTrue(actual >= expected && actual - expected <= expected / 16, "Expected ~" + expected + ", got " + actual);
+	}
+}
@@ -76,6 +76,14 @@ class MiscRunningAvgsTest {
 		verify(platform).addAppStatEntry(waitMs);
 		verify(platform).addAppStatEntry(queueSizes);
 		verify(platform).addAppStatEntry(submitSizes);
+		verify(factory).from(
+				argThat(MiscRunningAvgs.Names.TXN_HANDLER_QUEUE_DEPTH::equals),
+				argThat(MiscRunningAvgs.Descriptions.TXN_HANDLER_QUEUE_DEPTH::equals),
+				argThat(subject.txnHandlerQueueDepth::equals));
+		verify(factory).from(
+				argThat(MiscRunningAvgs.Names.QUERY_HANDLER_WAIT_MS::equals),
+				argThat(MiscRunningAvgs.Descriptions.QUERY_HANDLER_WAIT_MS::equals),
+				argThat(subject.queryHandlerWaitMs::equals));
 	}
 
 	@Test
@@ -90,17 +98,33 @@ class MiscRunningAvgsTest {
 		subject.handledSubmitMessageSize = submitSizes;
 		subject.writeQueueSizeRecordStream = queueSize;
 		subject.hashQueueSizeRecordStream = hashS;
+		final var txnDepth = mock(StatsRunningAverage.class);
+		final var txnWait = mock(StatsRunningAverage.class);
+		final var queryDepth = mock(StatsRunningAverage.class);
+		final var queryWait = mock(StatsRunningAverage.class);
+		subject.txnHandlerQueueDepth = txnDepth;
+		subject.txnHandlerWaitMs = txnWait;
+		subject.queryHandlerQueueDepth = queryDepth;
+		subject.queryHandlerWaitMs = queryWait;
 
 		subject.recordAccountLookupRetries(1);
 		subject.recordAccountRetryWaitMs(2.0);
 		subject.recordHandledSubmitMessageSize(3);
 		subject.writeQueueSizeRecordStream(4);
 		subject.hashQueueSizeRecordStream(5);
+		subject.recordTxnHandlerQueueDepth(6);
+		subject.recordTxnHandlerWaitMs(7.0);
+		subject.recordQueryHandlerQueueDepth(8);
+		subject.recordQueryHandlerWaitMs(9.0);
 
 		verify(retries).recordValue(1.0);
 		verify(waitMs).recordValue(2.0);
 		verify(submitSizes).recordValue(3.0);
 		verify(queueSize).recordValue(4.0);
 		verify(hashS).recordValue(5);
+		verify(txnDepth).recordValue(6.0);
+		verify(txnWait).recordValue(7.0);
+		verify(queryDepth).recordValue(8.0);
+		verify(queryWait).recordValue(9.0);
 	}
 }
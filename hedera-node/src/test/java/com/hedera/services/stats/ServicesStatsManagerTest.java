@@ -30,8 +30,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.nio.file.Paths;
 import java.util.function.Function;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.verify;
@@ -49,6 +51,7 @@ class ServicesStatsManagerTest {
 	MiscSpeedometers miscSpeedometers;
 	HapiOpSpeedometers speedometers;
 	NodeLocalProperties properties;
+	HandlePhaseTracker handlePhaseTracker;
 
 	ServicesStatsManager subject;
 
@@ -69,7 +72,10 @@ class ServicesStatsManagerTest {
 		properties = mock(NodeLocalProperties.class);
 		given(properties.statsHapiOpsSpeedometerUpdateIntervalMs()).willReturn(updateIntervalMs);
 
-		subject = new ServicesStatsManager(counters, runningAvgs, miscSpeedometers, speedometers, properties);
+		handlePhaseTracker = mock(HandlePhaseTracker.class);
+
+		subject = new ServicesStatsManager(
+				counters, runningAvgs, miscSpeedometers, speedometers, properties, handlePhaseTracker);
 	}
 
 
@@ -109,5 +115,33 @@ class ServicesStatsManagerTest {
 		// then:
 		verify(pause).forMs(updateIntervalMs);
 		verify(speedometers).updateAll();
+		verify(threads).apply(any());
+	}
+
+	@Test
+	void startsHandlePhaseDumpsIfEnabled() {
+		// setup:
+		final long dumpIntervalMs = 5_678L;
+		Thread updateThread = mock(Thread.class);
+		Thread dumpThread = mock(Thread.class);
+		ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+
+		given(properties.isHandlePhaseTrackingEnabled()).willReturn(true);
+		given(properties.handlePhasesDumpIntervalMs()).willReturn(dumpIntervalMs);
+		given(properties.handlePhasesDumpDir()).willReturn("data/stats");
+		given(pause.forMs(anyLong())).willReturn(true);
+		given(threads.apply(captor.capture())).willReturn(updateThread, dumpThread);
+
+		// when:
+		subject.initializeFor(platform);
+
+		// then:
+		verify(dumpThread).start();
+		verify(dumpThread).setName(String.format(ServicesStatsManager.HANDLE_PHASES_DUMP_THREAD_NAME_TPL, 123L));
+		// and when:
+		captor.getAllValues().get(1).run();
+		// then:
+		verify(pause).forMs(dumpIntervalMs);
+		verify(handlePhaseTracker).dumpTo(Paths.get("data/stats", "handlePhases123.csv"));
 	}
 }
@@ -24,6 +24,7 @@ package com.hedera.services.store.contracts;
  */
 
 import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.contracts.execution.CodeCache;
 import com.hedera.services.exceptions.InvalidTransactionException;
 import com.hedera.services.ledger.HederaLedger;
 import com.hedera.services.ledger.accounts.HederaAccountCustomizer;
@@ -45,6 +46,7 @@ import org.ethereum.db.ServicesRepositoryRoot;
 import org.hyperledger.besu.datatypes.Address;
 import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.datatypes.Wei;
+import org.hyperledger.besu.evm.Code;
 import org.hyperledger.besu.evm.Gas;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -63,7 +65,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentCaptor.forClass;
@@ -73,6 +77,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -87,6 +92,8 @@ class HederaWorldStateTest {
 	private GlobalDynamicProperties globalDynamicProperties;
 	@Mock
 	private ContractDetails contractDetails;
+	@Mock
+	private CodeCache codeCache;
 
 	final long balance = 1_234L;
 	final Id sponsor = new Id(0, 0, 1);
@@ -97,7 +104,7 @@ class HederaWorldStateTest {
 
 	@BeforeEach
 	void setUp() {
-		subject = new HederaWorldState(ids, ledger, repositoryRoot, globalDynamicProperties);
+		subject = new HederaWorldState(ids, ledger, repositoryRoot, globalDynamicProperties, codeCache);
 	}
 
 	@Test
@@ -273,8 +280,12 @@ class HederaWorldStateTest {
 				Bytes.fromHexString("0x0000000000000000000000000000000000000000000000000000000000000000"),
 				acc.getOriginalStorageValue(UInt256.ONE)
 		);
+		assertEquals(UInt256.ZERO, acc.getStorageValue(UInt256.ONE));
 		assertThrows(UnsupportedOperationException.class,
 				() -> acc.storageEntriesFrom(null, 10));
+		// and:
+		verify(repositoryRoot).getCode(Address.RIPEMD160.toArray());
+		verify(contractDetails).get(any());
 
 	}
 
@@ -292,6 +303,7 @@ class HederaWorldStateTest {
 		actualSubject.deleteAccount(Address.ZERO);
 		actualSubject.commit();
 		verify(repositoryRoot).setDeleted(any(), anyBoolean());
+		verify(codeCache).invalidate(Address.ZERO);
 
 		actualSubject.sponsorMap.put(Address.ZERO, mockedZeroAcc);
 		actualSubject.revert();
@@ -328,6 +340,35 @@ class HederaWorldStateTest {
 		verify(repositoryRoot).getAccountState(zeroAddressBytes);
 	}
 
+	@Test
+	void updaterReadsEachAccountOncePerTransaction() {
+		// given:
+		final var zeroAddressBytes = Address.ZERO.toArray();
+		final var accountState = new AccountState(BigInteger.ZERO, BigInteger.valueOf(balance));
+		final var updater = subject.updater();
+		// and:
+		given(repositoryRoot.isExist(zeroAddressBytes)).willReturn(true);
+		given(repositoryRoot.getAccountState(zeroAddressBytes)).willReturn(accountState);
+		given(repositoryRoot.isExist(Address.ECREC.toArray())).willReturn(false);
+
+		// when:
+		final var first = updater.getHederaAccount(Address.ZERO);
+		final var second = updater.get(Address.ZERO);
+		// and:
+		final var missing = updater.get(Address.ECREC);
+		final var stillMissing = updater.getHederaAccount(Address.ECREC);
+
+		// then:
+		assertSame(first, second);
+		assertNull(missing);
+		assertNull(stillMissing);
+		// and:
+		verify(repositoryRoot).getAccountState(zeroAddressBytes);
+		verify(repositoryRoot).isExist(Address.ECREC.toArray());
+		// and:
+		assertNotSame(first, subject.updater().getHederaAccount(Address.ZERO));
+	}
+
 	@Test
 	void updaterAllocatesNewAddress() {
 		// given:
@@ -359,6 +400,8 @@ class HederaWorldStateTest {
 		given(repositoryRoot.isExist(contractBytes)).willReturn(false);
 		given(repositoryRoot.getBalance(contractBytes)).willReturn(BigInteger.ZERO);
 		given(repositoryRoot.getContractDetails(contractBytes)).willReturn(contractDetails);
+		given(repositoryRoot.flushStorageCacheIfTotalSizeLessThan(1)).willReturn(true);
+		given(globalDynamicProperties.maxContractStorageKb()).willReturn(1);
 
 		// when:
 		actualSubject.commit();
@@ -368,12 +411,40 @@ class HederaWorldStateTest {
 		verify(repositoryRoot).delete(contractBytes);
 		verify(repositoryRoot).createAccount(contractBytes);
 		verify(repositoryRoot).getBalance(contractBytes);
+		verify(repositoryRoot, never()).getContractDetails(any());
+
+		// and when:
+		subject.persist();
+
+		// then:
 		verify(repositoryRoot).getContractDetails(contractBytes);
 		// and:
 		verify(contractDetails).put(DWUtil.fromUInt256(storageKey), DWUtil.fromUInt256(storageValue));
 		verify(contractDetails).put(DWUtil.fromUInt256(secondStorageKey), DWUtil.fromUInt256(secondStorageValue));
 		// and:
 		verify(repositoryRoot).saveCode(contractBytes, code.toArray());
+		verify(codeCache, times(2)).invalidate(contract.asEvmAddress());
+		verify(codeCache).cacheDeployed(contract.asEvmAddress(), code);
+	}
+
+	@Test
+	void worldStateAccountUsesCachedCode() {
+		// setup:
+		final var accState = mock(AccountState.class);
+		given(accState.getBalance()).willReturn(BigInteger.valueOf(balance));
+		given(repositoryRoot.isExist(any())).willReturn(true);
+		given(repositoryRoot.getAccountState(Address.RIPEMD160.toArray())).willReturn(accState);
+		// and:
+		final var cachedCode = new Code(code, Hash.hash(code));
+		given(codeCache.getIfCached(Address.RIPEMD160)).willReturn(cachedCode);
+
+		// when:
+		final var acc = subject.get(Address.RIPEMD160);
+
+		// then:
+		assertSame(code, acc.getCode());
+		assertSame(cachedCode.getCodeHash(), acc.getCodeHash());
+		verify(repositoryRoot, never()).getCode(any());
 	}
 
 	@Test
@@ -417,4 +488,28 @@ class HederaWorldStateTest {
 		verify(repositoryRoot).emptyStorageCache();
 		verify(repositoryRoot).flush();
 	}
-}
\ No newline at end of file
+
+	@Test
+	void discardsCodeChangesBeyondMaxStorage() {
+		// given:
+		final var actualSubject = subject.updater();
+		final var evmAccount = actualSubject.createAccount(contract.asEvmAddress(), 0, Wei.of(balance));
+		evmAccount.getMutable().setStorageValue(UInt256.ONE, UInt256.ONE);
+		evmAccount.getMutable().setCode(code);
+		// and:
+		final var contractBytes = contract.asEvmAddress().toArray();
+		given(repositoryRoot.isExist(contractBytes)).willReturn(false);
+		given(repositoryRoot.getBalance(contractBytes)).willReturn(BigInteger.ZERO);
+		given(repositoryRoot.getContractDetails(contractBytes)).willReturn(contractDetails);
+		given(globalDynamicProperties.maxContractStorageKb()).willReturn(0);
+
+		// when:
+		actualSubject.commit();
+
+		// then:
+		assertFailsWith(() -> subject.persist(), ResponseCodeEnum.MAX_CONTRACT_STORAGE_EXCEEDED);
+		verify(repositoryRoot).emptyStorageCache();
+		verify(codeCache, times(2)).invalidate(contract.asEvmAddress());
+		verify(codeCache, never()).cacheDeployed(any(), any());
+	}
+}
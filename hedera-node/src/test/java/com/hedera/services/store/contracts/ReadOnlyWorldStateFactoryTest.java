@@ -0,0 +1,125 @@
+package com.hedera.services.store.contracts;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.contracts.execution.CodeCache;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.store.models.Id;
+import com.hedera.services.utils.EntityNum;
+import com.swirlds.merkle.map.MerkleMap;
+import org.hyperledger.besu.datatypes.Address;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static com.hedera.test.factories.accounts.MerkleAccountFactory.newContract;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ReadOnlyWorldStateFactoryTest {
+	private static final Instant now = Instant.ofEpochSecond(1_234_567L);
+	private static final EntityNum contractNum = EntityNum.fromLong(1001L);
+	private static final Address contract = new Id(0, 0, 1001L).asEvmAddress();
+
+	@Mock
+	private CodeCache codeCache;
+	@Mock
+	private GlobalDynamicProperties dynamicProperties;
+	@Mock
+	private StateView view;
+	@Mock
+	private MerkleMap<EntityNum, MerkleAccount> accounts;
+	@Mock
+	private Map<byte[], byte[]> bytecode;
+	@Mock
+	private Map<byte[], byte[]> storage;
+
+	private ReadOnlyWorldStateFactory subject;
+
+	@BeforeEach
+	void setUp() {
+		subject = new ReadOnlyWorldStateFactory(codeCache, dynamicProperties);
+	}
+
+	@Test
+	void eachWorldStateReadsAccountsFromTheView() {
+		// given:
+		givenView();
+		given(accounts.get(contractNum)).willReturn(newContract()
+				.balance(1_000L)
+				.expirationTime(now.getEpochSecond() + 1)
+				.get());
+
+		// when:
+		final var first = subject.worldStateOver(view, now);
+		final var second = subject.worldStateOver(view, now);
+		// and:
+		final var account = first.get(contract);
+
+		// then:
+		assertNotSame(first, second);
+		assertEquals(1_000L, account.getBalance().toLong());
+	}
+
+	@Test
+	void worldStateSeesNoMissingAccount() {
+		// given:
+		givenView();
+
+		// when:
+		final var worldState = subject.worldStateOver(view, now);
+
+		// then:
+		assertNull(worldState.get(contract));
+	}
+
+	@Test
+	void worldStateCannotBePersistedOrCreateContracts() {
+		// given:
+		givenView();
+
+		// when:
+		final var worldState = subject.worldStateOver(view, now);
+
+		// then:
+		assertThrows(UnsupportedOperationException.class, worldState::persist);
+		assertThrows(UnsupportedOperationException.class, worldState::customizeSponsoredAccounts);
+		assertThrows(UnsupportedOperationException.class, () -> worldState.newContractAddress(contract));
+		assertThrows(UnsupportedOperationException.class, worldState::reclaimContractId);
+	}
+
+	private void givenView() {
+		given(view.accounts()).willReturn(accounts);
+		given(view.contractBytecode()).willReturn(bytecode);
+		given(view.contractStorage()).willReturn(storage);
+	}
+}
@@ -20,6 +20,7 @@ package com.hedera.services.store.tokens.views;
  * ‍
  */
 
+import com.hedera.services.state.initialization.ViewBuilder;
 import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleUniqueToken;
 import com.hedera.services.state.submerkle.EntityId;
@@ -446,6 +447,58 @@ class UniqTokenViewsManagerTest {
 		verifyNoMoreInteractions(nftsByOwner);
 	}
 
+	@Test
+	void treasuryTrackingViewsBuilderMatchesRebuild() throws ConstructableRegistryException {
+		setupTreasuryTrackingSubject();
+		givenRealNfts();
+
+		// when:
+		ViewBuilder.rebuild(realNfts, subject.viewsBuilder(realTokens));
+
+		// then:
+		verify(nftsByType).associate(EntityNum.fromLong(aTokenId.num()), aOneNftId.value());
+		verify(treasuryNftsByType).associate(EntityNum.fromLong(aTokenId.num()), aOneNftId.value());
+		// and:
+		verify(nftsByType).associate(EntityNum.fromLong(bTokenId.num()), bOneNftId.value());
+		verify(nftsByOwner).associate(EntityNum.fromLong(firstOwner.num()), bOneNftId.value());
+		// and:
+		verifyNoMoreInteractions(nftsByType);
+		verifyNoMoreInteractions(treasuryNftsByType);
+	}
+
+	@Test
+	void nonTreasuryTrackingViewsBuilderMatchesRebuild() throws ConstructableRegistryException {
+		setupNonTreasuryTrackingSubject();
+		givenRealNfts();
+
+		// when:
+		ViewBuilder.rebuild(realNfts, subject.viewsBuilder(realTokens));
+
+		// then:
+		verify(nftsByType).associate(EntityNum.fromLong(aTokenId.num()), aOneNftId.value());
+		verify(nftsByOwner).associate(EntityNum.fromLong(firstOwner.num()), aOneNftId.value());
+		// and:
+		verify(nftsByType).associate(EntityNum.fromLong(bTokenId.num()), bOneNftId.value());
+		verify(nftsByOwner).associate(EntityNum.fromLong(firstOwner.num()), bOneNftId.value());
+		// and:
+		verifyNoMoreInteractions(nftsByType);
+		verifyNoMoreInteractions(nftsByOwner);
+	}
+
+	@Test
+	void noopViewsBuilderDoesNothing() throws ConstructableRegistryException {
+		setupNoopTreasuryTrackingSubject();
+		givenRealNfts();
+
+		// when:
+		ViewBuilder.rebuild(realNfts, subject.viewsBuilder(realTokens));
+
+		// then:
+		verifyNoInteractions(nftsByType);
+		verifyNoInteractions(nftsByOwner);
+		verifyNoInteractions(treasuryNftsByType);
+	}
+
 	@Test
 	void toStringAsExpected() {
 		// setup:
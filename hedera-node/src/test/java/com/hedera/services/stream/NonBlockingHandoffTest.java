@@ -26,10 +26,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,23 +55,50 @@ class NonBlockingHandoffTest {
 	private NonBlockingHandoff subject;
 
 	@Test
-	void handoffWorksAsExpected() {
+	void handoffWorksAsExpected() throws InterruptedException {
+		// setup:
+		final List<RecordStreamObject> streamed = new CopyOnWriteArrayList<>();
+		final var allStreamed = new CountDownLatch(3);
+		willAnswer(invocation -> {
+			final List<RecordStreamObject> batch = invocation.getArgument(0);
+			streamed.addAll(batch);
+			batch.forEach(ignore -> allStreamed.countDown());
+			return null;
+		}).given(recordStreamManager).addRecordStreamObjects(any());
+		// and:
+		final var secondRso = new RecordStreamObject();
+		final var thirdRso = new RecordStreamObject();
+
 		given(nodeLocalProperties.recordStreamQueueCapacity()).willReturn(mockCap);
 		// and:
 		subject = new NonBlockingHandoff(recordStreamManager, nodeLocalProperties);
 
 		// when:
 		assertTrue(subject.offer(rso));
+		assertTrue(subject.offer(secondRso));
+		assertTrue(subject.offer(thirdRso));
+
+		// then:
+		assertTrue(allStreamed.await(5, TimeUnit.SECONDS));
+		assertEquals(List.of(rso, secondRso, thirdRso), streamed);
+		verify(recordStreamManager, never()).addRecordStreamObject(any());
+
+		// cleanup:
+		subject.getShutdownHook().run();
+	}
 
+	@Test
+	void handoffThreadParksAndStopsWhenIdle() throws InterruptedException {
+		given(nodeLocalProperties.recordStreamQueueCapacity()).willReturn(mockCap);
 		// and:
-		subject.getExecutor().shutdownNow();
+		subject = new NonBlockingHandoff(recordStreamManager, nodeLocalProperties);
+
+		// when:
+		subject.getShutdownHook().run();
 
 		// then:
-		try {
-			verify(recordStreamManager).addRecordStreamObject(rso);
-		} catch (NullPointerException ignore) {
-			/* In CI apparently Mockito can have problems here? */
-		}
+		assertTrue(subject.getExecutor().awaitTermination(5 * NonBlockingHandoff.IDLE_PARK_MS, TimeUnit.MILLISECONDS));
+		verify(recordStreamManager, never()).addRecordStreamObjects(any());
 	}
 
 	@Test
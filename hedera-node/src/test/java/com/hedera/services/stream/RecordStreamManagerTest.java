@@ -40,6 +40,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.List;
 import java.util.Queue;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -50,10 +51,14 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -202,6 +207,75 @@ public class RecordStreamManagerTest {
 		verify(runningAvgsMock).writeQueueSizeRecordStream(recordsNum);
 	}
 
+	@Test
+	void addRecordStreamObjectsStreamsBatchInOrderAndUpdatesStatsOnce() {
+		// setup:
+		final MultiStream<RecordStreamObject> multiStream = mock(MultiStream.class);
+		final QueueThreadObjectStream<RecordStreamObject> writeQueueThread = mock(QueueThreadObjectStream.class);
+		final var runningAvgs = mock(MiscRunningAvgs.class);
+		final var mockQueue = mock(Queue.class);
+		final var a = mock(RecordStreamObject.class);
+		final var b = mock(RecordStreamObject.class);
+		final var c = mock(RecordStreamObject.class);
+		recordStreamManager = new RecordStreamManager(multiStream, writeQueueThread, runningAvgs);
+
+		given(writeQueueThread.getQueue()).willReturn(mockQueue);
+		given(mockQueue.size()).willReturn(3);
+		willThrow(RuntimeException.class).given(multiStream).addObject(b);
+
+		// when:
+		recordStreamManager.addRecordStreamObjects(List.of(a, b, c));
+
+		// then:
+		final var inOrder = inOrder(multiStream);
+		inOrder.verify(multiStream).addObject(a);
+		inOrder.verify(multiStream).addObject(b);
+		inOrder.verify(multiStream).addObject(c);
+		// and:
+		verify(runningAvgs, times(1)).writeQueueSizeRecordStream(3);
+		verify(runningAvgs, times(1)).hashQueueSizeRecordStream(anyInt());
+		assertThat(logCaptor.warnLogs(), contains(Matchers.startsWith("Unhandled exception while streaming")));
+	}
+
+	@Test
+	void addRecordStreamObjectsSkipsBatchInFreeze() {
+		// setup:
+		final MultiStream<RecordStreamObject> multiStream = mock(MultiStream.class);
+		final var runningAvgs = mock(MiscRunningAvgs.class);
+		recordStreamManager = new RecordStreamManager(multiStream, null, runningAvgs);
+		recordStreamManager.setInFreeze(true);
+
+		// when:
+		recordStreamManager.addRecordStreamObjects(List.of(new RecordStreamObject()));
+
+		// then:
+		verify(multiStream, never()).addObject(any());
+		verify(runningAvgs, never()).writeQueueSizeRecordStream(anyInt());
+		verify(runningAvgs).hashQueueSizeRecordStream(anyInt());
+	}
+
+	@Test
+	void addRecordStreamObjectsStopsStreamingOnceFrozenMidBatch() {
+		// setup:
+		final MultiStream<RecordStreamObject> multiStream = mock(MultiStream.class);
+		final var runningAvgs = mock(MiscRunningAvgs.class);
+		final var a = mock(RecordStreamObject.class);
+		final var b = mock(RecordStreamObject.class);
+		recordStreamManager = new RecordStreamManager(multiStream, null, runningAvgs);
+
+		willAnswer(invocation -> {
+			recordStreamManager.setInFreeze(true);
+			return null;
+		}).given(multiStream).addObject(a);
+
+		// when:
+		recordStreamManager.addRecordStreamObjects(List.of(a, b));
+
+		// then:
+		verify(multiStream).addObject(a);
+		verify(multiStream, never()).addObject(b);
+	}
+
 	@ParameterizedTest
 	@ValueSource(booleans = { true, false })
 	void setStartWriteAtCompleteWindowTest(boolean startWriteAtCompleteWindow) {
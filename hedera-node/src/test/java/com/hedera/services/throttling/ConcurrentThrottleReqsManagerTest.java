@@ -0,0 +1,211 @@
+package com.hedera.services.throttling;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.sysfiles.domain.throttling.ThrottleReqOpsScaleFactor;
+import com.hedera.services.throttles.BucketThrottle;
+import com.hedera.services.throttles.ConcurrentBucketThrottle;
+import com.hedera.services.throttles.DeterministicThrottle;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentThrottleReqsManagerTest {
+	private static final long NANOS_PER_SEC = 1_000_000_000L;
+
+	int aReq = 1, bReq = 51;
+	int aTps = 2, bTps = 100;
+	Instant now = Instant.ofEpochSecond(1_234_567L, 100);
+	long nowNanos = now.getEpochSecond() * NANOS_PER_SEC + now.getNano();
+
+	DeterministicThrottle a, b;
+	ConcurrentThrottleReqsManager subject;
+
+	@BeforeEach
+	void setUp() {
+		subjectWithTps(aTps, bTps);
+	}
+
+	private void subjectWithTps(int tpsForA, int tpsForB) {
+		a = DeterministicThrottle.withTpsAndBurstPeriod(tpsForA, 1);
+		b = DeterministicThrottle.withTpsAndBurstPeriod(tpsForB, 1);
+
+		subject = new ConcurrentThrottleReqsManager(List.of(Pair.of(a, aReq), Pair.of(b, bReq)));
+	}
+
+	@Test
+	void usesConcurrentThrottlesWithSameParams() {
+		// given:
+		final var throttles = subject.concurrentThrottles();
+
+		// expect:
+		assertEquals(2, throttles.length);
+		assertEquals(a.mtps(), throttles[0].mtps());
+		assertEquals(a.capacity(), throttles[0].capacity());
+		assertEquals(b.mtps(), throttles[1].mtps());
+		assertEquals(b.capacity(), throttles[1].capacity());
+	}
+
+	@Test
+	void functionsOnTheSameBucketShareItsCapacity() {
+		// setup:
+		final var shared = DeterministicThrottle.withTpsAndBurstPeriod(2, 1);
+		final var sharedThrottles = new IdentityHashMap<DeterministicThrottle, ConcurrentBucketThrottle>();
+
+		// given:
+		final var first = new ConcurrentThrottleReqsManager(List.of(Pair.of(shared, 1)), sharedThrottles);
+		final var second = new ConcurrentThrottleReqsManager(List.of(Pair.of(shared, 1)), sharedThrottles);
+
+		// when:
+		final var firstAns = first.allReqsMetAt(now);
+		final var secondAns = second.allReqsMetAt(now);
+		final var thirdAns = first.allReqsMetAt(now);
+		final var fourthAns = second.allReqsMetAt(now);
+
+		// then:
+		assertSame(first.concurrentThrottles()[0], second.concurrentThrottles()[0]);
+		assertEquals(1, sharedThrottles.size());
+		// and:
+		assertTrue(firstAns);
+		assertTrue(secondAns);
+		assertFalse(thirdAns);
+		assertFalse(fourthAns);
+	}
+
+	@Test
+	void reportsUsageOfConcurrentThrottles() {
+		// given:
+		subject.allReqsMetAt(Instant.now());
+
+		// when:
+		final var usages = subject.currentUsage();
+		final var managed = subject.managedThrottles();
+
+		// then:
+		assertEquals(2, usages.size());
+		assertTrue(usages.get(0).used() > 0);
+		assertTrue(usages.get(1).used() > 0);
+		// and:
+		assertSame(a, managed.get(0));
+		assertSame(b, managed.get(1));
+		assertTrue(a.used() > 0);
+		assertTrue(b.used() > 0);
+	}
+
+	@Test
+	void usesCapacityFromAllThrottlesWhenAllReqsMet() {
+		// when:
+		final var result = subject.allReqsMetAt(now);
+
+		// then:
+		assertTrue(result);
+		assertEquals(aReq * BucketThrottle.capacityUnitsPerTxn(), subject.concurrentThrottles()[0].used(nowNanos));
+		assertEquals(bReq * BucketThrottle.capacityUnitsPerTxn(), subject.concurrentThrottles()[1].used(nowNanos));
+		// and the deterministic throttles are untouched:
+		assertEquals(0L, a.used());
+		assertEquals(0L, b.used());
+	}
+
+	@Test
+	void usesExpectedCapacityWithScaleFactor() {
+		// setup:
+		final var numOps = 7;
+		final var scaleFactor = ThrottleReqOpsScaleFactor.from("3:2");
+		subjectWithTps(20, 1000);
+
+		// when:
+		final var result = subject.allReqsMetAt(now, numOps, scaleFactor);
+
+		// then:
+		assertTrue(result);
+		assertEquals(
+				((numOps * aReq * 3) / 2) * BucketThrottle.capacityUnitsPerTxn(),
+				subject.concurrentThrottles()[0].used(nowNanos));
+		assertEquals(
+				((numOps * bReq * 3) / 2) * BucketThrottle.capacityUnitsPerTxn(),
+				subject.concurrentThrottles()[1].used(nowNanos));
+	}
+
+	@Test
+	void reclaimsCapacityWhenALaterReqFails() {
+		// given:
+		subject.allReqsMetAt(now);
+
+		// when:
+		final var result = subject.allReqsMetAt(now);
+
+		// then:
+		assertFalse(result);
+		assertEquals(aReq * BucketThrottle.capacityUnitsPerTxn(), subject.concurrentThrottles()[0].used(nowNanos));
+		assertEquals(bReq * BucketThrottle.capacityUnitsPerTxn(), subject.concurrentThrottles()[1].used(nowNanos));
+	}
+
+	@Test
+	void neverAdmitsMoreThanCapacityUnderContention() throws InterruptedException {
+		// setup:
+		final var threads = 16;
+		final var attemptsPerThread = 1_000;
+		final var admitted = new AtomicInteger();
+		final var start = new CountDownLatch(1);
+		final var done = new CountDownLatch(threads);
+		final var exec = Executors.newFixedThreadPool(threads);
+		subject = new ConcurrentThrottleReqsManager(List.of(
+				Pair.of(DeterministicThrottle.withTpsAndBurstPeriod(500, 1), 1),
+				Pair.of(DeterministicThrottle.withTpsAndBurstPeriod(1000, 1), 4)));
+
+		// when:
+		for (int i = 0; i < threads; i++) {
+			exec.execute(() -> {
+				try {
+					start.await();
+					for (int j = 0; j < attemptsPerThread; j++) {
+						if (subject.allReqsMetAt(now)) {
+							admitted.incrementAndGet();
+						}
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+		start.countDown();
+		assertTrue(done.await(10, TimeUnit.SECONDS));
+		exec.shutdown();
+
+		// then:
+		assertEquals(250, admitted.get());
+	}
+}
@@ -71,6 +71,7 @@ import static com.hederahashgraph.api.proto.java.HederaFunctionality.FileGetInfo
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.GetVersionInfo;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.ScheduleCreate;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenMint;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TransactionGetReceipt;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -128,6 +129,48 @@ class DeterministicThrottlingTest {
 		assertEquals(10999999990000L, dNow.used());
 	}
 
+	@Test
+	void usesConfiguredManagerFactoryOnRebuild() throws IOException {
+		// setup:
+		var defs = SerdeUtils.pojoDefs("bootstrap/throttles.json");
+		subject = new DeterministicThrottling(
+				() -> n, aliasManager, dynamicProperties, ConcurrentThrottleReqsManager::new);
+
+		// when:
+		subject.rebuildFor(defs);
+		// and:
+		var noAns = subject.shouldThrottleQuery(CryptoGetAccountBalance, consensusNow);
+		subject.shouldThrottleQuery(GetVersionInfo, consensusNow.plusNanos(1));
+		var yesAns = subject.shouldThrottleQuery(GetVersionInfo, consensusNow.plusNanos(2));
+
+		// then:
+		assertFalse(noAns);
+		assertTrue(yesAns);
+	}
+
+	@Test
+	void concurrentManagersShareTheirBuckets() throws IOException {
+		// setup:
+		var defs = SerdeUtils.pojoDefs("bootstrap/throttles.json");
+		subject = new DeterministicThrottling(
+				() -> n, aliasManager, dynamicProperties, ConcurrentThrottleReqsManager::new);
+
+		// given:
+		subject.rebuildFor(defs);
+		// and:
+		var numAllowed = 0;
+		while (!subject.shouldThrottleQuery(TransactionGetReceipt, consensusNow)) {
+			numAllowed++;
+		}
+
+		// when:
+		var ans = subject.shouldThrottleQuery(CryptoGetAccountBalance, consensusNow);
+
+		// then:
+		assertTrue(numAllowed > 0);
+		assertTrue(ans);
+	}
+
 	@Test
 	void usesScheduleCreateThrottleForSubmitMessage() throws IOException {
 		final var scheduledSubmit = SchedulableTransactionBody.newBuilder()
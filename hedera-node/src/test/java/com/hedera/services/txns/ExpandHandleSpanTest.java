@@ -23,6 +23,7 @@ package com.hedera.services.txns;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.services.txns.span.ExpandHandleSpan;
 import com.hedera.services.txns.span.SpanMapManager;
+import com.hedera.services.utils.SignedTxnAccessor;
 import com.hedera.test.utils.IdUtils;
 import com.hederahashgraph.api.proto.java.Timestamp;
 import com.hederahashgraph.api.proto.java.Transaction;
@@ -37,6 +38,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.verify;
 
@@ -95,4 +98,53 @@ class ExpandHandleSpanTest {
 
 		verify(handleSpanMap).expandSpan(endAccessor);
 	}
+
+	@Test
+	void reusesSubmittedAccessorOnlyOnce() throws InvalidProtocolBufferException {
+		// setup:
+		final var submitted = new SignedTxnAccessor(validTxnBytes);
+
+		// given:
+		subject.noteSubmitted(validTxn, submitted);
+
+		// when:
+		final var firstAccessor = subject.track(validTxn);
+		final var secondAccessor = subject.track(validTxn);
+
+		// then:
+		assertSame(submitted.getTxn(), firstAccessor.getTxn());
+		assertNotSame(submitted.getTxn(), secondAccessor.getTxn());
+		verify(handleSpanMap).expandSpan(firstAccessor);
+	}
+
+	@Test
+	void doesNotReuseAccessorForEqualButDistinctContents() throws InvalidProtocolBufferException {
+		// setup:
+		final var submitted = new SignedTxnAccessor(validTxnBytes);
+
+		// given:
+		subject.noteSubmitted(new SwirldTransaction(validTxnBytes.clone()), submitted);
+
+		// when:
+		final var accessor = subject.track(validTxn);
+
+		// then:
+		assertNotSame(submitted.getTxn(), accessor.getTxn());
+	}
+
+	@Test
+	void doesNotReuseForgottenAccessor() throws InvalidProtocolBufferException {
+		// setup:
+		final var submitted = new SignedTxnAccessor(validTxnBytes);
+
+		// given:
+		subject.noteSubmitted(validTxn, submitted);
+		subject.forgetSubmitted(validTxn);
+
+		// when:
+		final var accessor = subject.track(validTxn);
+
+		// then:
+		assertNotSame(submitted.getTxn(), accessor.getTxn());
+	}
 }
@@ -59,6 +59,8 @@ import static com.hedera.services.records.TxnAwareRecordsHistorian.DEFAULT_SOURC
 import static com.hedera.services.txns.crypto.AutoCreationLogic.AUTO_MEMO;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
@@ -115,6 +117,19 @@ class AutoCreationLogicTest {
 		assertEquals(Pair.of(OK, totalFee), result);
 	}
 
+	@Test
+	void reclaimsPendingAliasesUntilReset() {
+		givenCollaborators();
+
+		subject.create(wellKnownChange(), accountsLedger);
+
+		assertTrue(subject.reclaimPendingAliases());
+		verify(aliasManager).unlink(alias);
+
+		subject.reset();
+		assertFalse(subject.reclaimPendingAliases());
+	}
+
 	private void givenCollaborators() {
 		given(txnCtx.consensusTime())
 				.willReturn(consensusNow);
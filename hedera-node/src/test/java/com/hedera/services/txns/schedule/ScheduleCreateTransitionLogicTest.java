@@ -31,6 +31,7 @@ import com.hedera.services.state.merkle.MerkleSchedule;
 import com.hedera.services.state.submerkle.RichInstant;
 import com.hedera.services.store.CreationResult;
 import com.hedera.services.store.schedule.ScheduleStore;
+import com.hedera.services.txns.span.ExpandHandleSpanMapAccessor;
 import com.hedera.services.txns.validation.OptionValidator;
 import com.hedera.services.utils.PlatformTxnAccessor;
 import com.hedera.test.factories.txns.SignedTxnFactory;
@@ -116,6 +117,7 @@ class ScheduleCreateTransitionLogicTest {
 	private SignatoryUtils.ScheduledSigningsWitness replSigningWitness;
 	private ScheduleExecutor executor;
 	private SigImpactHistorian sigImpactHistorian;
+	private ExpandHandleSpanMapAccessor spanMapAccessor;
 	private TransactionBody scheduleCreateTxn;
 	private InHandleActivationHelper activationHelper;
 	private SigMapScheduleClassifier classifier;
@@ -132,6 +134,7 @@ class ScheduleCreateTransitionLogicTest {
 		executor = mock(ScheduleExecutor.class);
 		merkleSchedule = mock(MerkleSchedule.class);
 		sigImpactHistorian = mock(SigImpactHistorian.class);
+		spanMapAccessor = mock(ExpandHandleSpanMapAccessor.class);
 		given(accessor.getTxnBytes()).willReturn(bodyBytes);
 
 		classifier = mock(SigMapScheduleClassifier.class);
@@ -146,7 +149,7 @@ class ScheduleCreateTransitionLogicTest {
 		given(txnCtx.activePayerKey()).willReturn(payerKey);
 
 		subject = new ScheduleCreateTransitionLogic(
-				store, txnCtx, activationHelper, validator, executor, sigImpactHistorian);
+				store, txnCtx, activationHelper, validator, executor, sigImpactHistorian, spanMapAccessor);
 
 		subject.signingsWitness = replSigningWitness;
 		subject.classifier = classifier;
@@ -179,6 +182,23 @@ class ScheduleCreateTransitionLogicTest {
 		verify(sigImpactHistorian).markEntityChanged(schedule.getScheduleNum());
 	}
 
+	@Test
+	void usesProposedScheduleFromSpanIfPresent() {
+		// setup:
+		final var proposedSchedule = mock(MerkleSchedule.class);
+
+		given(merkleSchedule.scheduledTransactionId()).willReturn(scheduledTxnId);
+		givenValidTxnCtx();
+		given(spanMapAccessor.getProposedSchedule(accessor)).willReturn(proposedSchedule);
+		given(store.lookupSchedule(proposedSchedule)).willReturn(Pair.of(schedule, merkleSchedule));
+
+		subject.doStateTransition();
+
+		verify(store, never()).lookupSchedule(bodyBytes);
+		verify(txnCtx).setStatus(IDENTICAL_SCHEDULE_ALREADY_CREATED);
+		verify(txnCtx).setCreated(schedule);
+	}
+
 	@Test
 	void followsHappyPathEvenIfNoNewValidSignatures() {
 		given(merkleSchedule.scheduledTransactionId()).willReturn(scheduledTxnId);
@@ -20,6 +20,7 @@ package com.hedera.services.txns.span;
  * ‍
  */
 
+import com.hedera.services.state.merkle.MerkleSchedule;
 import com.hedera.services.usage.crypto.CryptoCreateMeta;
 import com.hedera.services.usage.crypto.CryptoUpdateMeta;
 import com.hedera.services.utils.TxnAccessor;
@@ -30,16 +31,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import static com.hedera.services.usage.token.TokenOpsUsageUtils.TOKEN_OPS_USAGE_UTILS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.BDDMockito.given;
 
 @ExtendWith(MockitoExtension.class)
 class ExpandHandleSpanMapAccessorTest {
-	private Map<String, Object>	span = new HashMap<>();
+	private SpanMap span = new SpanMap();
 
 	@Mock
 	private TxnAccessor accessor;
@@ -139,4 +138,13 @@ class ExpandHandleSpanMapAccessorTest {
 
 		assertEquals(3, subject.getCryptoUpdateMeta(accessor).getMaxAutomaticAssociations());
 	}
+
+	@Test
+	void testsForProposedScheduleAsExpected() {
+		final var schedule = new MerkleSchedule();
+
+		subject.setProposedSchedule(accessor, schedule);
+
+		assertSame(schedule, subject.getProposedSchedule(accessor));
+	}
 }
@@ -0,0 +1,105 @@
+package com.hedera.services.txns.span;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.state.merkle.MerkleSchedule;
+import com.hedera.services.utils.TxnAccessor;
+import com.hedera.test.utils.IdUtils;
+import com.hederahashgraph.api.proto.java.SchedulableTransactionBody;
+import com.hederahashgraph.api.proto.java.ScheduleCreateTransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleCreateSpanExpanderTest {
+	private static final byte[] bodyBytes = TransactionBody.newBuilder()
+			.setTransactionID(TransactionID.newBuilder().setAccountID(IdUtils.asAccount("0.0.2")))
+			.setScheduleCreate(ScheduleCreateTransactionBody.newBuilder()
+					.setMemo("Wherefore?")
+					.setScheduledTransactionBody(SchedulableTransactionBody.newBuilder()
+							.setMemo("Therefore!")))
+			.build()
+			.toByteArray();
+
+	private final SpanMap span = new SpanMap();
+	private final ExpandHandleSpanMapAccessor spanMapAccessor = new ExpandHandleSpanMapAccessor();
+
+	@Mock
+	private TxnAccessor accessor;
+
+	private ScheduleCreateSpanExpander subject;
+
+	@BeforeEach
+	void setUp() {
+		subject = new ScheduleCreateSpanExpander();
+	}
+
+	@Test
+	void expandsWithProposedSchedule() {
+		given(accessor.getSpanMap()).willReturn(span);
+		given(accessor.getTxnBytes()).willReturn(bodyBytes);
+
+		// when:
+		subject.expand(accessor);
+
+		// then:
+		final var proposed = spanMapAccessor.getProposedSchedule(accessor);
+		assertEquals(MerkleSchedule.from(bodyBytes, 0L), proposed);
+		assertEquals("Wherefore?", proposed.memo().get());
+	}
+
+	@Test
+	void leavesNothingForUnparseableBytes() {
+		given(accessor.getSpanMap()).willReturn(span);
+		given(accessor.getTxnBytes()).willReturn("NONSENSE".getBytes());
+
+		// when:
+		subject.expand(accessor);
+
+		// then:
+		assertNull(spanMapAccessor.getProposedSchedule(accessor));
+	}
+
+	@Test
+	void rationalizingKeepsProposedSchedule() {
+		// setup:
+		final var proposed = MerkleSchedule.from(bodyBytes, 0L);
+
+		given(accessor.getSpanMap()).willReturn(span);
+		spanMapAccessor.setProposedSchedule(accessor, proposed);
+
+		// when:
+		subject.rationalize(accessor);
+
+		// then:
+		assertSame(proposed, spanMapAccessor.getProposedSchedule(accessor));
+	}
+}
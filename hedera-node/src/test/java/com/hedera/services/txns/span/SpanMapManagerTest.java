@@ -41,14 +41,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import static com.hedera.services.grpc.marshalling.ImpliedTransfers.NO_ALIASES;
 import static com.hedera.services.grpc.marshalling.ImpliedTransfers.NO_CUSTOM_FEES;
 import static com.hedera.services.grpc.marshalling.ImpliedTransfers.NO_CUSTOM_FEE_META;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ConsensusCreateTopic;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ScheduleCreate;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.ACCOUNT_REPEATED_IN_ACCOUNT_AMOUNTS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -57,6 +58,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class SpanMapManagerTest {
@@ -106,7 +108,7 @@ class SpanMapManagerTest {
 
 	private CryptoTransferMeta xferMeta = new CryptoTransferMeta(1, 1, 1, 0);
 
-	private Map<String, Object> span = new HashMap<>();
+	private SpanMap span = new SpanMap();
 
 	@Mock
 	private TxnAccessor accessor;
@@ -120,12 +122,57 @@ class SpanMapManagerTest {
 	private CustomFeeSchedules customFeeSchedules;
 	@Mock
 	private AliasManager aliasManager;
+	@Mock
+	private SpanExpander scheduleCreateExpander;
 
 	private SpanMapManager subject;
 
 	@BeforeEach
 	void setUp() {
-		subject = new SpanMapManager(impliedTransfersMarshal, dynamicProperties, customFeeSchedules, aliasManager);
+		final var cryptoTransferExpander = new CryptoTransferSpanExpander(
+				impliedTransfersMarshal, dynamicProperties, customFeeSchedules, aliasManager);
+		subject = new SpanMapManager(Map.of(
+				CryptoTransfer, cryptoTransferExpander,
+				ScheduleCreate, scheduleCreateExpander));
+	}
+
+	@Test
+	void delegatesToExpanderBoundToFunction() {
+		given(accessor.getFunction()).willReturn(ScheduleCreate);
+
+		// when:
+		subject.expandSpan(accessor);
+		subject.rationalizeSpan(accessor);
+
+		// then:
+		verify(scheduleCreateExpander).expand(accessor);
+		verify(scheduleCreateExpander).rationalize(accessor);
+	}
+
+	@Test
+	void doesNothingForFunctionWithoutExpander() {
+		given(accessor.getFunction()).willReturn(ConsensusCreateTopic);
+
+		// when:
+		subject.expandSpan(accessor);
+		subject.rationalizeSpan(accessor);
+
+		// then:
+		verifyNoInteractions(impliedTransfersMarshal, scheduleCreateExpander);
+	}
+
+	@Test
+	void worksWithNoExpandersAtAll() {
+		// setup:
+		subject = new SpanMapManager(Map.of());
+
+		given(accessor.getFunction()).willReturn(CryptoTransfer);
+
+		// when:
+		subject.expandSpan(accessor);
+
+		// then:
+		verifyNoInteractions(impliedTransfersMarshal);
 	}
 
 	@Test
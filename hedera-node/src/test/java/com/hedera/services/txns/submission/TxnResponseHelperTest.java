@@ -20,6 +20,8 @@ package com.hedera.services.txns.submission;
  * ‍
  */
 
+import com.hedera.services.grpc.BoundedHandlerStage;
+import com.hedera.services.grpc.GrpcHandlerStages;
 import com.hedera.services.stats.HapiOpCounters;
 import com.hedera.services.txns.SubmissionFlow;
 import com.hedera.services.utils.SignedTxnAccessor;
@@ -34,15 +36,19 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import static com.hedera.services.txns.submission.TxnResponseHelper.BUSY_RESPONSE;
 import static com.hedera.services.txns.submission.TxnResponseHelper.FAIL_INVALID_RESPONSE;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.inOrder;
 import static org.mockito.BDDMockito.mock;
 import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.mockStatic;
 
 @ExtendWith({ LogCaptureExtension.class })
@@ -70,7 +76,7 @@ class TxnResponseHelperTest {
 		given(okResponse.getNodeTransactionPrecheckCode()).willReturn(OK);
 		notOkResponse = mock(TransactionResponse.class);
 
-		subject = new TxnResponseHelper(submissionFlow, opCounters);
+		subject = new TxnResponseHelper(submissionFlow, opCounters, GrpcHandlerStages.direct());
 	}
 
 	@Test
@@ -124,4 +130,42 @@ class TxnResponseHelperTest {
 			inOrder.verify(opCounters, never()).countSubmitted(CryptoTransfer);
 		}
 	}
+
+	@Test
+	void respondsBusyWhenTxnStageIsSaturated() {
+		final var stages = mock(GrpcHandlerStages.class);
+		final var txnStage = mock(BoundedHandlerStage.class);
+		given(stages.txns()).willReturn(txnStage);
+		given(txnStage.tryDispatch(any(), any())).willReturn(false);
+		final var inOrder = inOrder(opCounters, observer);
+		subject = new TxnResponseHelper(submissionFlow, opCounters, stages);
+
+		subject.submit(txn, observer, CryptoTransfer);
+
+		inOrder.verify(opCounters).countReceived(CryptoTransfer);
+		inOrder.verify(observer).onNext(BUSY_RESPONSE);
+		inOrder.verify(observer).onCompleted();
+		verify(submissionFlow, never()).submit(txn);
+		verify(opCounters, never()).countSubmitted(CryptoTransfer);
+	}
+
+	@Test
+	void respondsBusyWhenTxnIsDroppedAtShutdown() {
+		final var stages = mock(GrpcHandlerStages.class);
+		final var txnStage = mock(BoundedHandlerStage.class);
+		given(stages.txns()).willReturn(txnStage);
+		willAnswer(invocation -> {
+			invocation.<Runnable>getArgument(1).run();
+			return true;
+		}).given(txnStage).tryDispatch(any(), any());
+		final var inOrder = inOrder(opCounters, observer);
+		subject = new TxnResponseHelper(submissionFlow, opCounters, stages);
+
+		subject.submit(txn, observer, CryptoTransfer);
+
+		inOrder.verify(opCounters).countReceived(CryptoTransfer);
+		inOrder.verify(observer).onNext(BUSY_RESPONSE);
+		inOrder.verify(observer).onCompleted();
+		verify(submissionFlow, never()).submit(txn);
+	}
 }
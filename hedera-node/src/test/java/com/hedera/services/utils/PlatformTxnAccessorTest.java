@@ -22,9 +22,13 @@ package com.hedera.services.utils;
 
 import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
+import com.hedera.services.fees.calculation.FeeMemo;
 import com.hedera.services.legacy.proto.utils.CommonUtils;
+import com.hedera.services.txns.span.SpanMap;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ConsensusCreateTopicTransactionBody;
+import com.hederahashgraph.api.proto.java.ExchangeRate;
+import com.hederahashgraph.api.proto.java.FeeData;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import com.hederahashgraph.api.proto.java.SignatureMap;
 import com.hederahashgraph.api.proto.java.SignaturePair;
@@ -32,10 +36,10 @@ import com.hederahashgraph.api.proto.java.SignedTransaction;
 import com.hederahashgraph.api.proto.java.Transaction;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionID;
+import com.hederahashgraph.fee.FeeObject;
 import com.swirlds.common.SwirldTransaction;
 import org.junit.jupiter.api.Test;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.function.Function;
 
@@ -48,6 +52,7 @@ import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.any;
@@ -76,7 +81,36 @@ class PlatformTxnAccessorTest {
 		SignedTxnAccessor subject = new PlatformTxnAccessor(platformTxn);
 
 		// expect:
-		assertThat(subject.getSpanMap(), instanceOf(HashMap.class));
+		assertThat(subject.getSpanMap(), instanceOf(SpanMap.class));
+	}
+
+	@Test
+	void reusesParsedStateButNotHandleState() throws InvalidProtocolBufferException {
+		// setup:
+		final var feeMemo = new FeeMemo(
+				FeeData.getDefaultInstance(), ExchangeRate.getDefaultInstance(), 1L, 1, new FeeObject(1L, 2L, 3L));
+		Transaction signedTxnWithBody = Transaction.newBuilder()
+				.setBodyBytes(someTxn.toByteString())
+				.build();
+		SwirldTransaction platformTxn =
+				new SwirldTransaction(signedTxnWithBody.toByteArray());
+
+		// given:
+		SignedTxnAccessor parsed = new SignedTxnAccessor(platformTxn.getContents());
+		parsed.setNumAutoCreations(2);
+		parsed.setFeeMemo(feeMemo);
+
+		// when:
+		PlatformTxnAccessor subject = new PlatformTxnAccessor(parsed, platformTxn);
+
+		// then:
+		assertSame(platformTxn, subject.getPlatformTxn());
+		assertSame(parsed.getTxn(), subject.getTxn());
+		assertSame(parsed.getFunction(), subject.getFunction());
+		assertArrayEquals(parsed.getHash(), subject.getHash());
+		assertNotSame(parsed.getSpanMap(), subject.getSpanMap());
+		assertSame(feeMemo, subject.getFeeMemo());
+		assertEquals(false, subject.areAutoCreationsCounted());
 	}
 
 	@Test